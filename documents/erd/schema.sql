@@ -21,12 +21,26 @@ CREATE TABLE `product` (
     `product_name`    VARCHAR(200)    NOT NULL COMMENT '상품명',
     `price`           INT             NOT NULL COMMENT '가격',
     `stock_quantity`  INT             NOT NULL DEFAULT 0 COMMENT '재고 수량',
+    `version`         BIGINT          NOT NULL DEFAULT 0 COMMENT '버전 (낙관적 락)',
     `created_at`      DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
     `updated_at`      DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
     PRIMARY KEY (`product_id`),
     INDEX `idx_product_name` (`product_name`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='상품';
 
+-- ========================================
+-- 2-1. PRODUCT_NAME_GRAM (상품명 n-gram 색인)
+-- - 상품명의 모든 1글자/연속 2글자마다 한 행, 상품 저장 시 같은 트랜잭션에서 기록
+-- - 검색은 검색어 gram 중 가장 드문 gram의 PK 범위를 product_id 순으로 따라가며 product_name LIKE로 확인
+-- - gram은 대소문자/후행 공백을 구분해야 PK가 충돌하지 않으므로 NO PAD 바이너리 콜레이션 사용
+-- - 도입 전 저장된 상품은 애플리케이션에서 다시 저장(색인)해야 검색됨
+-- ========================================
+CREATE TABLE `product_name_gram` (
+    `gram`        VARCHAR(2)  NOT NULL COLLATE utf8mb4_0900_bin COMMENT '상품명 1~2글자',
+    `product_id`  BIGINT      NOT NULL COMMENT '상품 ID',
+    PRIMARY KEY (`gram`, `product_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='상품명 n-gram 색인';
+
 -- ========================================
 -- 3. CART_ITEM (장바구니 항목)
 -- ========================================
@@ -67,7 +81,7 @@ CREATE TABLE `order` (
     `total_amount`     DECIMAL(15, 2)  NOT NULL COMMENT '총 주문 금액',
     `discount_amount`  DECIMAL(15, 2)  NOT NULL DEFAULT 0 COMMENT '할인 금액',
     `used_coupon_id`   BIGINT          NULL COMMENT '사용한 쿠폰 ID',
-    `created_at`       DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
+    `created_at`       DATETIME(6)     NOT NULL DEFAULT CURRENT_TIMESTAMP(6) COMMENT '생성일시 (커서 조회 정렬 키, 마이크로초)',
     `updated_at`       DATETIME        NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
     PRIMARY KEY (`order_id`),
     INDEX `idx_user_created` (`user_id`, `created_at` DESC),
@@ -102,5 +116,44 @@ CREATE TABLE `user_coupon` (
     `expired_at`      DATETIME  NOT NULL COMMENT '만료일시',
     `created_at`      DATETIME  NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
     PRIMARY KEY (`user_coupon_id`),
-    INDEX `idx_user_used` (`user_id`, `is_used`)
+    UNIQUE KEY `uk_user_coupon` (`user_id`, `coupon_id`),
+    INDEX `idx_user_used` (`user_id`, `is_used`),
+    INDEX `idx_coupon_id` (`coupon_id`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='사용자 쿠폰';
+
+-- ========================================
+-- 8. STOCK_RESERVATION (재고 예약)
+-- ========================================
+CREATE TABLE `stock_reservation` (
+    `stock_reservation_id`  BIGINT    NOT NULL COMMENT '재고 예약 ID',
+    `order_id`              BIGINT    NOT NULL COMMENT '주문 ID',
+    `product_id`            BIGINT    NOT NULL COMMENT '상품 ID',
+    `quantity`              INT       NOT NULL COMMENT '예약 수량',
+    `expires_at`            DATETIME  NOT NULL COMMENT '만료일시 (결제되지 않으면 재고 복구)',
+    `created_at`            DATETIME  NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
+    PRIMARY KEY (`stock_reservation_id`),
+    INDEX `idx_order_id` (`order_id`),
+    INDEX `idx_expires_at` (`expires_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='재고 예약';
+
+-- ========================================
+-- 9. ORDER_DATA_OUTBOX (주문 데이터 전송 아웃박스)
+-- ========================================
+CREATE TABLE `order_data_outbox` (
+    `order_data_outbox_id`  BIGINT       NOT NULL COMMENT '아웃박스 ID',
+    `order_id`              BIGINT       NOT NULL COMMENT '주문 ID',
+    `user_id`               BIGINT       NOT NULL COMMENT '사용자 ID',
+    `total_amount`          INT          NOT NULL COMMENT '총 주문 금액',
+    `discount_amount`       INT          NOT NULL COMMENT '할인 금액',
+    `final_amount`          INT          NOT NULL COMMENT '최종 결제 금액',
+    `completed_at`          DATETIME     NOT NULL COMMENT '결제 완료일시',
+    `status`                VARCHAR(20)  NOT NULL COMMENT '전송 상태 (PENDING, PUBLISHED, DEAD)',
+    `attempts`              INT          NOT NULL DEFAULT 0 COMMENT '전송 시도 횟수',
+    `next_attempt_at`       DATETIME     NOT NULL COMMENT '다음 전송 시도일시 (전송 중에는 임대 만료일시)',
+    `last_error`            VARCHAR(500) NULL COMMENT '마지막 전송 오류',
+    `created_at`            DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP COMMENT '생성일시',
+    `updated_at`            DATETIME     NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP COMMENT '수정일시',
+    PRIMARY KEY (`order_data_outbox_id`),
+    UNIQUE KEY `uk_order_id` (`order_id`),
+    INDEX `idx_status_next_attempt` (`status`, `next_attempt_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci COMMENT='주문 데이터 전송 아웃박스';
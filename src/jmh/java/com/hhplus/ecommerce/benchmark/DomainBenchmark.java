@@ -0,0 +1,109 @@
+package com.hhplus.ecommerce.benchmark;
+
+import com.hhplus.ecommerce.domain.entity.Coupon;
+import com.hhplus.ecommerce.domain.entity.Product;
+import com.hhplus.ecommerce.domain.entity.User;
+import com.hhplus.ecommerce.domain.lock.KeyedLockRegistry;
+import com.hhplus.ecommerce.domain.lock.KeyedLockRegistry.LockHandle;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 도메인 모델 핫 패스 벤치마크
+ * - Product.decreaseStock: CAS 재고 차감 (stockShards로 하위 카운터 분산 비교)
+ * - Coupon.issue, User.deductPoint: 스레드 안전하지 않은 모델이므로 유스케이스와 같은 키 락(KeyedLockRegistry) 안에서 호출
+ * - 키는 distribution(uniform/zipfian)으로 선택하여 인기 키 경합을 재현, 스레드 수는 -Pjmh.threads로 지정
+ * - 반복(iteration)마다 모델을 새로 만들고 수량/잔액을 반복 중에 바닥나지 않을 만큼 채워, 예외 경로가 결과에 섞이지 않도록 함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DomainBenchmark {
+
+    private static final int STOCK = 1_000_000_000;
+    private static final long LOCK_WAIT_MILLIS = 10_000;
+
+    @Param({"uniform", "zipfian"})
+    public String distribution;
+
+    @Param({"1000"})
+    public int keyCount;
+
+    @Param({"1"})
+    public int stockShards;
+
+    private KeySampler sampler;
+    private KeyedLockRegistry lockRegistry;
+    private LocalDateTime now;
+    private Product[] products;
+    private Coupon[] coupons;
+    private User[] users;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        sampler = KeySampler.of(distribution, keyCount);
+        lockRegistry = new KeyedLockRegistry();
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        now = LocalDateTime.now();
+        products = new Product[keyCount + 1];
+        coupons = new Coupon[keyCount + 1];
+        users = new User[keyCount + 1];
+        for (int id = 1; id <= keyCount; id++) {
+            products[id] = new Product(id, "상품" + id, 1000, STOCK).withStockShards(stockShards);
+            coupons[id] = new Coupon(id, 1000, Integer.MAX_VALUE, 0, now.minusDays(1), now.plusDays(30));
+            users[id] = new User(id, Integer.MAX_VALUE);
+        }
+    }
+
+    @Benchmark
+    public Product decreaseStock() {
+        Product product = products[(int) sampler.next()];
+        product.decreaseStock(1);
+        return product;
+    }
+
+    @Benchmark
+    public Coupon issueCoupon() {
+        long couponId = sampler.next();
+        Coupon coupon = coupons[(int) couponId];
+        LockHandle lock = lockRegistry.lock("coupon", couponId, LOCK_WAIT_MILLIS, false);
+        try {
+            coupon.issue(now);
+        } finally {
+            lock.unlock();
+        }
+        return coupon;
+    }
+
+    @Benchmark
+    public User deductPoint() {
+        long userId = sampler.next();
+        User user = users[(int) userId];
+        LockHandle lock = lockRegistry.lock("user", userId, LOCK_WAIT_MILLIS, false);
+        try {
+            user.deductPoint(1);
+        } finally {
+            lock.unlock();
+        }
+        return user;
+    }
+}
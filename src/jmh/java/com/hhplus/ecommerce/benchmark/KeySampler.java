@@ -0,0 +1,64 @@
+package com.hhplus.ecommerce.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 벤치마크용 키(상품/사용자/쿠폰 ID) 선택 분포
+ * - uniform: 1..keyCount를 고르게 선택
+ * - zipfian: 순위 r인 키를 1/r^0.99 비율로 선택 (YCSB 기본값, 1000개 중 1번 키가 약 13%)
+ *   인기 상품/사용자에 몰리는 경합 재현
+ * - 누적 분포를 미리 계산하고 이진 탐색으로 선택하므로 선택 비용은 O(log keyCount), 스레드 간 공유 가능
+ */
+final class KeySampler {
+
+    private static final double ZIPFIAN_EXPONENT = 0.99;
+
+    private final int keyCount;
+    private final double[] cumulative;
+
+    private KeySampler(int keyCount, double[] cumulative) {
+        this.keyCount = keyCount;
+        this.cumulative = cumulative;
+    }
+
+    /**
+     * @param distribution uniform 또는 zipfian
+     */
+    static KeySampler of(String distribution, int keyCount) {
+        if (keyCount <= 0) {
+            throw new IllegalArgumentException("keyCount는 0보다 커야 합니다.");
+        }
+        return switch (distribution) {
+            case "uniform" -> new KeySampler(keyCount, null);
+            case "zipfian" -> new KeySampler(keyCount, zipfianCumulative(keyCount));
+            default -> throw new IllegalArgumentException("지원하지 않는 분포: " + distribution);
+        };
+    }
+
+    /**
+     * 다음 키 (1..keyCount)
+     */
+    long next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (cumulative == null) {
+            return random.nextInt(keyCount) + 1L;
+        }
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return (index >= 0 ? index : -index - 1) + 1L;
+    }
+
+    private static double[] zipfianCumulative(int keyCount) {
+        double[] cumulative = new double[keyCount];
+        double sum = 0;
+        for (int rank = 1; rank <= keyCount; rank++) {
+            sum += 1 / Math.pow(rank, ZIPFIAN_EXPONENT);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < keyCount; i++) {
+            cumulative[i] /= sum;
+        }
+        cumulative[keyCount - 1] = 1.0;
+        return cumulative;
+    }
+}
@@ -0,0 +1,64 @@
+package com.hhplus.ecommerce.benchmark;
+
+import com.hhplus.ecommerce.domain.lock.StockLockManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * StockLockManager 상품 수별 처리량 벤치마크
+ * - 스레드마다 상품 ID를 1 ~ distinctProducts 순서로 돌아가며 잠그고, 재고 조회/차감/저장 구간을 흉내내는 지연 동안 보유
+ * - 상품이 하나면 모든 스레드가 직렬화되고, 서로 다른 상품이 스레드 수 이상이면 거의 병렬로 처리됨
+ *   (비교하려면 -Pjmh.threads를 상품 수보다 크게 지정, 예: -Pjmh.threads=16)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class StockLockBenchmark {
+
+    private static final long CRITICAL_SECTION_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+    @Param({"1", "4", "16"})
+    public int distinctProducts;
+
+    private StockLockManager lockManager;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        lockManager = new StockLockManager();
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadState {
+
+        private long sequence;
+
+        long nextProductId(int distinctProducts) {
+            return sequence++ % distinctProducts + 1;
+        }
+    }
+
+    @Benchmark
+    public Object executeWithLock(ThreadState thread) {
+        return lockManager.executeWithLock(List.of(thread.nextProductId(distinctProducts)), () -> {
+            LockSupport.parkNanos(CRITICAL_SECTION_NANOS);
+            return null;
+        });
+    }
+}
@@ -0,0 +1,160 @@
+package com.hhplus.ecommerce.benchmark;
+
+import com.hhplus.ecommerce.application.coupon.CouponIssueWriter;
+import com.hhplus.ecommerce.application.coupon.CouponIssuedUserIndex;
+import com.hhplus.ecommerce.application.coupon.CouponPermitCounter;
+import com.hhplus.ecommerce.application.ranking.ExactPopularProductRanking;
+import com.hhplus.ecommerce.application.stock.ReservationTimerWheel;
+import com.hhplus.ecommerce.application.stock.StockDeductor;
+import com.hhplus.ecommerce.application.stock.StockLockStrategy;
+import com.hhplus.ecommerce.application.stock.StockReservationService;
+import com.hhplus.ecommerce.application.usecase.CouponUseCase;
+import com.hhplus.ecommerce.application.usecase.OrderUseCase;
+import com.hhplus.ecommerce.application.usecase.OrderUseCase.OrderItem;
+import com.hhplus.ecommerce.application.usecase.PaymentUseCase;
+import com.hhplus.ecommerce.application.usecase.PaymentUseCase.PaymentResult;
+import com.hhplus.ecommerce.common.concurrent.SingleFlightLoader;
+import com.hhplus.ecommerce.common.id.SnowflakeIdGenerator;
+import com.hhplus.ecommerce.domain.entity.Coupon;
+import com.hhplus.ecommerce.domain.entity.Order;
+import com.hhplus.ecommerce.domain.entity.OrderStatus;
+import com.hhplus.ecommerce.domain.entity.Product;
+import com.hhplus.ecommerce.domain.entity.User;
+import com.hhplus.ecommerce.domain.entity.UserCoupon;
+import com.hhplus.ecommerce.domain.lock.KeyedLockAspect;
+import com.hhplus.ecommerce.domain.lock.KeyedLockRegistry;
+import com.hhplus.ecommerce.domain.lock.StockLockManager;
+import com.hhplus.ecommerce.infrastructure.memory.InMemoryProductRepository;
+import com.hhplus.ecommerce.mock.MockCouponRepository;
+import com.hhplus.ecommerce.mock.MockOrderDataOutboxRepository;
+import com.hhplus.ecommerce.mock.MockOrderRepository;
+import com.hhplus.ecommerce.mock.MockStockReservationRepository;
+import com.hhplus.ecommerce.mock.MockUserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 유스케이스 핫 패스 벤치마크 (주문 생성, 쿠폰 발급, 결제)
+ * - 재고는 인메모리 재고 엔진(InMemoryProductRepository, memory 프로파일), 나머지 저장소는 테스트용 Mock 저장소 사용
+ *   (DB/트랜잭션 비용은 포함하지 않으므로 애플리케이션 계층의 잠금/경합 회귀 비교용)
+ * - 결제는 @KeyedLock이 적용되도록 KeyedLockAspect 프록시를 통해 호출
+ * - 상품/사용자/쿠폰은 distribution(uniform/zipfian)으로 선택, 스레드 수는 -Pjmh.threads로 지정
+ * - 주문/발급 기록이 계속 쌓이므로 반복(iteration)마다 저장소를 새로 만듦
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms2g", "-Xmx2g"})
+public class UseCaseBenchmark {
+
+    private static final int STOCK = 1_000_000_000;
+    private static final int PRICE = 1000;
+
+    @Param({"uniform", "zipfian"})
+    public String distribution;
+
+    @Param({"1000"})
+    public int keyCount;
+
+    private KeySampler sampler;
+    private final AtomicLong sequence = new AtomicLong();
+
+    private MockOrderRepository orderRepository;
+    private OrderUseCase orderUseCase;
+    private CouponIssueWriter couponIssueWriter;
+    private CouponUseCase couponUseCase;
+    private PaymentUseCase paymentUseCase;
+
+    @Setup(Level.Trial)
+    public void setUpTrial() {
+        sampler = KeySampler.of(distribution, keyCount);
+    }
+
+    @Setup(Level.Iteration)
+    public void setUpIteration() {
+        LocalDateTime now = LocalDateTime.now();
+        SnowflakeIdGenerator idGenerator = new SnowflakeIdGenerator(0);
+        InMemoryProductRepository productRepository = new InMemoryProductRepository(1);
+        MockUserRepository userRepository = new MockUserRepository();
+        MockCouponRepository couponRepository = new MockCouponRepository();
+        orderRepository = new MockOrderRepository();
+        for (int id = 1; id <= keyCount; id++) {
+            productRepository.save(new Product(id, "상품" + id, PRICE, STOCK));
+            userRepository.save(new User(id, Integer.MAX_VALUE));
+            couponRepository.saveCoupon(new Coupon(id, 100, Integer.MAX_VALUE, 0,
+                    now.minusDays(1), now.plusDays(30)));
+        }
+
+        StockReservationService reservationService = new StockReservationService(
+                new MockStockReservationRepository(), productRepository, orderRepository,
+                new ReservationTimerWheel(1000, 512), idGenerator, 600);
+        orderUseCase = new OrderUseCase(orderRepository, new StockLockManager(),
+                new StockDeductor(productRepository, StockLockStrategy.CONDITIONAL_UPDATE),
+                idGenerator, reservationService, 1);
+
+        CouponPermitCounter permitCounter = new CouponPermitCounter(couponRepository);
+        couponIssueWriter = new CouponIssueWriter(couponRepository, permitCounter, idGenerator,
+                TransactionOperations.withoutTransaction());
+        couponIssueWriter.start();
+        couponUseCase = new CouponUseCase(couponRepository, new CouponIssuedUserIndex(couponRepository),
+                permitCounter, couponIssueWriter, new SingleFlightLoader(3000));
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(new PaymentUseCase(userRepository, orderRepository,
+                new SingleFlightLoader(3000), reservationService, new MockOrderDataOutboxRepository(), idGenerator,
+                new ExactPopularProductRanking(3, 5)));
+        factory.addAspect(new KeyedLockAspect(new KeyedLockRegistry()));
+        paymentUseCase = factory.getProxy();
+    }
+
+    @TearDown(Level.Iteration)
+    public void tearDownIteration() {
+        couponIssueWriter.shutdown();
+    }
+
+    /**
+     * 주문 생성 (상품 하나, 수량 1)
+     */
+    @Benchmark
+    public Order createOrder() {
+        return orderUseCase.createOrder(sampler.next(), List.of(new OrderItem(sampler.next(), 1)), null);
+    }
+
+    /**
+     * 쿠폰 발급 (매번 새 사용자, 쿠폰은 분포에 따라 선택)
+     */
+    @Benchmark
+    public UserCoupon issueCoupon() {
+        return couponUseCase.issueCoupon(keyCount + sequence.incrementAndGet(), sampler.next());
+    }
+
+    /**
+     * 결제 (매번 새 결제 대기 주문을 저장한 뒤 결제, 사용자는 분포에 따라 선택)
+     */
+    @Benchmark
+    public PaymentResult executePayment() {
+        long userId = sampler.next();
+        long orderId = sequence.incrementAndGet();
+        orderRepository.save(new Order(orderId, userId, OrderStatus.PENDING, PRICE, 0, 0));
+        return paymentUseCase.executePayment(userId, orderId);
+    }
+}
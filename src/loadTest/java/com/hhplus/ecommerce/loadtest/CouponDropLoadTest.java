@@ -0,0 +1,88 @@
+package com.hhplus.ecommerce.loadtest;
+
+import com.hhplus.ecommerce.application.usecase.CouponUseCase;
+import com.hhplus.ecommerce.domain.entity.Coupon;
+import com.hhplus.ecommerce.domain.exception.CouponSoldOutException;
+import com.hhplus.ecommerce.domain.repository.CouponRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 선착순 쿠폰 드랍 부하 테스트 (./gradlew loadTest)
+ * - 애플리케이션 컨텍스트의 CouponUseCase(허가 카운터 + 단일 writer)에 동시 발급 요청을 보내고 저장까지 확인
+ * - 요청 수는 loadtest.coupon-requests(기본 10만), 쿠폰 수량은 loadtest.coupon-quantity(기본 1000)
+ * - 정확히 수량만큼 발급되는지만 검증하고, 지연 시간은 출력만 함 (결과 비교용)
+ */
+@SpringBootTest(properties = "spring.jpa.show-sql=false")
+class CouponDropLoadTest {
+
+    private static final long COUPON_ID = 900_001L;
+    private static final int CALLER_THREADS = 200;
+
+    @Autowired
+    private CouponUseCase couponUseCase;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Test
+    @DisplayName("쿠폰 드랍 - 동시 요청 중 수량만큼만 발급")
+    void 쿠폰_드랍() throws InterruptedException {
+        // Given
+        int requestCount = Integer.getInteger("loadtest.coupon-requests", 100_000);
+        int quantity = LoadProfile.fromSystemProperties().couponQuantity();
+        LocalDateTime now = LocalDateTime.now();
+        couponRepository.saveCoupon(new Coupon(COUPON_ID, 10000, quantity, 0, now.minusDays(1), now.plusDays(1)));
+
+        ExecutorService executorService = Executors.newFixedThreadPool(CALLER_THREADS);
+        CountDownLatch latch = new CountDownLatch(requestCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger soldOutCount = new AtomicInteger(0);
+        long[] latencies = new long[requestCount];
+
+        // When
+        long started = System.nanoTime();
+        for (int i = 0; i < requestCount; i++) {
+            int index = i;
+            long userId = i + 1L;
+            executorService.submit(() -> {
+                long start = System.nanoTime();
+                try {
+                    couponUseCase.issueCoupon(userId, COUPON_ID);
+                    successCount.incrementAndGet();
+                } catch (CouponSoldOutException e) {
+                    soldOutCount.incrementAndGet();
+                } finally {
+                    latencies[index] = System.nanoTime() - start;
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        long elapsed = System.nanoTime() - started;
+        executorService.shutdown();
+
+        // Then
+        Arrays.sort(latencies);
+        System.out.printf("[COUPON_DROP] 요청 %d건, 발급 %d건, 소진 %d건, %.0f req/s, p50 %.3f ms, p99 %.3f ms%n",
+                requestCount, successCount.get(), soldOutCount.get(), requestCount / (elapsed / 1e9),
+                latencies[requestCount / 2] / 1e6, latencies[(int) (requestCount * 0.99)] / 1e6);
+
+        int expected = Math.min(quantity, requestCount);
+        assertEquals(expected, successCount.get(), "수량만큼만 발급");
+        assertEquals(requestCount - expected, soldOutCount.get(), "나머지는 수량 소진으로 거절");
+        assertEquals(expected, couponRepository.findById(COUPON_ID).orElseThrow().getIssuedQuantity());
+        assertEquals(expected, couponRepository.findByCouponId(COUPON_ID).size(), "UserCoupon도 같은 수만큼 저장");
+    }
+}
@@ -0,0 +1,26 @@
+package com.hhplus.ecommerce.loadtest;
+
+/**
+ * 부하 테스트에서 호출하는 REST 엔드포인트 (결과 집계 단위)
+ */
+enum Endpoint {
+
+    PRODUCT_LIST("GET /api/products"),
+    PRODUCT_DETAIL("GET /api/products/{productId}"),
+    POPULAR_PRODUCTS("GET /api/products/popular"),
+    CART_VIEW("GET /api/users/{userId}/carts"),
+    CART_ADD("POST /api/users/{userId}/carts"),
+    ORDER_CREATE("POST /api/orders"),
+    PAYMENT("POST /api/payments"),
+    COUPON_ISSUE("POST /api/users/{userId}/coupons");
+
+    private final String label;
+
+    Endpoint(String label) {
+        this.label = label;
+    }
+
+    String label() {
+        return label;
+    }
+}
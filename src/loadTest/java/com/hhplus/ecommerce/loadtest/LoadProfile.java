@@ -0,0 +1,48 @@
+package com.hhplus.ecommerce.loadtest;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 부하 테스트 설정 (시스템 프로퍼티 loadtest.*, Gradle에서는 -Ploadtest.*로 전달)
+ *
+ * @param mixes          재생할 트래픽 믹스 (쉼표로 구분, 순서대로 실행)
+ * @param ratePerSecond  초당 요청 도착 수 (응답과 무관하게 일정 간격으로 보냄)
+ * @param warmup         결과에서 제외하는 예열 시간
+ * @param duration       측정 시간
+ * @param users          미리 저장하는 사용자 수
+ * @param products       미리 저장하는 일반 상품 수 (재고는 측정 중 바닥나지 않을 만큼)
+ * @param flashSaleStock FLASH_SALE 인기 상품의 재고
+ * @param couponQuantity COUPON_DROP 쿠폰의 발급 수량
+ * @param reportDir      HdrHistogram 백분위 분포 파일을 저장할 디렉터리
+ */
+record LoadProfile(
+        List<TrafficMix> mixes,
+        int ratePerSecond,
+        Duration warmup,
+        Duration duration,
+        int users,
+        int products,
+        int flashSaleStock,
+        int couponQuantity,
+        Path reportDir
+) {
+
+    static LoadProfile fromSystemProperties() {
+        return new LoadProfile(
+                Arrays.stream(System.getProperty("loadtest.mix", "BROWSE_HEAVY,FLASH_SALE,COUPON_DROP").split(","))
+                        .map(String::trim)
+                        .map(TrafficMix::valueOf)
+                        .toList(),
+                Integer.getInteger("loadtest.rate", 200),
+                Duration.ofSeconds(Integer.getInteger("loadtest.warmup", 10)),
+                Duration.ofSeconds(Integer.getInteger("loadtest.duration", 30)),
+                Integer.getInteger("loadtest.users", 10_000),
+                Integer.getInteger("loadtest.products", 1_000),
+                Integer.getInteger("loadtest.flash-sale-stock", 1_000),
+                Integer.getInteger("loadtest.coupon-quantity", 1_000),
+                Path.of(System.getProperty("loadtest.report-dir", "build/reports/loadtest")));
+    }
+}
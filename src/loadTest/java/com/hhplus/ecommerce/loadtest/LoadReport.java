@@ -0,0 +1,128 @@
+package com.hhplus.ecommerce.loadtest;
+
+import org.HdrHistogram.Histogram;
+import org.HdrHistogram.Recorder;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 트래픽 믹스 한 번의 엔드포인트별 결과
+ * - 응답 시간(의도된 시작 시각 기준)과 서비스 시간(실제 전송 시각 기준)을 마이크로초 HdrHistogram으로 기록
+ * - 상태 코드는 2xx/4xx/5xx와 전송 실패(타임아웃, 연결 오류)로 나눠 집계
+ *   (비즈니스 예외는 전역 예외 처리기가 없어 5xx로 응답하므로, 품절/발급 마감도 5xx에 포함됨)
+ */
+final class LoadReport {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+    private static final int SIGNIFICANT_DIGITS = 3;
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    private final TrafficMix mix;
+    private final Duration duration;
+    private final Map<Endpoint, EndpointStats> stats = new EnumMap<>(Endpoint.class);
+
+    LoadReport(TrafficMix mix, Duration duration) {
+        this.mix = mix;
+        this.duration = duration;
+        for (Endpoint endpoint : Endpoint.values()) {
+            stats.put(endpoint, new EndpointStats());
+        }
+    }
+
+    /**
+     * 응답 하나 기록 (HTTP 클라이언트 스레드에서 동시에 호출)
+     *
+     * @param status HTTP 상태 코드 (응답을 받지 못했으면 0)
+     */
+    void record(Endpoint endpoint, long responseNanos, long serviceNanos, int status) {
+        stats.get(endpoint).record(responseNanos, serviceNanos, status);
+    }
+
+    long completed() {
+        return stats.values().stream().mapToLong(EndpointStats::count).sum();
+    }
+
+    /**
+     * 엔드포인트별 요약 출력과 응답 시간 백분위 분포 파일(<mix>-<endpoint>.hgrm, 단위 ms) 저장
+     * (모든 요청이 끝난 뒤 한 번만 호출)
+     */
+    void print(PrintStream out, Path reportDir) throws IOException {
+        Files.createDirectories(reportDir);
+        double seconds = duration.toMillis() / 1000.0;
+        out.printf(Locale.ROOT, "%n[%s] %d초 측정 (응답 시간 ms, 의도된 시작 시각 기준)%n", mix, duration.toSeconds());
+        out.printf(Locale.ROOT, "%-34s %8s %9s %7s %7s %7s %6s %8s %8s %8s %8s %8s %10s%n",
+                "endpoint", "count", "req/s", "2xx", "4xx", "5xx", "err",
+                "p50", "p90", "p99", "p99.9", "max", "svc p99");
+
+        for (Map.Entry<Endpoint, EndpointStats> entry : stats.entrySet()) {
+            EndpointStats endpointStats = entry.getValue();
+            Histogram response = endpointStats.response.getIntervalHistogram();
+            Histogram service = endpointStats.service.getIntervalHistogram();
+            if (response.getTotalCount() == 0) {
+                continue;
+            }
+            out.printf(Locale.ROOT, "%-34s %8d %9.1f %7d %7d %7d %6d %8.2f %8.2f %8.2f %8.2f %8.2f %10.2f%n",
+                    entry.getKey().label(),
+                    response.getTotalCount(),
+                    response.getTotalCount() / seconds,
+                    endpointStats.success.sum(),
+                    endpointStats.clientError.sum(),
+                    endpointStats.serverError.sum(),
+                    endpointStats.failed.sum(),
+                    millis(response, 50),
+                    millis(response, 90),
+                    millis(response, 99),
+                    millis(response, 99.9),
+                    response.getMaxValue() / MICROS_PER_MILLI,
+                    millis(service, 99));
+
+            Path file = reportDir.resolve(mix.name().toLowerCase(Locale.ROOT) + "-"
+                    + entry.getKey().name().toLowerCase(Locale.ROOT) + ".hgrm");
+            try (PrintStream hgrm = new PrintStream(Files.newOutputStream(file))) {
+                response.outputPercentileDistribution(hgrm, MICROS_PER_MILLI);
+            }
+        }
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / MICROS_PER_MILLI;
+    }
+
+    private static final class EndpointStats {
+
+        private final Recorder response = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private final Recorder service = new Recorder(HIGHEST_TRACKABLE_MICROS, SIGNIFICANT_DIGITS);
+        private final LongAdder success = new LongAdder();
+        private final LongAdder clientError = new LongAdder();
+        private final LongAdder serverError = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+
+        void record(long responseNanos, long serviceNanos, int status) {
+            response.recordValue(toMicros(responseNanos));
+            service.recordValue(toMicros(serviceNanos));
+            switch (status / 100) {
+                case 2 -> success.increment();
+                case 4 -> clientError.increment();
+                case 5 -> serverError.increment();
+                default -> failed.increment();
+            }
+        }
+
+        long count() {
+            return success.sum() + clientError.sum() + serverError.sum() + failed.sum();
+        }
+
+        private static long toMicros(long nanos) {
+            return Math.min(TimeUnit.NANOSECONDS.toMicros(nanos), HIGHEST_TRACKABLE_MICROS);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.hhplus.ecommerce.loadtest;
+
+import java.net.http.HttpClient;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 개방 루프(open-loop) 부하 발생기
+ *
+ * <p>응답을 기다리지 않고 정해진 도착 간격(1 / rate)마다 요청을 비동기로 보냅니다.
+ * 서버가 느려져도 요청 수가 줄지 않으므로 실제 사용자 유입처럼 대기열이 쌓이는 상황을 재현합니다.
+ *
+ * <p>동작 방식:
+ * <ul>
+ *   <li>i번째 요청의 의도된 시작 시각은 start + i * interval로 고정</li>
+ *   <li>응답 시간은 의도된 시작 시각부터 측정 (스케줄러나 클라이언트가 밀려 늦게 보낸 시간도 포함,
+ *       coordinated omission 보정)</li>
+ *   <li>서비스 시간은 실제로 보낸 시각부터 측정 (두 값의 차이가 발생기 쪽 지연)</li>
+ *   <li>예열 시간 동안 시작한 요청은 기록하지 않음</li>
+ *   <li>측정 시간이 끝나면 보낸 요청의 응답을 모두 기다린 뒤 결과 반환</li>
+ * </ul>
+ */
+final class OpenLoopRunner {
+
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(60);
+
+    private final HttpClient httpClient;
+
+    OpenLoopRunner(HttpClient httpClient) {
+        this.httpClient = httpClient;
+    }
+
+    LoadReport run(TrafficMix mix, TrafficGenerator generator, int ratePerSecond, Duration warmup, Duration duration)
+            throws InterruptedException, TimeoutException {
+        LoadReport report = new LoadReport(mix, duration);
+        AtomicInteger inFlight = new AtomicInteger();
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / ratePerSecond;
+        long start = System.nanoTime();
+        long measureFrom = start + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+
+        for (long i = 0; ; i++) {
+            long intended = start + i * intervalNanos;
+            if (intended >= end) {
+                break;
+            }
+            long wait;
+            while ((wait = intended - System.nanoTime()) > 0) {
+                LockSupport.parkNanos(wait);
+            }
+
+            boolean measured = intended >= measureFrom;
+            TrafficGenerator.Call call = generator.next();
+            inFlight.incrementAndGet();
+            long sent = System.nanoTime();
+            httpClient.sendAsync(call.request(), HttpResponse.BodyHandlers.ofString())
+                    .whenComplete((response, error) -> {
+                        try {
+                            long done = System.nanoTime();
+                            int status = response != null ? response.statusCode() : 0;
+                            if (measured) {
+                                report.record(call.endpoint(), done - intended, done - sent, status);
+                            }
+                            if (status / 100 == 2 && call.onSuccess() != null) {
+                                call.onSuccess().accept(response);
+                            }
+                        } finally {
+                            inFlight.decrementAndGet();
+                        }
+                    });
+        }
+
+        awaitDrained(inFlight);
+        return report;
+    }
+
+    private static void awaitDrained(AtomicInteger inFlight) throws InterruptedException, TimeoutException {
+        long deadline = System.nanoTime() + DRAIN_TIMEOUT.toNanos();
+        while (inFlight.get() > 0) {
+            if (System.nanoTime() - deadline > 0) {
+                throw new TimeoutException(inFlight.get() + " requests still in flight after " + DRAIN_TIMEOUT);
+            }
+            Thread.sleep(10);
+        }
+    }
+}
@@ -0,0 +1,122 @@
+package com.hhplus.ecommerce.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.URI;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * 트래픽 믹스에 따라 다음 요청을 만드는 생성기 (믹스마다 새로 생성)
+ * - 사용자/상품은 미리 저장한 범위에서 고르게 선택 (FLASH_SALE은 인기 상품 하나)
+ * - 결제는 이 생성기가 만든 주문 중 아직 결제하지 않은 주문을 대상으로 하며, 없으면 주문 생성으로 대체
+ * - 쿠폰 발급은 요청마다 다른 사용자 (같은 사용자의 중복 발급 거절이 섞이지 않도록)
+ */
+final class TrafficGenerator {
+
+    static final long HOT_PRODUCT_ID = 1_000_000_000L;
+    static final long DROP_COUPON_ID = 1_000_000_000L;
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI baseUri;
+    private final TrafficMix mix;
+    private final LoadProfile profile;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final Queue<PendingOrder> pendingOrders = new ConcurrentLinkedQueue<>();
+    private final AtomicLong couponUserSequence = new AtomicLong();
+
+    TrafficGenerator(URI baseUri, TrafficMix mix, LoadProfile profile) {
+        this.baseUri = baseUri;
+        this.mix = mix;
+        this.profile = profile;
+    }
+
+    /**
+     * 다음 요청 생성 (스케줄러 스레드에서 호출)
+     */
+    Call next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Endpoint endpoint = mix.pick(random.nextDouble());
+        long userId = random.nextLong(1, profile.users() + 1L);
+        long productId = random.nextLong(1, profile.products() + 1L);
+
+        return switch (endpoint) {
+            case PRODUCT_LIST -> get(endpoint, "/api/products?page=" + random.nextInt(1, 6) + "&size=20");
+            case PRODUCT_DETAIL -> get(endpoint, "/api/products/" + targetProduct(productId));
+            case POPULAR_PRODUCTS -> get(endpoint, "/api/products/popular");
+            case CART_VIEW -> get(endpoint, "/api/users/" + userId + "/carts");
+            case CART_ADD -> post(endpoint, "/api/users/" + userId + "/carts",
+                    "{\"productId\":" + productId + ",\"quantity\":1}", null);
+            case ORDER_CREATE -> createOrder(userId, targetProduct(productId));
+            case PAYMENT -> {
+                PendingOrder order = pendingOrders.poll();
+                if (order == null) {
+                    yield createOrder(userId, targetProduct(productId));
+                }
+                yield post(endpoint, "/api/payments",
+                        "{\"orderId\":" + order.orderId() + ",\"userId\":" + order.userId() + ",\"userCouponId\":null}",
+                        null);
+            }
+            case COUPON_ISSUE -> post(endpoint, "/api/users/" + couponUserSequence.incrementAndGet() + "/coupons",
+                    "{\"couponId\":" + DROP_COUPON_ID + "}", null);
+        };
+    }
+
+    private long targetProduct(long productId) {
+        return mix.targetsHotProduct() ? HOT_PRODUCT_ID : productId;
+    }
+
+    private Call createOrder(long userId, long productId) {
+        String body = "{\"userId\":" + userId + ",\"orderType\":\"DIRECT\",\"productId\":" + productId
+                + ",\"quantity\":1}";
+        return post(Endpoint.ORDER_CREATE, "/api/orders", body, response -> {
+            JsonNode orderId = readTree(response.body()).path("data").path("orderId");
+            if (orderId.canConvertToLong()) {
+                pendingOrders.offer(new PendingOrder(orderId.asLong(), userId));
+            }
+        });
+    }
+
+    private Call get(Endpoint endpoint, String path) {
+        return new Call(endpoint, request(path).GET().build(), null);
+    }
+
+    private Call post(Endpoint endpoint, String path, String body, Consumer<HttpResponse<String>> onSuccess) {
+        HttpRequest request = request(path)
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return new Call(endpoint, request, onSuccess);
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(baseUri.resolve(path)).timeout(REQUEST_TIMEOUT);
+    }
+
+    private JsonNode readTree(String body) {
+        try {
+            return objectMapper.readTree(body);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * 보낼 요청
+     *
+     * @param onSuccess 2xx 응답을 받았을 때 실행할 후속 처리 (없으면 null)
+     */
+    record Call(Endpoint endpoint, HttpRequest request, Consumer<HttpResponse<String>> onSuccess) {}
+
+    private record PendingOrder(long orderId, long userId) {}
+}
@@ -0,0 +1,65 @@
+package com.hhplus.ecommerce.loadtest;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 트래픽 믹스 (엔드포인트별 요청 비중)
+ * - BROWSE_HEAVY: 평상시, 상품 목록/상세 조회가 대부분이고 일부만 장바구니/주문/결제로 이어짐
+ * - FLASH_SALE: 한정 수량 인기 상품 하나에 상세 조회와 주문이 몰리고, 생성된 주문을 바로 결제
+ * - COUPON_DROP: 선착순 쿠폰 하나에 매번 다른 사용자의 발급 요청이 몰리고, 나머지는 상품 조회
+ */
+enum TrafficMix {
+
+    BROWSE_HEAVY(false, Map.of(
+            Endpoint.PRODUCT_LIST, 30,
+            Endpoint.PRODUCT_DETAIL, 35,
+            Endpoint.POPULAR_PRODUCTS, 10,
+            Endpoint.CART_VIEW, 10,
+            Endpoint.CART_ADD, 8,
+            Endpoint.ORDER_CREATE, 4,
+            Endpoint.PAYMENT, 3)),
+
+    FLASH_SALE(true, Map.of(
+            Endpoint.PRODUCT_DETAIL, 25,
+            Endpoint.ORDER_CREATE, 50,
+            Endpoint.PAYMENT, 25)),
+
+    COUPON_DROP(false, Map.of(
+            Endpoint.COUPON_ISSUE, 70,
+            Endpoint.PRODUCT_LIST, 15,
+            Endpoint.PRODUCT_DETAIL, 15));
+
+    private final boolean hotProduct;
+    private final Map<Endpoint, Integer> weights;
+    private final int totalWeight;
+
+    TrafficMix(boolean hotProduct, Map<Endpoint, Integer> weights) {
+        this.hotProduct = hotProduct;
+        this.weights = new EnumMap<>(weights);
+        this.totalWeight = weights.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * 상품 상세 조회와 주문이 한정 수량 인기 상품을 대상으로 하는지 여부
+     */
+    boolean targetsHotProduct() {
+        return hotProduct;
+    }
+
+    /**
+     * 비중에 따라 엔드포인트 선택
+     *
+     * @param random 0 이상 1 미만의 난수
+     */
+    Endpoint pick(double random) {
+        int point = (int) (random * totalWeight);
+        for (Map.Entry<Endpoint, Integer> entry : weights.entrySet()) {
+            point -= entry.getValue();
+            if (point < 0) {
+                return entry.getKey();
+            }
+        }
+        throw new IllegalArgumentException("random must be in [0, 1): " + random);
+    }
+}
@@ -0,0 +1,87 @@
+package com.hhplus.ecommerce.loadtest;
+
+import com.hhplus.ecommerce.domain.entity.Coupon;
+import com.hhplus.ecommerce.domain.entity.Product;
+import com.hhplus.ecommerce.domain.entity.User;
+import com.hhplus.ecommerce.domain.repository.CouponRepository;
+import com.hhplus.ecommerce.domain.repository.ProductRepository;
+import com.hhplus.ecommerce.domain.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 트래픽 재생 부하 테스트 (./gradlew loadTest, 설정은 LoadProfile 참고)
+ * - 내장 서버(임의 포트)를 띄우고 실제 REST API에 트래픽 믹스를 순서대로 개방 루프로 재생
+ * - 설정은 운영과 같은 application.yml (DB 재고 엔진 + H2), SQL 로그만 끔
+ *   (-Ploadtest.profile=memory로 인메모리 재고 엔진과 비교)
+ * - 측정 전에 사용자/상품과 FLASH_SALE 인기 상품, COUPON_DROP 쿠폰을 저장소에 직접 저장
+ * - 지연 시간 목표는 검증하지 않음 (결과 비교용), 모든 요청이 응답을 받았는지만 확인
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = "spring.jpa.show-sql=false")
+class TrafficReplayLoadTest {
+
+    private static final int POINT = 1_000_000_000;
+    private static final int STOCK = 1_000_000_000;
+    private static final int PRICE = 1000;
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CouponRepository couponRepository;
+
+    @Test
+    @DisplayName("트래픽 믹스별 엔드포인트 지연 시간/처리량 측정")
+    void 트래픽_믹스_재생() throws Exception {
+        // Given
+        LoadProfile profile = LoadProfile.fromSystemProperties();
+        seed(profile);
+        URI baseUri = URI.create("http://localhost:" + port);
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        OpenLoopRunner runner = new OpenLoopRunner(httpClient);
+
+        for (TrafficMix mix : profile.mixes()) {
+            // When
+            LoadReport report = runner.run(mix, new TrafficGenerator(baseUri, mix, profile),
+                    profile.ratePerSecond(), profile.warmup(), profile.duration());
+
+            // Then
+            report.print(System.out, profile.reportDir());
+            assertTrue(report.completed() > 0, mix + ": 측정 구간에 완료된 요청이 없음");
+        }
+    }
+
+    private void seed(LoadProfile profile) {
+        LocalDateTime now = LocalDateTime.now();
+        for (long id = 1; id <= profile.users(); id++) {
+            userRepository.save(new User(id, POINT));
+        }
+        for (long id = 1; id <= profile.products(); id++) {
+            productRepository.save(new Product(id, "상품" + id, PRICE, STOCK));
+        }
+        productRepository.save(new Product(TrafficGenerator.HOT_PRODUCT_ID, "한정 특가 상품", PRICE,
+                profile.flashSaleStock()));
+        couponRepository.saveCoupon(new Coupon(TrafficGenerator.DROP_COUPON_ID, 100, profile.couponQuantity(), 0,
+                now.minusDays(1), now.plusDays(1)));
+    }
+}
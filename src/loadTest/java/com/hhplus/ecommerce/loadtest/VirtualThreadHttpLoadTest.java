@@ -0,0 +1,99 @@
+package com.hhplus.ecommerce.loadtest;
+
+import com.hhplus.ecommerce.common.concurrent.VirtualThreads;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Import;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 가상 스레드 Tomcat 요청 처리 부하 테스트 (./gradlew loadTest, Java 21 이상에서만 실행)
+ * - spring.threads.virtual.enabled=true로 내장 서버(임의 포트)를 띄우고, 대기가 긴 요청을 Tomcat 최대 스레드 수보다
+ *   많이 동시에 보냄
+ * - 모든 요청이 가상 스레드에서 처리되어 200으로 응답하는지 검증
+ * - 지연 시간은 출력만 함 (플랫폼 스레드라면 최대 스레드 수만큼씩 차례를 기다려야 하는 수준과 비교용)
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT,
+        properties = {
+                "spring.jpa.show-sql=false",
+                "spring.threads.virtual.enabled=true",
+                "server.tomcat.threads.max=" + VirtualThreadHttpLoadTest.TOMCAT_MAX_THREADS
+        })
+@Import(VirtualThreadHttpLoadTest.BlockingController.class)
+class VirtualThreadHttpLoadTest {
+
+    static final int TOMCAT_MAX_THREADS = 50;
+    private static final int CONNECTIONS = 1_000;
+    private static final long BLOCKING_MILLIS = 50;
+
+    @LocalServerPort
+    private int port;
+
+    @Test
+    @DisplayName("최대 스레드 수보다 많은 동시 요청을 가상 스레드에서 처리")
+    void 가상_스레드_요청_처리() throws Exception {
+        assumeTrue(VirtualThreads.isSupported(), "Java 21 미만");
+
+        // Given
+        HttpClient httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/loadtest/blocking"))
+                .timeout(Duration.ofSeconds(30))
+                .build();
+
+        // When: 응답을 기다리지 않고 한꺼번에 전송
+        long[] latencies = new long[CONNECTIONS];
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>(CONNECTIONS);
+        for (int i = 0; i < CONNECTIONS; i++) {
+            int index = i;
+            long sentAt = System.nanoTime();
+            responses.add(httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                    .whenComplete((response, e) -> latencies[index] = System.nanoTime() - sentAt));
+        }
+        CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new)).get(60, TimeUnit.SECONDS);
+
+        // Then
+        Arrays.sort(latencies);
+        System.out.printf("[VIRTUAL_THREADS] 요청 %d건 (Tomcat 최대 스레드 %d, 요청당 대기 %dms), p50 %.1f ms, p99 %.1f ms, "
+                        + "플랫폼 스레드였다면 최소 %d ms%n",
+                CONNECTIONS, TOMCAT_MAX_THREADS, BLOCKING_MILLIS,
+                latencies[CONNECTIONS / 2] / 1e6, latencies[CONNECTIONS * 99 / 100] / 1e6,
+                (long) Math.ceil((double) CONNECTIONS / TOMCAT_MAX_THREADS) * BLOCKING_MILLIS);
+        for (CompletableFuture<HttpResponse<String>> response : responses) {
+            assertEquals(200, response.get().statusCode());
+            assertEquals("true", response.get().body(), "요청 처리 스레드가 가상 스레드");
+        }
+    }
+
+    /**
+     * JDBC/락 대기를 흉내 낸 sleep 후 요청 처리 스레드가 가상 스레드인지 반환
+     */
+    @RestController
+    static class BlockingController {
+
+        @GetMapping("/loadtest/blocking")
+        String blocking() throws Exception {
+            Thread.sleep(BLOCKING_MILLIS);
+            return String.valueOf(Thread.class.getMethod("isVirtual").invoke(Thread.currentThread()));
+        }
+    }
+}
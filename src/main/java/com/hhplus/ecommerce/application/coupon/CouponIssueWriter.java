@@ -0,0 +1,261 @@
+package com.hhplus.ecommerce.application.coupon;
+
+import com.hhplus.ecommerce.common.id.SnowflakeIdGenerator;
+import com.hhplus.ecommerce.domain.entity.Coupon;
+import com.hhplus.ecommerce.domain.entity.UserCoupon;
+import com.hhplus.ecommerce.domain.exception.CouponAlreadyIssuedException;
+import com.hhplus.ecommerce.domain.exception.CouponNotFoundException;
+import com.hhplus.ecommerce.domain.exception.CouponNotIssuablePeriodException;
+import com.hhplus.ecommerce.domain.exception.CouponSoldOutException;
+import com.hhplus.ecommerce.domain.repository.CouponRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 선착순 쿠폰 발급 저장기 (단일 writer)
+ * - CouponPermitCounter를 통과한 당첨 요청만 큐에 적재
+ * - 전용 스레드 하나가 큐를 비우며 쿠폰별로 묶어 UserCoupon을 일괄 저장
+ * - 쿠폰별 발급 수량 증가와 UserCoupon 저장은 한 트랜잭션
+ * - 발급 수량은 남은 수량 조건부 UPDATE로 증가시켜 여러 인스턴스의 writer가 동시에 저장해도 초과 발급되지 않음
+ *   (다른 인스턴스가 먼저 발급해 수량이 모자라면 남은 만큼만 발급하고, 허가 카운터를 다시 로딩하도록 초기화)
+ * - 다른 인스턴스에서 이미 발급받은 사용자가 섞이면(DB 유니크 제약) 한 건씩 다시 저장하여 그 사용자만 거절
+ * - 저장 실패(트랜잭션 롤백) 시 허가를 반납하고 요청자에게 예외 전달
+ * - 스레드는 빈 초기화가 끝난 뒤(@PostConstruct) 시작하고, 종료 시(@PreDestroy) 큐에 남은 요청까지 저장한 뒤 종료
+ *   (직접 생성하는 테스트/벤치마크는 start()를 호출해야 저장이 진행됨)
+ */
+@Component
+public class CouponIssueWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(CouponIssueWriter.class);
+
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final long POLL_TIMEOUT_MILLIS = 100;
+    private static final long SHUTDOWN_TIMEOUT_MILLIS = 10_000;
+
+    private final CouponRepository couponRepository;
+    private final CouponPermitCounter permitCounter;
+    private final SnowflakeIdGenerator idGenerator;
+    private final TransactionOperations transactionOperations;
+    private final BlockingQueue<IssueRequest> queue = new LinkedBlockingQueue<>();
+    private final Thread writerThread;
+    private volatile boolean running = true;
+
+    public CouponIssueWriter(CouponRepository couponRepository, CouponPermitCounter permitCounter,
+                             SnowflakeIdGenerator idGenerator, TransactionOperations transactionOperations) {
+        this.couponRepository = couponRepository;
+        this.permitCounter = permitCounter;
+        this.idGenerator = idGenerator;
+        this.transactionOperations = transactionOperations;
+        this.writerThread = new Thread(this::drainLoop, "coupon-issue-writer");
+        this.writerThread.setDaemon(true);
+    }
+
+    /**
+     * 저장 스레드 시작 (시작 전에 접수한 요청은 큐에서 기다림)
+     */
+    @PostConstruct
+    public void start() {
+        writerThread.start();
+    }
+
+    /**
+     * 당첨 요청 저장 예약
+     *
+     * @return 저장 완료 시 발급된 UserCoupon으로 완료되는 Future
+     */
+    public CompletableFuture<UserCoupon> submit(Long userId, Long couponId, LocalDateTime issuedAt) {
+        IssueRequest request = new IssueRequest(userId, couponId, issuedAt, new CompletableFuture<>());
+        if (!running) {
+            request.result().completeExceptionally(new IllegalStateException("쿠폰 발급 저장기가 종료되었습니다"));
+            return request.result();
+        }
+        queue.add(request);
+        return request.result();
+    }
+
+    /**
+     * 저장기 종료 (큐에 남은 요청을 저장한 뒤 스레드 종료, 제한 시간 안에 끝나지 않은 요청은 실패 처리)
+     */
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        try {
+            writerThread.join(SHUTDOWN_TIMEOUT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writerThread.interrupt();
+
+        List<IssueRequest> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        for (IssueRequest request : remaining) {
+            if (request.result().completeExceptionally(new IllegalStateException("쿠폰 발급 저장기가 종료되었습니다"))) {
+                permitCounter.release(request.couponId());
+            }
+        }
+    }
+
+    private void drainLoop() {
+        List<IssueRequest> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        while (running || !queue.isEmpty()) {
+            try {
+                IssueRequest first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                batch.add(first);
+                queue.drainTo(batch, MAX_BATCH_SIZE - 1);
+                persist(batch);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void persist(List<IssueRequest> batch) {
+        Map<Long, List<IssueRequest>> byCoupon = new LinkedHashMap<>();
+        for (IssueRequest request : batch) {
+            byCoupon.computeIfAbsent(request.couponId(), id -> new ArrayList<>()).add(request);
+        }
+
+        byCoupon.forEach((couponId, requests) -> {
+            try {
+                persistCoupon(couponId, requests);
+            } catch (RuntimeException e) {
+                log.error("쿠폰 발급 저장 실패: couponId={}, count={}, error={}",
+                        couponId, requests.size(), e.getMessage());
+                for (IssueRequest request : requests) {
+                    if (request.result().completeExceptionally(e)) {
+                        permitCounter.release(couponId);
+                    }
+                }
+            }
+        });
+    }
+
+    private void persistCoupon(Long couponId, List<IssueRequest> requests) {
+        Coupon coupon = couponRepository.findById(couponId)
+                .orElseThrow(CouponNotFoundException::new);
+
+        // 조회한 쿠폰은 변경하지 않고 기간과 남은 수량만 확인 (수량 증가는 저장 시 조건부 UPDATE)
+        int remaining = coupon.getIssueQuantity() - coupon.getIssuedQuantity();
+        List<UserCoupon> userCoupons = new ArrayList<>(requests.size());
+        List<IssueRequest> accepted = new ArrayList<>(requests.size());
+        for (IssueRequest request : requests) {
+            RuntimeException rejection = null;
+            if (coupon.isExpired(request.issuedAt())) {
+                rejection = new CouponNotIssuablePeriodException();
+            } else if (accepted.size() >= remaining) {
+                rejection = new CouponSoldOutException();
+            }
+            if (rejection != null) {
+                permitCounter.release(couponId);
+                request.result().completeExceptionally(rejection);
+                continue;
+            }
+            userCoupons.add(new UserCoupon(
+                    idGenerator.nextId(),
+                    request.userId(),
+                    couponId,
+                    0,  // orderId는 나중에 사용 시 설정
+                    false,
+                    request.issuedAt(),
+                    null,
+                    coupon.getValidTo()
+            ));
+            accepted.add(request);
+        }
+
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        List<UserCoupon> saved;
+        try {
+            saved = transactionOperations.execute(status -> saveIssued(couponId, userCoupons));
+        } catch (CouponAlreadyIssuedException e) {
+            // 다른 인스턴스에서 이미 발급받은 사용자가 섞여 있으면(유니크 제약 위반, 전체 롤백) 한 건씩 다시 저장
+            persistEach(couponId, accepted, userCoupons);
+            return;
+        }
+        complete(couponId, accepted, saved);
+    }
+
+    /**
+     * 요청마다 별도 트랜잭션으로 저장하여 중복 발급 사용자만 거절
+     */
+    private void persistEach(Long couponId, List<IssueRequest> accepted, List<UserCoupon> userCoupons) {
+        for (int i = 0; i < accepted.size(); i++) {
+            IssueRequest request = accepted.get(i);
+            List<UserCoupon> single = List.of(userCoupons.get(i));
+            try {
+                complete(couponId, List.of(request),
+                        transactionOperations.execute(status -> saveIssued(couponId, single)));
+            } catch (RuntimeException e) {
+                permitCounter.release(couponId);
+                request.result().completeExceptionally(e);
+            }
+        }
+    }
+
+    /**
+     * 저장된 요청은 발급된 쿠폰으로, 남은 수량이 모자라 저장하지 못한 요청은 CouponSoldOutException으로 완료
+     */
+    private void complete(Long couponId, List<IssueRequest> accepted, List<UserCoupon> saved) {
+        for (int i = 0; i < accepted.size(); i++) {
+            if (i < saved.size()) {
+                accepted.get(i).result().complete(saved.get(i));
+            } else {
+                accepted.get(i).result().completeExceptionally(new CouponSoldOutException());
+            }
+        }
+        if (saved.size() < accepted.size()) {
+            // 다른 인스턴스가 발급한 수량을 반영하도록 다음 요청에서 허가를 다시 로딩
+            permitCounter.reset(couponId);
+        }
+    }
+
+    /**
+     * 발급 수량 증가와 UserCoupon 저장 (호출자의 트랜잭션 안에서 실행)
+     * - 조건부 UPDATE가 실패하면 남은 수량을 다시 읽어 그만큼만 발급 (앞선 요청 우선)
+     *
+     * @return 저장한 UserCoupon (남은 수량이 부족하면 앞에서부터 일부만)
+     */
+    private List<UserCoupon> saveIssued(Long couponId, List<UserCoupon> userCoupons) {
+        int count = userCoupons.size();
+        while (count > 0 && !couponRepository.tryIncreaseIssuedQuantity(couponId, count)) {
+            int remaining = couponRepository.findById(couponId)
+                    .map(coupon -> coupon.getIssueQuantity() - coupon.getIssuedQuantity())
+                    .orElse(0);
+            count = Math.max(0, Math.min(count - 1, remaining));
+        }
+        if (count == 0) {
+            return List.of();
+        }
+        return couponRepository.saveUserCoupons(userCoupons.subList(0, count));
+    }
+
+    private record IssueRequest(
+            Long userId,
+            Long couponId,
+            LocalDateTime issuedAt,
+            CompletableFuture<UserCoupon> result
+    ) {}
+}
@@ -0,0 +1,139 @@
+package com.hhplus.ecommerce.application.coupon;
+
+import com.hhplus.ecommerce.domain.entity.UserCoupon;
+import com.hhplus.ecommerce.domain.exception.CouponNotFoundException;
+import com.hhplus.ecommerce.domain.repository.CouponRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 쿠폰별 발급 사용자 인덱스 (중복 발급 방지)
+ * - 쿠폰마다 발급받은 userId 집합을 LongHashSet으로 보관하여 O(1) 중복 판정
+ * - 집합은 userId 해시로 나눈 세그먼트 단위로 잠가 같은 쿠폰 요청끼리의 경합을 분산
+ *   (ReentrantLock: 경합 중 대기가 가상 스레드의 carrier를 고정하지 않음)
+ * - 쿠폰 최초 접근 시 저장된 UserCoupon으로 인덱스를 재구성 (재시작 후에도 정합성 유지)
+ * - 발급 전에 먼저 등록(tryMark)하고, 발급이 실패하면 등록 취소(unmark)
+ */
+@Component
+public class CouponIssuedUserIndex {
+
+    private static final int SEGMENTS = 16;
+
+    private final CouponRepository couponRepository;
+    private final Map<Long, IssuedUsers> indexes = new ConcurrentHashMap<>();
+
+    public CouponIssuedUserIndex(CouponRepository couponRepository) {
+        this.couponRepository = couponRepository;
+    }
+
+    /**
+     * 발급 사용자로 등록
+     *
+     * @return 새로 등록되었으면 true, 이미 발급받은 사용자면 false
+     * @throws CouponNotFoundException 쿠폰이 없는 경우
+     */
+    public boolean tryMark(Long couponId, Long userId) {
+        return issuedUsersOf(couponId).add(userId);
+    }
+
+    /**
+     * 등록 취소 (발급 실패 시)
+     */
+    public void unmark(Long couponId, Long userId) {
+        IssuedUsers issuedUsers = indexes.get(couponId);
+        if (issuedUsers != null) {
+            issuedUsers.remove(userId);
+        }
+    }
+
+    /**
+     * 발급 여부 확인
+     */
+    public boolean contains(Long couponId, Long userId) {
+        return issuedUsersOf(couponId).contains(userId);
+    }
+
+    /**
+     * 쿠폰의 인덱스 조회 (없으면 재구성)
+     * - DB 조회를 computeIfAbsent 안에서 하면 맵 내부 잠금을 쥔 채 I/O를 기다리므로(가상 스레드면 carrier 고정)
+     *   잠금 밖에서 재구성하고 먼저 등록된 인덱스를 사용 (동시에 처음 접근하면 재구성이 중복될 수 있음)
+     */
+    private IssuedUsers issuedUsersOf(Long couponId) {
+        IssuedUsers issuedUsers = indexes.get(couponId);
+        if (issuedUsers != null) {
+            return issuedUsers;
+        }
+        IssuedUsers loaded = load(couponId);
+        IssuedUsers previous = indexes.putIfAbsent(couponId, loaded);
+        return previous != null ? previous : loaded;
+    }
+
+    private IssuedUsers load(Long couponId) {
+        couponRepository.findById(couponId)
+                .orElseThrow(CouponNotFoundException::new);
+
+        List<UserCoupon> issued = couponRepository.findByCouponId(couponId);
+        IssuedUsers issuedUsers = new IssuedUsers(issued.size());
+        for (UserCoupon userCoupon : issued) {
+            issuedUsers.add(userCoupon.getUserId());
+        }
+        return issuedUsers;
+    }
+
+    private static final class IssuedUsers {
+
+        private final LongHashSet[] segments = new LongHashSet[SEGMENTS];
+        private final ReentrantLock[] locks = new ReentrantLock[SEGMENTS];
+
+        private IssuedUsers(int expectedSize) {
+            for (int i = 0; i < SEGMENTS; i++) {
+                segments[i] = new LongHashSet(expectedSize / SEGMENTS);
+                locks[i] = new ReentrantLock();
+            }
+        }
+
+        private boolean add(long userId) {
+            int index = indexOf(userId);
+            LongHashSet segment = segments[index];
+            ReentrantLock lock = locks[index];
+            lock.lock();
+            try {
+                return segment.add(userId);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void remove(long userId) {
+            int index = indexOf(userId);
+            LongHashSet segment = segments[index];
+            ReentrantLock lock = locks[index];
+            lock.lock();
+            try {
+                segment.remove(userId);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private boolean contains(long userId) {
+            int index = indexOf(userId);
+            LongHashSet segment = segments[index];
+            ReentrantLock lock = locks[index];
+            lock.lock();
+            try {
+                return segment.contains(userId);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int indexOf(long userId) {
+            return (int) (userId ^ (userId >>> 32)) & (SEGMENTS - 1);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.hhplus.ecommerce.application.coupon;
+
+import com.hhplus.ecommerce.domain.entity.Coupon;
+import com.hhplus.ecommerce.domain.exception.CouponNotFoundException;
+import com.hhplus.ecommerce.domain.exception.CouponNotIssuablePeriodException;
+import com.hhplus.ecommerce.domain.exception.CouponSoldOutException;
+import com.hhplus.ecommerce.domain.repository.CouponRepository;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 선착순 쿠폰 발급 허가 카운터
+ * - 쿠폰별 잔여 수량(issueQuantity - issuedQuantity)을 최초 요청 시 한 번만 로딩
+ * - 이후 요청은 원자적 카운터 차감만으로 당첨/탈락을 O(1)에 판정
+ * - 수량이 소진된 뒤의 요청은 리포지토리를 조회하지 않고 즉시 거절
+ */
+@Component
+public class CouponPermitCounter {
+
+    private final CouponRepository couponRepository;
+    private final Map<Long, Permits> permits = new ConcurrentHashMap<>();
+
+    public CouponPermitCounter(CouponRepository couponRepository) {
+        this.couponRepository = couponRepository;
+    }
+
+    /**
+     * 발급 허가 획득
+     *
+     * @throws CouponNotFoundException          쿠폰이 없는 경우
+     * @throws CouponNotIssuablePeriodException 발급 기간이 아닌 경우
+     * @throws CouponSoldOutException           잔여 수량이 없는 경우
+     */
+    public void acquire(Long couponId, LocalDateTime now) {
+        Permits target = permits.computeIfAbsent(couponId, this::load);
+
+        if (target.coupon.isExpired(now)) {
+            throw new CouponNotIssuablePeriodException();
+        }
+
+        int current;
+        do {
+            current = target.remaining.get();
+            if (current <= 0) {
+                throw new CouponSoldOutException();
+            }
+        } while (!target.remaining.compareAndSet(current, current - 1));
+    }
+
+    /**
+     * 발급 허가 반납 (저장 실패 시)
+     */
+    public void release(Long couponId) {
+        Permits target = permits.get(couponId);
+        if (target != null) {
+            target.remaining.incrementAndGet();
+        }
+    }
+
+    /**
+     * 잔여 허가 수 조회
+     */
+    public int getRemaining(Long couponId) {
+        Permits target = permits.get(couponId);
+        return target != null ? target.remaining.get() : -1;
+    }
+
+    /**
+     * 캐시된 허가 정보 제거 (쿠폰 수량 변경 시 다음 요청에서 다시 로딩)
+     */
+    public void reset(Long couponId) {
+        permits.remove(couponId);
+    }
+
+    private Permits load(Long couponId) {
+        Coupon coupon = couponRepository.findById(couponId)
+                .orElseThrow(CouponNotFoundException::new);
+        return new Permits(coupon, coupon.getIssueQuantity() - coupon.getIssuedQuantity());
+    }
+
+    private static final class Permits {
+
+        private final Coupon coupon;
+        private final AtomicInteger remaining;
+
+        private Permits(Coupon coupon, int remaining) {
+            this.coupon = coupon;
+            this.remaining = new AtomicInteger(remaining);
+        }
+    }
+}
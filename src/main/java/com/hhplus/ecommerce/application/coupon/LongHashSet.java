@@ -0,0 +1,133 @@
+package com.hhplus.ecommerce.application.coupon;
+
+/**
+ * long 전용 해시 집합 (open addressing, linear probing)
+ * - Long 박싱 없이 원소당 8바이트(+ 여유 공간)만 사용
+ * - 삭제 시 tombstone 대신 뒤따르는 원소를 당겨와 탐색 길이가 늘어나지 않음
+ * - 0은 빈 슬롯 표시로 사용하므로 저장할 수 없음
+ * - 스레드 안전하지 않음 (호출 측에서 동기화)
+ */
+final class LongHashSet {
+
+    private static final int MIN_CAPACITY = 16;
+
+    private long[] keys;
+    private int mask;
+    private int size;
+
+    LongHashSet() {
+        this(MIN_CAPACITY);
+    }
+
+    LongHashSet(int expectedSize) {
+        allocate(capacityFor(expectedSize));
+    }
+
+    boolean add(long key) {
+        checkKey(key);
+        if ((size + 1) * 2 > keys.length) {
+            rehash(keys.length << 1);
+        }
+        int i = indexOf(key);
+        while (keys[i] != 0) {
+            if (keys[i] == key) {
+                return false;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = key;
+        size++;
+        return true;
+    }
+
+    boolean contains(long key) {
+        checkKey(key);
+        int i = indexOf(key);
+        while (keys[i] != 0) {
+            if (keys[i] == key) {
+                return true;
+            }
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    boolean remove(long key) {
+        checkKey(key);
+        int i = indexOf(key);
+        while (keys[i] != 0) {
+            if (keys[i] == key) {
+                shiftBack(i);
+                size--;
+                return true;
+            }
+            i = (i + 1) & mask;
+        }
+        return false;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * 삭제된 슬롯(gap) 이후의 원소 중, 원래 위치에서 gap을 지나쳐 온 원소를 gap으로 당김
+     */
+    private void shiftBack(int gap) {
+        int i = gap;
+        while (true) {
+            i = (i + 1) & mask;
+            long key = keys[i];
+            if (key == 0) {
+                keys[gap] = 0;
+                return;
+            }
+            int home = indexOf(key);
+            boolean movable = (gap <= i)
+                    ? (home <= gap || home > i)
+                    : (home <= gap && home > i);
+            if (movable) {
+                keys[gap] = key;
+                gap = i;
+            }
+        }
+    }
+
+    private void rehash(int newCapacity) {
+        long[] old = keys;
+        allocate(newCapacity);
+        for (long key : old) {
+            if (key != 0) {
+                int i = indexOf(key);
+                while (keys[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = key;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new long[capacity];
+        mask = capacity - 1;
+    }
+
+    private int indexOf(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+
+    private static int capacityFor(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        return capacity;
+    }
+
+    private static void checkKey(long key) {
+        if (key == 0) {
+            throw new IllegalArgumentException("0 cannot be stored in LongHashSet");
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.hhplus.ecommerce.application.outbox;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬용 주문 데이터 전송 클라이언트 (실제 API 호출 대신 로그 출력)
+ */
+@Component
+@ConditionalOnProperty(name = "outbox.client", havingValue = "logging", matchIfMissing = true)
+public class LoggingOrderDataClient implements OrderDataClient {
+
+    private static final Logger log = LoggerFactory.getLogger(LoggingOrderDataClient.class);
+
+    @Override
+    public void send(OrderData orderData) {
+        log.info("외부 시스템 전송: 주문ID={}, 금액={}", orderData.orderId(), orderData.finalAmount());
+    }
+}
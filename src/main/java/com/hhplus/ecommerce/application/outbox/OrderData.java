@@ -0,0 +1,29 @@
+package com.hhplus.ecommerce.application.outbox;
+
+import com.hhplus.ecommerce.domain.entity.OrderDataOutbox;
+
+import java.time.LocalDateTime;
+
+/**
+ * 외부 시스템으로 전송하는 주문 데이터
+ */
+public record OrderData(
+        long orderId,
+        long userId,
+        int totalAmount,
+        int discountAmount,
+        int finalAmount,
+        LocalDateTime completedAt
+) {
+
+    public static OrderData from(OrderDataOutbox outbox) {
+        return new OrderData(
+                outbox.getOrderId(),
+                outbox.getUserId(),
+                outbox.getTotalAmount(),
+                outbox.getDiscountAmount(),
+                outbox.getFinalAmount(),
+                outbox.getCompletedAt()
+        );
+    }
+}
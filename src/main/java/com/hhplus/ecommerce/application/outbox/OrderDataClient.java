@@ -0,0 +1,15 @@
+package com.hhplus.ecommerce.application.outbox;
+
+/**
+ * 외부 시스템 주문 데이터 전송 클라이언트
+ * - 구현체는 outbox.client 설정으로 선택
+ * - 같은 주문이 두 번 이상 전송될 수 있음 (전송 후 결과 반영 전에 멈추면 재전송, 수신 측에서 orderId로 중복 제거)
+ * - 호출은 OrderDataOutboxDispatcher가 타임아웃을 걸고 인터럽트로 중단하므로, 블로킹 I/O는 인터럽트에 응답해야 함
+ */
+public interface OrderDataClient {
+
+    /**
+     * 주문 데이터 전송 (실패 시 예외)
+     */
+    void send(OrderData orderData);
+}
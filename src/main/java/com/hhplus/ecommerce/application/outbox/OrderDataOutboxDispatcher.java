@@ -0,0 +1,188 @@
+package com.hhplus.ecommerce.application.outbox;
+
+import com.hhplus.ecommerce.common.concurrent.VirtualThreads;
+import com.hhplus.ecommerce.domain.entity.OrderDataOutbox;
+import com.hhplus.ecommerce.domain.repository.OrderDataOutboxRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * 주문 데이터 아웃박스 전송기
+ * - 전용 스레드가 pollInterval마다 전송할 기록을 batchSize개씩 임대하여 전송 스레드 풀에서 외부 시스템으로 전송
+ *   (결제 트랜잭션은 아웃박스 기록만 남기므로 결제 응답 시간에 외부 호출이 포함되지 않음)
+ * - 배치를 전송 스레드 수만큼씩 나눠 동시에 보내고, 호출마다 external.timeout-seconds가 지나면 인터럽트로 중단
+ *   (spring.threads.virtual.enabled=true이고 Java 21 이상이면 전송마다 가상 스레드 사용, 동시 전송 수는 그대로)
+ * - 실패하면 base * 2^(시도 횟수 - 1) (상한 backoffMax, 절반 범위 jitter) 뒤에 다시 시도하고,
+ *   maxAttempts번 실패하면 DEAD로 전환 (dead letter, 로그로 알림)
+ * - 한 배치의 임대 시간은 모든 호출이 타임아웃되어도 끝날 만큼 잡고, 그 사이 멈추면 임대 만료 후 다시 전송 (at-least-once)
+ * - 배치가 가득 차면 쉬지 않고 다음 배치를 가져감
+ */
+@Component
+public class OrderDataOutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OrderDataOutboxDispatcher.class);
+
+    private final OrderDataOutboxRepository outboxRepository;
+    private final OrderDataClient client;
+    private final long timeoutMillis;
+    private final long pollIntervalMillis;
+    private final int batchSize;
+    private final int senderThreads;
+    private final int maxAttempts;
+    private final long backoffBaseMillis;
+    private final long backoffMaxMillis;
+    private final ExecutorService sendExecutor;
+    private Thread dispatcherThread;
+
+    public OrderDataOutboxDispatcher(OrderDataOutboxRepository outboxRepository, OrderDataClient client,
+                                     @Value("${business.payment.external.timeout-seconds:30}") long timeoutSeconds,
+                                     @Value("${outbox.poll-interval-millis:500}") long pollIntervalMillis,
+                                     @Value("${outbox.batch-size:100}") int batchSize,
+                                     @Value("${outbox.sender-threads:4}") int senderThreads,
+                                     @Value("${outbox.max-attempts:10}") int maxAttempts,
+                                     @Value("${outbox.backoff-base-millis:1000}") long backoffBaseMillis,
+                                     @Value("${outbox.backoff-max-millis:600000}") long backoffMaxMillis,
+                                     @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this(outboxRepository, client, timeoutSeconds * 1000, pollIntervalMillis, batchSize, senderThreads,
+                maxAttempts, backoffBaseMillis, backoffMaxMillis, virtualThreads, true);
+    }
+
+    OrderDataOutboxDispatcher(OrderDataOutboxRepository outboxRepository, OrderDataClient client,
+                              long timeoutMillis, long pollIntervalMillis, int batchSize, int senderThreads,
+                              int maxAttempts, long backoffBaseMillis, long backoffMaxMillis,
+                              boolean virtualThreads, boolean startThread) {
+        this.outboxRepository = outboxRepository;
+        this.client = client;
+        this.timeoutMillis = timeoutMillis;
+        this.pollIntervalMillis = pollIntervalMillis;
+        this.batchSize = batchSize;
+        this.senderThreads = senderThreads;
+        this.maxAttempts = maxAttempts;
+        this.backoffBaseMillis = backoffBaseMillis;
+        this.backoffMaxMillis = backoffMaxMillis;
+        this.sendExecutor = VirtualThreads.newExecutor("order-data-sender-", senderThreads, virtualThreads);
+        if (startThread) {
+            this.dispatcherThread = new Thread(this::dispatchLoop, "order-data-outbox-dispatcher");
+            this.dispatcherThread.setDaemon(true);
+            this.dispatcherThread.start();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (dispatcherThread != null) {
+            dispatcherThread.interrupt();
+        }
+        sendExecutor.shutdownNow();
+    }
+
+    private void dispatchLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Thread.sleep(pollIntervalMillis);
+                int claimed;
+                do {
+                    claimed = dispatch(System.currentTimeMillis());
+                } while (claimed == batchSize && !Thread.currentThread().isInterrupted());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.error("주문 데이터 아웃박스 전송 실패: error={}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 전송할 기록을 한 배치 임대하여 전송하고 결과를 반영
+     *
+     * @return 임대한 기록 수
+     */
+    int dispatch(long nowMillis) {
+        int rounds = (batchSize + senderThreads - 1) / senderThreads;
+        List<OrderDataOutbox> claimed = outboxRepository.claimDue(toDateTime(nowMillis),
+                toDateTime(nowMillis + timeoutMillis * rounds + pollIntervalMillis), batchSize);
+
+        for (int from = 0; from < claimed.size() && !Thread.currentThread().isInterrupted(); from += senderThreads) {
+            List<OrderDataOutbox> round = claimed.subList(from, Math.min(from + senderThreads, claimed.size()));
+            sendRound(round);
+            try {
+                outboxRepository.saveAll(round);
+            } catch (RuntimeException e) {
+                // 반영하지 못한 기록은 임대 만료 후 다시 전송
+                log.error("주문 데이터 전송 결과 저장 실패: count={}, error={}", round.size(), e.getMessage());
+            }
+        }
+        return claimed.size();
+    }
+
+    /**
+     * 한 번에 보낼 기록을 동시에 전송하고, 시작 후 타임아웃까지 끝나지 않은 호출은 중단
+     */
+    private void sendRound(List<OrderDataOutbox> round) {
+        List<Future<?>> futures = new ArrayList<>(round.size());
+        for (OrderDataOutbox outbox : round) {
+            OrderData orderData = OrderData.from(outbox);
+            futures.add(sendExecutor.submit(() -> client.send(orderData)));
+        }
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+        for (int i = 0; i < round.size(); i++) {
+            OrderDataOutbox outbox = round.get(i);
+            Future<?> future = futures.get(i);
+            try {
+                future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+                outbox.markPublished();
+            } catch (TimeoutException e) {
+                future.cancel(true);
+                recordFailure(outbox, "timeout after " + timeoutMillis + "ms");
+            } catch (ExecutionException e) {
+                recordFailure(outbox, String.valueOf(e.getCause()));
+            } catch (InterruptedException e) {
+                // 종료 중: 남은 호출을 중단하고, 결과가 없는 기록은 임대 만료 후 다시 전송
+                futures.forEach(remaining -> remaining.cancel(true));
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void recordFailure(OrderDataOutbox outbox, String error) {
+        if (outbox.getAttempts() + 1 >= maxAttempts) {
+            outbox.markDead(error);
+            log.error("주문 데이터 전송 포기 (dead letter): orderId={}, attempts={}, error={}",
+                    outbox.getOrderId(), outbox.getAttempts(), error);
+            return;
+        }
+        long backoff = backoffMillis(outbox.getAttempts() + 1);
+        outbox.retryAt(toDateTime(System.currentTimeMillis() + backoff), error);
+        log.warn("주문 데이터 전송 실패, 재시도 예정: orderId={}, attempts={}, backoffMillis={}, error={}",
+                outbox.getOrderId(), outbox.getAttempts(), backoff, error);
+    }
+
+    /**
+     * attempt번째 실패 후 대기 시간 (지수 증가, 상한 적용 후 절반 범위 jitter)
+     */
+    private long backoffMillis(int attempt) {
+        long ceiling = Math.min(backoffMaxMillis, backoffBaseMillis << Math.min(attempt - 1, 30));
+        return ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1);
+    }
+
+    private static LocalDateTime toDateTime(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), ZoneId.systemDefault());
+    }
+}
@@ -0,0 +1,224 @@
+package com.hhplus.ecommerce.application.ranking;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import static com.hhplus.ecommerce.application.ranking.ExactPopularProductRanking.RANK_ORDER;
+
+/**
+ * 근사 인기 상품 랭킹 (상품 수와 무관한 고정 메모리)
+ * - 시간(1시간) 버킷마다 Count-Min Sketch 하나, 윈도우 전체 합계용 스케치 하나를 유지
+ * - 버킷 만료 시 만료 버킷의 카운터를 윈도우 스케치에서 빼고 버킷은 비워서 재사용
+ * - 상위 후보는 고정 크기 집합으로 관리 (Space-Saving 방식: 가득 차면 최소 후보보다 큰 상품이 교체)
+ * - 후보 점수는 윈도우 스케치 추정치를 사용하여, 만료 후에도 재추정으로 점수를 낮출 수 있음
+ * - 추정치는 실제 판매량 이상이며 확률 1 - delta로 오차가 epsilon * (윈도우 전체 판매량) 이하
+ */
+@Component
+@ConditionalOnProperty(name = "popular-ranking.mode", havingValue = "approximate")
+public class ApproximatePopularProductRanking implements PopularProductRanking {
+
+    private static final long BUCKET_SECONDS = 3600;
+
+    private final int bucketCount;
+    private final int limit;
+    private final int candidateCapacity;
+    private final Bucket[] buckets;
+    private final CountMinSketch windowSketch;
+    private final ReentrantReadWriteLock bucketLock = new ReentrantReadWriteLock();
+
+    private volatile long currentHour = Long.MIN_VALUE;
+
+    private final ReentrantLock candidateLock = new ReentrantLock();
+    private final Map<Long, Long> candidates;
+    private volatile long admissionThreshold = 1;
+    private volatile List<RankedProduct> snapshot = List.of();
+
+    public ApproximatePopularProductRanking(
+            @Value("${business.product.popular.period-days:3}") int periodDays,
+            @Value("${business.product.popular.limit:5}") int limit,
+            @Value("${popular-ranking.sketch.epsilon:0.001}") double epsilon,
+            @Value("${popular-ranking.sketch.delta:0.01}") double delta,
+            @Value("${popular-ranking.sketch.candidates:100}") int candidates) {
+        if (periodDays <= 0 || limit <= 0) {
+            throw new IllegalArgumentException("periodDays와 limit은 0보다 커야 합니다.");
+        }
+        this.bucketCount = periodDays * 24;
+        this.limit = limit;
+        this.candidateCapacity = Math.max(candidates, limit);
+        this.candidates = new HashMap<>(candidateCapacity * 2);
+        this.windowSketch = CountMinSketch.withErrorBounds(epsilon, delta);
+        this.buckets = new Bucket[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new Bucket(CountMinSketch.withErrorBounds(epsilon, delta));
+        }
+    }
+
+    @Override
+    public void record(Long productId, int quantity, LocalDateTime soldAt) {
+        if (quantity <= 0) {
+            return;
+        }
+        long hour = hourOf(soldAt);
+        advance(hour);
+
+        bucketLock.readLock().lock();
+        try {
+            Bucket bucket = buckets[slotOf(hour)];
+            if (bucket.hour != hour) {
+                return;
+            }
+            bucket.sketch.add(productId, quantity);
+            long estimate = windowSketch.addAndEstimate(productId, quantity);
+            if (estimate >= admissionThreshold) {
+                offer(productId, estimate);
+            }
+        } finally {
+            bucketLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<RankedProduct> getTopProducts(LocalDateTime now) {
+        advance(hourOf(now));
+        return snapshot;
+    }
+
+    @Override
+    public long getSalesCount(Long productId, LocalDateTime now) {
+        advance(hourOf(now));
+        bucketLock.readLock().lock();
+        try {
+            return windowSketch.estimate(productId);
+        } finally {
+            bucketLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 스케치 전체 메모리 (버킷 + 윈도우, 바이트)
+     */
+    public long getSketchSizeInBytes() {
+        return windowSketch.sizeInBytes() * (bucketCount + 1);
+    }
+
+    private void advance(long hour) {
+        if (hour <= currentHour) {
+            return;
+        }
+        bucketLock.writeLock().lock();
+        try {
+            long previous = currentHour;
+            if (hour <= previous) {
+                return;
+            }
+            long from = Math.max(previous + 1, hour - bucketCount + 1);
+            for (long h = from; h <= hour; h++) {
+                Bucket bucket = buckets[slotOf(h)];
+                if (bucket.hour != Long.MIN_VALUE) {
+                    windowSketch.subtract(bucket.sketch);
+                    bucket.sketch.clear();
+                }
+                bucket.hour = h;
+            }
+            currentHour = hour;
+            rescoreCandidates();
+        } finally {
+            bucketLock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 만료 후 후보 점수를 윈도우 스케치로 재추정 (쓰기 락 보유 중 호출)
+     */
+    private void rescoreCandidates() {
+        candidateLock.lock();
+        try {
+            Iterator<Map.Entry<Long, Long>> iterator = candidates.entrySet().iterator();
+            while (iterator.hasNext()) {
+                Map.Entry<Long, Long> entry = iterator.next();
+                long estimate = windowSketch.estimate(entry.getKey());
+                if (estimate <= 0) {
+                    iterator.remove();
+                } else {
+                    entry.setValue(estimate);
+                }
+            }
+            publish();
+        } finally {
+            candidateLock.unlock();
+        }
+    }
+
+    /**
+     * 추정치가 입장 임계값 이상인 상품을 후보에 반영 (O(후보 수))
+     */
+    private void offer(Long productId, long estimate) {
+        candidateLock.lock();
+        try {
+            Long current = candidates.get(productId);
+            if (current != null) {
+                if (estimate <= current) {
+                    return;
+                }
+            } else if (candidates.size() >= candidateCapacity) {
+                Map.Entry<Long, Long> lowest = lowestCandidate();
+                if (estimate <= lowest.getValue()) {
+                    return;
+                }
+                candidates.remove(lowest.getKey());
+            }
+            candidates.put(productId, estimate);
+            publish();
+        } finally {
+            candidateLock.unlock();
+        }
+    }
+
+    private Map.Entry<Long, Long> lowestCandidate() {
+        Map.Entry<Long, Long> lowest = null;
+        for (Map.Entry<Long, Long> entry : candidates.entrySet()) {
+            if (lowest == null || entry.getValue() < lowest.getValue()) {
+                lowest = entry;
+            }
+        }
+        return lowest;
+    }
+
+    private void publish() {
+        List<RankedProduct> ranked = new ArrayList<>(candidates.size());
+        candidates.forEach((productId, count) -> ranked.add(new RankedProduct(productId, count)));
+        ranked.sort(RANK_ORDER);
+
+        admissionThreshold = candidates.size() < candidateCapacity ? 1 : lowestCandidate().getValue();
+        snapshot = List.copyOf(ranked.subList(0, Math.min(limit, ranked.size())));
+    }
+
+    private int slotOf(long hour) {
+        return (int) Math.floorMod(hour, (long) bucketCount);
+    }
+
+    private static long hourOf(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), BUCKET_SECONDS);
+    }
+
+    private static final class Bucket {
+
+        private final CountMinSketch sketch;
+        private long hour = Long.MIN_VALUE;
+
+        private Bucket(CountMinSketch sketch) {
+            this.sketch = sketch;
+        }
+    }
+}
@@ -0,0 +1,118 @@
+package com.hhplus.ecommerce.application.ranking;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Count-Min Sketch (long 키 전용)
+ * - depth개 행 x width개 카운터의 고정 크기 배열에 빈도를 누적
+ * - 추정치는 항상 실제 값 이상이며, 확률 1 - delta로 실제 값 + epsilon * (전체 합) 이하
+ * - 카운터는 AtomicLongArray로 관리하여 여러 스레드가 락 없이 기록 가능
+ * - 같은 크기의 스케치끼리는 카운터 단위 뺄셈이 가능하여 시간 버킷 만료에 사용
+ */
+final class CountMinSketch {
+
+    private static final long SEED = 0x5DEECE66DL;
+
+    private final int depth;
+    private final int width;
+    private final int mask;
+    private final long[] rowSeeds;
+    private final AtomicLongArray counters;
+
+    CountMinSketch(int depth, int width) {
+        if (depth <= 0 || width <= 0 || Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("depth는 양수, width는 2의 거듭제곱이어야 합니다.");
+        }
+        this.depth = depth;
+        this.width = width;
+        this.mask = width - 1;
+        this.rowSeeds = new SplittableRandom(SEED).longs(depth).toArray();
+        this.counters = new AtomicLongArray(Math.multiplyExact(depth, width));
+    }
+
+    /**
+     * 오차 한계로 크기 결정
+     * - width = e / epsilon (2의 거듭제곱으로 올림), depth = ln(1 / delta)
+     *
+     * @param epsilon 전체 합 대비 허용 오차 비율
+     * @param delta   오차 한계를 벗어날 확률
+     */
+    static CountMinSketch withErrorBounds(double epsilon, double delta) {
+        if (epsilon <= 0 || epsilon >= 1 || delta <= 0 || delta >= 1) {
+            throw new IllegalArgumentException("epsilon과 delta는 0과 1 사이여야 합니다.");
+        }
+        int width = Integer.highestOneBit((int) Math.ceil(Math.E / epsilon) - 1) << 1;
+        int depth = (int) Math.ceil(Math.log(1 / delta));
+        return new CountMinSketch(depth, width);
+    }
+
+    /**
+     * 빈도 누적 후 추정치 반환
+     */
+    long addAndEstimate(long key, long count) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.addAndGet(indexOf(row, key), count));
+        }
+        return estimate;
+    }
+
+    void add(long key, long count) {
+        for (int row = 0; row < depth; row++) {
+            counters.addAndGet(indexOf(row, key), count);
+        }
+    }
+
+    long estimate(long key) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(indexOf(row, key)));
+        }
+        return estimate;
+    }
+
+    /**
+     * 다른 스케치의 카운터를 빼기 (같은 크기여야 함)
+     */
+    void subtract(CountMinSketch other) {
+        if (other.depth != depth || other.width != width) {
+            throw new IllegalArgumentException("크기가 다른 스케치는 뺄 수 없습니다.");
+        }
+        for (int i = 0; i < counters.length(); i++) {
+            long value = other.counters.get(i);
+            if (value != 0) {
+                counters.addAndGet(i, -value);
+            }
+        }
+    }
+
+    void clear() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, 0);
+        }
+    }
+
+    int depth() {
+        return depth;
+    }
+
+    int width() {
+        return width;
+    }
+
+    /**
+     * 카운터 배열 크기 (바이트)
+     */
+    long sizeInBytes() {
+        return (long) counters.length() * Long.BYTES;
+    }
+
+    private int indexOf(int row, long key) {
+        long h = (key ^ rowSeeds[row]) * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 29;
+        return row * width + ((int) h & mask);
+    }
+}
@@ -0,0 +1,209 @@
+package com.hhplus.ecommerce.application.ranking;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 정확한 인기 상품 랭킹
+ * - 판매량을 시간(1시간) 단위 버킷의 링 버퍼에 누적하고, 윈도우 전체 합계를 상품별로 별도 유지
+ * - 시간이 바뀌면 윈도우를 벗어난 버킷만 합계에서 빼는 방식으로 점진 만료 (전체 재집계 없음)
+ * - 상위 K개는 작은 힙으로 유지하고 정렬된 스냅샷을 게시하여 조회는 O(K)
+ * - 기록은 읽기 락을 공유하여 병렬로 처리, 버킷 교체(만료)만 쓰기 락으로 배타 처리
+ */
+@Component
+@ConditionalOnProperty(name = "popular-ranking.mode", havingValue = "exact", matchIfMissing = true)
+public class ExactPopularProductRanking implements PopularProductRanking {
+
+    private static final long BUCKET_SECONDS = 3600;
+
+    static final Comparator<RankedProduct> RANK_ORDER =
+            Comparator.comparingLong(RankedProduct::salesCount).reversed()
+                    .thenComparingLong(RankedProduct::productId);
+
+    private final int bucketCount;
+    private final int limit;
+    private final Bucket[] buckets;
+    private final Map<Long, LongAdder> windowTotals = new ConcurrentHashMap<>();
+    private final ReentrantReadWriteLock bucketLock = new ReentrantReadWriteLock();
+
+    private volatile long currentHour = Long.MIN_VALUE;
+
+    private final ReentrantLock topLock = new ReentrantLock();
+    private final Map<Long, Long> topCounts = new HashMap<>();
+    private volatile long topThreshold = 1;
+    private volatile List<RankedProduct> snapshot = List.of();
+
+    public ExactPopularProductRanking(@Value("${business.product.popular.period-days:3}") int periodDays,
+                                 @Value("${business.product.popular.limit:5}") int limit) {
+        if (periodDays <= 0 || limit <= 0) {
+            throw new IllegalArgumentException("periodDays와 limit은 0보다 커야 합니다.");
+        }
+        this.bucketCount = periodDays * 24;
+        this.limit = limit;
+        this.buckets = new Bucket[bucketCount];
+    }
+
+    @Override
+    public void record(Long productId, int quantity, LocalDateTime soldAt) {
+        if (quantity <= 0) {
+            return;
+        }
+        long hour = hourOf(soldAt);
+        advance(hour);
+
+        bucketLock.readLock().lock();
+        try {
+            Bucket bucket = buckets[slotOf(hour)];
+            if (bucket == null || bucket.hour != hour) {
+                return;
+            }
+            bucket.counts.computeIfAbsent(productId, id -> new LongAdder()).add(quantity);
+
+            LongAdder total = windowTotals.computeIfAbsent(productId, id -> new LongAdder());
+            total.add(quantity);
+            long sum = total.sum();
+            if (sum >= topThreshold) {
+                offer(productId, sum);
+            }
+        } finally {
+            bucketLock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public List<RankedProduct> getTopProducts(LocalDateTime now) {
+        advance(hourOf(now));
+        return snapshot;
+    }
+
+    @Override
+    public long getSalesCount(Long productId, LocalDateTime now) {
+        advance(hourOf(now));
+        LongAdder total = windowTotals.get(productId);
+        return total != null ? total.sum() : 0;
+    }
+
+    private void advance(long hour) {
+        if (hour <= currentHour) {
+            return;
+        }
+        bucketLock.writeLock().lock();
+        try {
+            long previous = currentHour;
+            if (hour <= previous) {
+                return;
+            }
+            long from = Math.max(previous + 1, hour - bucketCount + 1);
+            for (long h = from; h <= hour; h++) {
+                int slot = slotOf(h);
+                expire(buckets[slot]);
+                buckets[slot] = new Bucket(h);
+            }
+            currentHour = hour;
+            rebuildTop();
+        } finally {
+            bucketLock.writeLock().unlock();
+        }
+    }
+
+    private void expire(Bucket bucket) {
+        if (bucket == null) {
+            return;
+        }
+        bucket.counts.forEach((productId, count) -> {
+            LongAdder total = windowTotals.get(productId);
+            total.add(-count.sum());
+            if (total.sum() == 0) {
+                windowTotals.remove(productId);
+            }
+        });
+    }
+
+    /**
+     * 만료 후 상위 K개 재계산 (쓰기 락 보유 중 호출, O(N log K))
+     */
+    private void rebuildTop() {
+        PriorityQueue<RankedProduct> heap = new PriorityQueue<>(limit + 1, RANK_ORDER.reversed());
+        windowTotals.forEach((productId, total) -> {
+            heap.add(new RankedProduct(productId, total.sum()));
+            if (heap.size() > limit) {
+                heap.poll();
+            }
+        });
+
+        topLock.lock();
+        try {
+            topCounts.clear();
+            for (RankedProduct ranked : heap) {
+                topCounts.put(ranked.productId(), ranked.salesCount());
+            }
+            publish();
+        } finally {
+            topLock.unlock();
+        }
+    }
+
+    /**
+     * 기록으로 합계가 임계값 이상이 된 상품을 상위 K개에 반영 (O(K))
+     */
+    private void offer(Long productId, long salesCount) {
+        topLock.lock();
+        try {
+            topCounts.merge(productId, salesCount, Math::max);
+            if (topCounts.size() > limit) {
+                RankedProduct lowest = null;
+                for (Map.Entry<Long, Long> entry : topCounts.entrySet()) {
+                    RankedProduct candidate = new RankedProduct(entry.getKey(), entry.getValue());
+                    if (lowest == null || RANK_ORDER.compare(candidate, lowest) > 0) {
+                        lowest = candidate;
+                    }
+                }
+                topCounts.remove(lowest.productId());
+            }
+            publish();
+        } finally {
+            topLock.unlock();
+        }
+    }
+
+    private void publish() {
+        List<RankedProduct> ranked = new ArrayList<>(topCounts.size());
+        topCounts.forEach((productId, count) -> ranked.add(new RankedProduct(productId, count)));
+        ranked.sort(RANK_ORDER);
+
+        topThreshold = ranked.size() < limit ? 1 : ranked.get(ranked.size() - 1).salesCount();
+        snapshot = List.copyOf(ranked);
+    }
+
+    private int slotOf(long hour) {
+        return (int) Math.floorMod(hour, (long) bucketCount);
+    }
+
+    private static long hourOf(LocalDateTime time) {
+        return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), BUCKET_SECONDS);
+    }
+
+    private static final class Bucket {
+
+        private final long hour;
+        private final Map<Long, LongAdder> counts = new ConcurrentHashMap<>();
+
+        private Bucket(long hour) {
+            this.hour = hour;
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.hhplus.ecommerce.application.ranking;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 인기 상품 랭킹 (최근 N일 판매량 기준)
+ * - exact: 상품별 정확한 카운터 (ExactPopularProductRanking)
+ * - approximate: 고정 메모리 스케치 기반 근사 (ApproximatePopularProductRanking)
+ * - 구현은 popular-ranking.mode 설정으로 선택
+ */
+public interface PopularProductRanking {
+
+    /**
+     * 판매량 기록 (윈도우보다 오래된 시각의 기록은 무시)
+     */
+    void record(Long productId, int quantity, LocalDateTime soldAt);
+
+    /**
+     * 인기 상품 조회 (판매량 내림차순, 동률이면 상품 ID 오름차순)
+     */
+    List<RankedProduct> getTopProducts(LocalDateTime now);
+
+    /**
+     * 윈도우 내 상품 판매량 조회
+     */
+    long getSalesCount(Long productId, LocalDateTime now);
+
+    /**
+     * 랭킹 항목
+     *
+     * @param salesCount 윈도우 내 판매 수량 (근사 모드에서는 추정치)
+     */
+    record RankedProduct(long productId, long salesCount) {}
+}
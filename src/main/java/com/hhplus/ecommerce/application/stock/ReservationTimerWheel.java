@@ -0,0 +1,150 @@
+package com.hhplus.ecommerce.application.stock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 재고 예약 만료 타이머 휠 (hashed timing wheel)
+ * - 만료 시각을 tick 단위로 잘라 {@code tick % wheelSize} 슬롯에 넣고,
+ *   시계가 지나간 슬롯만 훑어 만료된 주문을 꺼냄 (예약 수와 무관하게 tick당 슬롯 하나만 확인)
+ * - 휠 한 바퀴보다 먼 만료는 같은 슬롯에 두고, 슬롯을 지날 때 만료 tick이 아직 오지 않았으면 남겨둠 (다음 바퀴)
+ * - 취소는 항목에 표시만 하고 슬롯을 지날 때 버림 (결제마다 슬롯을 뒤지지 않도록)
+ * - 등록/취소/진행은 ReentrantLock 하나로 직렬화 (경합 대기 중 가상 스레드의 carrier를 고정하지 않음)
+ * - 정밀도는 tick 단위 (만료 후 최대 한 tick 늦게 꺼냄)
+ * - 인스턴스 메모리에만 있으므로 재시작/다른 인스턴스의 예약은 StockReservationSweeper의 DB 조회로 보완
+ */
+@Component
+public class ReservationTimerWheel {
+
+    private final long tickMillis;
+    private final int wheelSize;
+    private final ArrayDeque<Timeout>[] slots;
+    private final Map<Long, Timeout> timeouts = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    /**
+     * 마지막으로 훑은 tick (아직 훑지 않았으면 -1)
+     */
+    private long lastTick = -1;
+
+    @SuppressWarnings("unchecked")
+    public ReservationTimerWheel(@Value("${stock-reservation.tick-millis:1000}") long tickMillis,
+                                 @Value("${stock-reservation.wheel-size:512}") int wheelSize) {
+        if (tickMillis <= 0 || wheelSize <= 0) {
+            throw new IllegalArgumentException("tick 간격과 슬롯 수는 0보다 커야 합니다.");
+        }
+        this.tickMillis = tickMillis;
+        this.wheelSize = wheelSize;
+        this.slots = new ArrayDeque[wheelSize];
+        for (int i = 0; i < wheelSize; i++) {
+            slots[i] = new ArrayDeque<>();
+        }
+    }
+
+    /**
+     * 주문의 예약 만료 등록 (같은 주문이 이미 있으면 교체)
+     */
+    public void schedule(long orderId, long expiresAtMillis) {
+        lock.lock();
+        try {
+            long deadlineTick = Math.max(expiresAtMillis / tickMillis, lastTick + 1);
+            Timeout timeout = new Timeout(orderId, deadlineTick);
+            Timeout previous = timeouts.put(orderId, timeout);
+            if (previous != null) {
+                previous.cancelled = true;
+            }
+            slots[slotOf(deadlineTick)].add(timeout);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 주문의 예약 만료 취소 (결제 확정 시)
+     */
+    public void cancel(long orderId) {
+        lock.lock();
+        try {
+            Timeout timeout = timeouts.remove(orderId);
+            if (timeout != null) {
+                timeout.cancelled = true;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 시계를 nowMillis까지 진행하고 만료된 주문 ID를 반환
+     * - 지나간 tick이 휠 한 바퀴를 넘으면 모든 슬롯을 한 번씩만 훑음
+     */
+    public List<Long> advance(long nowMillis) {
+        lock.lock();
+        try {
+            long nowTick = nowMillis / tickMillis;
+            if (nowTick <= lastTick) {
+                return List.of();
+            }
+            List<Long> expired = new ArrayList<>();
+            long fromTick = lastTick < 0 ? nowTick - wheelSize + 1 : lastTick + 1;
+            long startTick = Math.max(fromTick, nowTick - wheelSize + 1);
+            for (long tick = startTick; tick <= nowTick; tick++) {
+                Iterator<Timeout> iterator = slots[slotOf(tick)].iterator();
+                while (iterator.hasNext()) {
+                    Timeout timeout = iterator.next();
+                    if (timeout.cancelled) {
+                        iterator.remove();
+                    } else if (timeout.deadlineTick <= nowTick) {
+                        iterator.remove();
+                        timeouts.remove(timeout.orderId);
+                        expired.add(timeout.orderId);
+                    }
+                }
+            }
+            lastTick = nowTick;
+            return expired;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 만료 대기 중인 주문 수
+     */
+    public int size() {
+        lock.lock();
+        try {
+            return timeouts.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getTickMillis() {
+        return tickMillis;
+    }
+
+    private int slotOf(long tick) {
+        return (int) Math.floorMod(tick, (long) wheelSize);
+    }
+
+    private static final class Timeout {
+
+        private final long orderId;
+        private final long deadlineTick;
+        private boolean cancelled;
+
+        private Timeout(long orderId, long deadlineTick) {
+            this.orderId = orderId;
+            this.deadlineTick = deadlineTick;
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.hhplus.ecommerce.application.stock;
+
+import com.hhplus.ecommerce.domain.entity.Product;
+import com.hhplus.ecommerce.domain.exception.InsufficientStockException;
+import com.hhplus.ecommerce.domain.exception.LockTimeoutException;
+import com.hhplus.ecommerce.domain.exception.OutOfStockException;
+import com.hhplus.ecommerce.domain.exception.ProductNotFoundException;
+import com.hhplus.ecommerce.domain.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 재고 차감기
+ * - 설정한 StockLockStrategy로 상품 재고를 차감
+ * - 비관적 락과 조건부 UPDATE는 호출자의 트랜잭션 안에서 실행되어야 함
+ * - 낙관적 락은 충돌 시 지수 백오프(+지터)로 최대 {@code maxRetries}번 재시도
+ * - 여러 상품 차감 시 조건부 UPDATE 전략은 일괄 조회 1번 + 일괄 차감 1번으로 처리
+ */
+@Component
+public class StockDeductor {
+
+    static final int DEFAULT_MAX_RETRIES = 10;
+    private static final long BASE_BACKOFF_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+    private static final long MAX_BACKOFF_NANOS = TimeUnit.MILLISECONDS.toNanos(5);
+
+    private final ProductRepository productRepository;
+    private final StockLockStrategy strategy;
+    private final int maxRetries;
+
+    public StockDeductor(ProductRepository productRepository,
+                         @Value("${inventory.lock-strategy:CONDITIONAL_UPDATE}") StockLockStrategy strategy) {
+        this(productRepository, strategy, DEFAULT_MAX_RETRIES);
+    }
+
+    StockDeductor(ProductRepository productRepository, StockLockStrategy strategy, int maxRetries) {
+        this.productRepository = productRepository;
+        this.strategy = strategy;
+        this.maxRetries = maxRetries;
+    }
+
+    /**
+     * 재고 차감
+     *
+     * @return 차감 대상 상품 (가격 계산용)
+     * @throws ProductNotFoundException   상품이 없는 경우
+     * @throws OutOfStockException        재고가 0인 경우
+     * @throws InsufficientStockException 재고가 주문 수량보다 적은 경우
+     * @throws LockTimeoutException       낙관적 락 재시도를 모두 소진한 경우
+     */
+    public Product deduct(Long productId, int quantity) {
+        return switch (strategy) {
+            case PESSIMISTIC_WRITE -> deductPessimistic(productId, quantity);
+            case OPTIMISTIC -> deductOptimistic(productId, quantity);
+            case CONDITIONAL_UPDATE -> deductConditional(productId, quantity);
+        };
+    }
+
+    /**
+     * 여러 상품 재고 차감 (주어진 순서대로 처리)
+     * - 조건부 UPDATE 전략은 상품 일괄 조회 후 전체를 한 번에 차감하며, 하나라도 실패하면 아무것도 차감하지 않음
+     * - 그 외 전략은 상품마다 deduct를 호출하고, 중간 실패 시 되돌리기는 호출자의 트랜잭션 롤백에 맡김
+     *   (트랜잭션 밖 재고면 이미 차감한 상품을 직접 복구)
+     *
+     * @param quantities 상품 ID별 차감 수량 (락 순서를 고정하려면 상품 ID 순으로 정렬된 Map 전달)
+     * @return 상품 ID별 차감 대상 상품 (가격 계산용)
+     */
+    public Map<Long, Product> deductAll(Map<Long, Integer> quantities) {
+        if (strategy != StockLockStrategy.CONDITIONAL_UPDATE) {
+            Map<Long, Product> products = new LinkedHashMap<>();
+            try {
+                quantities.forEach((productId, quantity) -> products.put(productId, deduct(productId, quantity)));
+            } catch (RuntimeException e) {
+                if (!isTransactional()) {
+                    Map<Long, Integer> deducted = new LinkedHashMap<>();
+                    products.keySet().forEach(productId -> deducted.put(productId, quantities.get(productId)));
+                    restoreAll(deducted);
+                }
+                throw e;
+            }
+            return products;
+        }
+
+        Map<Long, Product> products = new LinkedHashMap<>();
+        for (Product product : productRepository.findAllById(quantities.keySet())) {
+            products.put(product.getId(), product);
+        }
+        if (products.size() != quantities.size()) {
+            throw new ProductNotFoundException();
+        }
+
+        List<Long> failed = productRepository.tryDecreaseStocks(quantities);
+        if (!failed.isEmpty()) {
+            throw stockFailure(failed.get(0));
+        }
+        return products;
+    }
+
+    /**
+     * 차감한 재고 복구 (트랜잭션 밖 재고에서 주문이 실패한 경우)
+     *
+     * @param quantities 상품 ID별 복구 수량
+     */
+    public void restoreAll(Map<Long, Integer> quantities) {
+        productRepository.increaseStocks(quantities);
+    }
+
+    /**
+     * 차감이 호출자의 DB 트랜잭션에 포함되는지 여부 (false면 롤백 시 restoreAll로 직접 복구해야 함)
+     */
+    public boolean isTransactional() {
+        return productRepository.isStockTransactional();
+    }
+
+    public StockLockStrategy getStrategy() {
+        return strategy;
+    }
+
+    private Product deductPessimistic(Long productId, int quantity) {
+        Product product = productRepository.findByIdForUpdate(productId)
+                .orElseThrow(ProductNotFoundException::new);
+
+        product.decreaseStock(quantity);
+        productRepository.save(product);
+        return product;
+    }
+
+    private Product deductOptimistic(Long productId, int quantity) {
+        for (int attempt = 0; attempt <= maxRetries; attempt++) {
+            Product product = productRepository.findById(productId)
+                    .orElseThrow(ProductNotFoundException::new);
+
+            product.decreaseStock(quantity);
+            if (productRepository.saveIfVersionMatches(product)) {
+                return product;
+            }
+            backoff(attempt);
+        }
+        throw new LockTimeoutException();
+    }
+
+    private Product deductConditional(Long productId, int quantity) {
+        Product product = productRepository.findById(productId)
+                .orElseThrow(ProductNotFoundException::new);
+
+        if (!productRepository.tryDecreaseStock(productId, quantity)) {
+            throw stockFailure(productId);
+        }
+        return product;
+    }
+
+    /**
+     * 조건부 차감 실패 원인 판정 (최신 재고 재조회)
+     */
+    private RuntimeException stockFailure(Long productId) {
+        int stock = productRepository.findById(productId)
+                .map(Product::getStockQuantity)
+                .orElseThrow(ProductNotFoundException::new);
+        return stock == 0 ? new OutOfStockException() : new InsufficientStockException();
+    }
+
+    private void backoff(int attempt) {
+        long ceiling = Math.min(MAX_BACKOFF_NANOS, BASE_BACKOFF_NANOS << Math.min(attempt, 16));
+        LockSupport.parkNanos(ThreadLocalRandom.current().nextLong(ceiling / 2, ceiling + 1));
+    }
+}
@@ -0,0 +1,28 @@
+package com.hhplus.ecommerce.application.stock;
+
+/**
+ * 재고 차감 시 DB 동시성 제어 방식 ({@code inventory.lock-strategy})
+ */
+public enum StockLockStrategy {
+
+    /**
+     * SELECT ... FOR UPDATE로 행을 잠근 뒤 차감
+     * - 충돌이 잦은 인기 상품에서 재시도 없이 순서대로 처리
+     * - 락을 트랜잭션 끝까지 보유하므로 같은 상품 주문은 직렬화됨
+     */
+    PESSIMISTIC_WRITE,
+
+    /**
+     * 락 없이 읽고, 저장 시 버전이 같을 때만 반영 (충돌 시 제한된 횟수만큼 재시도)
+     * - 상품별 주문이 드문 롱테일 상품에서 락 대기 없이 처리
+     * - 충돌이 잦으면 재시도 비용이 커짐
+     */
+    OPTIMISTIC,
+
+    /**
+     * UPDATE ... SET stock = stock - ? WHERE stock >= ? 한 번으로 차감
+     * - 읽기-수정-쓰기 없이 DB가 원자적으로 판정
+     * - 행 락은 UPDATE 순간에만 잡히므로 대기 시간이 가장 짧음
+     */
+    CONDITIONAL_UPDATE
+}
@@ -0,0 +1,138 @@
+package com.hhplus.ecommerce.application.stock;
+
+import com.hhplus.ecommerce.common.id.SnowflakeIdGenerator;
+import com.hhplus.ecommerce.domain.entity.Order;
+import com.hhplus.ecommerce.domain.entity.StockReservation;
+import com.hhplus.ecommerce.domain.repository.OrderRepository;
+import com.hhplus.ecommerce.domain.repository.ProductRepository;
+import com.hhplus.ecommerce.domain.repository.StockReservationRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * 재고 예약 관리
+ * - 주문 생성 시 차감한 재고를 주문별 예약으로 기록하고 만료 시각을 타이머 휠에 등록
+ * - 결제되면 예약을 삭제하여 차감을 확정, 만료되면 예약을 삭제하고 재고를 복구한 뒤 주문을 취소
+ * - 확정과 해제는 모두 예약 삭제로 시작하므로 동시에 일어나도 먼저 삭제한 쪽만 처리
+ *   (해제가 먼저면 주문이 취소되어 결제는 InvalidOrderStatusException으로 실패)
+ * - 타이머 휠 등록/취소는 커밋 후에 반영하여 롤백된 예약이 휠에 남지 않도록 함
+ * - 트랜잭션 밖 재고(isStockTransactional=false)는 롤백되지 않으므로 해제 시 재고 복구도 커밋 후에 반영
+ *   (예약 삭제/주문 취소가 롤백되어 예약이 남으면 다음 해제에서 다시 복구되므로 두 번 복구되지 않도록)
+ */
+@Component
+public class StockReservationService {
+
+    private final StockReservationRepository reservationRepository;
+    private final ProductRepository productRepository;
+    private final OrderRepository orderRepository;
+    private final ReservationTimerWheel timerWheel;
+    private final SnowflakeIdGenerator idGenerator;
+    private final Duration ttl;
+
+    public StockReservationService(StockReservationRepository reservationRepository,
+                                   ProductRepository productRepository, OrderRepository orderRepository,
+                                   ReservationTimerWheel timerWheel, SnowflakeIdGenerator idGenerator,
+                                   @Value("${stock-reservation.ttl-seconds:600}") long ttlSeconds) {
+        this.reservationRepository = reservationRepository;
+        this.productRepository = productRepository;
+        this.orderRepository = orderRepository;
+        this.timerWheel = timerWheel;
+        this.idGenerator = idGenerator;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+    }
+
+    /**
+     * 주문의 재고 예약 (재고는 이미 차감된 상태)
+     *
+     * @param quantities 상품 ID별 차감 수량
+     */
+    public void reserve(long orderId, Map<Long, Integer> quantities) {
+        long expiresAtMillis = System.currentTimeMillis() + ttl.toMillis();
+        LocalDateTime expiresAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(expiresAtMillis), ZoneId.systemDefault());
+
+        List<StockReservation> reservations = new ArrayList<>(quantities.size());
+        quantities.forEach((productId, quantity) -> reservations.add(
+                new StockReservation(idGenerator.nextId(), orderId, productId, quantity, expiresAt)));
+        reservationRepository.saveAll(reservations);
+
+        afterCommit(() -> timerWheel.schedule(orderId, expiresAtMillis));
+    }
+
+    /**
+     * 주문의 재고 예약 확정 (결제 시)
+     * - 이미 해제된 예약이면 아무것도 하지 않음 (주문 상태로 결제 가능 여부 판단)
+     *
+     * @return 확정한 상품 ID별 수량 (이미 확정/해제된 예약이면 빈 맵)
+     */
+    public Map<Long, Integer> confirm(long orderId) {
+        Map<Long, Integer> confirmed = new TreeMap<>();
+        for (StockReservation reservation : reservationRepository.deleteByOrderId(orderId)) {
+            confirmed.merge(reservation.getProductId(), reservation.getQuantity(), Integer::sum);
+        }
+        afterCommit(() -> timerWheel.cancel(orderId));
+        return confirmed;
+    }
+
+    /**
+     * 만료된 주문의 재고 예약 해제
+     * - 주문들의 복구 수량을 상품별로 합산하여 재고를 한 번에 복구하고, 결제 대기 주문은 취소
+     * - 트랜잭션 밖 재고는 커밋된 뒤에 복구
+     * - 이미 확정/해제된 주문은 건너뜀
+     *
+     * @return 해제한 주문 수
+     */
+    @Transactional
+    public int release(List<Long> orderIds) {
+        Map<Long, Integer> restored = new TreeMap<>();
+        int released = 0;
+        for (Long orderId : orderIds) {
+            List<StockReservation> reservations = reservationRepository.deleteByOrderId(orderId);
+            if (reservations.isEmpty()) {
+                continue;
+            }
+            Order order = orderRepository.findById(orderId).orElse(null);
+            if (order != null && order.isCompleted()) {
+                continue;
+            }
+            for (StockReservation reservation : reservations) {
+                restored.merge(reservation.getProductId(), reservation.getQuantity(), Integer::sum);
+            }
+            if (order != null && !order.isCancelled()) {
+                order.cancel();
+                orderRepository.save(order);
+            }
+            released++;
+        }
+        if (productRepository.isStockTransactional()) {
+            productRepository.increaseStocks(restored);
+        } else {
+            afterCommit(() -> productRepository.increaseStocks(restored));
+        }
+        return released;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
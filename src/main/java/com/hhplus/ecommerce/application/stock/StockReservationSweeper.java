@@ -0,0 +1,130 @@
+package com.hhplus.ecommerce.application.stock;
+
+import com.hhplus.ecommerce.domain.repository.StockReservationRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * 만료된 재고 예약 정리기
+ * - 전용 스레드가 tick마다 타이머 휠을 진행시키고, 만료된 주문을 batchSize개씩 묶어 한 트랜잭션으로 해제
+ * - 타이머 휠에 없는 예약(재시작 전 예약, 다른 인스턴스의 예약, 해제 실패분)은
+ *   scanInterval마다 DB에서 만료된 예약을 조회하여 해제
+ * - 해제 실패는 로그만 남기고 다음 DB 조회에서 다시 시도
+ */
+@Component
+public class StockReservationSweeper {
+
+    private static final Logger log = LoggerFactory.getLogger(StockReservationSweeper.class);
+
+    /**
+     * DB 조회 한 번에 해제할 최대 배치 수 (해제가 계속 실패해도 tick을 오래 붙잡지 않도록)
+     */
+    private static final int MAX_SCAN_BATCHES = 10;
+
+    private final StockReservationService reservationService;
+    private final StockReservationRepository reservationRepository;
+    private final ReservationTimerWheel timerWheel;
+    private final long scanIntervalMillis;
+    private final int batchSize;
+    private long nextScanMillis;
+    private Thread sweeperThread;
+
+    public StockReservationSweeper(StockReservationService reservationService,
+                                   StockReservationRepository reservationRepository,
+                                   ReservationTimerWheel timerWheel,
+                                   @Value("${stock-reservation.scan-interval-seconds:60}") long scanIntervalSeconds,
+                                   @Value("${stock-reservation.batch-size:100}") int batchSize) {
+        this(reservationService, reservationRepository, timerWheel, scanIntervalSeconds * 1000, batchSize, true);
+    }
+
+    StockReservationSweeper(StockReservationService reservationService,
+                            StockReservationRepository reservationRepository, ReservationTimerWheel timerWheel,
+                            long scanIntervalMillis, int batchSize, boolean startThread) {
+        this.reservationService = reservationService;
+        this.reservationRepository = reservationRepository;
+        this.timerWheel = timerWheel;
+        this.scanIntervalMillis = scanIntervalMillis;
+        this.batchSize = batchSize;
+        if (startThread) {
+            this.sweeperThread = new Thread(this::sweepLoop, "stock-reservation-sweeper");
+            this.sweeperThread.setDaemon(true);
+            this.sweeperThread.start();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (sweeperThread != null) {
+            sweeperThread.interrupt();
+        }
+    }
+
+    private void sweepLoop() {
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                Thread.sleep(timerWheel.getTickMillis());
+                sweep(System.currentTimeMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.error("재고 예약 정리 실패: error={}", e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 타이머 휠에서 만료된 주문을 해제하고, DB 조회 주기가 되었으면 DB의 만료 예약도 해제
+     *
+     * @return 해제한 주문 수
+     */
+    int sweep(long nowMillis) {
+        int released = releaseInBatches(timerWheel.advance(nowMillis));
+        if (nowMillis >= nextScanMillis) {
+            nextScanMillis = nowMillis + scanIntervalMillis;
+            released += scanExpired(nowMillis);
+        }
+        return released;
+    }
+
+    private int releaseInBatches(List<Long> orderIds) {
+        int released = 0;
+        for (int from = 0; from < orderIds.size(); from += batchSize) {
+            released += release(orderIds.subList(from, Math.min(from + batchSize, orderIds.size())));
+        }
+        return released;
+    }
+
+    private int scanExpired(long nowMillis) {
+        LocalDateTime now = LocalDateTime.ofInstant(Instant.ofEpochMilli(nowMillis), ZoneId.systemDefault());
+        int released = 0;
+        for (int batch = 0; batch < MAX_SCAN_BATCHES; batch++) {
+            List<Long> orderIds = reservationRepository.findExpiredOrderIds(now, batchSize);
+            int releasedInBatch = release(orderIds);
+            released += releasedInBatch;
+            if (orderIds.size() < batchSize || releasedInBatch == 0) {
+                break;
+            }
+        }
+        return released;
+    }
+
+    private int release(List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+        try {
+            return reservationService.release(orderIds);
+        } catch (RuntimeException e) {
+            log.error("재고 예약 해제 실패: count={}, error={}", orderIds.size(), e.getMessage());
+            return 0;
+        }
+    }
+}
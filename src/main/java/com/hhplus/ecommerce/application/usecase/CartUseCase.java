@@ -1,5 +1,6 @@
 package com.hhplus.ecommerce.application.usecase;
 
+import com.hhplus.ecommerce.common.id.SnowflakeIdGenerator;
 import com.hhplus.ecommerce.domain.entity.CartItem;
 import com.hhplus.ecommerce.domain.entity.Product;
 import com.hhplus.ecommerce.domain.exception.CartItemNotFoundException;
@@ -22,10 +23,13 @@ public class CartUseCase {
 
     private final CartRepository cartRepository;
     private final ProductRepository productRepository;
+    private final SnowflakeIdGenerator idGenerator;
 
-    public CartUseCase(CartRepository cartRepository, ProductRepository productRepository) {
+    public CartUseCase(CartRepository cartRepository, ProductRepository productRepository,
+                       SnowflakeIdGenerator idGenerator) {
         this.cartRepository = cartRepository;
         this.productRepository = productRepository;
+        this.idGenerator = idGenerator;
     }
 
     /**
@@ -51,7 +55,7 @@ public class CartUseCase {
 
         // 장바구니 아이템 생성
         CartItem cartItem = new CartItem(
-                generateCartItemId(),
+                idGenerator.nextId(),
                 userId,  // cartId 대신 userId 사용 (간소화)
                 productId,
                 quantity
@@ -87,11 +91,4 @@ public class CartUseCase {
     public void removeFromCart(Long userId, Long cartItemId) {
         cartRepository.deleteCartItem(cartItemId);
     }
-
-    /**
-     * 장바구니 아이템 ID 생성 (임시)
-     */
-    private long generateCartItemId() {
-        return System.currentTimeMillis();
-    }
 }
@@ -1,72 +1,92 @@
 package com.hhplus.ecommerce.application.usecase;
 
-import com.hhplus.ecommerce.domain.entity.Coupon;
+import com.hhplus.ecommerce.application.coupon.CouponIssueWriter;
+import com.hhplus.ecommerce.application.coupon.CouponIssuedUserIndex;
+import com.hhplus.ecommerce.application.coupon.CouponPermitCounter;
+import com.hhplus.ecommerce.common.concurrent.SingleFlightLoader;
+import com.hhplus.ecommerce.common.exception.InvalidInputException;
 import com.hhplus.ecommerce.domain.entity.UserCoupon;
-import com.hhplus.ecommerce.domain.exception.CouponNotFoundException;
-import com.hhplus.ecommerce.domain.lock.CouponLock;
+import com.hhplus.ecommerce.domain.exception.CouponAlreadyIssuedException;
 import com.hhplus.ecommerce.domain.repository.CouponRepository;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.concurrent.CompletionException;
 
 /**
  * 쿠폰 유스케이스
  * - 쿠폰 조회/발급 비즈니스 로직
- * - Mock 환경에서 synchronized로 동시성 제어
- * - 실제 프로덕션에서는 @Transactional + JPA 비관적 락 사용 필요
+ * - 중복 발급은 발급 사용자 인덱스(CouponIssuedUserIndex)로 허가 획득 전에 차단
+ * - 선착순 발급은 허가 카운터(CouponPermitCounter)로 당첨 여부를 판정하고
+ *   당첨 요청만 단일 writer(CouponIssueWriter)가 일괄 저장
+ * - 사용자 쿠폰 목록 조회는 SingleFlightLoader로 같은 사용자의 동시 조회를 하나로 병합
  */
 @Service
 public class CouponUseCase {
 
+    private static final String USER_COUPONS_LOAD = "user-coupons";
+
     private final CouponRepository couponRepository;
+    private final CouponIssuedUserIndex issuedUserIndex;
+    private final CouponPermitCounter permitCounter;
+    private final CouponIssueWriter issueWriter;
+    private final SingleFlightLoader singleFlightLoader;
 
-    public CouponUseCase(CouponRepository couponRepository) {
+    public CouponUseCase(CouponRepository couponRepository, CouponIssuedUserIndex issuedUserIndex,
+                         CouponPermitCounter permitCounter, CouponIssueWriter issueWriter,
+                         SingleFlightLoader singleFlightLoader) {
         this.couponRepository = couponRepository;
+        this.issuedUserIndex = issuedUserIndex;
+        this.permitCounter = permitCounter;
+        this.issueWriter = issueWriter;
+        this.singleFlightLoader = singleFlightLoader;
     }
 
     /**
      * 사용자 쿠폰 목록 조회
+     * - 같은 사용자의 동시 조회는 원본 조회 한 번의 결과(읽기 전용 목록)를 공유
      */
     public List<UserCoupon> getUserCoupons(Long userId) {
-        return couponRepository.findByUserId(userId);
+        return singleFlightLoader.load(USER_COUPONS_LOAD, userId,
+                () -> List.copyOf(couponRepository.findByUserId(userId)));
     }
 
     /**
      * 쿠폰 발급
-     * - synchronized로 동시성 제어 (Mock 테스트용)
-     * - 실제 프로덕션에서는 @Transactional + JPA 비관적 락으로 교체 필요
+     * - 사용자 ID가 0 이하면 InvalidInputException
+     * - 이미 발급받은 사용자는 허가를 소모하지 않고 CouponAlreadyIssuedException
+     *   (인덱스는 인스턴스별이므로 다른 인스턴스에서 받은 경우는 저장 시 DB 유니크 제약으로 판정)
+     * - 잔여 수량이 없으면 리포지토리 접근 없이 즉시 CouponSoldOutException
+     * - 당첨 시 일괄 저장이 끝날 때까지 대기 후 발급된 쿠폰 반환
+     * - 발급 후 목록 조회가 발급 전에 시작된 조회에 합류하지 않도록 분리
      */
-    @CouponLock
     public UserCoupon issueCoupon(Long userId, Long couponId) {
-        // 쿠폰 조회
-        Coupon coupon = couponRepository.findById(couponId)
-                .orElseThrow(CouponNotFoundException::new);
-
-        // 쿠폰 발급 처리 (도메인 로직)
-        LocalDateTime now = LocalDateTime.now();
-        coupon.issue(now);
-        couponRepository.saveCoupon(coupon);
+        if (userId == null || userId <= 0) {
+            throw new InvalidInputException("사용자 ID는 0보다 커야 합니다");
+        }
+        if (!issuedUserIndex.tryMark(couponId, userId)) {
+            throw new CouponAlreadyIssuedException();
+        }
 
-        // 사용자 쿠폰 생성
-        UserCoupon userCoupon = new UserCoupon(
-                generateUserCouponId(),
-                userId,
-                couponId,
-                0,  // orderId는 나중에 사용 시 설정
-                false,
-                now,
-                null,
-                coupon.getValidTo()
-        );
-
-        return couponRepository.saveUserCoupon(userCoupon);
-    }
-
-    /**
-     * 사용자 쿠폰 ID 생성 (임시)
-     */
-    private long generateUserCouponId() {
-        return System.currentTimeMillis();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            permitCounter.acquire(couponId, now);
+            UserCoupon issued = issueWriter.submit(userId, couponId, now).join();
+            singleFlightLoader.forget(USER_COUPONS_LOAD, userId);
+            return issued;
+        } catch (CompletionException e) {
+            // 다른 인스턴스에서 이미 발급받은 사용자(DB 유니크 제약 위반)는 등록을 유지
+            if (!(e.getCause() instanceof CouponAlreadyIssuedException)) {
+                issuedUserIndex.unmark(couponId, userId);
+            }
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            issuedUserIndex.unmark(couponId, userId);
+            throw e;
+        }
     }
 }
@@ -1,55 +1,115 @@
 package com.hhplus.ecommerce.application.usecase;
 
+import com.hhplus.ecommerce.application.stock.StockDeductor;
+import com.hhplus.ecommerce.application.stock.StockReservationService;
+import com.hhplus.ecommerce.common.exception.InvalidInputException;
+import com.hhplus.ecommerce.common.id.SnowflakeIdGenerator;
+import com.hhplus.ecommerce.common.pagination.KeysetCursor;
 import com.hhplus.ecommerce.domain.entity.Order;
 import com.hhplus.ecommerce.domain.entity.OrderStatus;
 import com.hhplus.ecommerce.domain.entity.Product;
 import com.hhplus.ecommerce.domain.exception.OrderNotFoundException;
-import com.hhplus.ecommerce.domain.exception.ProductNotFoundException;
+import com.hhplus.ecommerce.domain.lock.StockLockManager;
+import com.hhplus.ecommerce.domain.repository.CursorPage;
 import com.hhplus.ecommerce.domain.repository.OrderRepository;
-import com.hhplus.ecommerce.domain.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * 주문 유스케이스
  * - 주문 생성 및 조회 비즈니스 로직
- * - Mock 환경에서 synchronized로 동시성 제어
- * - 실제 프로덕션에서는 @Transactional + JPA 비관적 락 사용 필요
+ * - 주문 상품 단위 락(StockLockManager)으로 같은 인스턴스 안의 경합을 줄이고,
+ *   DB 레벨 동시성 제어는 StockDeductor의 전략(inventory.lock-strategy)을 따름
+ * - 재고를 하위 카운터로 나눈 경우(inventory.stock-shards > 1)에는 상품 락을 잡지 않음
+ *   (나눈 재고가 CAS로 정합성을 보장하므로, 락이 있으면 한 상품의 주문이 다시 한 줄로 직렬화됨)
+ * - 인기 상품 랭킹의 판매량은 주문이 아니라 결제 시 반영 (PaymentUseCase)
+ * - 차감한 재고는 만료 시각이 있는 예약(StockReservationService)으로 기록하여,
+ *   결제되지 않은 주문의 재고는 만료 후 복구
+ * - 인메모리 재고(inventory.engine=memory)는 DB 트랜잭션에 포함되지 않으므로,
+ *   주문 저장/예약 실패나 롤백 시 차감한 재고를 직접 복구
  */
 @Service
 public class OrderUseCase {
 
     private final OrderRepository orderRepository;
-    private final ProductRepository productRepository;
-
-    public OrderUseCase(OrderRepository orderRepository, ProductRepository productRepository) {
+    private final StockLockManager stockLockManager;
+    private final StockDeductor stockDeductor;
+    private final SnowflakeIdGenerator idGenerator;
+    private final StockReservationService stockReservationService;
+    private final boolean lockPerProduct;
+
+    public OrderUseCase(OrderRepository orderRepository, StockLockManager stockLockManager,
+                        StockDeductor stockDeductor, SnowflakeIdGenerator idGenerator,
+                        StockReservationService stockReservationService,
+                        @Value("${inventory.stock-shards:1}") int stockShards) {
         this.orderRepository = orderRepository;
-        this.productRepository = productRepository;
+        this.stockLockManager = stockLockManager;
+        this.stockDeductor = stockDeductor;
+        this.idGenerator = idGenerator;
+        this.stockReservationService = stockReservationService;
+        this.lockPerProduct = stockShards <= 1;
     }
 
     /**
-     * 주문 생성 (재고 차감 포함)
-     * - synchronized로 동시성 제어 (Mock 테스트용)
-     * - 실제 프로덕션에서는 @Transactional + JPA 비관적 락으로 교체 필요
+     * 주문 생성 (재고 차감 및 예약 포함)
+     * - 주문에 포함된 상품의 락만 획득하여 다른 상품 주문과 병렬 처리 (재고를 나눈 경우 락 없이 처리)
+     * - 재고 차감, 주문 저장, 재고 예약은 한 트랜잭션 (중간 실패 시 함께 롤백)
      */
-    public synchronized Order createOrder(Long userId, List<OrderItem> items, Long couponId) {
-        // 총 금액 계산 및 재고 차감
-        int totalAmount = 0;
+    @Transactional
+    public Order createOrder(Long userId, List<OrderItem> items, Long couponId) {
+        if (!lockPerProduct) {
+            return placeOrder(userId, items, couponId);
+        }
+        List<Long> productIds = items.stream()
+                .map(OrderItem::productId)
+                .toList();
+
+        return stockLockManager.executeWithLock(productIds,
+                () -> placeOrder(userId, items, couponId));
+    }
+
+    private Order placeOrder(Long userId, List<OrderItem> items, Long couponId) {
+        // 상품별 수량 합산 (상품 ID 순으로 차감하여 DB 행 락 획득 순서를 고정)
+        Map<Long, Integer> quantities = new TreeMap<>();
         for (OrderItem item : items) {
-            Product product = productRepository.findById(item.productId())
-                    .orElseThrow(ProductNotFoundException::new);
+            quantities.merge(item.productId(), item.quantity(), Integer::sum);
+        }
 
-            // 재고 차감 (도메인 로직)
-            product.decreaseStock(item.quantity());
-            productRepository.save(product);
+        // 재고 차감
+        Map<Long, Product> products = stockDeductor.deductAll(quantities);
+        if (stockDeductor.isTransactional()) {
+            return saveOrder(userId, items, couponId, quantities, products);
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            restoreStockOnRollback(quantities);
+            return saveOrder(userId, items, couponId, quantities, products);
+        }
+        try {
+            return saveOrder(userId, items, couponId, quantities, products);
+        } catch (RuntimeException e) {
+            stockDeductor.restoreAll(quantities);
+            throw e;
+        }
+    }
 
-            totalAmount += product.getPrice() * item.quantity();
+    private Order saveOrder(Long userId, List<OrderItem> items, Long couponId,
+                            Map<Long, Integer> quantities, Map<Long, Product> products) {
+        // 총 금액 계산
+        int totalAmount = 0;
+        for (OrderItem item : items) {
+            totalAmount += products.get(item.productId()).getPrice() * item.quantity();
         }
 
         // 주문 생성
         Order order = new Order(
-                generateOrderId(),
+                idGenerator.nextId(),
                 userId,
                 OrderStatus.PENDING,
                 totalAmount,
@@ -57,7 +117,23 @@ public class OrderUseCase {
                 couponId != null ? couponId : 0
         );
 
-        return orderRepository.save(order);
+        Order saved = orderRepository.save(order);
+        stockReservationService.reserve(saved.getId(), quantities);
+        return saved;
+    }
+
+    /**
+     * 트랜잭션이 롤백되면 차감한 재고 복구 (주문 저장, 예약, 커밋 중 어디서 실패하든 한 번만 복구)
+     */
+    private void restoreStockOnRollback(Map<Long, Integer> quantities) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == STATUS_ROLLED_BACK) {
+                    stockDeductor.restoreAll(quantities);
+                }
+            }
+        });
     }
 
     /**
@@ -75,6 +151,17 @@ public class OrderUseCase {
         return orderRepository.findByUserId(userId, page, size);
     }
 
+    /**
+     * 사용자의 주문 목록 조회 (커서 기반, 최신순)
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @throws InvalidInputException 페이지 크기가 1 ~ KeysetCursor.MAX_PAGE_SIZE 범위를 벗어난 경우
+     */
+    public CursorPage<Order> getOrdersAfter(Long userId, String cursor, int size) {
+        KeysetCursor.validateSize(size);
+        return orderRepository.findByUserIdAfter(userId, cursor, size);
+    }
+
     /**
      * 사용자의 주문 전체 개수 조회
      */
@@ -84,8 +171,9 @@ public class OrderUseCase {
 
     /**
      * 주문 완료 처리
-     * - 실제 프로덕션에서는 @Transactional 필요
+     * - 주문 조회와 상태 변경 저장을 한 트랜잭션에서 처리
      */
+    @Transactional
     public Order completeOrder(Long orderId) {
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(OrderNotFoundException::new);
@@ -94,13 +182,6 @@ public class OrderUseCase {
         return orderRepository.save(order);
     }
 
-    /**
-     * 주문 ID 생성 (임시)
-     */
-    private long generateOrderId() {
-        return System.currentTimeMillis();
-    }
-
     /**
      * 주문 아이템 DTO
      */
@@ -1,70 +1,110 @@
 package com.hhplus.ecommerce.application.usecase;
 
+import com.hhplus.ecommerce.application.ranking.PopularProductRanking;
+import com.hhplus.ecommerce.application.stock.StockReservationService;
+import com.hhplus.ecommerce.common.concurrent.SingleFlightLoader;
+import com.hhplus.ecommerce.common.id.SnowflakeIdGenerator;
 import com.hhplus.ecommerce.domain.entity.Order;
+import com.hhplus.ecommerce.domain.entity.OrderDataOutbox;
 import com.hhplus.ecommerce.domain.entity.User;
 import com.hhplus.ecommerce.domain.exception.OrderNotFoundException;
 import com.hhplus.ecommerce.domain.exception.UserNotFoundException;
+import com.hhplus.ecommerce.domain.lock.KeyedLock;
+import com.hhplus.ecommerce.domain.repository.OrderDataOutboxRepository;
 import com.hhplus.ecommerce.domain.repository.OrderRepository;
 import com.hhplus.ecommerce.domain.repository.UserRepository;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Map;
 
 /**
  * 결제 유스케이스
  * - 잔액 조회/충전, 결제 처리 비즈니스 로직
- * - 외부 전송 실패가 주문을 막지 않도록 처리
- * - Mock 환경에서 synchronized로 동시성 제어
- * - 실제 프로덕션에서는 @Transactional + JPA 비관적 락 사용 필요
+ * - 외부 전송은 결제 트랜잭션에서 아웃박스 기록만 남기고 OrderDataOutboxDispatcher가 나중에 전송
+ *   (외부 시스템 지연/실패가 결제 응답 시간과 결과에 영향을 주지 않음)
+ * - 사용자 단위 락(@KeyedLock, namespace=user)으로 동시성 제어
+ * - 잔액 조회는 SingleFlightLoader로 같은 사용자의 동시 조회를 하나로 병합하고,
+ *   잔액을 바꾸면 진행 중인 조회에서 분리하여 이후 조회가 바뀐 잔액을 읽도록 함
+ * - 결제 시 주문의 재고 예약을 확정 (만료로 이미 해제된 주문은 취소 상태라 결제 불가)
+ * - 결제가 커밋되면 확정한 상품별 수량을 인기 상품 랭킹(PopularProductRanking)에 반영
+ *   (결제하지 않고 만료된 주문은 판매량에 포함되지 않음)
  */
 @Service
 public class PaymentUseCase {
 
-    private static final Logger log = LoggerFactory.getLogger(PaymentUseCase.class);
+    private static final String BALANCE_LOAD = "user-balance";
 
     private final UserRepository userRepository;
     private final OrderRepository orderRepository;
-
-    public PaymentUseCase(UserRepository userRepository, OrderRepository orderRepository) {
+    private final SingleFlightLoader singleFlightLoader;
+    private final StockReservationService stockReservationService;
+    private final OrderDataOutboxRepository orderDataOutboxRepository;
+    private final SnowflakeIdGenerator idGenerator;
+    private final PopularProductRanking popularProductRanking;
+
+    public PaymentUseCase(UserRepository userRepository, OrderRepository orderRepository,
+                          SingleFlightLoader singleFlightLoader, StockReservationService stockReservationService,
+                          OrderDataOutboxRepository orderDataOutboxRepository, SnowflakeIdGenerator idGenerator,
+                          PopularProductRanking popularProductRanking) {
         this.userRepository = userRepository;
         this.orderRepository = orderRepository;
+        this.singleFlightLoader = singleFlightLoader;
+        this.stockReservationService = stockReservationService;
+        this.orderDataOutboxRepository = orderDataOutboxRepository;
+        this.idGenerator = idGenerator;
+        this.popularProductRanking = popularProductRanking;
     }
 
     /**
      * 잔액 조회
      */
     public int getBalance(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(UserNotFoundException::new);
-        return user.getPoint();
+        return singleFlightLoader.load(BALANCE_LOAD, userId,
+                () -> userRepository.findById(userId)
+                        .orElseThrow(UserNotFoundException::new)
+                        .getPoint());
     }
 
     /**
      * 잔액 충전
-     * - synchronized로 동시성 제어 (Mock 테스트용)
-     * - 실제 프로덕션에서는 @Transactional + JPA 비관적 락으로 교체 필요
+     * - 같은 사용자의 충전/결제만 직렬화
+     * - 다른 인스턴스와의 경합은 사용자 행 비관적 락으로 직렬화
      */
-    public synchronized User chargeBalance(Long userId, int amount) {
-        User user = userRepository.findById(userId)
+    @KeyedLock(namespace = "user", key = "#userId")
+    @Transactional
+    public User chargeBalance(Long userId, int amount) {
+        User user = userRepository.findByIdForUpdate(userId)
                 .orElseThrow(UserNotFoundException::new);
 
         user.chargePoint(amount);
-        return userRepository.save(user);
+        User saved = userRepository.save(user);
+        singleFlightLoader.forget(BALANCE_LOAD, userId);
+        return saved;
     }
 
     /**
      * 결제 실행
+     * - 재고 예약 확정
      * - 주문 금액 차감
      * - 주문 완료 처리
-     * - 외부 전송은 비동기로 처리하거나 실패해도 주문은 성공
-     * - synchronized로 동시성 제어 (Mock 테스트용)
-     * - 실제 프로덕션에서는 @Transactional + JPA 비관적 락으로 교체 필요
+     * - 외부 전송용 아웃박스 기록 (결제와 같은 트랜잭션, 전송은 나중에)
+     * - 커밋 후 판매량을 인기 상품 랭킹에 반영
+     * - 같은 사용자의 충전/결제만 직렬화
+     * - 다른 인스턴스와의 경합은 사용자 행 비관적 락으로 직렬화
      */
-    public synchronized PaymentResult executePayment(Long userId, Long orderId) {
-        // 1. 사용자 및 주문 조회
-        User user = userRepository.findById(userId)
+    @KeyedLock(namespace = "user", key = "#userId")
+    @Transactional
+    public PaymentResult executePayment(Long userId, Long orderId) {
+        // 1. 사용자 조회 및 재고 예약 확정
+        User user = userRepository.findByIdForUpdate(userId)
                 .orElseThrow(UserNotFoundException::new);
 
+        // 예약 해제와 동시에 일어나면 예약 행 락으로 직렬화되므로, 확정 후에 주문 상태를 읽음
+        Map<Long, Integer> confirmed = stockReservationService.confirm(orderId);
         Order order = orderRepository.findById(orderId)
                 .orElseThrow(OrderNotFoundException::new);
 
@@ -72,40 +112,44 @@ public class PaymentUseCase {
         int paymentAmount = order.getFinalAmount();
         user.deductPoint(paymentAmount);
         userRepository.save(user);
+        singleFlightLoader.forget(BALANCE_LOAD, userId);
 
         // 3. 주문 완료 처리
         order.complete();
         orderRepository.save(order);
 
-        // 4. 외부 전송 시도 (실패해도 주문은 성공으로 처리)
-        boolean dataTransferSuccess = sendToExternalSystem(order);
+        // 4. 외부 전송 기록 (결제가 롤백되면 함께 롤백되어 전송되지 않음)
+        orderDataOutboxRepository.save(OrderDataOutbox.pending(idGenerator.nextId(), order, LocalDateTime.now()));
+
+        // 5. 판매량 반영 (결제가 롤백되면 반영하지 않음)
+        recordSales(confirmed);
 
         return new PaymentResult(
                 orderId,
                 userId,
                 paymentAmount,
-                user.getPoint(),
-                dataTransferSuccess
+                user.getPoint()
         );
     }
 
     /**
-     * 외부 시스템으로 데이터 전송
-     * - 실패해도 예외를 던지지 않음
-     * - 로그 기록 후 재시도 큐에 추가하는 방식으로 처리 가능
+     * 판매량을 랭킹에 반영
+     * - 트랜잭션 안이면 커밋 후에 반영하여 롤백된 결제가 집계되지 않도록 함
      */
-    private boolean sendToExternalSystem(Order order) {
-        try {
-            // TODO: 실제 외부 API 호출 구현
-            // externalApiClient.sendOrder(order);
-            log.info("외부 시스템으로 주문 데이터 전송 성공: orderId={}", order.getId());
-            return true;
-        } catch (Exception e) {
-            // 외부 전송 실패해도 주문은 성공
-            log.error("외부 시스템으로 주문 데이터 전송 실패: orderId={}, error={}",
-                    order.getId(), e.getMessage());
-            // TODO: 재시도 큐에 추가
-            return false;
+    private void recordSales(Map<Long, Integer> quantities) {
+        LocalDateTime soldAt = LocalDateTime.now();
+        Runnable record = () -> quantities.forEach(
+                (productId, quantity) -> popularProductRanking.record(productId, quantity, soldAt));
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    record.run();
+                }
+            });
+        } else {
+            record.run();
         }
     }
 
@@ -116,7 +160,6 @@ public class PaymentUseCase {
             Long orderId,
             Long userId,
             int paymentAmount,
-            int remainingBalance,
-            boolean dataTransferSuccess
+            int remainingBalance
     ) {}
 }
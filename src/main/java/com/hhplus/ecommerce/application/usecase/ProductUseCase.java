@@ -1,25 +1,44 @@
 package com.hhplus.ecommerce.application.usecase;
 
+import com.hhplus.ecommerce.application.ranking.PopularProductRanking;
+import com.hhplus.ecommerce.application.ranking.PopularProductRanking.RankedProduct;
+import com.hhplus.ecommerce.common.concurrent.SingleFlightLoader;
+import com.hhplus.ecommerce.common.exception.InvalidInputException;
+import com.hhplus.ecommerce.common.pagination.KeysetCursor;
 import com.hhplus.ecommerce.domain.entity.Product;
 import com.hhplus.ecommerce.domain.exception.ProductNotFoundException;
+import com.hhplus.ecommerce.domain.repository.CursorPage;
 import com.hhplus.ecommerce.domain.repository.ProductRepository;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 상품 유스케이스
  * - 상품 조회 및 재고 관리 비즈니스 로직
+ * - 상품 단건 조회는 SingleFlightLoader로 같은 상품의 동시 조회를 하나로 병합
  */
 @Service
 @Transactional(readOnly = true)
 public class ProductUseCase {
 
+    private static final String PRODUCT_LOAD = "product";
+
     private final ProductRepository productRepository;
+    private final PopularProductRanking popularProductRanking;
+    private final SingleFlightLoader singleFlightLoader;
 
-    public ProductUseCase(ProductRepository productRepository) {
+    public ProductUseCase(ProductRepository productRepository, PopularProductRanking popularProductRanking,
+                          SingleFlightLoader singleFlightLoader) {
         this.productRepository = productRepository;
+        this.popularProductRanking = popularProductRanking;
+        this.singleFlightLoader = singleFlightLoader;
     }
 
     /**
@@ -29,6 +48,17 @@ public class ProductUseCase {
         return productRepository.findAll(page, size, search);
     }
 
+    /**
+     * 상품 목록 조회 (커서 기반)
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @throws InvalidInputException 페이지 크기가 1 ~ KeysetCursor.MAX_PAGE_SIZE 범위를 벗어난 경우
+     */
+    public CursorPage<Product> getProductsAfter(String cursor, int size, String search) {
+        KeysetCursor.validateSize(size);
+        return productRepository.findAllAfter(cursor, size, search);
+    }
+
     /**
      * 상품 목록 전체 개수 조회
      */
@@ -38,26 +68,39 @@ public class ProductUseCase {
 
     /**
      * 상품 상세 조회
+     * - 같은 상품을 동시에 조회하면 원본 조회 한 번의 결과를 공유 (조회 전용, 변경 금지)
      */
     public Product getProduct(Long productId) {
-        return productRepository.findById(productId)
-                .orElseThrow(ProductNotFoundException::new);
+        return singleFlightLoader.load(PRODUCT_LOAD, productId,
+                () -> productRepository.findById(productId)
+                        .orElseThrow(ProductNotFoundException::new));
     }
 
     /**
-     * 인기 상품 조회 (최근 판매량 기준 Top 5)
+     * 인기 상품 조회 (최근 판매량 기준 Top K)
+     * - 순위는 PopularProductRanking 스냅샷에서 가져오고, 상품 정보는 K개 ID로만 조회
+     * - 랭킹 순서를 유지하며 그 사이 삭제된 상품은 제외
      */
     public List<Product> getTopProducts() {
-        return productRepository.findTopSelling(5);
+        List<Long> productIds = popularProductRanking.getTopProducts(LocalDateTime.now()).stream()
+                .map(RankedProduct::productId)
+                .toList();
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Product> products = productRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        return productIds.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .toList();
     }
 
     /**
      * 재고 확인
      */
     public boolean checkStock(Long productId, int quantity) {
-        Product product = productRepository.findById(productId)
-                .orElseThrow(ProductNotFoundException::new);
-
-        return product.hasEnoughStock(quantity);
+        return getProduct(productId).hasEnoughStock(quantity);
     }
 }
@@ -1,5 +1,7 @@
 package com.hhplus.ecommerce.common;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.hhplus.ecommerce.common.exception.ErrorCode;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
@@ -10,11 +12,23 @@ public class ApiResponse<T> {
     private T data;
     private String message;
 
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Error error;
+
     public static <T> ApiResponse<T> success(T data) {
-        return new ApiResponse<>(true, data, null);
+        return new ApiResponse<>(true, data, null, null);
     }
 
     public static <T> ApiResponse<T> success(T data, String message) {
-        return new ApiResponse<>(true, data, message);
+        return new ApiResponse<>(true, data, message, null);
+    }
+
+    /**
+     * 실패 응답 (API 명세의 에러 응답 형식, code는 ErrorCode 이름)
+     */
+    public static <T> ApiResponse<T> error(ErrorCode errorCode, String message) {
+        return new ApiResponse<>(false, null, null, new Error(errorCode.name(), message));
     }
+
+    public record Error(String code, String message) {}
 }
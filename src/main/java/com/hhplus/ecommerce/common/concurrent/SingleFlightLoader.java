@@ -0,0 +1,178 @@
+package com.hhplus.ecommerce.common.concurrent;
+
+import com.hhplus.ecommerce.common.exception.LoadTimeoutException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 동일 키 조회 병합 (single-flight)
+ *
+ * <p>같은 namespace/키에 대한 조회가 동시에 들어오면 먼저 온 요청 하나만 원본을 조회하고,
+ * 나머지는 그 결과를 기다렸다가 함께 받습니다.
+ *
+ * <p>동작 방식:
+ * <ul>
+ *   <li>진행 중인 조회가 없으면 호출 스레드가 직접 조회 (별도 스레드 없음)</li>
+ *   <li>진행 중인 조회가 있으면 최대 대기 시간까지 결과를 기다리고, 넘으면 LoadTimeoutException</li>
+ *   <li>조회가 예외로 끝나면 기다리던 요청 모두에게 같은 예외 전달</li>
+ *   <li>조회가 끝나면 즉시 테이블에서 제거 (결과를 캐시하지 않음)</li>
+ *   <li>공유된 결과는 여러 요청이 함께 보므로 호출 측에서 변경하지 않아야 함</li>
+ * </ul>
+ */
+@Component
+public class SingleFlightLoader {
+
+    private final long timeoutMillis;
+    private final Map<String, Namespace> namespaces = new ConcurrentHashMap<>();
+
+    public SingleFlightLoader(@Value("${single-flight.timeout-millis:3000}") long timeoutMillis) {
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * 조회 (같은 키의 진행 중인 조회가 있으면 그 결과를 공유)
+     *
+     * @param namespace 조회 구분 공간
+     * @param key       조회 키
+     * @param loader    원본 조회
+     * @throws LoadTimeoutException 진행 중인 조회를 기다리다 대기 시간을 넘긴 경우
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T load(String namespace, Object key, Supplier<T> loader) {
+        Namespace ns = namespaces.computeIfAbsent(namespace, Namespace::new);
+        CompletableFuture<Object> call = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = ns.calls.putIfAbsent(key, call);
+        if (inFlight != null) {
+            ns.shared.increment();
+            return (T) await(ns, inFlight);
+        }
+
+        ns.loads.increment();
+        try {
+            T value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            ns.failures.increment();
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            ns.calls.remove(key, call);
+        }
+    }
+
+    /**
+     * 진행 중인 조회에서 분리 (값을 바꾼 뒤 호출)
+     * - 이후 요청은 새로 조회하여 바뀐 값을 읽음
+     * - 트랜잭션 안이면 완료 후 한 번 더 분리 (커밋 전에 시작된 조회에 합류하지 않도록)
+     */
+    public void forget(String namespace, Object key) {
+        Namespace ns = namespaces.get(namespace);
+        if (ns == null) {
+            return;
+        }
+        ns.calls.remove(key);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    ns.calls.remove(key);
+                }
+            });
+        }
+    }
+
+    /**
+     * namespace별 조회 병합 지표 조회
+     */
+    public SingleFlightMetrics getMetrics(String namespace) {
+        Namespace ns = namespaces.get(namespace);
+        if (ns == null) {
+            return new SingleFlightMetrics(namespace, 0, 0, 0, 0, 0);
+        }
+        return ns.snapshot();
+    }
+
+    /**
+     * 지표가 집계된 namespace 목록
+     */
+    public Set<String> getNamespaces() {
+        return Set.copyOf(namespaces.keySet());
+    }
+
+    private Object await(Namespace ns, CompletableFuture<Object> inFlight) {
+        try {
+            return inFlight.get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            ns.timeouts.increment();
+            throw new LoadTimeoutException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ns.timeouts.increment();
+            throw new LoadTimeoutException();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    /**
+     * namespace별 조회 병합 지표 스냅샷
+     *
+     * @param loads    원본 조회 횟수
+     * @param shared   진행 중인 조회 결과를 공유받은 횟수
+     * @param inFlight 현재 진행 중인 조회 수
+     */
+    public record SingleFlightMetrics(
+            String namespace,
+            long loads,
+            long shared,
+            long failures,
+            long timeouts,
+            int inFlight
+    ) {}
+
+    private static final class Namespace {
+
+        private final String name;
+        private final Map<Object, CompletableFuture<Object>> calls = new ConcurrentHashMap<>();
+
+        private final LongAdder loads = new LongAdder();
+        private final LongAdder shared = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+
+        private Namespace(String name) {
+            this.name = name;
+        }
+
+        private SingleFlightMetrics snapshot() {
+            return new SingleFlightMetrics(
+                    name,
+                    loads.sum(),
+                    shared.sum(),
+                    failures.sum(),
+                    timeouts.sum(),
+                    calls.size()
+            );
+        }
+    }
+}
@@ -0,0 +1,125 @@
+package com.hhplus.ecommerce.common.concurrent;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 가상 스레드(Java 21) 선택적 사용
+ *
+ * <p>빌드 대상은 Java 17이므로 가상 스레드 API는 실행 환경에 있을 때만 리플렉션으로 사용합니다.
+ * spring.threads.virtual.enabled=true로 Java 21 이상에서 실행하면 Tomcat 요청 스레드와 함께
+ * 애플리케이션의 I/O 대기 작업 실행기도 가상 스레드로 바뀝니다.
+ *
+ * <p>동작 방식:
+ * <ul>
+ *   <li>가상 스레드를 요청했고 지원되면 작업마다 가상 스레드를 만드는 실행기 (풀 크기 무시)</li>
+ *   <li>요청하지 않았거나 Java 21 미만이면 고정 크기 데몬 플랫폼 스레드 풀 (요청했는데 미지원이면 경고 로그)</li>
+ *   <li>가상 스레드는 synchronized 안에서 대기하면 carrier 스레드를 고정(pinning)하므로,
+ *       요청 경로의 잠금은 ReentrantLock을 사용</li>
+ * </ul>
+ */
+public final class VirtualThreads {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreads.class);
+
+    private static final Method OF_VIRTUAL;
+    private static final Method BUILDER_NAME;
+    private static final Method BUILDER_FACTORY;
+    private static final Method NEW_THREAD_PER_TASK_EXECUTOR;
+
+    static {
+        Method ofVirtual = null;
+        Method builderName = null;
+        Method builderFactory = null;
+        Method newThreadPerTaskExecutor = null;
+        try {
+            Class<?> builder = Class.forName("java.lang.Thread$Builder");
+            ofVirtual = Thread.class.getMethod("ofVirtual");
+            builderName = builder.getMethod("name", String.class, long.class);
+            builderFactory = builder.getMethod("factory");
+            newThreadPerTaskExecutor = Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class);
+        } catch (ClassNotFoundException | NoSuchMethodException e) {
+            // Java 21 미만: 플랫폼 스레드만 사용
+            ofVirtual = null;
+        }
+        OF_VIRTUAL = ofVirtual;
+        BUILDER_NAME = builderName;
+        BUILDER_FACTORY = builderFactory;
+        NEW_THREAD_PER_TASK_EXECUTOR = newThreadPerTaskExecutor;
+    }
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * 실행 환경이 가상 스레드를 지원하면 true (Java 21 이상)
+     */
+    public static boolean isSupported() {
+        return OF_VIRTUAL != null;
+    }
+
+    /**
+     * 작업 실행기 생성
+     *
+     * @param namePrefix      스레드 이름 접두사 (뒤에 번호)
+     * @param platformThreads 플랫폼 스레드로 만들 때의 풀 크기
+     * @param virtual         가상 스레드 사용 요청 (지원되지 않으면 경고 후 플랫폼 스레드 풀)
+     */
+    public static ExecutorService newExecutor(String namePrefix, int platformThreads, boolean virtual) {
+        if (virtual && isSupported()) {
+            return (ExecutorService) invoke(NEW_THREAD_PER_TASK_EXECUTOR, null, virtualThreadFactory(namePrefix));
+        }
+        if (virtual) {
+            warnUnsupported(namePrefix);
+        }
+        return Executors.newFixedThreadPool(platformThreads, daemonThreadFactory(namePrefix));
+    }
+
+    /**
+     * 가상 스레드 팩토리 (이름은 namePrefix0, namePrefix1, ...)
+     * - Java 21 미만이면 경고를 남기고 데몬 플랫폼 스레드 팩토리를 반환
+     */
+    public static ThreadFactory virtualThreadFactory(String namePrefix) {
+        if (!isSupported()) {
+            warnUnsupported(namePrefix);
+            return daemonThreadFactory(namePrefix);
+        }
+        Object builder = invoke(OF_VIRTUAL, null);
+        builder = invoke(BUILDER_NAME, builder, namePrefix, 0L);
+        return (ThreadFactory) invoke(BUILDER_FACTORY, builder);
+    }
+
+    /**
+     * 데몬 플랫폼 스레드 팩토리 (이름은 namePrefix1, namePrefix2, ...)
+     */
+    public static ThreadFactory daemonThreadFactory(String namePrefix) {
+        AtomicInteger threadNumber = new AtomicInteger();
+        return runnable -> {
+            Thread thread = new Thread(runnable, namePrefix + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private static void warnUnsupported(String namePrefix) {
+        log.warn("가상 스레드는 Java 21 이상에서 지원되어 플랫폼 스레드로 대체합니다. (스레드: {}*, Java {})",
+                namePrefix, Runtime.version().feature());
+    }
+
+    private static Object invoke(Method method, Object target, Object... args) {
+        try {
+            return method.invoke(target, args);
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
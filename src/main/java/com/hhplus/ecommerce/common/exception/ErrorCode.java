@@ -8,6 +8,10 @@ public enum ErrorCode {
     // COMMON (COM-xxx) - 공통 에러
     // ========================================
     INVALID_INPUT              ("COM-001", HttpStatus.BAD_REQUEST,            "잘못된 입력 값입니다"),
+    LOCK_TIMEOUT               ("COM-002", HttpStatus.CONFLICT,               "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요"),
+    LOAD_TIMEOUT               ("COM-003", HttpStatus.SERVICE_UNAVAILABLE,    "요청이 많아 조회하지 못했습니다. 잠시 후 다시 시도해주세요"),
+    IDEMPOTENCY_IN_PROGRESS    ("COM-004", HttpStatus.CONFLICT,               "같은 요청을 처리하고 있습니다. 잠시 후 다시 시도해주세요"),
+    IDEMPOTENCY_KEY_REUSED     ("COM-005", HttpStatus.UNPROCESSABLE_ENTITY,   "같은 Idempotency-Key로 다른 요청을 보낼 수 없습니다"),
     INTERNAL_SERVER_ERROR      ("COM-999", HttpStatus.INTERNAL_SERVER_ERROR,  "서버 내부 오류가 발생했습니다"),
 
     // ========================================
@@ -0,0 +1,8 @@
+package com.hhplus.ecommerce.common.exception;
+
+public class IdempotencyInProgressException extends BusinessException {
+
+    public IdempotencyInProgressException() {
+        super(ErrorCode.IDEMPOTENCY_IN_PROGRESS);
+    }
+}
@@ -0,0 +1,8 @@
+package com.hhplus.ecommerce.common.exception;
+
+public class LoadTimeoutException extends BusinessException {
+
+    public LoadTimeoutException() {
+        super(ErrorCode.LOAD_TIMEOUT);
+    }
+}
@@ -0,0 +1,109 @@
+package com.hhplus.ecommerce.common.id;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Snowflake 방식 64비트 ID 생성기
+ *
+ * <p>ID 구성 (상위 비트부터):
+ * <ul>
+ *   <li>1비트: 부호 (항상 0)</li>
+ *   <li>41비트: 기준 시각(2024-01-01 UTC) 이후 경과 밀리초 (약 69년)</li>
+ *   <li>10비트: 노드 ID (0 ~ 1023, {@code id-generator.node-id})</li>
+ *   <li>12비트: 같은 밀리초 안의 순번 (0 ~ 4095)</li>
+ * </ul>
+ *
+ * <p>동작 방식:
+ * <ul>
+ *   <li>마지막 (시각, 순번)을 AtomicLong 하나에 담아 CAS로 갱신하므로 락 없이 동작</li>
+ *   <li>한 밀리초의 순번을 모두 쓰면 다음 밀리초를 앞당겨 사용 (최대 {@link #MAX_CLOCK_DRIFT_MS}까지)</li>
+ *   <li>시계가 뒤로 가도 마지막으로 발급한 시각을 계속 사용하여 ID가 감소하지 않음</li>
+ *   <li>시계가 허용 범위보다 크게 뒤로 가면 중복 위험이 있으므로 IllegalStateException</li>
+ * </ul>
+ */
+@Component
+public class SnowflakeIdGenerator {
+
+    /** 기준 시각: 2024-01-01T00:00:00Z */
+    static final long EPOCH_MILLIS = 1_704_067_200_000L;
+
+    static final int NODE_BITS = 10;
+    static final int SEQUENCE_BITS = 12;
+
+    static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+
+    /** 시계 역행 및 순번 소진 시 앞당겨 쓸 수 있는 최대 시간 */
+    static final long MAX_CLOCK_DRIFT_MS = 1_000L;
+
+    private final long nodeBits;
+
+    /** 상위: 마지막 발급 시각(기준 시각 이후 밀리초), 하위 12비트: 순번 */
+    private final AtomicLong lastState = new AtomicLong();
+
+    public SnowflakeIdGenerator(@Value("${id-generator.node-id:0}") long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("노드 ID는 0 ~ " + MAX_NODE_ID + " 범위여야 합니다: " + nodeId);
+        }
+        this.nodeBits = nodeId << SEQUENCE_BITS;
+    }
+
+    /**
+     * 새 ID 발급
+     *
+     * @throws IllegalStateException 시계가 허용 범위 이상 뒤로 간 경우
+     */
+    public long nextId() {
+        while (true) {
+            long now = currentTimeMillis() - EPOCH_MILLIS;
+            long prev = lastState.get();
+            long prevMillis = prev >>> SEQUENCE_BITS;
+
+            if (prevMillis - now > MAX_CLOCK_DRIFT_MS) {
+                throw new IllegalStateException(
+                        "시계가 " + (prevMillis - now) + "ms 뒤로 이동하여 ID를 발급할 수 없습니다");
+            }
+
+            long next;
+            if (now > prevMillis) {
+                next = now << SEQUENCE_BITS;
+            } else if ((prev & MAX_SEQUENCE) < MAX_SEQUENCE) {
+                // 같은 밀리초이거나 시계가 뒤로 감: 마지막 시각의 순번을 이어서 사용
+                next = prev + 1;
+            } else if (prevMillis + 1 - now <= MAX_CLOCK_DRIFT_MS) {
+                // 순번 소진: 다음 밀리초를 앞당겨 사용
+                next = (prevMillis + 1) << SEQUENCE_BITS;
+            } else {
+                Thread.onSpinWait();
+                continue;
+            }
+
+            if (lastState.compareAndSet(prev, next)) {
+                return ((next >>> SEQUENCE_BITS) << (NODE_BITS + SEQUENCE_BITS))
+                        | nodeBits
+                        | (next & MAX_SEQUENCE);
+            }
+        }
+    }
+
+    /**
+     * ID에 기록된 발급 시각 (epoch 밀리초)
+     */
+    public static long extractTimestamp(long id) {
+        return (id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS;
+    }
+
+    /**
+     * ID에 기록된 노드 ID
+     */
+    public static long extractNodeId(long id) {
+        return (id >>> SEQUENCE_BITS) & MAX_NODE_ID;
+    }
+
+    long currentTimeMillis() {
+        return System.currentTimeMillis();
+    }
+}
@@ -0,0 +1,98 @@
+package com.hhplus.ecommerce.common.metrics;
+
+import com.hhplus.ecommerce.common.exception.BusinessException;
+import com.hhplus.ecommerce.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Method;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유스케이스 실행 지표 Aspect
+ *
+ * <p>application.usecase 패키지의 *UseCase 공개 메서드마다 실행 시간과 실패를 기록합니다.
+ *
+ * <p>동작 방식:
+ * <ul>
+ *   <li>usecase.execution 타이머 (usecase, method, outcome=success|error 태그, 백분위 히스토그램)</li>
+ *   <li>BusinessException이면 business.errors 카운터 (code, status 태그)</li>
+ *   <li>태그는 클래스/메서드 이름과 ErrorCode뿐이라 개수가 고정되고, 미터는 처음 호출 시 한 번만 만들어 재사용
+ *       (호출마다 태그 조합이나 미터 조회가 없음)</li>
+ *   <li>가장 바깥에서 동작하여 키 락 대기와 트랜잭션 커밋 시간까지 포함</li>
+ * </ul>
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class UseCaseMetricsAspect {
+
+    private static final Duration MIN_EXPECTED = Duration.ofMillis(1);
+    private static final Duration MAX_EXPECTED = Duration.ofSeconds(30);
+
+    private final MeterRegistry meterRegistry;
+    private final Map<Method, Timers> timers = new ConcurrentHashMap<>();
+    private final Map<ErrorCode, Counter> errorCounters = new EnumMap<>(ErrorCode.class);
+
+    public UseCaseMetricsAspect(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        for (ErrorCode errorCode : ErrorCode.values()) {
+            errorCounters.put(errorCode, Counter.builder("business.errors")
+                    .description("유스케이스에서 발생한 비즈니스 예외 수")
+                    .tag("code", errorCode.getCode())
+                    .tag("status", String.valueOf(errorCode.getStatusCode()))
+                    .register(meterRegistry));
+        }
+    }
+
+    @Around("execution(public * com.hhplus.ecommerce.application.usecase.*UseCase.*(..))")
+    public Object measure(ProceedingJoinPoint joinPoint) throws Throwable {
+        Timers methodTimers = timersOf(((MethodSignature) joinPoint.getSignature()).getMethod());
+        long start = System.nanoTime();
+        try {
+            Object result = joinPoint.proceed();
+            methodTimers.success.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return result;
+        } catch (Throwable e) {
+            methodTimers.error.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            if (e instanceof BusinessException businessException) {
+                errorCounters.get(businessException.getErrorCode()).increment();
+            }
+            throw e;
+        }
+    }
+
+    private Timers timersOf(Method method) {
+        Timers methodTimers = timers.get(method);
+        if (methodTimers != null) {
+            return methodTimers;
+        }
+        return timers.computeIfAbsent(method, m -> new Timers(timer(m, "success"), timer(m, "error")));
+    }
+
+    private Timer timer(Method method, String outcome) {
+        return Timer.builder("usecase.execution")
+                .description("유스케이스 메서드 실행 시간")
+                .tag("usecase", method.getDeclaringClass().getSimpleName())
+                .tag("method", method.getName())
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .minimumExpectedValue(MIN_EXPECTED)
+                .maximumExpectedValue(MAX_EXPECTED)
+                .register(meterRegistry);
+    }
+
+    private record Timers(Timer success, Timer error) {}
+}
@@ -0,0 +1,72 @@
+package com.hhplus.ecommerce.common.pagination;
+
+import com.hhplus.ecommerce.common.exception.InvalidInputException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 커서 기반 페이지 조회의 커서 인코딩
+ * - 마지막으로 내려준 행의 정렬 키들을 URL-safe Base64 문자열로 묶어 클라이언트에 전달
+ * - 클라이언트는 내용을 해석하지 않고 다음 요청에 그대로 돌려줌 (정렬 키 구성은 리포지토리 구현이 결정)
+ */
+public final class KeysetCursor {
+
+    /** 한 페이지에 요청할 수 있는 최대 항목 수 */
+    public static final int MAX_PAGE_SIZE = 100;
+
+    private static final String SEPARATOR = ".";
+
+    private KeysetCursor() {
+    }
+
+    /**
+     * 정렬 키를 커서 문자열로 인코딩
+     */
+    public static String encode(long... keys) {
+        StringBuilder raw = new StringBuilder();
+        for (int i = 0; i < keys.length; i++) {
+            if (i > 0) {
+                raw.append(SEPARATOR);
+            }
+            raw.append(keys[i]);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.toString().getBytes(StandardCharsets.US_ASCII));
+    }
+
+    /**
+     * 커서 문자열을 정렬 키로 디코딩
+     *
+     * @param keyCount 기대하는 정렬 키 개수
+     * @throws InvalidInputException 형식이 맞지 않는 커서
+     */
+    public static long[] decode(String cursor, int keyCount) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+            String[] parts = raw.split("\\" + SEPARATOR, -1);
+            if (parts.length != keyCount) {
+                throw new InvalidInputException("잘못된 커서입니다");
+            }
+            long[] keys = new long[keyCount];
+            for (int i = 0; i < keyCount; i++) {
+                keys[i] = Long.parseLong(parts[i]);
+            }
+            return keys;
+        } catch (IllegalArgumentException e) {
+            throw new InvalidInputException("잘못된 커서입니다");
+        }
+    }
+
+    /**
+     * 페이지 크기 검증 (1 ~ MAX_PAGE_SIZE)
+     * - 리포지토리 구현은 size + 1개를 조회해 다음 페이지 여부를 판단하므로 0 이하를 받으면 안 됨
+     *
+     * @throws InvalidInputException 범위를 벗어난 페이지 크기
+     */
+    public static void validateSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new InvalidInputException("페이지 크기는 1 이상 " + MAX_PAGE_SIZE + " 이하여야 합니다");
+        }
+    }
+}
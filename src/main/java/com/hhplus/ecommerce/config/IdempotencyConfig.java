@@ -0,0 +1,44 @@
+package com.hhplus.ecommerce.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hhplus.ecommerce.infrastructure.cache.IdempotencyStore;
+import com.hhplus.ecommerce.presentation.filter.IdempotencyKeyFilter;
+import com.hhplus.ecommerce.presentation.filter.StoredResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Idempotency-Key 필터 설정
+ * - 재시도로 같은 요청이 다시 실행되면 안 되는 POST 경로(결제, 주문 생성, 쿠폰 발급)에 적용
+ * - idempotency.enabled=false로 끌 수 있음
+ */
+@Configuration
+@ConditionalOnProperty(name = "idempotency.enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyConfig {
+
+    @Bean
+    public IdempotencyStore<StoredResponse> idempotencyStore(
+            @Value("${idempotency.maximum-size:10000}") int maximumSize,
+            @Value("${idempotency.ttl-seconds:3600}") long ttlSeconds,
+            @Value("${idempotency.wait-timeout-millis:5000}") long waitTimeoutMillis) {
+        return new IdempotencyStore<>(maximumSize, Duration.ofSeconds(ttlSeconds), waitTimeoutMillis,
+                StoredResponse::isReplayable);
+    }
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyKeyFilter> idempotencyKeyFilter(
+            IdempotencyStore<StoredResponse> idempotencyStore,
+            ObjectMapper objectMapper,
+            @Value("${idempotency.paths:/api/payments,/api/orders,/api/users/{userId}/coupons}") List<String> paths) {
+        FilterRegistrationBean<IdempotencyKeyFilter> registration =
+                new FilterRegistrationBean<>(new IdempotencyKeyFilter(idempotencyStore, paths, objectMapper));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
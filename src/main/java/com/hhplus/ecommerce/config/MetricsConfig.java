@@ -0,0 +1,83 @@
+package com.hhplus.ecommerce.config;
+
+import com.hhplus.ecommerce.application.stock.ReservationTimerWheel;
+import com.hhplus.ecommerce.domain.entity.OutboxStatus;
+import com.hhplus.ecommerce.domain.lock.KeyedLockRegistry;
+import com.hhplus.ecommerce.domain.lock.KeyedLockRegistry.LockMetrics;
+import com.hhplus.ecommerce.domain.repository.OrderDataOutboxRepository;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 락/예약/아웃박스 지표 등록 (Actuator /actuator/prometheus로 노출)
+ * - 이미 집계 중인 값을 수집 시점에 읽기만 하므로 요청 경로에 추가 비용 없음
+ * - 키 락은 metrics.lock-namespaces에 지정한 namespace마다 대기/보유 시간, 대기 스레드 수, 테이블 크기
+ * - 아웃박스 깊이는 수집할 때마다 상태별 count 쿼리 실행 (status 인덱스 사용)
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public MeterBinder keyedLockMetrics(KeyedLockRegistry lockRegistry,
+                                        @Value("${metrics.lock-namespaces:user}") List<String> namespaces) {
+        return registry -> {
+            for (String namespace : namespaces) {
+                FunctionTimer.builder("lock.wait", lockRegistry,
+                                r -> attempts(r.getMetrics(namespace)),
+                                r -> r.getMetrics(namespace).totalWaitNanos(), TimeUnit.NANOSECONDS)
+                        .description("키 락 대기 시간 (획득 + 타임아웃)")
+                        .tag("namespace", namespace)
+                        .register(registry);
+                FunctionTimer.builder("lock.hold", lockRegistry,
+                                r -> r.getMetrics(namespace).acquisitions(),
+                                r -> r.getMetrics(namespace).totalHoldNanos(), TimeUnit.NANOSECONDS)
+                        .description("키 락 보유 시간")
+                        .tag("namespace", namespace)
+                        .register(registry);
+                FunctionCounter.builder("lock.timeouts", lockRegistry, r -> r.getMetrics(namespace).timeouts())
+                        .description("대기 시간 내에 얻지 못한 키 락 수")
+                        .tag("namespace", namespace)
+                        .register(registry);
+                Gauge.builder("lock.waiting", lockRegistry, r -> r.getMetrics(namespace).waiting())
+                        .description("키 락을 기다리는 스레드 수")
+                        .tag("namespace", namespace)
+                        .register(registry);
+                Gauge.builder("lock.active.keys", lockRegistry, r -> r.getMetrics(namespace).activeKeys())
+                        .description("키 락 테이블에 남아있는 락 수")
+                        .tag("namespace", namespace)
+                        .register(registry);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder stockReservationMetrics(ReservationTimerWheel timerWheel) {
+        return registry -> Gauge.builder("stock.reservation.pending", timerWheel, ReservationTimerWheel::size)
+                .description("만료 대기 중인 재고 예약 주문 수 (이 인스턴스의 타이머 휠)")
+                .register(registry);
+    }
+
+    @Bean
+    public MeterBinder outboxMetrics(OrderDataOutboxRepository outboxRepository) {
+        return registry -> {
+            for (OutboxStatus status : List.of(OutboxStatus.PENDING, OutboxStatus.DEAD)) {
+                Gauge.builder("outbox.depth", outboxRepository, r -> r.countByStatus(status))
+                        .description("주문 데이터 아웃박스 기록 수")
+                        .tag("status", status.name().toLowerCase())
+                        .register(registry);
+            }
+        };
+    }
+
+    private static long attempts(LockMetrics metrics) {
+        return metrics.acquisitions() + metrics.timeouts();
+    }
+}
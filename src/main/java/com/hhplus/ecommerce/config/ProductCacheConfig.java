@@ -0,0 +1,34 @@
+package com.hhplus.ecommerce.config;
+
+import com.hhplus.ecommerce.infrastructure.cache.CachingProductRepository;
+import com.hhplus.ecommerce.infrastructure.persistence.product.JpaProductRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+
+import java.time.Duration;
+
+/**
+ * 상품 조회 캐시 설정
+ * - DB 재고 엔진(inventory.engine=jpa)에서만 JpaProductRepository 앞에 캐시를 둠
+ *   (인메모리 엔진은 이미 메모리에서 조회하므로 캐시 불필요)
+ * - product-cache.enabled=false로 끌 수 있음
+ */
+@Configuration
+@ConditionalOnProperty(name = "inventory.engine", havingValue = "jpa", matchIfMissing = true)
+public class ProductCacheConfig {
+
+    @Bean
+    @Primary
+    @ConditionalOnProperty(name = "product-cache.enabled", havingValue = "true", matchIfMissing = true)
+    public CachingProductRepository cachingProductRepository(
+            JpaProductRepository jpaProductRepository,
+            @Value("${product-cache.maximum-size:10000}") int maximumSize,
+            @Value("${product-cache.info-ttl-seconds:600}") long infoTtlSeconds,
+            @Value("${product-cache.stock-ttl-millis:1000}") long stockTtlMillis) {
+        return new CachingProductRepository(jpaProductRepository, maximumSize,
+                Duration.ofSeconds(infoTtlSeconds), Duration.ofMillis(stockTtlMillis));
+    }
+}
@@ -0,0 +1,168 @@
+package com.hhplus.ecommerce.domain.entity;
+
+import com.hhplus.ecommerce.common.exception.InvalidInputException;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 데이터 전송 아웃박스 도메인 모델
+ * - 결제 트랜잭션 안에서 외부 시스템으로 보낼 주문 데이터를 기록 (결제와 함께 커밋/롤백)
+ * - 전송은 별도 스레드가 나중에 처리하며, 실패하면 다음 시도 시각을 미루고 한도를 넘으면 DEAD로 전환
+ * - 프레임워크와 독립적인 순수 POJO
+ */
+public class OrderDataOutbox {
+
+    private static final int MAX_ERROR_LENGTH = 500;
+
+    private final long id;
+    private final long orderId;
+    private final long userId;
+    private final int totalAmount;
+    private final int discountAmount;
+    private final int finalAmount;
+    private final LocalDateTime completedAt;
+    private OutboxStatus status;
+    private int attempts;
+    private LocalDateTime nextAttemptAt;
+    private String lastError;
+
+    public OrderDataOutbox(long id, long orderId, long userId, int totalAmount, int discountAmount,
+                           int finalAmount, LocalDateTime completedAt, OutboxStatus status, int attempts,
+                           LocalDateTime nextAttemptAt, String lastError) {
+        validateOutbox(id, orderId, userId, completedAt, status, attempts, nextAttemptAt);
+        this.id = id;
+        this.orderId = orderId;
+        this.userId = userId;
+        this.totalAmount = totalAmount;
+        this.discountAmount = discountAmount;
+        this.finalAmount = finalAmount;
+        this.completedAt = completedAt;
+        this.status = status;
+        this.attempts = attempts;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = lastError;
+    }
+
+    /**
+     * 결제 완료된 주문의 전송 대기 기록 생성 (바로 전송 대상)
+     */
+    public static OrderDataOutbox pending(long id, Order order, LocalDateTime completedAt) {
+        return new OrderDataOutbox(id, order.getId(), order.getUserId(), order.getTotalAmount(),
+                order.getDiscountAmount(), order.getFinalAmount(), completedAt,
+                OutboxStatus.PENDING, 0, completedAt, null);
+    }
+
+    private void validateOutbox(long id, long orderId, long userId, LocalDateTime completedAt,
+                                OutboxStatus status, int attempts, LocalDateTime nextAttemptAt) {
+        if (id <= 0) {
+            throw new InvalidInputException("아웃박스 ID는 0보다 커야 합니다");
+        }
+        if (orderId <= 0) {
+            throw new InvalidInputException("주문 ID는 0보다 커야 합니다");
+        }
+        if (userId <= 0) {
+            throw new InvalidInputException("사용자 ID는 0보다 커야 합니다");
+        }
+        if (completedAt == null || nextAttemptAt == null) {
+            throw new InvalidInputException("완료일시와 다음 시도일시는 필수입니다");
+        }
+        if (status == null) {
+            throw new InvalidInputException("전송 상태는 필수입니다");
+        }
+        if (attempts < 0) {
+            throw new InvalidInputException("시도 횟수는 0 이상이어야 합니다");
+        }
+    }
+
+    /**
+     * 전송 대상 여부 확인 (대기 상태이고 다음 시도 시각이 지남)
+     */
+    public boolean isDue(LocalDateTime now) {
+        return status == OutboxStatus.PENDING && !nextAttemptAt.isAfter(now);
+    }
+
+    /**
+     * 전송 중 표시 (임대 만료 전까지 다른 전송기가 다시 가져가지 않도록 다음 시도 시각을 미룸)
+     */
+    public void leaseUntil(LocalDateTime leaseUntil) {
+        this.nextAttemptAt = leaseUntil;
+    }
+
+    /**
+     * 전송 성공 처리
+     */
+    public void markPublished() {
+        this.attempts++;
+        this.status = OutboxStatus.PUBLISHED;
+        this.lastError = null;
+    }
+
+    /**
+     * 전송 실패 후 재시도 예약
+     */
+    public void retryAt(LocalDateTime nextAttemptAt, String error) {
+        this.attempts++;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = truncate(error);
+    }
+
+    /**
+     * 전송 실패 후 재시도 포기 (dead letter)
+     */
+    public void markDead(String error) {
+        this.attempts++;
+        this.status = OutboxStatus.DEAD;
+        this.lastError = truncate(error);
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public long getOrderId() {
+        return orderId;
+    }
+
+    public long getUserId() {
+        return userId;
+    }
+
+    public int getTotalAmount() {
+        return totalAmount;
+    }
+
+    public int getDiscountAmount() {
+        return discountAmount;
+    }
+
+    public int getFinalAmount() {
+        return finalAmount;
+    }
+
+    public LocalDateTime getCompletedAt() {
+        return completedAt;
+    }
+
+    public OutboxStatus getStatus() {
+        return status;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public String getLastError() {
+        return lastError;
+    }
+}
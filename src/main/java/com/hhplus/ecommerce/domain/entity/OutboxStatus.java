@@ -0,0 +1,10 @@
+package com.hhplus.ecommerce.domain.entity;
+
+/**
+ * 아웃박스 전송 상태 enum
+ */
+public enum OutboxStatus {
+    PENDING,    // 전송 대기 (재시도 포함)
+    PUBLISHED,  // 전송 완료
+    DEAD        // 재시도 한도 초과로 전송 포기 (수동 확인 대상)
+}
@@ -4,24 +4,76 @@ import com.hhplus.ecommerce.common.exception.InvalidInputException;
 import com.hhplus.ecommerce.domain.exception.InsufficientStockException;
 import com.hhplus.ecommerce.domain.exception.OutOfStockException;
 
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
 /**
  * 상품 도메인 모델
  * - 재고 관리 핵심 비즈니스 로직
  * - 프레임워크와 독립적인 순수 POJO
+ * - 재고는 CAS(compare-and-set)로 갱신되어 락 없이도 원자적으로 차감/복구
+ * - 주문이 몰리는 상품은 재고를 여러 하위 카운터로 나눠(withStockShards) CAS 경합을 분산 가능
+ *   (나눈 재고의 수량 조회는 하위 카운터의 합계)
+ * - version은 저장소에서 읽은 시점의 버전 (낙관적 락 저장 시 비교)
  */
 public class Product {
 
+    private static final VarHandle STOCK_QUANTITY;
+
+    static {
+        try {
+            STOCK_QUANTITY = MethodHandles.lookup()
+                    .findVarHandle(Product.class, "stockQuantity", int.class);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
     private final long id;
     private final String name;
     private final int price;
-    private int stockQuantity;
+    private volatile int stockQuantity;
+    private final long version;
+
+    /**
+     * 나눈 재고 (null이면 stockQuantity 하나로 관리)
+     */
+    private final ShardedStock shardedStock;
 
     public Product(long id, String name, int price, int stockQuantity) {
+        this(id, name, price, stockQuantity, 0);
+    }
+
+    public Product(long id, String name, int price, int stockQuantity, long version) {
         validateProduct(id, name, price, stockQuantity);
         this.id = id;
         this.name = name;
         this.price = price;
         this.stockQuantity = stockQuantity;
+        this.version = version;
+        this.shardedStock = null;
+    }
+
+    private Product(Product product, int shardCount) {
+        this.id = product.id;
+        this.name = product.name;
+        this.price = product.price;
+        this.version = product.version;
+        this.shardedStock = new ShardedStock(shardCount, product.getStockQuantity());
+    }
+
+    /**
+     * 현재 재고를 shardCount개의 하위 카운터로 나눈 상품 (1 이하면 나누지 않은 상품)
+     * - 다른 스레드와 공유하기 전에 변환해야 함 (변환 중의 재고 변경은 반영되지 않음)
+     */
+    public Product withStockShards(int shardCount) {
+        if (shardCount == getStockShardCount()) {
+            return this;
+        }
+        if (shardCount <= 1) {
+            return new Product(id, name, price, getStockQuantity(), version);
+        }
+        return new Product(this, shardCount);
     }
 
     private void validateProduct(long id, String name, int price, int stockQuantity) {
@@ -41,18 +93,50 @@ public class Product {
 
     /**
      * 재고 차감
+     * - 읽은 재고가 그대로일 때만 차감하고, 다른 스레드가 먼저 바꿨다면 다시 시도
      */
     public void decreaseStock(int quantity) {
         if (quantity <= 0) {
             throw new InvalidInputException("차감할 수량은 0보다 커야 합니다");
         }
-        if (isOutOfStock()) {
-            throw new OutOfStockException();
+        if (shardedStock != null) {
+            if (!shardedStock.tryDecrease(quantity)) {
+                throw shardedStock.sum() == 0 ? new OutOfStockException() : new InsufficientStockException();
+            }
+            return;
+        }
+        int current;
+        do {
+            current = this.stockQuantity;
+            if (current == 0) {
+                throw new OutOfStockException();
+            }
+            if (current < quantity) {
+                throw new InsufficientStockException();
+            }
+        } while (!STOCK_QUANTITY.compareAndSet(this, current, current - quantity));
+    }
+
+    /**
+     * 재고가 충분할 때만 차감
+     *
+     * @return 차감했으면 true, 재고가 부족하면 false
+     */
+    public boolean tryDecreaseStock(int quantity) {
+        if (quantity <= 0) {
+            throw new InvalidInputException("차감할 수량은 0보다 커야 합니다");
         }
-        if (!hasEnoughStock(quantity)) {
-            throw new InsufficientStockException();
+        if (shardedStock != null) {
+            return shardedStock.tryDecrease(quantity);
         }
-        this.stockQuantity -= quantity;
+        int current;
+        do {
+            current = this.stockQuantity;
+            if (current < quantity) {
+                return false;
+            }
+        } while (!STOCK_QUANTITY.compareAndSet(this, current, current - quantity));
+        return true;
     }
 
     /**
@@ -62,21 +146,25 @@ public class Product {
         if (quantity <= 0) {
             throw new InvalidInputException("복구할 수량은 0보다 커야 합니다");
         }
-        this.stockQuantity += quantity;
+        if (shardedStock != null) {
+            shardedStock.increase(quantity);
+            return;
+        }
+        STOCK_QUANTITY.getAndAdd(this, quantity);
     }
 
     /**
      * 재고 확인
      */
     public boolean hasEnoughStock(int quantity) {
-        return this.stockQuantity >= quantity;
+        return getStockQuantity() >= quantity;
     }
 
     /**
      * 재고 소진 여부
      */
     public boolean isOutOfStock() {
-        return this.stockQuantity == 0;
+        return getStockQuantity() == 0;
     }
 
     public long getId() {
@@ -92,6 +180,17 @@ public class Product {
     }
 
     public int getStockQuantity() {
-        return stockQuantity;
+        return shardedStock != null ? shardedStock.sum() : stockQuantity;
+    }
+
+    /**
+     * 재고 하위 카운터 수 (나누지 않았으면 1)
+     */
+    public int getStockShardCount() {
+        return shardedStock != null ? shardedStock.getShardCount() : 1;
+    }
+
+    public long getVersion() {
+        return version;
     }
 }
@@ -0,0 +1,104 @@
+package com.hhplus.ecommerce.domain.entity;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 여러 하위 카운터(shard)로 나눈 재고
+ * - 인기 상품 하나에 몰리는 차감을 shard별 CAS로 분산 (한 셀에서 CAS가 계속 실패하며 재시도하는 것을 방지)
+ * - 차감은 임의의 shard에서 시작해 이웃 shard로 넘어가며 한 shard에서 전량 차감을 시도
+ * - 어느 shard도 혼자 부족하면 모든 shard를 한곳으로 모아(consolidate) 다시 시도
+ *   (모으기는 직렬화되고 남은 재고를 모두 보므로, 합계가 충분한데 실패하는 경우는 없음)
+ * - 모으기 순서 대기는 ReentrantLock으로 하여, 품절 직전 몰린 요청이 가상 스레드의 carrier를 고정하지 않음
+ * - 합계는 조회할 때마다 shard를 더해 계산 (동시 변경 중에는 근사값)
+ * - shard마다 캐시 라인을 따로 쓰도록 간격을 두고 배치
+ */
+final class ShardedStock {
+
+    /**
+     * shard 간 간격 (int 16개 = 64바이트, false sharing 방지)
+     */
+    private static final int STRIDE = 16;
+
+    private final int shardCount;
+    private final AtomicIntegerArray cells;
+    private final ReentrantLock consolidateLock = new ReentrantLock();
+
+    ShardedStock(int shardCount, int stockQuantity) {
+        this.shardCount = shardCount;
+        this.cells = new AtomicIntegerArray(shardCount * STRIDE);
+        distribute(stockQuantity);
+    }
+
+    boolean tryDecrease(int quantity) {
+        int start = ThreadLocalRandom.current().nextInt(shardCount);
+        for (int i = 0; i < shardCount; i++) {
+            if (tryDecreaseShard((start + i) % shardCount, quantity)) {
+                return true;
+            }
+        }
+        return consolidateAndDecrease(quantity);
+    }
+
+    void increase(int quantity) {
+        cells.getAndAdd(ThreadLocalRandom.current().nextInt(shardCount) * STRIDE, quantity);
+    }
+
+    int sum() {
+        int sum = 0;
+        for (int shard = 0; shard < shardCount; shard++) {
+            sum += cells.get(shard * STRIDE);
+        }
+        return sum;
+    }
+
+    int getShardCount() {
+        return shardCount;
+    }
+
+    private boolean tryDecreaseShard(int shard, int quantity) {
+        int index = shard * STRIDE;
+        int current;
+        do {
+            current = cells.get(index);
+            if (current < quantity) {
+                return false;
+            }
+        } while (!cells.compareAndSet(index, current, current - quantity));
+        return true;
+    }
+
+    /**
+     * 모든 shard를 비워 합친 뒤 차감하고, 남은 재고를 다시 고르게 분배
+     * - 모으는 동안 다른 요청은 빈 shard를 보고 이 메서드로 들어와 순서를 기다림
+     */
+    private boolean consolidateAndDecrease(int quantity) {
+        consolidateLock.lock();
+        try {
+            int total = 0;
+            for (int shard = 0; shard < shardCount; shard++) {
+                total += cells.getAndSet(shard * STRIDE, 0);
+            }
+            boolean decreased = total >= quantity;
+            if (decreased) {
+                total -= quantity;
+            }
+            distribute(total);
+            return decreased;
+        } finally {
+            consolidateLock.unlock();
+        }
+    }
+
+    private void distribute(int stockQuantity) {
+        int share = stockQuantity / shardCount;
+        int remainder = stockQuantity % shardCount;
+        for (int shard = 0; shard < shardCount; shard++) {
+            int amount = share + (shard < remainder ? 1 : 0);
+            if (amount > 0) {
+                cells.getAndAdd(shard * STRIDE, amount);
+            }
+        }
+    }
+}
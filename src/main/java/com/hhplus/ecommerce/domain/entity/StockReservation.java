@@ -0,0 +1,74 @@
+package com.hhplus.ecommerce.domain.entity;
+
+import com.hhplus.ecommerce.common.exception.InvalidInputException;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 예약 도메인 모델
+ * - 주문 생성 시 상품별로 잡아둔 재고 (결제 전까지 다른 주문에 팔리지 않음)
+ * - 결제되면 확정(예약 삭제, 재고는 그대로), 만료되면 해제(예약 삭제 후 재고 복구)
+ * - 프레임워크와 독립적인 순수 POJO
+ */
+public class StockReservation {
+
+    private final long id;
+    private final long orderId;
+    private final long productId;
+    private final int quantity;
+    private final LocalDateTime expiresAt;
+
+    public StockReservation(long id, long orderId, long productId, int quantity, LocalDateTime expiresAt) {
+        validateReservation(id, orderId, productId, quantity, expiresAt);
+        this.id = id;
+        this.orderId = orderId;
+        this.productId = productId;
+        this.quantity = quantity;
+        this.expiresAt = expiresAt;
+    }
+
+    private void validateReservation(long id, long orderId, long productId, int quantity, LocalDateTime expiresAt) {
+        if (id <= 0) {
+            throw new InvalidInputException("재고 예약 ID는 0보다 커야 합니다");
+        }
+        if (orderId <= 0) {
+            throw new InvalidInputException("주문 ID는 0보다 커야 합니다");
+        }
+        if (productId <= 0) {
+            throw new InvalidInputException("상품 ID는 0보다 커야 합니다");
+        }
+        if (quantity <= 0) {
+            throw new InvalidInputException("예약 수량은 0보다 커야 합니다");
+        }
+        if (expiresAt == null) {
+            throw new InvalidInputException("만료일시는 필수입니다");
+        }
+    }
+
+    /**
+     * 만료 여부 확인
+     */
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public long getOrderId() {
+        return orderId;
+    }
+
+    public long getProductId() {
+        return productId;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public LocalDateTime getExpiresAt() {
+        return expiresAt;
+    }
+}
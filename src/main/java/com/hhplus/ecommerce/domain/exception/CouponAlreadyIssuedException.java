@@ -0,0 +1,11 @@
+package com.hhplus.ecommerce.domain.exception;
+
+import com.hhplus.ecommerce.common.exception.BusinessException;
+import com.hhplus.ecommerce.common.exception.ErrorCode;
+
+public class CouponAlreadyIssuedException extends BusinessException {
+
+    public CouponAlreadyIssuedException() {
+        super(ErrorCode.COUPON_ALREADY_ISSUED);
+    }
+}
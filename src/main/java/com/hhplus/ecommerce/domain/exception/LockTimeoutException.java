@@ -0,0 +1,11 @@
+package com.hhplus.ecommerce.domain.exception;
+
+import com.hhplus.ecommerce.common.exception.BusinessException;
+import com.hhplus.ecommerce.common.exception.ErrorCode;
+
+public class LockTimeoutException extends BusinessException {
+
+    public LockTimeoutException() {
+        super(ErrorCode.LOCK_TIMEOUT);
+    }
+}
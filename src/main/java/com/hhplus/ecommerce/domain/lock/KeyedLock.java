@@ -0,0 +1,38 @@
+package com.hhplus.ecommerce.domain.lock;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 키 단위 락
+ * - namespace + key(SpEL) 조합으로 락을 획득
+ * - 예: {@code @KeyedLock(namespace = "coupon", key = "#couponId")}
+ * - waitMillis 내에 락을 얻지 못하면 LockTimeoutException
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface KeyedLock {
+
+    /**
+     * 락 구분 공간 (coupon, user 등)
+     */
+    String namespace();
+
+    /**
+     * 락 키 SpEL 표현식 (메서드 파라미터 참조: #파라미터명)
+     */
+    String key();
+
+    /**
+     * 락 획득 최대 대기 시간 (밀리초)
+     */
+    long waitMillis() default 3000L;
+
+    /**
+     * 공정 락 여부 (대기 순서대로 획득, 처리량은 감소)
+     * - 같은 키의 락이 이미 생성되어 있으면 기존 설정을 따름
+     */
+    boolean fair() default false;
+}
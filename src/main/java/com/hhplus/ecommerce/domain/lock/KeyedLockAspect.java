@@ -0,0 +1,84 @@
+package com.hhplus.ecommerce.domain.lock;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.context.expression.MethodBasedEvaluationContext;
+import org.springframework.core.DefaultParameterNameDiscoverer;
+import org.springframework.core.Ordered;
+import org.springframework.core.ParameterNameDiscoverer;
+import org.springframework.expression.Expression;
+import org.springframework.expression.ExpressionParser;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * @KeyedLock 어노테이션이 붙은 메서드에 키 단위 락을 적용하는 Aspect
+ *
+ * <p>어노테이션의 key(SpEL)를 메서드 인자로 평가하여 락 키를 결정하고,
+ * KeyedLockRegistry에서 namespace + key 조합의 락을 획득합니다.
+ *
+ * <p>동작 방식:
+ * <ul>
+ *   <li>같은 키에 대한 동시 호출은 순차적으로 처리</li>
+ *   <li>다른 키에 대한 호출은 병렬로 처리</li>
+ *   <li>파싱된 SpEL 표현식은 캐시하여 재사용</li>
+ *   <li>트랜잭션보다 바깥에서 동작하여, 커밋이 끝난 뒤에 락을 해제</li>
+ * </ul>
+ */
+@Aspect
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+public class KeyedLockAspect {
+
+    private final KeyedLockRegistry lockRegistry;
+    private final ExpressionParser parser = new SpelExpressionParser();
+    private final ParameterNameDiscoverer parameterNameDiscoverer = new DefaultParameterNameDiscoverer();
+    private final Map<String, Expression> expressions = new ConcurrentHashMap<>();
+
+    public KeyedLockAspect(KeyedLockRegistry lockRegistry) {
+        this.lockRegistry = lockRegistry;
+    }
+
+    /**
+     * @KeyedLock 어노테이션이 붙은 메서드를 intercept하여 락을 적용합니다.
+     *
+     * @param joinPoint 메서드 실행 정보
+     * @param keyedLock 어노테이션 설정
+     * @return 메서드 실행 결과
+     * @throws Throwable 메서드 실행 중 발생한 예외
+     */
+    @Around("@annotation(keyedLock)")
+    public Object applyKeyedLock(ProceedingJoinPoint joinPoint, KeyedLock keyedLock) throws Throwable {
+        Object key = resolveKey(joinPoint, keyedLock);
+
+        KeyedLockRegistry.LockHandle handle = lockRegistry.lock(
+                keyedLock.namespace(), key, keyedLock.waitMillis(), keyedLock.fair());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            handle.unlock();
+        }
+    }
+
+    private Object resolveKey(ProceedingJoinPoint joinPoint, KeyedLock keyedLock) {
+        MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+        MethodBasedEvaluationContext context = new MethodBasedEvaluationContext(
+                null, signature.getMethod(), joinPoint.getArgs(), parameterNameDiscoverer);
+
+        Object key = expressions
+                .computeIfAbsent(keyedLock.key(), parser::parseExpression)
+                .getValue(context);
+        if (key == null) {
+            throw new IllegalStateException(
+                "@KeyedLock key '" + keyedLock.key() + "' evaluated to null on " + signature.getName()
+            );
+        }
+        return key;
+    }
+}
@@ -0,0 +1,196 @@
+package com.hhplus.ecommerce.domain.lock;
+
+import com.hhplus.ecommerce.domain.exception.LockTimeoutException;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 키 단위 락 저장소
+ *
+ * <p>namespace별로 키에 해당하는 ReentrantLock을 관리합니다.
+ *
+ * <p>동작 방식:
+ * <ul>
+ *   <li>락을 사용 중이거나 기다리는 스레드 수를 참조 카운트로 관리</li>
+ *   <li>참조 카운트가 0이 되면 즉시 테이블에서 제거하여, 한 번 사용된 키가 계속 남지 않음</li>
+ *   <li>참조 카운트 증감은 ConcurrentHashMap.compute 안에서 처리하여 제거와 획득이 경합하지 않음</li>
+ *   <li>namespace별 대기 시간, 보유 시간, 대기 스레드 수를 집계</li>
+ * </ul>
+ */
+@Component
+public class KeyedLockRegistry {
+
+    private final Map<String, Namespace> namespaces = new ConcurrentHashMap<>();
+
+    /**
+     * 락 획득
+     *
+     * @param namespace  락 구분 공간
+     * @param key        락 키
+     * @param waitMillis 최대 대기 시간 (밀리초)
+     * @param fair       공정 락 여부 (락이 새로 생성될 때만 적용)
+     * @return 락 해제용 핸들
+     * @throws LockTimeoutException 대기 시간 내에 락을 얻지 못한 경우
+     */
+    public LockHandle lock(String namespace, Object key, long waitMillis, boolean fair) {
+        Namespace ns = namespaces.computeIfAbsent(namespace, Namespace::new);
+        Entry entry = ns.retain(key, fair);
+
+        long waitStart = System.nanoTime();
+        ns.waiting.incrementAndGet();
+        boolean acquired;
+        try {
+            acquired = entry.lock.tryLock(waitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            acquired = false;
+        } finally {
+            ns.waiting.decrementAndGet();
+        }
+        long acquiredAt = System.nanoTime();
+        ns.recordWait(acquiredAt - waitStart);
+
+        if (!acquired) {
+            ns.timeouts.increment();
+            ns.release(key);
+            throw new LockTimeoutException();
+        }
+        ns.acquisitions.increment();
+        return new LockHandle(ns, key, entry, acquiredAt);
+    }
+
+    /**
+     * namespace별 락 지표 조회
+     */
+    public LockMetrics getMetrics(String namespace) {
+        Namespace ns = namespaces.get(namespace);
+        if (ns == null) {
+            return new LockMetrics(namespace, 0, 0, 0, 0, 0, 0, 0, 0);
+        }
+        return ns.snapshot();
+    }
+
+    /**
+     * 지표가 집계된 namespace 목록
+     */
+    public Set<String> getNamespaces() {
+        return Set.copyOf(namespaces.keySet());
+    }
+
+    /**
+     * 락 해제 핸들
+     */
+    public static final class LockHandle {
+
+        private final Namespace namespace;
+        private final Object key;
+        private final Entry entry;
+        private final long acquiredAt;
+
+        private LockHandle(Namespace namespace, Object key, Entry entry, long acquiredAt) {
+            this.namespace = namespace;
+            this.key = key;
+            this.entry = entry;
+            this.acquiredAt = acquiredAt;
+        }
+
+        /**
+         * 락 해제 및 보유 시간 기록
+         */
+        public void unlock() {
+            namespace.recordHold(System.nanoTime() - acquiredAt);
+            entry.lock.unlock();
+            namespace.release(key);
+        }
+    }
+
+    /**
+     * namespace별 락 지표 스냅샷
+     *
+     * @param activeKeys   현재 테이블에 남아있는 락 수
+     * @param waiting      현재 락을 기다리는 스레드 수
+     */
+    public record LockMetrics(
+            String namespace,
+            long acquisitions,
+            long timeouts,
+            long totalWaitNanos,
+            long maxWaitNanos,
+            long totalHoldNanos,
+            long maxHoldNanos,
+            int waiting,
+            int activeKeys
+    ) {}
+
+    private static final class Entry {
+
+        private final ReentrantLock lock;
+        private int references;
+
+        private Entry(boolean fair) {
+            this.lock = new ReentrantLock(fair);
+        }
+    }
+
+    private static final class Namespace {
+
+        private final String name;
+        private final Map<Object, Entry> entries = new ConcurrentHashMap<>();
+
+        private final LongAdder acquisitions = new LongAdder();
+        private final LongAdder timeouts = new LongAdder();
+        private final LongAdder totalWaitNanos = new LongAdder();
+        private final LongAdder totalHoldNanos = new LongAdder();
+        private final LongAccumulator maxWaitNanos = new LongAccumulator(Math::max, 0);
+        private final LongAccumulator maxHoldNanos = new LongAccumulator(Math::max, 0);
+        private final AtomicInteger waiting = new AtomicInteger();
+
+        private Namespace(String name) {
+            this.name = name;
+        }
+
+        private Entry retain(Object key, boolean fair) {
+            return entries.compute(key, (k, entry) -> {
+                Entry target = (entry != null) ? entry : new Entry(fair);
+                target.references++;
+                return target;
+            });
+        }
+
+        private void release(Object key) {
+            entries.computeIfPresent(key, (k, entry) -> --entry.references == 0 ? null : entry);
+        }
+
+        private void recordWait(long nanos) {
+            totalWaitNanos.add(nanos);
+            maxWaitNanos.accumulate(nanos);
+        }
+
+        private void recordHold(long nanos) {
+            totalHoldNanos.add(nanos);
+            maxHoldNanos.accumulate(nanos);
+        }
+
+        private LockMetrics snapshot() {
+            return new LockMetrics(
+                    name,
+                    acquisitions.sum(),
+                    timeouts.sum(),
+                    totalWaitNanos.sum(),
+                    maxWaitNanos.get(),
+                    totalHoldNanos.sum(),
+                    maxHoldNanos.get(),
+                    waiting.get(),
+                    entries.size()
+            );
+        }
+    }
+}
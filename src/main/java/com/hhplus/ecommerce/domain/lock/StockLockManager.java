@@ -0,0 +1,103 @@
+package com.hhplus.ecommerce.domain.lock;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 상품별 재고 락 관리자
+ *
+ * <p>주문에 포함된 상품에 대해서만 락을 획득하여,
+ * 서로 다른 상품을 주문하는 요청은 병렬로 처리되도록 합니다.
+ *
+ * <p>동작 방식:
+ * <ul>
+ *   <li>고정 크기의 락 배열(스트라이프)을 사용하여 상품 수가 늘어나도 메모리가 증가하지 않음</li>
+ *   <li>상품 ID는 해시를 통해 하나의 스트라이프에 매핑</li>
+ *   <li>여러 상품을 주문하는 경우 상품 ID 정렬 후 스트라이프 인덱스 오름차순으로 획득하여 데드락 방지</li>
+ *   <li>같은 스트라이프에 매핑된 상품들은 한 번만 락을 획득</li>
+ * </ul>
+ */
+@Component
+public class StockLockManager {
+
+    private static final int DEFAULT_STRIPES = 1024;
+
+    private final ReentrantLock[] stripes;
+    private final int mask;
+
+    public StockLockManager() {
+        this(DEFAULT_STRIPES);
+    }
+
+    /**
+     * @param stripeCount 스트라이프 개수 (2의 거듭제곱으로 올림)
+     */
+    public StockLockManager(int stripeCount) {
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("stripeCount must be positive");
+        }
+        int size = 1;
+        while (size < stripeCount) {
+            size <<= 1;
+        }
+        this.stripes = new ReentrantLock[size];
+        for (int i = 0; i < size; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.mask = size - 1;
+    }
+
+    /**
+     * 주어진 상품들의 락을 모두 획득한 상태에서 작업을 실행합니다.
+     *
+     * @param productIds 락을 획득할 상품 ID 목록 (중복 허용)
+     * @param action     락 보유 중 실행할 작업
+     * @return 작업 실행 결과
+     */
+    public <T> T executeWithLock(Collection<Long> productIds, Supplier<T> action) {
+        int[] indexes = stripeIndexes(productIds);
+
+        int acquired = 0;
+        try {
+            for (int index : indexes) {
+                stripes[index].lock();
+                acquired++;
+            }
+            return action.get();
+        } finally {
+            for (int i = acquired - 1; i >= 0; i--) {
+                stripes[indexes[i]].unlock();
+            }
+        }
+    }
+
+    /**
+     * 스트라이프 개수
+     */
+    public int getStripeCount() {
+        return stripes.length;
+    }
+
+    /**
+     * 상품 ID 목록을 중복 없는 스트라이프 인덱스로 변환 (오름차순)
+     * - 서로 다른 상품이 같은 스트라이프를 공유할 수 있으므로
+     *   실제 획득 순서는 스트라이프 인덱스 기준으로 고정
+     */
+    private int[] stripeIndexes(Collection<Long> productIds) {
+        return productIds.stream()
+                .mapToLong(Long::longValue)
+                .sorted()
+                .mapToInt(this::stripeOf)
+                .sorted()
+                .distinct()
+                .toArray();
+    }
+
+    int stripeOf(long productId) {
+        long h = productId * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32)) & mask;
+    }
+}
@@ -17,11 +17,21 @@ public interface CouponRepository {
      */
     Optional<Coupon> findById(Long couponId);
 
+    /**
+     * 쿠폰 조회 (비관적 쓰기 락, 트랜잭션 종료 시 해제)
+     */
+    Optional<Coupon> findByIdForUpdate(Long couponId);
+
     /**
      * 사용자 쿠폰 목록 조회
      */
     List<UserCoupon> findByUserId(Long userId);
 
+    /**
+     * 특정 쿠폰으로 발급된 사용자 쿠폰 목록 조회
+     */
+    List<UserCoupon> findByCouponId(Long couponId);
+
     /**
      * 사용자 쿠폰 조회
      */
@@ -32,8 +42,24 @@ public interface CouponRepository {
      */
     UserCoupon saveUserCoupon(UserCoupon userCoupon);
 
+    /**
+     * 사용자 쿠폰 일괄 발급
+     *
+     * @throws com.hhplus.ecommerce.domain.exception.CouponAlreadyIssuedException
+     *         같은 쿠폰을 이미 발급받은 사용자가 포함된 경우 (아무것도 저장하지 않음)
+     */
+    List<UserCoupon> saveUserCoupons(List<UserCoupon> userCoupons);
+
     /**
      * 쿠폰 저장 (발급 수량 업데이트)
      */
     Coupon saveCoupon(Coupon coupon);
+
+    /**
+     * 남은 수량이 충분할 때만 발급된 수량 증가 (조건부 UPDATE)
+     * - 조회 후 저장이 아니라 현재 값에 더하므로 여러 인스턴스가 동시에 발급해도 수량을 덮어쓰지 않음
+     *
+     * @return 증가시켰으면 true, 남은 수량이 부족하거나 쿠폰이 없으면 false
+     */
+    boolean tryIncreaseIssuedQuantity(Long couponId, int quantity);
 }
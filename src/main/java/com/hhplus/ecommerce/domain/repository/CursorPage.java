@@ -0,0 +1,16 @@
+package com.hhplus.ecommerce.domain.repository;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 조회 결과
+ *
+ * @param items      조회된 항목
+ * @param nextCursor 다음 페이지 커서 (마지막 페이지면 null)
+ */
+public record CursorPage<T>(List<T> items, String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
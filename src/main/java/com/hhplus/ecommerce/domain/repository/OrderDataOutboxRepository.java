@@ -0,0 +1,36 @@
+package com.hhplus.ecommerce.domain.repository;
+
+import com.hhplus.ecommerce.domain.entity.OrderDataOutbox;
+import com.hhplus.ecommerce.domain.entity.OutboxStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 데이터 전송 아웃박스 리포지토리 인터페이스
+ * - 도메인 레이어에 위치하여 인프라스트럭처 독립성 유지
+ */
+public interface OrderDataOutboxRepository {
+
+    /**
+     * 전송 대기 기록 저장 (결제 트랜잭션 안에서 호출)
+     */
+    OrderDataOutbox save(OrderDataOutbox outbox);
+
+    /**
+     * 전송할 기록을 다음 시도 시각 순으로 가져가고 leaseUntil까지 임대
+     * - 다른 전송기(다른 인스턴스)가 잡고 있는 행은 기다리지 않고 건너뜀
+     * - 임대 중 전송기가 멈추면 임대 만료 후 다시 전송 대상이 됨
+     */
+    List<OrderDataOutbox> claimDue(LocalDateTime now, LocalDateTime leaseUntil, int limit);
+
+    /**
+     * 전송 결과(상태, 시도 횟수, 다음 시도 시각, 오류) 일괄 반영
+     */
+    void saveAll(List<OrderDataOutbox> outboxes);
+
+    /**
+     * 상태별 기록 수 (전송 대기/포기 건수 모니터링)
+     */
+    long countByStatus(OutboxStatus status);
+}
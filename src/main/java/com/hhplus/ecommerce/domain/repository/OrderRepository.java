@@ -21,6 +21,14 @@ public interface OrderRepository {
      */
     List<Order> findByUserId(Long userId, int page, int size);
 
+    /**
+     * 사용자의 주문 목록 조회 (커서 기반, 최신순)
+     * - OFFSET 없이 커서의 마지막 주문 다음부터 조회하므로 뒤쪽 페이지도 조회 비용이 같음
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     */
+    CursorPage<Order> findByUserIdAfter(Long userId, String cursor, int size);
+
     /**
      * 사용자의 전체 주문 수 조회
      */
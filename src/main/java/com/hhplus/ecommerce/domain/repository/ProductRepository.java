@@ -2,7 +2,9 @@ package com.hhplus.ecommerce.domain.repository;
 
 import com.hhplus.ecommerce.domain.entity.Product;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -16,23 +18,74 @@ public interface ProductRepository {
      */
     Optional<Product> findById(Long productId);
 
+    /**
+     * 상품 일괄 조회 (없는 상품은 결과에서 제외)
+     */
+    List<Product> findAllById(Collection<Long> productIds);
+
+    /**
+     * 상품 조회 (비관적 쓰기 락, 트랜잭션 종료 시 해제)
+     */
+    Optional<Product> findByIdForUpdate(Long productId);
+
     /**
      * 상품 목록 조회 (페이징)
      */
     List<Product> findAll(int page, int size, String search);
 
     /**
-     * 전체 상품 수 조회
+     * 상품 목록 조회 (커서 기반, ID 오름차순)
+     * - OFFSET 없이 커서의 마지막 상품 ID 다음부터 조회하므로 뒤쪽 페이지도 조회 비용이 같음
+     *
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
      */
-    long count(String search);
+    CursorPage<Product> findAllAfter(String cursor, int size, String search);
 
     /**
-     * 인기 상품 조회 (최근 판매량 기준)
+     * 전체 상품 수 조회
      */
-    List<Product> findTopSelling(int limit);
+    long count(String search);
 
     /**
      * 상품 저장 (재고 업데이트)
      */
     Product save(Product product);
+
+    /**
+     * 재고 저장 (낙관적 락, 조회 시점 이후 다른 변경이 없을 때만 반영)
+     *
+     * @return 반영했으면 true, 버전이 달라 반영하지 못했으면 false
+     */
+    boolean saveIfVersionMatches(Product product);
+
+    /**
+     * 재고가 충분할 때만 차감 (조건부 UPDATE)
+     *
+     * @return 차감했으면 true, 재고가 부족하거나 상품이 없으면 false
+     */
+    boolean tryDecreaseStock(Long productId, int quantity);
+
+    /**
+     * 여러 상품의 재고를 한 번에 조건부 차감 (하나라도 실패하면 아무것도 차감하지 않음)
+     *
+     * @param quantities 상품 ID별 차감 수량
+     * @return 재고가 부족하거나 상품이 없어 차감하지 못한 상품 ID (모두 성공하면 빈 목록)
+     */
+    List<Long> tryDecreaseStocks(Map<Long, Integer> quantities);
+
+    /**
+     * 여러 상품의 재고를 한 번에 복구 (만료된 재고 예약 해제)
+     * - 조회 후 저장이 아니라 현재 재고에 더하므로 동시에 진행 중인 차감과 충돌하지 않음
+     *
+     * @param quantities 상품 ID별 복구 수량 (없는 상품은 무시)
+     */
+    void increaseStocks(Map<Long, Integer> quantities);
+
+    /**
+     * 재고 변경이 호출자의 DB 트랜잭션에 포함되는지 여부
+     * - false(인메모리 재고)면 트랜잭션이 롤백되어도 차감한 재고가 되돌아가지 않으므로 호출자가 직접 복구해야 함
+     */
+    default boolean isStockTransactional() {
+        return true;
+    }
 }
@@ -0,0 +1,31 @@
+package com.hhplus.ecommerce.domain.repository;
+
+import com.hhplus.ecommerce.domain.entity.StockReservation;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 재고 예약 리포지토리 인터페이스
+ * - 도메인 레이어에 위치하여 인프라스트럭처 독립성 유지
+ */
+public interface StockReservationRepository {
+
+    /**
+     * 예약 일괄 저장
+     */
+    List<StockReservation> saveAll(List<StockReservation> reservations);
+
+    /**
+     * 주문의 예약 삭제 (확정/해제)
+     * - 같은 주문을 동시에 확정/해제해도 한쪽만 예약을 가져가도록 삭제 대상 행을 잠그고 삭제
+     *
+     * @return 삭제한 예약, 이미 다른 쪽이 삭제했으면 빈 목록
+     */
+    List<StockReservation> deleteByOrderId(Long orderId);
+
+    /**
+     * 만료된 예약이 남아 있는 주문 ID 조회 (만료일시 순)
+     */
+    List<Long> findExpiredOrderIds(LocalDateTime now, int limit);
+}
@@ -15,6 +15,11 @@ public interface UserRepository {
      */
     Optional<User> findById(Long userId);
 
+    /**
+     * 사용자 조회 (비관적 쓰기 락, 트랜잭션 종료 시 해제)
+     */
+    Optional<User> findByIdForUpdate(Long userId);
+
     /**
      * 사용자 저장 (포인트 업데이트)
      */
@@ -0,0 +1,204 @@
+package com.hhplus.ecommerce.infrastructure.cache;
+
+import com.hhplus.ecommerce.domain.entity.Product;
+import com.hhplus.ecommerce.domain.repository.CursorPage;
+import com.hhplus.ecommerce.domain.repository.ProductRepository;
+import com.hhplus.ecommerce.infrastructure.cache.SegmentedLruCache.CacheMetrics;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 상품 조회 캐시 (ProductRepository 데코레이터)
+ * - 거의 바뀌지 않는 상품 정보(이름, 가격)와 자주 바뀌는 재고(수량, 버전)를 TTL이 다른 두 캐시에 따로 보관
+ * - 조회 시 두 캐시가 모두 적중하면 원본 저장소를 거치지 않고 새 Product를 조립하여 반환
+ *   (캐시된 값은 불변 스냅샷이므로 호출자가 Product 재고를 바꿔도 캐시에 영향 없음)
+ * - 이 저장소를 거친 쓰기는 즉시 무효화하고, 트랜잭션 안이면 완료 후 한 번 더 무효화
+ *   (커밋 전에 다른 스레드가 옛 값을 다시 적재하는 경우 대비)
+ * - 다른 인스턴스의 재고 변경은 재고 TTL 동안 늦게 보일 수 있음 (실제 차감은 원본 저장소의 조건부 UPDATE가 판정)
+ * - 락 조회(findByIdForUpdate)와 목록/개수 조회는 캐시를 거치지 않음
+ */
+public class CachingProductRepository implements ProductRepository {
+
+    private final ProductRepository delegate;
+    private final SegmentedLruCache<Long, ProductInfo> infoCache;
+    private final SegmentedLruCache<Long, StockSnapshot> stockCache;
+
+    public CachingProductRepository(ProductRepository delegate, int maximumSize,
+                                    Duration infoTtl, Duration stockTtl) {
+        this(delegate, new SegmentedLruCache<>(maximumSize, infoTtl), new SegmentedLruCache<>(maximumSize, stockTtl));
+    }
+
+    CachingProductRepository(ProductRepository delegate, SegmentedLruCache<Long, ProductInfo> infoCache,
+                             SegmentedLruCache<Long, StockSnapshot> stockCache) {
+        this.delegate = delegate;
+        this.infoCache = infoCache;
+        this.stockCache = stockCache;
+    }
+
+    @Override
+    public Optional<Product> findById(Long productId) {
+        Product cached = fromCache(productId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        long infoStamp = infoCache.stamp(productId);
+        long stockStamp = stockCache.stamp(productId);
+        Optional<Product> loaded = delegate.findById(productId);
+        loaded.ifPresent(product -> cache(product, infoStamp, stockStamp));
+        return loaded;
+    }
+
+    @Override
+    public List<Product> findAllById(Collection<Long> productIds) {
+        Map<Long, Product> found = new HashMap<>();
+        Map<Long, long[]> stamps = new HashMap<>();
+        Set<Long> missing = new LinkedHashSet<>();
+        for (Long productId : productIds) {
+            Product cached = fromCache(productId);
+            if (cached != null) {
+                found.put(productId, cached);
+            } else if (missing.add(productId)) {
+                stamps.put(productId, new long[]{infoCache.stamp(productId), stockCache.stamp(productId)});
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            for (Product product : delegate.findAllById(missing)) {
+                long[] stamp = stamps.get(product.getId());
+                cache(product, stamp[0], stamp[1]);
+                found.put(product.getId(), product);
+            }
+        }
+
+        List<Product> result = new ArrayList<>(found.size());
+        for (Long productId : new LinkedHashSet<>(productIds)) {
+            Product product = found.get(productId);
+            if (product != null) {
+                result.add(product);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<Product> findByIdForUpdate(Long productId) {
+        return delegate.findByIdForUpdate(productId);
+    }
+
+    @Override
+    public List<Product> findAll(int page, int size, String search) {
+        return delegate.findAll(page, size, search);
+    }
+
+    @Override
+    public CursorPage<Product> findAllAfter(String cursor, int size, String search) {
+        return delegate.findAllAfter(cursor, size, search);
+    }
+
+    @Override
+    public long count(String search) {
+        return delegate.count(search);
+    }
+
+    @Override
+    public Product save(Product product) {
+        Product saved = delegate.save(product);
+        evict(product.getId(), true);
+        return saved;
+    }
+
+    @Override
+    public boolean saveIfVersionMatches(Product product) {
+        boolean saved = delegate.saveIfVersionMatches(product);
+        evict(product.getId(), false);
+        return saved;
+    }
+
+    @Override
+    public boolean tryDecreaseStock(Long productId, int quantity) {
+        boolean decreased = delegate.tryDecreaseStock(productId, quantity);
+        evict(productId, false);
+        return decreased;
+    }
+
+    @Override
+    public List<Long> tryDecreaseStocks(Map<Long, Integer> quantities) {
+        List<Long> failed = delegate.tryDecreaseStocks(quantities);
+        quantities.keySet().forEach(productId -> evict(productId, false));
+        return failed;
+    }
+
+    @Override
+    public void increaseStocks(Map<Long, Integer> quantities) {
+        delegate.increaseStocks(quantities);
+        quantities.keySet().forEach(productId -> evict(productId, false));
+    }
+
+    @Override
+    public boolean isStockTransactional() {
+        return delegate.isStockTransactional();
+    }
+
+    public CacheMetrics getInfoCacheMetrics() {
+        return infoCache.getMetrics();
+    }
+
+    public CacheMetrics getStockCacheMetrics() {
+        return stockCache.getMetrics();
+    }
+
+    private Product fromCache(Long productId) {
+        ProductInfo info = infoCache.get(productId);
+        if (info == null) {
+            return null;
+        }
+        StockSnapshot stock = stockCache.get(productId);
+        if (stock == null) {
+            return null;
+        }
+        return new Product(productId, info.name(), info.price(), stock.stockQuantity(), stock.version());
+    }
+
+    private void cache(Product product, long infoStamp, long stockStamp) {
+        infoCache.putIfNotInvalidated(product.getId(), new ProductInfo(product.getName(), product.getPrice()), infoStamp);
+        stockCache.putIfNotInvalidated(product.getId(),
+                new StockSnapshot(product.getStockQuantity(), product.getVersion()), stockStamp);
+    }
+
+    /**
+     * 무효화 (재고만 바뀌는 쓰기는 상품 정보를 유지)
+     */
+    private void evict(Long productId, boolean includeInfo) {
+        invalidate(productId, includeInfo);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(productId, includeInfo);
+                }
+            });
+        }
+    }
+
+    private void invalidate(Long productId, boolean includeInfo) {
+        stockCache.invalidate(productId);
+        if (includeInfo) {
+            infoCache.invalidate(productId);
+        }
+    }
+
+    record ProductInfo(String name, int price) {}
+
+    record StockSnapshot(int stockQuantity, long version) {}
+}
@@ -0,0 +1,69 @@
+package com.hhplus.ecommerce.infrastructure.cache;
+
+import com.hhplus.ecommerce.infrastructure.cache.SegmentedLruCache.CacheMetrics;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * 목록 전체 개수(COUNT) 캐시
+ * - 원본 COUNT 결과를 TTL 동안 보관 (다른 인스턴스의 변경은 TTL이 지나야 반영)
+ * - 새 행이 커밋되면 보관 중인 개수를 1 증가시켜 다시 세지 않음
+ * - 보관 중인 개수가 없으면 증가 대신 무효화하여, 커밋 전에 시작한 COUNT 결과가 뒤늦게 적재되지 않도록 함
+ * - 쓰기 트랜잭션 안에서 센 개수는 롤백될 수 있는 변경을 포함하므로 적재하지 않음
+ */
+public class CountCache<K> {
+
+    private final SegmentedLruCache<K, Long> cache;
+
+    public CountCache(int maximumSize, Duration ttl) {
+        this.cache = new SegmentedLruCache<>(maximumSize, ttl);
+    }
+
+    /**
+     * 개수 조회 (보관 중인 값이 없으면 원본 COUNT 후 적재)
+     */
+    public long get(K key, LongSupplier counter) {
+        Long cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        long stamp = cache.stamp(key);
+        long count = counter.getAsLong();
+        if (!inWriteTransaction()) {
+            cache.putIfNotInvalidated(key, count, stamp);
+        }
+        return count;
+    }
+
+    /**
+     * 새 행 저장 반영 (트랜잭션 안이면 커밋 후 반영, 롤백되면 반영하지 않음)
+     */
+    public void increment(K key) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.updateOrInvalidate(key, count -> count + 1);
+                }
+            });
+            return;
+        }
+        cache.updateOrInvalidate(key, count -> count + 1);
+    }
+
+    public void invalidate(K key) {
+        cache.invalidate(key);
+    }
+
+    public CacheMetrics getMetrics() {
+        return cache.getMetrics();
+    }
+
+    private static boolean inWriteTransaction() {
+        return TransactionSynchronizationManager.isActualTransactionActive()
+                && !TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+    }
+}
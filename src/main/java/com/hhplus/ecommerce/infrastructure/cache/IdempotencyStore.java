@@ -0,0 +1,226 @@
+package com.hhplus.ecommerce.infrastructure.cache;
+
+import com.hhplus.ecommerce.common.exception.IdempotencyInProgressException;
+import com.hhplus.ecommerce.common.exception.IdempotencyKeyReusedException;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Idempotency-Key 요청 결과 저장소
+ * - 키마다 처음 온 요청 하나만 처리하고, 결과를 크기 제한 + TTL 캐시(SegmentedLruCache)에 보관하여 재시도에 그대로 돌려줌
+ * - 같은 키의 요청이 처리 중이면 새로 처리하지 않고 그 결과를 최대 대기 시간까지 기다림
+ *   (넘으면 IdempotencyInProgressException)
+ * - 같은 키에 다른 요청 내용(fingerprint)이 오면 IdempotencyKeyReusedException
+ * - 보관하지 않을 결과(cacheable이 false, 예: 서버 오류)나 예외로 끝난 처리는 저장하지 않고,
+ *   기다리던 요청 중 하나가 다시 처리 (재시도로 복구될 수 있는 실패)
+ * - 인스턴스 메모리에만 보관하므로 다른 인스턴스로 간 재시도는 막지 못함 (로드밸런서의 키 기반 라우팅 전제)
+ */
+public class IdempotencyStore<V> {
+
+    private final SegmentedLruCache<String, Completed<V>> completed;
+    private final Map<String, InFlight<V>> inFlight = new ConcurrentHashMap<>();
+    private final Predicate<V> cacheable;
+    private final long waitTimeoutMillis;
+
+    private final LongAdder executions = new LongAdder();
+    private final LongAdder replays = new LongAdder();
+    private final LongAdder waits = new LongAdder();
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+
+    public IdempotencyStore(int maximumSize, Duration ttl, long waitTimeoutMillis, Predicate<V> cacheable) {
+        this(new SegmentedLruCache<>(maximumSize, ttl), waitTimeoutMillis, cacheable);
+    }
+
+    IdempotencyStore(SegmentedLruCache<String, Completed<V>> completed, long waitTimeoutMillis,
+                     Predicate<V> cacheable) {
+        this.completed = completed;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.cacheable = cacheable;
+    }
+
+    /**
+     * 키의 요청 처리 시작
+     * - 이미 처리한 결과가 있으면 그 결과를 돌려주는 Claim
+     * - 없으면 호출자가 처리할 차례인 Claim (처리 후 complete, 끝나면 반드시 release)
+     *
+     * @param key         Idempotency-Key (호출 측에서 요청 경로 등으로 범위를 나눔)
+     * @param fingerprint 요청 내용 해시 (같은 키의 다른 요청 구분)
+     * @throws IdempotencyKeyReusedException  같은 키로 다른 요청을 보낸 경우
+     * @throws IdempotencyInProgressException 처리 중인 같은 요청을 기다리다 대기 시간을 넘긴 경우
+     */
+    public Claim<V> claim(String key, byte[] fingerprint) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTimeoutMillis);
+        while (true) {
+            Completed<V> done = completed.get(key);
+            if (done != null) {
+                return replay(done.fingerprint(), done.value(), fingerprint);
+            }
+
+            InFlight<V> mine = new InFlight<>(fingerprint, new CompletableFuture<>());
+            InFlight<V> other = inFlight.putIfAbsent(key, mine);
+            if (other == null) {
+                // 조회와 등록 사이에 앞선 처리가 끝났으면 그 결과를 사용
+                done = completed.get(key);
+                if (done != null) {
+                    inFlight.remove(key, mine);
+                    mine.result().complete(null);
+                    return replay(done.fingerprint(), done.value(), fingerprint);
+                }
+                executions.increment();
+                return new Claim<>(this, key, mine);
+            }
+
+            if (!Arrays.equals(other.fingerprint(), fingerprint)) {
+                conflicts.increment();
+                throw new IdempotencyKeyReusedException();
+            }
+            waits.increment();
+            V value = await(other.result(), deadline);
+            if (value != null) {
+                replays.increment();
+                return new Claim<>(value);
+            }
+            // 앞선 처리가 보관할 결과 없이 끝났으면 다시 시도
+        }
+    }
+
+    /**
+     * 저장소 지표 조회
+     */
+    public IdempotencyMetrics getMetrics() {
+        return new IdempotencyMetrics(executions.sum(), replays.sum(), waits.sum(), conflicts.sum(),
+                timeouts.sum(), inFlight.size(), completed.getMetrics().size());
+    }
+
+    /**
+     * 처리 해제 (보관할 결과면 먼저 보관하여, 해제 직후 들어온 요청이 다시 처리하지 않도록 함)
+     */
+    private void complete(String key, InFlight<V> mine, V value) {
+        V stored = value != null && cacheable.test(value) ? value : null;
+        if (stored != null) {
+            completed.put(key, new Completed<>(mine.fingerprint(), stored));
+        }
+        inFlight.remove(key, mine);
+        mine.result().complete(stored);
+    }
+
+    private Claim<V> replay(byte[] storedFingerprint, V value, byte[] fingerprint) {
+        if (!Arrays.equals(storedFingerprint, fingerprint)) {
+            conflicts.increment();
+            throw new IdempotencyKeyReusedException();
+        }
+        replays.increment();
+        return new Claim<>(value);
+    }
+
+    private V await(CompletableFuture<V> result, long deadline) {
+        try {
+            return result.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            timeouts.increment();
+            throw new IdempotencyInProgressException();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            timeouts.increment();
+            throw new IdempotencyInProgressException();
+        } catch (ExecutionException e) {
+            // 결과는 항상 정상 완료(보관한 값 또는 null)로만 전달
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 요청 처리 권한 또는 재사용할 결과
+     * - 재사용이면 getReplayed()로 결과를 받음
+     * - 처리할 차례면 처리 결과를 complete()로 넘기고, 예외가 나도 release()로 반드시 해제
+     *   (해제하지 않으면 같은 키의 요청이 대기 시간까지 기다림)
+     */
+    public static final class Claim<V> {
+
+        private final IdempotencyStore<V> store;
+        private final String key;
+        private final InFlight<V> inFlight;
+        private final V replayed;
+        private boolean done;
+
+        private Claim(IdempotencyStore<V> store, String key, InFlight<V> inFlight) {
+            this.store = store;
+            this.key = key;
+            this.inFlight = inFlight;
+            this.replayed = null;
+        }
+
+        private Claim(V replayed) {
+            this.store = null;
+            this.key = null;
+            this.inFlight = null;
+            this.replayed = replayed;
+            this.done = true;
+        }
+
+        /**
+         * 이전 처리 결과를 재사용하면 true (처리하지 않음)
+         */
+        public boolean isReplay() {
+            return replayed != null;
+        }
+
+        public V getReplayed() {
+            return replayed;
+        }
+
+        /**
+         * 처리 결과 보관 후 해제 (보관하지 않을 결과면 해제만)
+         */
+        public void complete(V value) {
+            if (!done) {
+                done = true;
+                store.complete(key, inFlight, value);
+            }
+        }
+
+        /**
+         * 결과 없이 해제 (complete 후에는 아무것도 하지 않음)
+         */
+        public void release() {
+            if (!done) {
+                done = true;
+                store.complete(key, inFlight, null);
+            }
+        }
+    }
+
+    /**
+     * 저장소 지표 스냅샷
+     *
+     * @param executions 처리 권한을 준 횟수
+     * @param replays    보관된/처리 중이던 결과를 재사용한 횟수
+     * @param waits      처리 중인 같은 요청을 기다린 횟수
+     * @param conflicts  같은 키로 다른 요청이 온 횟수
+     * @param timeouts   기다리다 대기 시간을 넘긴 횟수
+     * @param size       보관 중인 결과 수
+     */
+    public record IdempotencyMetrics(
+            long executions,
+            long replays,
+            long waits,
+            long conflicts,
+            long timeouts,
+            int inFlight,
+            int size
+    ) {}
+
+    record Completed<V>(byte[] fingerprint, V value) {}
+
+    private record InFlight<V>(byte[] fingerprint, CompletableFuture<V> result) {}
+}
@@ -0,0 +1,224 @@
+package com.hhplus.ecommerce.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+
+/**
+ * 크기 제한 + TTL 로컬 캐시
+ * - 키 해시로 나눈 세그먼트마다 접근 순서 LinkedHashMap(LRU)을 두고 세그먼트 단위로 잠금
+ *   (ReentrantLock: 경합 중 대기가 가상 스레드의 carrier를 고정하지 않음)
+ * - 세그먼트 용량을 넘으면 가장 오래 접근하지 않은 항목을 제거, TTL이 지난 항목은 조회 시 제거
+ * - 무효화 시 세그먼트의 무효화 횟수를 올려, 무효화 전에 시작한 조회 결과가 뒤늦게 적재되지 않도록 함
+ *   (stamp()로 조회 전 횟수를 받아두고 putIfNotInvalidated()로 적재)
+ * - 적중/실패/용량 제거/만료 횟수 집계
+ */
+public class SegmentedLruCache<K, V> {
+
+    private static final int SEGMENTS = 16;
+
+    private final Segment<K, V>[] segments;
+    private final long ttlNanos;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    @SuppressWarnings("unchecked")
+    public SegmentedLruCache(int maximumSize, Duration ttl) {
+        if (maximumSize <= 0 || ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("maximumSize와 ttl은 0보다 커야 합니다.");
+        }
+        int segmentCapacity = Math.max(1, (maximumSize + SEGMENTS - 1) / SEGMENTS);
+        this.segments = new Segment[SEGMENTS];
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment<>(segmentCapacity, evictions);
+        }
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * 조회
+     *
+     * @return 캐시된 값, 없거나 만료되었으면 null
+     */
+    public V get(K key) {
+        Segment<K, V> segment = segmentOf(key);
+        segment.lock.lock();
+        try {
+            Entry<V> entry = segment.get(key);
+            if (entry == null) {
+                misses.increment();
+                return null;
+            }
+            if (nanoTime() - entry.loadedAt >= ttlNanos) {
+                segment.remove(key);
+                expirations.increment();
+                misses.increment();
+                return null;
+            }
+            hits.increment();
+            return entry.value;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * 키가 속한 세그먼트의 무효화 횟수 (원본 조회 전에 받아둠)
+     */
+    public long stamp(K key) {
+        Segment<K, V> segment = segmentOf(key);
+        segment.lock.lock();
+        try {
+            return segment.invalidations;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    public void put(K key, V value) {
+        Segment<K, V> segment = segmentOf(key);
+        segment.lock.lock();
+        try {
+            segment.put(key, new Entry<>(value, nanoTime()));
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * stamp() 이후 같은 세그먼트에 무효화가 없었을 때만 적재
+     *
+     * @return 적재했으면 true
+     */
+    public boolean putIfNotInvalidated(K key, V value, long stamp) {
+        Segment<K, V> segment = segmentOf(key);
+        segment.lock.lock();
+        try {
+            if (segment.invalidations != stamp) {
+                return false;
+            }
+            segment.put(key, new Entry<>(value, nanoTime()));
+            return true;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    /**
+     * 캐시된 값이 있으면 갱신(적재 시각은 유지), 없거나 만료되었으면 무효화
+     *
+     * @return 갱신했으면 true
+     */
+    public boolean updateOrInvalidate(K key, UnaryOperator<V> updater) {
+        Segment<K, V> segment = segmentOf(key);
+        segment.lock.lock();
+        try {
+            Entry<V> entry = segment.get(key);
+            if (entry == null || nanoTime() - entry.loadedAt >= ttlNanos) {
+                segment.invalidations++;
+                segment.remove(key);
+                return false;
+            }
+            segment.put(key, new Entry<>(updater.apply(entry.value), entry.loadedAt));
+            return true;
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    public void invalidate(K key) {
+        Segment<K, V> segment = segmentOf(key);
+        segment.lock.lock();
+        try {
+            segment.invalidations++;
+            segment.remove(key);
+        } finally {
+            segment.lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        for (Segment<K, V> segment : segments) {
+            segment.lock.lock();
+            try {
+                segment.invalidations++;
+                segment.clear();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+    }
+
+    public CacheMetrics getMetrics() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            segment.lock.lock();
+            try {
+                size += segment.size();
+            } finally {
+                segment.lock.unlock();
+            }
+        }
+        return new CacheMetrics(hits.sum(), misses.sum(), evictions.sum(), expirations.sum(), size);
+    }
+
+    long nanoTime() {
+        return System.nanoTime();
+    }
+
+    private Segment<K, V> segmentOf(K key) {
+        int h = key.hashCode();
+        h ^= (h >>> 16);
+        return segments[h & (SEGMENTS - 1)];
+    }
+
+    /**
+     * 캐시 지표 스냅샷
+     *
+     * @param evictions   용량 초과로 제거된 항목 수
+     * @param expirations TTL이 지나 제거된 항목 수
+     */
+    public record CacheMetrics(
+            long hits,
+            long misses,
+            long evictions,
+            long expirations,
+            int size
+    ) {
+        public double hitRate() {
+            long requests = hits + misses;
+            return requests == 0 ? 0 : (double) hits / requests;
+        }
+    }
+
+    private record Entry<V>(V value, long loadedAt) {}
+
+    private static final class Segment<K, V> extends LinkedHashMap<K, Entry<V>> {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final int capacity;
+        private final LongAdder evictions;
+        private long invalidations;
+
+        private Segment(int capacity, LongAdder evictions) {
+            super(16, 0.75f, true);
+            this.capacity = capacity;
+            this.evictions = evictions;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+            if (size() > capacity) {
+                evictions.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+}
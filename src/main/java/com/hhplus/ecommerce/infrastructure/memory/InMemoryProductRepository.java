@@ -0,0 +1,185 @@
+package com.hhplus.ecommerce.infrastructure.memory;
+
+import com.hhplus.ecommerce.common.pagination.KeysetCursor;
+import com.hhplus.ecommerce.domain.entity.Product;
+import com.hhplus.ecommerce.domain.repository.CursorPage;
+import com.hhplus.ecommerce.domain.repository.ProductRepository;
+import com.hhplus.ecommerce.infrastructure.search.ProductNameIndex;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Collectors;
+
+/**
+ * 인메모리 재고 엔진 기반 ProductRepository 구현
+ * - inventory.engine=memory 설정 시 활성화
+ * - 상품별 재고는 Product 내부의 CAS 셀에서 관리되므로 synchronized 없이 원자적 차감
+ * - 조회 시 저장된 인스턴스를 그대로 반환하여 모든 스레드가 같은 재고 셀을 공유
+ * - 같은 인스턴스를 공유하므로 락 조회와 버전 비교 저장은 일반 조회/저장과 동일
+ * - 상품명 검색은 저장 시 갱신되는 n-gram 역색인(ProductNameIndex)으로 처리
+ * - 커서 기반 목록 조회는 정렬된 상품 ID 집합에서 커서 다음 ID부터 필요한 만큼만 조회
+ * - 재고가 DB 트랜잭션 밖에 있으므로 롤백 시 복구는 호출자가 처리 (isStockTransactional = false)
+ * - inventory.stock-shards가 2 이상이면 저장하는 상품의 재고를 그 수만큼의 하위 카운터로 나눠 보관
+ *   (주문이 한 상품에 몰려도 CAS 경합이 하위 카운터로 분산됨)
+ */
+@Repository
+@ConditionalOnProperty(name = "inventory.engine", havingValue = "memory")
+public class InMemoryProductRepository implements ProductRepository {
+
+    private final Map<Long, Product> products = new ConcurrentHashMap<>();
+    private final NavigableSet<Long> productIds = new ConcurrentSkipListSet<>();
+    private final ProductNameIndex nameIndex = new ProductNameIndex();
+    private final int stockShards;
+
+    public InMemoryProductRepository(@Value("${inventory.stock-shards:1}") int stockShards) {
+        this.stockShards = stockShards;
+    }
+
+    InMemoryProductRepository() {
+        this(1);
+    }
+
+    @Override
+    public Optional<Product> findById(Long productId) {
+        return Optional.ofNullable(products.get(productId));
+    }
+
+    @Override
+    public List<Product> findAllById(Collection<Long> productIds) {
+        return productIds.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Optional<Product> findByIdForUpdate(Long productId) {
+        return findById(productId);
+    }
+
+    @Override
+    public List<Product> findAll(int page, int size, String search) {
+        if (search != null && !search.isEmpty()) {
+            return nameIndex.search(search, (page - 1) * size, size).stream()
+                    .map(products::get)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList());
+        }
+
+        List<Product> matched = products.values().stream()
+                .sorted(Comparator.comparingLong(Product::getId))
+                .collect(Collectors.toList());
+
+        int start = (page - 1) * size;
+        int end = Math.min(start + size, matched.size());
+
+        if (start >= matched.size()) {
+            return new ArrayList<>();
+        }
+
+        return matched.subList(start, end);
+    }
+
+    @Override
+    public CursorPage<Product> findAllAfter(String cursor, int size, String search) {
+        long afterId = cursor == null ? 0 : KeysetCursor.decode(cursor, 1)[0];
+        // 한 건 더 조회하여 다음 페이지 존재 여부 판단
+        List<Long> ids = (search != null && !search.isEmpty())
+                ? nameIndex.searchAfter(search, afterId, size + 1)
+                : productIds.tailSet(afterId, false).stream().limit(size + 1L).toList();
+
+        List<Product> page = ids.stream()
+                .limit(size)
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+        String nextCursor = ids.size() > size ? KeysetCursor.encode(ids.get(size - 1)) : null;
+        return new CursorPage<>(page, nextCursor);
+    }
+
+    @Override
+    public long count(String search) {
+        if (search == null || search.isEmpty()) {
+            return products.size();
+        }
+
+        return nameIndex.count(search);
+    }
+
+    @Override
+    public Product save(Product product) {
+        // 같은 인스턴스라면 재고 셀이 이미 갱신되어 있으므로 덮어써도 무방
+        // 새 인스턴스는 공유하기 전에 설정한 수만큼 재고를 나눔 (이미 나뉜 인스턴스는 그대로)
+        // 재고만 바뀐 저장(주문마다 발생)은 색인 쓰기 락을 잡지 않도록 상품명이 바뀐 경우에만 색인
+        Product stored = product.withStockShards(stockShards);
+        Product previous = products.put(stored.getId(), stored);
+        if (previous == null) {
+            productIds.add(stored.getId());
+        }
+        if (previous == null || !previous.getName().equals(stored.getName())) {
+            nameIndex.index(stored.getId(), stored.getName());
+        }
+        return stored;
+    }
+
+    @Override
+    public boolean saveIfVersionMatches(Product product) {
+        save(product);
+        return true;
+    }
+
+    @Override
+    public boolean tryDecreaseStock(Long productId, int quantity) {
+        Product product = products.get(productId);
+        return product != null && product.tryDecreaseStock(quantity);
+    }
+
+    /**
+     * 상품별로 CAS 차감 후, 하나라도 실패하면 이미 차감한 재고를 복구
+     * - 복구 전까지 다른 요청이 잠시 줄어든 재고를 볼 수 있음 (DB 트랜잭션의 롤백과 동일한 결과)
+     */
+    @Override
+    public List<Long> tryDecreaseStocks(Map<Long, Integer> quantities) {
+        List<Long> failed = new ArrayList<>();
+        Map<Long, Integer> decreased = new LinkedHashMap<>();
+        quantities.forEach((productId, quantity) -> {
+            if (tryDecreaseStock(productId, quantity)) {
+                decreased.put(productId, quantity);
+            } else {
+                failed.add(productId);
+            }
+        });
+
+        if (!failed.isEmpty()) {
+            decreased.forEach((productId, quantity) -> products.get(productId).increaseStock(quantity));
+        }
+        return failed;
+    }
+
+    @Override
+    public void increaseStocks(Map<Long, Integer> quantities) {
+        quantities.forEach((productId, quantity) -> {
+            Product product = products.get(productId);
+            if (product != null) {
+                product.increaseStock(quantity);
+            }
+        });
+    }
+
+    @Override
+    public boolean isStockTransactional() {
+        return false;
+    }
+}
@@ -0,0 +1,21 @@
+package com.hhplus.ecommerce.infrastructure.persistence;
+
+import com.hhplus.ecommerce.common.BaseEntity;
+import jakarta.persistence.MappedSuperclass;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 애플리케이션이 ID를 지정하는 JPA 엔티티의 공통 부모
+ * - ID는 도메인 모델이 이미 가지고 있으므로(SnowflakeIdGenerator) DB 채번을 사용하지 않음
+ * - IDENTITY 전략은 INSERT마다 즉시 실행되어 JDBC 배치가 꺼지고,
+ *   ID가 지정된 엔티티를 그대로 save()하면 merge로 처리되어 건마다 SELECT가 발생
+ * - 생성일시가 아직 기록되지 않은 엔티티를 새 엔티티로 판단하여 persist로 저장
+ */
+@MappedSuperclass
+public abstract class AssignedIdEntity extends BaseEntity implements Persistable<Long> {
+
+    @Override
+    public boolean isNew() {
+        return getCreatedAt() == null;
+    }
+}
@@ -0,0 +1,61 @@
+package com.hhplus.ecommerce.infrastructure.persistence.cart;
+
+import com.hhplus.ecommerce.domain.entity.CartItem;
+import com.hhplus.ecommerce.infrastructure.persistence.AssignedIdEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * 장바구니 항목 JPA 엔티티
+ * - 도메인의 cartId는 userId와 같으므로(간소화) user_id 컬럼에 저장
+ */
+@Entity
+@Table(name = "cart_item", indexes = @Index(name = "idx_user_id", columnList = "user_id"))
+public class CartItemEntity extends AssignedIdEntity {
+
+    @Id
+    @Column(name = "cart_item_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    @Column(nullable = false)
+    private int quantity;
+
+    protected CartItemEntity() {
+    }
+
+    private CartItemEntity(Long id, Long userId, Long productId, int quantity) {
+        this.id = id;
+        this.userId = userId;
+        this.productId = productId;
+        this.quantity = quantity;
+    }
+
+    public static CartItemEntity from(CartItem cartItem) {
+        return new CartItemEntity(cartItem.getId(), cartItem.getCartId(), cartItem.getProductId(), cartItem.getQuantity());
+    }
+
+    /**
+     * 도메인 모델의 변경 사항 반영 (수량)
+     */
+    public void update(CartItem cartItem) {
+        this.quantity = cartItem.getQuantity();
+    }
+
+    public CartItem toDomain() {
+        return new CartItem(id, userId, productId, quantity);
+    }
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,15 @@
+package com.hhplus.ecommerce.infrastructure.persistence.cart;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+/**
+ * 장바구니 항목 Spring Data 리포지토리
+ */
+public interface CartItemEntityRepository extends JpaRepository<CartItemEntity, Long> {
+
+    List<CartItemEntity> findByUserId(Long userId);
+
+    boolean existsByUserId(Long userId);
+}
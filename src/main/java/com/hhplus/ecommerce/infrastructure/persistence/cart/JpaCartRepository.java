@@ -0,0 +1,62 @@
+package com.hhplus.ecommerce.infrastructure.persistence.cart;
+
+import com.hhplus.ecommerce.domain.entity.Cart;
+import com.hhplus.ecommerce.domain.entity.CartItem;
+import com.hhplus.ecommerce.domain.repository.CartRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JPA 기반 CartRepository 구현
+ * - 장바구니 테이블 없이 사용자별 장바구니 항목으로 구성 (cartId = userId)
+ */
+@Repository
+public class JpaCartRepository implements CartRepository {
+
+    private final CartItemEntityRepository cartItemEntityRepository;
+
+    public JpaCartRepository(CartItemEntityRepository cartItemEntityRepository) {
+        this.cartItemEntityRepository = cartItemEntityRepository;
+    }
+
+    @Override
+    public Optional<Cart> findByUserId(Long userId) {
+        if (!cartItemEntityRepository.existsByUserId(userId)) {
+            return Optional.empty();
+        }
+        return Optional.of(new Cart(userId, userId));
+    }
+
+    @Override
+    public List<CartItem> findCartItemsByUserId(Long userId) {
+        return cartItemEntityRepository.findByUserId(userId).stream()
+                .map(CartItemEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public Optional<CartItem> findCartItemById(Long cartItemId) {
+        return cartItemEntityRepository.findById(cartItemId)
+                .map(CartItemEntity::toDomain);
+    }
+
+    @Override
+    @Transactional
+    public CartItem saveCartItem(CartItem cartItem) {
+        cartItemEntityRepository.findById(cartItem.getId())
+                .ifPresentOrElse(
+                        entity -> entity.update(cartItem),
+                        () -> cartItemEntityRepository.save(CartItemEntity.from(cartItem))
+                );
+        return cartItem;
+    }
+
+    @Override
+    @Transactional
+    public void deleteCartItem(Long cartItemId) {
+        cartItemEntityRepository.deleteById(cartItemId);
+    }
+}
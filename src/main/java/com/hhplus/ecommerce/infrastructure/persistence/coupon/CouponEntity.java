@@ -0,0 +1,77 @@
+package com.hhplus.ecommerce.infrastructure.persistence.coupon;
+
+import com.hhplus.ecommerce.domain.entity.Coupon;
+import com.hhplus.ecommerce.infrastructure.persistence.AssignedIdEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * 쿠폰 JPA 엔티티
+ */
+@Entity
+@Table(name = "coupon")
+public class CouponEntity extends AssignedIdEntity {
+
+    @Id
+    @Column(name = "coupon_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private int discountAmount;
+
+    @Column(nullable = false)
+    private int issueQuantity;
+
+    @Column(nullable = false)
+    private int issuedQuantity;
+
+    @Column(nullable = false)
+    private LocalDateTime validFrom;
+
+    @Column(nullable = false)
+    private LocalDateTime validTo;
+
+    protected CouponEntity() {
+    }
+
+    private CouponEntity(Long id, int discountAmount, int issueQuantity, int issuedQuantity,
+                         LocalDateTime validFrom, LocalDateTime validTo) {
+        this.id = id;
+        this.discountAmount = discountAmount;
+        this.issueQuantity = issueQuantity;
+        this.issuedQuantity = issuedQuantity;
+        this.validFrom = validFrom;
+        this.validTo = validTo;
+    }
+
+    public static CouponEntity from(Coupon coupon) {
+        return new CouponEntity(
+                coupon.getId(),
+                coupon.getDiscountAmount(),
+                coupon.getIssueQuantity(),
+                coupon.getIssuedQuantity(),
+                coupon.getValidFrom(),
+                coupon.getValidTo()
+        );
+    }
+
+    /**
+     * 도메인 모델의 변경 사항 반영 (발급 수량)
+     */
+    public void update(Coupon coupon) {
+        this.issuedQuantity = coupon.getIssuedQuantity();
+    }
+
+    public Coupon toDomain() {
+        return new Coupon(id, discountAmount, issueQuantity, issuedQuantity, validFrom, validTo);
+    }
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+}
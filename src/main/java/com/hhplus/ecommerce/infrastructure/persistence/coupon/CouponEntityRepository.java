@@ -0,0 +1,34 @@
+package com.hhplus.ecommerce.infrastructure.persistence.coupon;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+/**
+ * 쿠폰 Spring Data 리포지토리
+ */
+public interface CouponEntityRepository extends JpaRepository<CouponEntity, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000"))
+    @Query("select c from CouponEntity c where c.id = :id")
+    Optional<CouponEntity> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 남은 수량이 충분할 때만 발급된 수량 증가
+     *
+     * @return 갱신된 행 수 (0이면 수량 부족 또는 쿠폰 없음)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update CouponEntity c"
+            + " set c.issuedQuantity = c.issuedQuantity + :quantity, c.updatedAt = local datetime"
+            + " where c.id = :id and c.issuedQuantity + :quantity <= c.issueQuantity")
+    int increaseIssuedQuantityIfAvailable(@Param("id") Long id, @Param("quantity") int quantity);
+}
@@ -0,0 +1,106 @@
+package com.hhplus.ecommerce.infrastructure.persistence.coupon;
+
+import com.hhplus.ecommerce.domain.entity.Coupon;
+import com.hhplus.ecommerce.domain.entity.UserCoupon;
+import com.hhplus.ecommerce.domain.exception.CouponAlreadyIssuedException;
+import com.hhplus.ecommerce.domain.repository.CouponRepository;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JPA 기반 CouponRepository 구현
+ * - 일괄 발급은 새 엔티티를 한 트랜잭션에서 persist하여 hibernate.jdbc.batch_size 단위로 INSERT
+ * - 일괄 발급은 바로 flush하여 (user_id, coupon_id) 유니크 제약 위반(다른 인스턴스에서 이미 발급)을
+ *   CouponAlreadyIssuedException으로 전달
+ */
+@Repository
+public class JpaCouponRepository implements CouponRepository {
+
+    private final CouponEntityRepository couponEntityRepository;
+    private final UserCouponEntityRepository userCouponEntityRepository;
+
+    public JpaCouponRepository(CouponEntityRepository couponEntityRepository,
+                               UserCouponEntityRepository userCouponEntityRepository) {
+        this.couponEntityRepository = couponEntityRepository;
+        this.userCouponEntityRepository = userCouponEntityRepository;
+    }
+
+    @Override
+    public Optional<Coupon> findById(Long couponId) {
+        return couponEntityRepository.findById(couponId)
+                .map(CouponEntity::toDomain);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Optional<Coupon> findByIdForUpdate(Long couponId) {
+        return couponEntityRepository.findByIdForUpdate(couponId)
+                .map(CouponEntity::toDomain);
+    }
+
+    @Override
+    public List<UserCoupon> findByUserId(Long userId) {
+        return userCouponEntityRepository.findByUserId(userId).stream()
+                .map(UserCouponEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<UserCoupon> findByCouponId(Long couponId) {
+        return userCouponEntityRepository.findByCouponId(couponId).stream()
+                .map(UserCouponEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public Optional<UserCoupon> findUserCouponById(Long userCouponId) {
+        return userCouponEntityRepository.findById(userCouponId)
+                .map(UserCouponEntity::toDomain);
+    }
+
+    @Override
+    @Transactional
+    public UserCoupon saveUserCoupon(UserCoupon userCoupon) {
+        userCouponEntityRepository.findById(userCoupon.getId())
+                .ifPresentOrElse(
+                        entity -> entity.update(userCoupon),
+                        () -> userCouponEntityRepository.save(UserCouponEntity.from(userCoupon))
+                );
+        return userCoupon;
+    }
+
+    @Override
+    @Transactional
+    public List<UserCoupon> saveUserCoupons(List<UserCoupon> userCoupons) {
+        try {
+            userCouponEntityRepository.saveAllAndFlush(userCoupons.stream()
+                    .map(UserCouponEntity::from)
+                    .toList());
+        } catch (DataIntegrityViolationException e) {
+            throw new CouponAlreadyIssuedException();
+        }
+        return userCoupons;
+    }
+
+    @Override
+    @Transactional
+    public Coupon saveCoupon(Coupon coupon) {
+        couponEntityRepository.findById(coupon.getId())
+                .ifPresentOrElse(
+                        entity -> entity.update(coupon),
+                        () -> couponEntityRepository.save(CouponEntity.from(coupon))
+                );
+        return coupon;
+    }
+
+    @Override
+    @Transactional
+    public boolean tryIncreaseIssuedQuantity(Long couponId, int quantity) {
+        return couponEntityRepository.increaseIssuedQuantityIfAvailable(couponId, quantity) == 1;
+    }
+}
@@ -0,0 +1,97 @@
+package com.hhplus.ecommerce.infrastructure.persistence.coupon;
+
+import com.hhplus.ecommerce.domain.entity.UserCoupon;
+import com.hhplus.ecommerce.infrastructure.persistence.AssignedIdEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 쿠폰 JPA 엔티티
+ * - 사용하지 않은 쿠폰의 주문 ID는 도메인에서는 0, DB에서는 NULL
+ * - 같은 사용자가 같은 쿠폰을 두 번 받을 수 없도록 (user_id, coupon_id) 유니크 제약
+ */
+@Entity
+@Table(name = "user_coupon", indexes = {
+        @Index(name = "idx_user_used", columnList = "user_id, is_used"),
+        @Index(name = "idx_coupon_id", columnList = "coupon_id")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_user_coupon", columnNames = {"user_id", "coupon_id"})
+})
+public class UserCouponEntity extends AssignedIdEntity {
+
+    @Id
+    @Column(name = "user_coupon_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private Long couponId;
+
+    private Long orderId;
+
+    @Column(name = "is_used", nullable = false)
+    private boolean used;
+
+    @Column(nullable = false)
+    private LocalDateTime issuedAt;
+
+    private LocalDateTime usedAt;
+
+    @Column(nullable = false)
+    private LocalDateTime expiredAt;
+
+    protected UserCouponEntity() {
+    }
+
+    private UserCouponEntity(Long id, Long userId, Long couponId, Long orderId, boolean used,
+                             LocalDateTime issuedAt, LocalDateTime usedAt, LocalDateTime expiredAt) {
+        this.id = id;
+        this.userId = userId;
+        this.couponId = couponId;
+        this.orderId = orderId;
+        this.used = used;
+        this.issuedAt = issuedAt;
+        this.usedAt = usedAt;
+        this.expiredAt = expiredAt;
+    }
+
+    public static UserCouponEntity from(UserCoupon userCoupon) {
+        return new UserCouponEntity(
+                userCoupon.getId(),
+                userCoupon.getUserId(),
+                userCoupon.getCouponId(),
+                userCoupon.getOrderId() != 0 ? userCoupon.getOrderId() : null,
+                userCoupon.isUsed(),
+                userCoupon.getIssuedAt(),
+                userCoupon.getUsedAt(),
+                userCoupon.getExpiredAt()
+        );
+    }
+
+    /**
+     * 도메인 모델의 변경 사항 반영 (사용 처리)
+     */
+    public void update(UserCoupon userCoupon) {
+        this.orderId = userCoupon.getOrderId() != 0 ? userCoupon.getOrderId() : null;
+        this.used = userCoupon.isUsed();
+        this.usedAt = userCoupon.getUsedAt();
+    }
+
+    public UserCoupon toDomain() {
+        return new UserCoupon(id, userId, couponId, orderId != null ? orderId : 0,
+                used, issuedAt, usedAt, expiredAt);
+    }
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+}
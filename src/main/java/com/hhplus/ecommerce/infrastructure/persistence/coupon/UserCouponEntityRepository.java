@@ -0,0 +1,15 @@
+package com.hhplus.ecommerce.infrastructure.persistence.coupon;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+/**
+ * 사용자 쿠폰 Spring Data 리포지토리
+ */
+public interface UserCouponEntityRepository extends JpaRepository<UserCouponEntity, Long> {
+
+    List<UserCouponEntity> findByUserId(Long userId);
+
+    List<UserCouponEntity> findByCouponId(Long couponId);
+}
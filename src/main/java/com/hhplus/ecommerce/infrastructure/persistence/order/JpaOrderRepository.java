@@ -0,0 +1,109 @@
+package com.hhplus.ecommerce.infrastructure.persistence.order;
+
+import com.hhplus.ecommerce.common.pagination.KeysetCursor;
+import com.hhplus.ecommerce.domain.entity.Order;
+import com.hhplus.ecommerce.domain.repository.CursorPage;
+import com.hhplus.ecommerce.domain.repository.OrderRepository;
+import com.hhplus.ecommerce.infrastructure.cache.CountCache;
+import com.hhplus.ecommerce.infrastructure.cache.SegmentedLruCache.CacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JPA 기반 OrderRepository 구현
+ * - 커서 기반 목록 조회는 (created_at, order_id) 내림차순으로 idx_user_created를 따라 범위 조회
+ * - 사용자별 주문 수는 CountCache에 보관하고 새 주문 저장 시 증가
+ */
+@Repository
+public class JpaOrderRepository implements OrderRepository {
+
+    private final OrderEntityRepository orderEntityRepository;
+    private final CountCache<Long> orderCounts;
+
+    public JpaOrderRepository(OrderEntityRepository orderEntityRepository,
+                              @Value("${listing-count.maximum-size:10000}") int countCacheSize,
+                              @Value("${listing-count.ttl-seconds:30}") long countTtlSeconds) {
+        this.orderEntityRepository = orderEntityRepository;
+        this.orderCounts = new CountCache<>(countCacheSize, Duration.ofSeconds(countTtlSeconds));
+    }
+
+    @Override
+    public Optional<Order> findById(Long orderId) {
+        return orderEntityRepository.findById(orderId)
+                .map(OrderEntity::toDomain);
+    }
+
+    @Override
+    public List<Order> findByUserId(Long userId, int page, int size) {
+        PageRequest pageable = PageRequest.of(page - 1, size, Sort.by(Sort.Direction.DESC, "id"));
+        return orderEntityRepository.findByUserId(userId, pageable).stream()
+                .map(OrderEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public CursorPage<Order> findByUserIdAfter(Long userId, String cursor, int size) {
+        // 한 건 더 조회하여 다음 페이지 존재 여부 판단
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<OrderEntity> entities;
+        if (cursor == null) {
+            entities = orderEntityRepository.findByUserIdOrderByCreatedAtDescIdDesc(userId, limit);
+        } else {
+            long[] keys = KeysetCursor.decode(cursor, 2);
+            entities = orderEntityRepository.findByUserIdBefore(userId, fromEpochMicros(keys[0]), keys[1], limit);
+        }
+
+        if (entities.size() <= size) {
+            return new CursorPage<>(entities.stream().map(OrderEntity::toDomain).toList(), null);
+        }
+        OrderEntity last = entities.get(size - 1);
+        List<Order> orders = entities.subList(0, size).stream()
+                .map(OrderEntity::toDomain)
+                .toList();
+        return new CursorPage<>(orders, KeysetCursor.encode(toEpochMicros(last.getCreatedAt()), last.getId()));
+    }
+
+    @Override
+    public long countByUserId(Long userId) {
+        return orderCounts.get(userId, () -> orderEntityRepository.countByUserId(userId));
+    }
+
+    @Override
+    @Transactional
+    public Order save(Order order) {
+        orderEntityRepository.findById(order.getId())
+                .ifPresentOrElse(
+                        entity -> entity.update(order),
+                        () -> {
+                            orderEntityRepository.save(OrderEntity.from(order));
+                            orderCounts.increment(order.getUserId());
+                        }
+                );
+        return order;
+    }
+
+    public CacheMetrics getCountCacheMetrics() {
+        return orderCounts.getMetrics();
+    }
+
+    /**
+     * 커서에 담을 생성일시 (order.created_at 컬럼 정밀도인 DATETIME(6)에 맞춰 마이크로초 단위)
+     */
+    private static long toEpochMicros(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + dateTime.getNano() / 1_000;
+    }
+
+    private static LocalDateTime fromEpochMicros(long epochMicros) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochMicros, 1_000_000),
+                (int) Math.floorMod(epochMicros, 1_000_000) * 1_000, ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,90 @@
+package com.hhplus.ecommerce.infrastructure.persistence.order;
+
+import com.hhplus.ecommerce.domain.entity.Order;
+import com.hhplus.ecommerce.domain.entity.OrderStatus;
+import com.hhplus.ecommerce.infrastructure.persistence.AssignedIdEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+/**
+ * 주문 JPA 엔티티
+ * - 사용한 쿠폰이 없으면 도메인에서는 0, DB에서는 NULL
+ */
+@Entity
+@Table(name = "`order`", indexes = {
+        @Index(name = "idx_user_created", columnList = "user_id, created_at DESC"),
+        @Index(name = "idx_created_status", columnList = "created_at DESC, order_status")
+})
+public class OrderEntity extends AssignedIdEntity {
+
+    @Id
+    @Column(name = "order_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OrderStatus orderStatus;
+
+    @Column(nullable = false)
+    private int totalAmount;
+
+    @Column(nullable = false)
+    private int discountAmount;
+
+    private Long usedCouponId;
+
+    protected OrderEntity() {
+    }
+
+    private OrderEntity(Long id, Long userId, OrderStatus orderStatus, int totalAmount,
+                        int discountAmount, Long usedCouponId) {
+        this.id = id;
+        this.userId = userId;
+        this.orderStatus = orderStatus;
+        this.totalAmount = totalAmount;
+        this.discountAmount = discountAmount;
+        this.usedCouponId = usedCouponId;
+    }
+
+    public static OrderEntity from(Order order) {
+        return new OrderEntity(
+                order.getId(),
+                order.getUserId(),
+                order.getOrderStatus(),
+                order.getTotalAmount(),
+                order.getDiscountAmount(),
+                toNullableId(order.getUsedCouponId())
+        );
+    }
+
+    /**
+     * 도메인 모델의 변경 사항 반영 (상태, 할인)
+     */
+    public void update(Order order) {
+        this.orderStatus = order.getOrderStatus();
+        this.discountAmount = order.getDiscountAmount();
+        this.usedCouponId = toNullableId(order.getUsedCouponId());
+    }
+
+    public Order toDomain() {
+        return new Order(id, userId, orderStatus, totalAmount, discountAmount,
+                usedCouponId != null ? usedCouponId : 0);
+    }
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+
+    private static Long toNullableId(long id) {
+        return id != 0 ? id : null;
+    }
+}
@@ -0,0 +1,32 @@
+package com.hhplus.ecommerce.infrastructure.persistence.order;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 Spring Data 리포지토리
+ */
+public interface OrderEntityRepository extends JpaRepository<OrderEntity, Long> {
+
+    List<OrderEntity> findByUserId(Long userId, Pageable pageable);
+
+    long countByUserId(Long userId);
+
+    List<OrderEntity> findByUserIdOrderByCreatedAtDescIdDesc(Long userId, Pageable pageable);
+
+    /**
+     * (created_at, order_id) 기준으로 커서보다 오래된 주문 조회 (idx_user_created 범위 조회)
+     */
+    @Query("select o from OrderEntity o where o.userId = :userId"
+            + " and (o.createdAt < :createdAt or (o.createdAt = :createdAt and o.id < :id))"
+            + " order by o.createdAt desc, o.id desc")
+    List<OrderEntity> findByUserIdBefore(@Param("userId") Long userId,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") Long id,
+                                         Pageable pageable);
+}
@@ -0,0 +1,72 @@
+package com.hhplus.ecommerce.infrastructure.persistence.outbox;
+
+import com.hhplus.ecommerce.domain.entity.OrderDataOutbox;
+import com.hhplus.ecommerce.domain.entity.OutboxStatus;
+import com.hhplus.ecommerce.domain.repository.OrderDataOutboxRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * JPA 기반 OrderDataOutboxRepository 구현
+ * - 임대는 전송 대상 행을 SKIP LOCKED로 잠가 다음 시도 시각을 임대 만료 시각으로 바꾸고 바로 커밋
+ *   (여러 인스턴스가 동시에 가져가도 같은 행을 나눠 갖지 않고, 전송하는 동안 행 락을 붙잡지 않음)
+ * - 결과 반영은 한 트랜잭션에서 변경 감지로 hibernate.jdbc.batch_size 단위 UPDATE
+ */
+@Repository
+public class JpaOrderDataOutboxRepository implements OrderDataOutboxRepository {
+
+    private final OrderDataOutboxEntityRepository outboxEntityRepository;
+
+    public JpaOrderDataOutboxRepository(OrderDataOutboxEntityRepository outboxEntityRepository) {
+        this.outboxEntityRepository = outboxEntityRepository;
+    }
+
+    @Override
+    @Transactional
+    public OrderDataOutbox save(OrderDataOutbox outbox) {
+        outboxEntityRepository.save(OrderDataOutboxEntity.from(outbox));
+        return outbox;
+    }
+
+    @Override
+    @Transactional
+    public List<OrderDataOutbox> claimDue(LocalDateTime now, LocalDateTime leaseUntil, int limit) {
+        List<OrderDataOutboxEntity> entities =
+                outboxEntityRepository.findDueForUpdate(now, PageRequest.of(0, limit));
+        return entities.stream()
+                .map(entity -> {
+                    OrderDataOutbox outbox = entity.toDomain();
+                    outbox.leaseUntil(leaseUntil);
+                    entity.update(outbox);
+                    return outbox;
+                })
+                .toList();
+    }
+
+    @Override
+    @Transactional
+    public void saveAll(List<OrderDataOutbox> outboxes) {
+        Map<Long, OrderDataOutboxEntity> entities = outboxEntityRepository
+                .findAllById(outboxes.stream().map(OrderDataOutbox::getId).toList())
+                .stream()
+                .collect(Collectors.toMap(OrderDataOutboxEntity::getId, Function.identity()));
+        for (OrderDataOutbox outbox : outboxes) {
+            OrderDataOutboxEntity entity = entities.get(outbox.getId());
+            if (entity != null) {
+                entity.update(outbox);
+            }
+        }
+    }
+
+    @Override
+    public long countByStatus(OutboxStatus status) {
+        return outboxEntityRepository.countByStatus(status);
+    }
+}
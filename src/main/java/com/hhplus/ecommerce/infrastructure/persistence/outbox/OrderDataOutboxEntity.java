@@ -0,0 +1,117 @@
+package com.hhplus.ecommerce.infrastructure.persistence.outbox;
+
+import com.hhplus.ecommerce.domain.entity.OrderDataOutbox;
+import com.hhplus.ecommerce.domain.entity.OutboxStatus;
+import com.hhplus.ecommerce.infrastructure.persistence.AssignedIdEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * 주문 데이터 전송 아웃박스 JPA 엔티티
+ * - 전송 대상 조회는 (상태, 다음 시도 시각) 인덱스 범위 조회
+ * - 주문당 한 건 (결제는 주문당 한 번)
+ */
+@Entity
+@Table(name = "order_data_outbox", indexes = {
+        @Index(name = "uk_order_id", columnList = "order_id", unique = true),
+        @Index(name = "idx_status_next_attempt", columnList = "status, next_attempt_at")
+})
+public class OrderDataOutboxEntity extends AssignedIdEntity {
+
+    @Id
+    @Column(name = "order_data_outbox_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private Long orderId;
+
+    @Column(nullable = false)
+    private Long userId;
+
+    @Column(nullable = false)
+    private int totalAmount;
+
+    @Column(nullable = false)
+    private int discountAmount;
+
+    @Column(nullable = false)
+    private int finalAmount;
+
+    @Column(nullable = false)
+    private LocalDateTime completedAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private OutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(length = 500)
+    private String lastError;
+
+    protected OrderDataOutboxEntity() {
+    }
+
+    private OrderDataOutboxEntity(Long id, Long orderId, Long userId, int totalAmount, int discountAmount,
+                                  int finalAmount, LocalDateTime completedAt, OutboxStatus status, int attempts,
+                                  LocalDateTime nextAttemptAt, String lastError) {
+        this.id = id;
+        this.orderId = orderId;
+        this.userId = userId;
+        this.totalAmount = totalAmount;
+        this.discountAmount = discountAmount;
+        this.finalAmount = finalAmount;
+        this.completedAt = completedAt;
+        this.status = status;
+        this.attempts = attempts;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lastError = lastError;
+    }
+
+    public static OrderDataOutboxEntity from(OrderDataOutbox outbox) {
+        return new OrderDataOutboxEntity(
+                outbox.getId(),
+                outbox.getOrderId(),
+                outbox.getUserId(),
+                outbox.getTotalAmount(),
+                outbox.getDiscountAmount(),
+                outbox.getFinalAmount(),
+                outbox.getCompletedAt(),
+                outbox.getStatus(),
+                outbox.getAttempts(),
+                outbox.getNextAttemptAt(),
+                outbox.getLastError()
+        );
+    }
+
+    /**
+     * 도메인 모델의 변경 사항 반영 (전송 상태)
+     */
+    public void update(OrderDataOutbox outbox) {
+        this.status = outbox.getStatus();
+        this.attempts = outbox.getAttempts();
+        this.nextAttemptAt = outbox.getNextAttemptAt();
+        this.lastError = outbox.getLastError();
+    }
+
+    public OrderDataOutbox toDomain() {
+        return new OrderDataOutbox(id, orderId, userId, totalAmount, discountAmount, finalAmount,
+                completedAt, status, attempts, nextAttemptAt, lastError);
+    }
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+}
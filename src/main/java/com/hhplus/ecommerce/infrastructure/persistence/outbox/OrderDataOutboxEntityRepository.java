@@ -0,0 +1,33 @@
+package com.hhplus.ecommerce.infrastructure.persistence.outbox;
+
+import com.hhplus.ecommerce.domain.entity.OutboxStatus;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 데이터 전송 아웃박스 Spring Data 리포지토리
+ */
+public interface OrderDataOutboxEntityRepository extends JpaRepository<OrderDataOutboxEntity, Long> {
+
+    /**
+     * 전송할 기록 조회 (FOR UPDATE SKIP LOCKED, 다른 트랜잭션이 잠근 행은 건너뜀)
+     * - lock.timeout = -2는 Hibernate의 SKIP_LOCKED
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from OrderDataOutboxEntity o"
+            + " where o.status = com.hhplus.ecommerce.domain.entity.OutboxStatus.PENDING"
+            + " and o.nextAttemptAt <= :now order by o.nextAttemptAt")
+    List<OrderDataOutboxEntity> findDueForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    long countByStatus(OutboxStatus status);
+}
@@ -0,0 +1,310 @@
+package com.hhplus.ecommerce.infrastructure.persistence.product;
+
+import com.hhplus.ecommerce.common.pagination.KeysetCursor;
+import com.hhplus.ecommerce.domain.entity.Product;
+import com.hhplus.ecommerce.domain.repository.CursorPage;
+import com.hhplus.ecommerce.domain.repository.ProductRepository;
+import com.hhplus.ecommerce.infrastructure.cache.CountCache;
+import com.hhplus.ecommerce.infrastructure.cache.SegmentedLruCache.CacheMetrics;
+import com.hhplus.ecommerce.infrastructure.search.ProductNameIndex;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * JPA 기반 ProductRepository 구현
+ * - inventory.engine=jpa 설정 시(또는 설정이 없을 때) 활성화
+ * - 락 조회는 호출자의 트랜잭션 안에서만 허용 (트랜잭션이 없으면 조회 직후 락이 풀림)
+ * - 여러 상품 재고 차감은 조건부 UPDATE를 JDBC 배치로 한 번에 전송
+ *   (MySQL은 rewriteBatchedStatements=true여야 실제로 한 번의 왕복으로 묶임)
+ * - 목록 전체 개수는 CountCache에 보관 (전체 상품 수는 새 상품 저장 시 증가, 검색어별 개수는 TTL까지 유지)
+ * - 상품명 검색은 LIKE '%검색어%' 전체 스캔 대신 product_name_gram 색인 테이블로 처리
+ *   (새 상품 저장 시 상품명의 unigram/bigram을 같은 트랜잭션에서 기록, 단위는 ProductNameIndex와 동일)
+ */
+@Repository
+@ConditionalOnProperty(name = "inventory.engine", havingValue = "jpa", matchIfMissing = true)
+public class JpaProductRepository implements ProductRepository {
+
+    private static final String DECREASE_STOCK_SQL =
+            "UPDATE product SET stock_quantity = stock_quantity - ?, version = version + 1, updated_at = ?"
+                    + " WHERE product_id = ? AND stock_quantity >= ?";
+    private static final String INCREASE_STOCK_SQL =
+            "UPDATE product SET stock_quantity = stock_quantity + ?, version = version + 1, updated_at = ?"
+                    + " WHERE product_id = ?";
+
+    private static final String INSERT_NAME_GRAM_SQL =
+            "INSERT INTO product_name_gram (gram, product_id) VALUES (?, ?)";
+    private static final String GRAM_FREQUENCY_SQL =
+            "SELECT COUNT(*) FROM (SELECT 1 FROM product_name_gram WHERE gram = ? LIMIT ?) g";
+    private static final String SEARCH_SQL =
+            "SELECT p.product_id, p.product_name, p.price, p.stock_quantity, p.version"
+                    + " FROM product_name_gram g JOIN product p ON p.product_id = g.product_id"
+                    + " WHERE g.gram = ? AND g.product_id > ? AND p.product_name LIKE ? ESCAPE '!'"
+                    + " ORDER BY g.product_id LIMIT ? OFFSET ?";
+    private static final String SEARCH_COUNT_SQL =
+            "SELECT COUNT(*) FROM product_name_gram g JOIN product p ON p.product_id = g.product_id"
+                    + " WHERE g.gram = ? AND p.product_name LIKE ? ESCAPE '!'";
+
+    /**
+     * 기준 gram을 고를 때 빈도를 확인하는 최대 gram 수
+     */
+    private static final int MAX_PROBED_GRAMS = 8;
+
+    /**
+     * 기준 gram 빈도 확인 시 세는 최대 행 수 (흔한 gram의 포스팅 전체를 세지 않도록)
+     */
+    private static final int PROBE_LIMIT = 10_000;
+
+    private static final RowMapper<Product> PRODUCT_ROW_MAPPER = (rs, rowNum) -> new Product(
+            rs.getLong("product_id"), rs.getString("product_name"),
+            rs.getInt("price"), rs.getInt("stock_quantity"), rs.getLong("version"));
+
+    /**
+     * 검색어 없는 전체 상품 수의 캐시 키
+     */
+    private static final String ALL_PRODUCTS = "";
+
+    private final ProductEntityRepository productEntityRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final CountCache<String> productCounts;
+
+    public JpaProductRepository(ProductEntityRepository productEntityRepository, JdbcTemplate jdbcTemplate,
+                                EntityManager entityManager,
+                                @Value("${listing-count.maximum-size:10000}") int countCacheSize,
+                                @Value("${listing-count.ttl-seconds:30}") long countTtlSeconds) {
+        this.productEntityRepository = productEntityRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.entityManager = entityManager;
+        this.productCounts = new CountCache<>(countCacheSize, Duration.ofSeconds(countTtlSeconds));
+    }
+
+    @Override
+    public Optional<Product> findById(Long productId) {
+        return productEntityRepository.findById(productId)
+                .map(ProductEntity::toDomain);
+    }
+
+    @Override
+    public List<Product> findAllById(Collection<Long> productIds) {
+        return productEntityRepository.findAllById(productIds).stream()
+                .map(ProductEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Optional<Product> findByIdForUpdate(Long productId) {
+        return productEntityRepository.findByIdForUpdate(productId)
+                .map(ProductEntity::toDomain);
+    }
+
+    @Override
+    public List<Product> findAll(int page, int size, String search) {
+        if (search != null && !search.isEmpty()) {
+            return searchByName(search, 0, (page - 1) * size, size);
+        }
+        return productEntityRepository.findAll(PageRequest.of(page - 1, size, Sort.by("id"))).stream()
+                .map(ProductEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public CursorPage<Product> findAllAfter(String cursor, int size, String search) {
+        // 상품 ID는 항상 0보다 크므로 첫 페이지는 ID 0 다음부터 조회 (PK 범위 조회)
+        long afterId = cursor == null ? 0 : KeysetCursor.decode(cursor, 1)[0];
+        // 한 건 더 조회하여 다음 페이지 존재 여부 판단
+        List<Product> found = (search == null || search.isEmpty())
+                ? productEntityRepository.findByIdGreaterThan(afterId, PageRequest.of(0, size + 1, Sort.by("id")))
+                        .stream()
+                        .map(ProductEntity::toDomain)
+                        .toList()
+                : searchByName(search, afterId, 0, size + 1);
+
+        if (found.size() <= size) {
+            return new CursorPage<>(found, null);
+        }
+        List<Product> products = found.subList(0, size);
+        return new CursorPage<>(products, KeysetCursor.encode(products.get(size - 1).getId()));
+    }
+
+    @Override
+    public long count(String search) {
+        if (search == null || search.isEmpty()) {
+            return productCounts.get(ALL_PRODUCTS, productEntityRepository::count);
+        }
+        return productCounts.get(search, () -> countByName(search));
+    }
+
+    @Override
+    @Transactional
+    public Product save(Product product) {
+        productEntityRepository.findById(product.getId())
+                .ifPresentOrElse(
+                        entity -> entity.update(product),
+                        () -> {
+                            productEntityRepository.save(ProductEntity.from(product));
+                            insertNameGrams(product);
+                            productCounts.increment(ALL_PRODUCTS);
+                        }
+                );
+        return product;
+    }
+
+    @Override
+    @Transactional
+    public boolean saveIfVersionMatches(Product product) {
+        return productEntityRepository.updateStockIfVersionMatches(
+                product.getId(), product.getStockQuantity(), product.getVersion()) == 1;
+    }
+
+    @Override
+    @Transactional
+    public boolean tryDecreaseStock(Long productId, int quantity) {
+        return productEntityRepository.decreaseStockIfAvailable(productId, quantity) == 1;
+    }
+
+    /**
+     * 조건부 UPDATE 배치 한 번으로 차감하고, 실패한 상품이 있으면 성공한 상품을 되돌리는 배치를 한 번 더 전송
+     * - JDBC로 직접 갱신하므로 전후로 영속성 컨텍스트를 flush/clear
+     */
+    @Override
+    @Transactional
+    public List<Long> tryDecreaseStocks(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return List.of();
+        }
+        entityManager.flush();
+
+        List<Long> productIds = new ArrayList<>(quantities.keySet());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> decreaseArgs = new ArrayList<>(productIds.size());
+        for (Long productId : productIds) {
+            int quantity = quantities.get(productId);
+            decreaseArgs.add(new Object[]{quantity, now, productId, quantity});
+        }
+        int[] updatedRows = jdbcTemplate.batchUpdate(DECREASE_STOCK_SQL, decreaseArgs);
+
+        List<Long> failed = new ArrayList<>();
+        List<Object[]> restoreArgs = new ArrayList<>();
+        for (int i = 0; i < productIds.size(); i++) {
+            Long productId = productIds.get(i);
+            if (updatedRows[i] == 0) {
+                failed.add(productId);
+            } else {
+                restoreArgs.add(new Object[]{quantities.get(productId), now, productId});
+            }
+        }
+        if (!failed.isEmpty() && !restoreArgs.isEmpty()) {
+            jdbcTemplate.batchUpdate(INCREASE_STOCK_SQL, restoreArgs);
+        }
+
+        entityManager.clear();
+        return failed;
+    }
+
+    /**
+     * 상대 UPDATE(stock_quantity + ?) 배치 한 번으로 복구
+     * - JDBC로 직접 갱신하므로 전후로 영속성 컨텍스트를 flush/clear
+     */
+    @Override
+    @Transactional
+    public void increaseStocks(Map<Long, Integer> quantities) {
+        if (quantities.isEmpty()) {
+            return;
+        }
+        entityManager.flush();
+
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> increaseArgs = new ArrayList<>(quantities.size());
+        quantities.forEach((productId, quantity) -> increaseArgs.add(new Object[]{quantity, now, productId}));
+        jdbcTemplate.batchUpdate(INCREASE_STOCK_SQL, increaseArgs);
+
+        entityManager.clear();
+    }
+
+    /**
+     * 상품명의 unigram/bigram 색인 행을 JDBC 배치로 기록
+     */
+    private void insertNameGrams(Product product) {
+        List<Object[]> args = new ArrayList<>();
+        for (String gram : ProductNameIndex.gramsOfName(product.getName())) {
+            args.add(new Object[]{gram, product.getId()});
+        }
+        jdbcTemplate.batchUpdate(INSERT_NAME_GRAM_SQL, args);
+    }
+
+    /**
+     * 기준 gram의 포스팅을 product_id 순으로 따라가며 상품명에 검색어가 있는 상품만 조회
+     * - PK(gram, product_id) 범위 조회라 필요한 개수를 찾으면 멈춤
+     * - bigram만 같고 이어져 있지 않은 상품은 LIKE로 걸러냄 (기준 gram 포스팅 안에서만 확인)
+     */
+    private List<Product> searchByName(String search, long afterId, int offset, int limit) {
+        String anchor = rarestGram(search);
+        if (anchor == null) {
+            return List.of();
+        }
+        return jdbcTemplate.query(SEARCH_SQL, PRODUCT_ROW_MAPPER,
+                anchor, afterId, containsPattern(search), limit, offset);
+    }
+
+    private long countByName(String search) {
+        String anchor = rarestGram(search);
+        if (anchor == null) {
+            return 0;
+        }
+        Long count = jdbcTemplate.queryForObject(SEARCH_COUNT_SQL, Long.class, anchor, containsPattern(search));
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * 검색어 gram 중 포스팅이 가장 짧은 gram (하나라도 포스팅이 없으면 결과가 없으므로 null)
+     */
+    private String rarestGram(String search) {
+        String rarest = null;
+        long rarestFrequency = Long.MAX_VALUE;
+        int probed = 0;
+        for (String gram : ProductNameIndex.gramsOfQuery(search)) {
+            if (probed++ == MAX_PROBED_GRAMS) {
+                break;
+            }
+            Long frequency = jdbcTemplate.queryForObject(GRAM_FREQUENCY_SQL, Long.class, gram, PROBE_LIMIT);
+            if (frequency == null || frequency == 0) {
+                return null;
+            }
+            if (frequency < rarestFrequency) {
+                rarest = gram;
+                rarestFrequency = frequency;
+            }
+        }
+        return rarest;
+    }
+
+    /**
+     * 부분 문자열 LIKE 패턴 ('!'로 와일드카드 이스케이프, MySQL/H2 공통)
+     */
+    private static String containsPattern(String search) {
+        String escaped = search.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+        return "%" + escaped + "%";
+    }
+
+    public CacheMetrics getCountCacheMetrics() {
+        return productCounts.getMetrics();
+    }
+}
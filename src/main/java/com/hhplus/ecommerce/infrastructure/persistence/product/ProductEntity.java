@@ -0,0 +1,65 @@
+package com.hhplus.ecommerce.infrastructure.persistence.product;
+
+import com.hhplus.ecommerce.domain.entity.Product;
+import com.hhplus.ecommerce.infrastructure.persistence.AssignedIdEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.Version;
+
+/**
+ * 상품 JPA 엔티티
+ * - version: 낙관적 락 전략에서 재고 변경 충돌 감지에 사용
+ */
+@Entity
+@Table(name = "product", indexes = @Index(name = "idx_product_name", columnList = "product_name"))
+public class ProductEntity extends AssignedIdEntity {
+
+    @Id
+    @Column(name = "product_id")
+    private Long id;
+
+    @Column(name = "product_name", nullable = false, length = 200)
+    private String name;
+
+    @Column(nullable = false)
+    private int price;
+
+    @Column(nullable = false)
+    private int stockQuantity;
+
+    @Version
+    private Long version;
+
+    protected ProductEntity() {
+    }
+
+    private ProductEntity(Long id, String name, int price, int stockQuantity) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+        this.stockQuantity = stockQuantity;
+    }
+
+    public static ProductEntity from(Product product) {
+        return new ProductEntity(product.getId(), product.getName(), product.getPrice(), product.getStockQuantity());
+    }
+
+    /**
+     * 도메인 모델의 변경 사항 반영 (재고)
+     */
+    public void update(Product product) {
+        this.stockQuantity = product.getStockQuantity();
+    }
+
+    public Product toDomain() {
+        return new Product(id, name, price, stockQuantity, version);
+    }
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,48 @@
+package com.hhplus.ecommerce.infrastructure.persistence.product;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 상품 Spring Data 리포지토리
+ */
+public interface ProductEntityRepository extends JpaRepository<ProductEntity, Long> {
+
+    List<ProductEntity> findByIdGreaterThan(Long id, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000"))
+    @Query("select p from ProductEntity p where p.id = :id")
+    Optional<ProductEntity> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * 조회 시점 버전과 같을 때만 재고 변경
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update ProductEntity p"
+            + " set p.stockQuantity = :stockQuantity, p.version = p.version + 1, p.updatedAt = local datetime"
+            + " where p.id = :id and p.version = :version")
+    int updateStockIfVersionMatches(@Param("id") Long id,
+                                    @Param("stockQuantity") int stockQuantity,
+                                    @Param("version") long version);
+
+    /**
+     * 재고가 충분할 때만 차감 (버전도 올려 낙관적 락 사용자와 충돌 감지)
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update ProductEntity p"
+            + " set p.stockQuantity = p.stockQuantity - :quantity, p.version = p.version + 1,"
+            + " p.updatedAt = local datetime"
+            + " where p.id = :id and p.stockQuantity >= :quantity")
+    int decreaseStockIfAvailable(@Param("id") Long id, @Param("quantity") int quantity);
+}
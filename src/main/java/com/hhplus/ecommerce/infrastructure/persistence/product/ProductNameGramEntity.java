@@ -0,0 +1,61 @@
+package com.hhplus.ecommerce.infrastructure.persistence.product;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+
+import java.io.Serializable;
+import java.util.Objects;
+
+/**
+ * 상품명 n-gram 색인 JPA 엔티티
+ * - 상품명의 모든 1글자/연속 2글자(gram)마다 한 행, PK(gram, product_id) 순서가 곧 포스팅 리스트
+ * - 상품 저장 시 JpaProductRepository가 JDBC 배치로 기록 (상품명은 저장 후 변경되지 않음)
+ * - DB에 있으므로 여러 애플리케이션 노드가 같은 색인을 사용
+ */
+@Entity
+@IdClass(ProductNameGramEntity.Key.class)
+@Table(name = "product_name_gram")
+public class ProductNameGramEntity {
+
+    @Id
+    @Column(length = 2)
+    private String gram;
+
+    @Id
+    @Column(name = "product_id")
+    private Long productId;
+
+    protected ProductNameGramEntity() {
+    }
+
+    /**
+     * 복합 키 (gram, product_id)
+     */
+    public static class Key implements Serializable {
+
+        private String gram;
+        private Long productId;
+
+        protected Key() {
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key key)) {
+                return false;
+            }
+            return Objects.equals(gram, key.gram) && Objects.equals(productId, key.productId);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(gram, productId);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.hhplus.ecommerce.infrastructure.persistence.stock;
+
+import com.hhplus.ecommerce.domain.entity.StockReservation;
+import com.hhplus.ecommerce.domain.repository.StockReservationRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JPA 기반 StockReservationRepository 구현
+ * - 예약 저장은 새 엔티티를 한 트랜잭션에서 persist하여 hibernate.jdbc.batch_size 단위로 INSERT
+ * - 예약 삭제는 주문의 예약 행을 비관적 락으로 조회한 뒤 삭제하므로,
+ *   결제 확정과 만료 해제가 동시에 일어나도 나중 쪽은 빈 목록을 받음
+ */
+@Repository
+public class JpaStockReservationRepository implements StockReservationRepository {
+
+    private final StockReservationEntityRepository stockReservationEntityRepository;
+
+    public JpaStockReservationRepository(StockReservationEntityRepository stockReservationEntityRepository) {
+        this.stockReservationEntityRepository = stockReservationEntityRepository;
+    }
+
+    @Override
+    @Transactional
+    public List<StockReservation> saveAll(List<StockReservation> reservations) {
+        stockReservationEntityRepository.saveAll(reservations.stream()
+                .map(StockReservationEntity::from)
+                .toList());
+        return reservations;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public List<StockReservation> deleteByOrderId(Long orderId) {
+        List<StockReservationEntity> entities = stockReservationEntityRepository.findByOrderIdForUpdate(orderId);
+        if (entities.isEmpty()) {
+            return List.of();
+        }
+        stockReservationEntityRepository.deleteAllInBatch(entities);
+        return entities.stream()
+                .map(StockReservationEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<Long> findExpiredOrderIds(LocalDateTime now, int limit) {
+        return stockReservationEntityRepository.findExpiredOrderIds(now, PageRequest.of(0, limit));
+    }
+}
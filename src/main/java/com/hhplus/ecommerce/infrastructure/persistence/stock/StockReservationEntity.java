@@ -0,0 +1,69 @@
+package com.hhplus.ecommerce.infrastructure.persistence.stock;
+
+import com.hhplus.ecommerce.domain.entity.StockReservation;
+import com.hhplus.ecommerce.infrastructure.persistence.AssignedIdEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+
+import java.time.LocalDateTime;
+
+/**
+ * 재고 예약 JPA 엔티티
+ * - 생성 후 변경되지 않고 확정/해제 시 삭제됨
+ */
+@Entity
+@Table(name = "stock_reservation", indexes = {
+        @Index(name = "idx_order_id", columnList = "order_id"),
+        @Index(name = "idx_expires_at", columnList = "expires_at")
+})
+public class StockReservationEntity extends AssignedIdEntity {
+
+    @Id
+    @Column(name = "stock_reservation_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private Long orderId;
+
+    @Column(nullable = false)
+    private Long productId;
+
+    @Column(nullable = false)
+    private int quantity;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    protected StockReservationEntity() {
+    }
+
+    private StockReservationEntity(Long id, Long orderId, Long productId, int quantity, LocalDateTime expiresAt) {
+        this.id = id;
+        this.orderId = orderId;
+        this.productId = productId;
+        this.quantity = quantity;
+        this.expiresAt = expiresAt;
+    }
+
+    public static StockReservationEntity from(StockReservation reservation) {
+        return new StockReservationEntity(
+                reservation.getId(),
+                reservation.getOrderId(),
+                reservation.getProductId(),
+                reservation.getQuantity(),
+                reservation.getExpiresAt()
+        );
+    }
+
+    public StockReservation toDomain() {
+        return new StockReservation(id, orderId, productId, quantity, expiresAt);
+    }
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+}
@@ -0,0 +1,31 @@
+package com.hhplus.ecommerce.infrastructure.persistence.stock;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 재고 예약 Spring Data 리포지토리
+ */
+public interface StockReservationEntityRepository extends JpaRepository<StockReservationEntity, Long> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "3000"))
+    @Query("select r from StockReservationEntity r where r.orderId = :orderId")
+    List<StockReservationEntity> findByOrderIdForUpdate(@Param("orderId") Long orderId);
+
+    /**
+     * 만료된 예약의 주문 ID (만료일시 인덱스 범위 조회)
+     */
+    @Query("select r.orderId from StockReservationEntity r where r.expiresAt <= :now"
+            + " group by r.orderId order by min(r.expiresAt)")
+    List<Long> findExpiredOrderIds(@Param("now") LocalDateTime now, Pageable pageable);
+}
@@ -0,0 +1,46 @@
+package com.hhplus.ecommerce.infrastructure.persistence.user;
+
+import com.hhplus.ecommerce.domain.entity.User;
+import com.hhplus.ecommerce.domain.repository.UserRepository;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * JPA 기반 UserRepository 구현
+ */
+@Repository
+public class JpaUserRepository implements UserRepository {
+
+    private final UserEntityRepository userEntityRepository;
+
+    public JpaUserRepository(UserEntityRepository userEntityRepository) {
+        this.userEntityRepository = userEntityRepository;
+    }
+
+    @Override
+    public Optional<User> findById(Long userId) {
+        return userEntityRepository.findById(userId)
+                .map(UserEntity::toDomain);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public Optional<User> findByIdForUpdate(Long userId) {
+        return userEntityRepository.findByIdForUpdate(userId)
+                .map(UserEntity::toDomain);
+    }
+
+    @Override
+    @Transactional
+    public User save(User user) {
+        userEntityRepository.findById(user.getId())
+                .ifPresentOrElse(
+                        entity -> entity.update(user),
+                        () -> userEntityRepository.save(UserEntity.from(user))
+                );
+        return user;
+    }
+}
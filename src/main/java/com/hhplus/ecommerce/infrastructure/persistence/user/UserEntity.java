@@ -0,0 +1,51 @@
+package com.hhplus.ecommerce.infrastructure.persistence.user;
+
+import com.hhplus.ecommerce.domain.entity.User;
+import com.hhplus.ecommerce.infrastructure.persistence.AssignedIdEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+/**
+ * 사용자 JPA 엔티티
+ */
+@Entity
+@Table(name = "`user`")
+public class UserEntity extends AssignedIdEntity {
+
+    @Id
+    @Column(name = "user_id")
+    private Long id;
+
+    @Column(nullable = false)
+    private int point;
+
+    protected UserEntity() {
+    }
+
+    private UserEntity(Long id, int point) {
+        this.id = id;
+        this.point = point;
+    }
+
+    public static UserEntity from(User user) {
+        return new UserEntity(user.getId(), user.getPoint());
+    }
+
+    /**
+     * 도메인 모델의 변경 사항 반영 (포인트)
+     */
+    public void update(User user) {
+        this.point = user.getPoint();
+    }
+
+    public User toDomain() {
+        return new User(id, point);
+    }
+
+    @Override
+    public Long getId() {
+        return id;
+    }
+}
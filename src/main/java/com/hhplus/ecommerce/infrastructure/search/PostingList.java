@@ -0,0 +1,107 @@
+package com.hhplus.ecommerce.infrastructure.search;
+
+import java.util.Arrays;
+
+/**
+ * 정렬된 long 포스팅 리스트
+ * - 상품 ID를 오름차순으로 박싱 없이 보관하고, ID마다 상품명 안의 출현 위치 비트마스크를 함께 보관
+ * - 새 ID는 대부분 기존 ID보다 크므로(Snowflake) 추가는 보통 배열 끝에 붙이기
+ * - 스레드 안전하지 않음 (ProductNameIndex의 락 안에서만 사용)
+ */
+final class PostingList {
+
+    private static final int MIN_CAPACITY = 4;
+
+    private long[] ids = new long[MIN_CAPACITY];
+    private long[] positions = new long[MIN_CAPACITY];
+    private int size;
+
+    /**
+     * @param positionMask 출현 위치 비트마스크 (이미 있는 ID면 덮어씀)
+     * @return 새로 추가했으면 true
+     */
+    boolean add(long id, long positionMask) {
+        if (size == 0 || ids[size - 1] < id) {
+            ensureCapacity();
+            ids[size] = id;
+            positions[size++] = positionMask;
+            return true;
+        }
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position >= 0) {
+            positions[position] = positionMask;
+            return false;
+        }
+        int insertion = -position - 1;
+        ensureCapacity();
+        System.arraycopy(ids, insertion, ids, insertion + 1, size - insertion);
+        System.arraycopy(positions, insertion, positions, insertion + 1, size - insertion);
+        ids[insertion] = id;
+        positions[insertion] = positionMask;
+        size++;
+        return true;
+    }
+
+    /**
+     * @return 제거했으면 true
+     */
+    boolean remove(long id) {
+        int position = Arrays.binarySearch(ids, 0, size, id);
+        if (position < 0) {
+            return false;
+        }
+        System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+        System.arraycopy(positions, position + 1, positions, position, size - position - 1);
+        size--;
+        if (size > MIN_CAPACITY && size * 4 < ids.length) {
+            ids = Arrays.copyOf(ids, ids.length / 2);
+            positions = Arrays.copyOf(positions, positions.length / 2);
+        }
+        return true;
+    }
+
+    /**
+     * from 위치부터 target 이상인 첫 위치 (지수 탐색 후 이진 탐색)
+     *
+     * @return 위치, 모두 target보다 작으면 size()
+     */
+    int seek(long target, int from) {
+        if (from >= size || ids[from] >= target) {
+            return from;
+        }
+        int bound = 1;
+        while (from + bound < size && ids[from + bound] < target) {
+            bound <<= 1;
+        }
+        int low = from + (bound >> 1);
+        int high = Math.min(from + bound, size - 1);
+        if (low >= size || ids[high] < target) {
+            return size;
+        }
+        int position = Arrays.binarySearch(ids, low, high + 1, target);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    long get(int index) {
+        return ids[index];
+    }
+
+    long positionMask(int index) {
+        return positions[index];
+    }
+
+    int size() {
+        return size;
+    }
+
+    boolean isEmpty() {
+        return size == 0;
+    }
+
+    private void ensureCapacity() {
+        if (size == ids.length) {
+            ids = Arrays.copyOf(ids, ids.length * 2);
+            positions = Arrays.copyOf(positions, positions.length * 2);
+        }
+    }
+}
@@ -0,0 +1,284 @@
+package com.hhplus.ecommerce.infrastructure.search;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품명 n-gram 역색인
+ * - 상품명의 모든 1글자(unigram)와 연속 2글자(bigram)마다 상품 ID 포스팅 리스트(오름차순)를 유지
+ *   (형태소 분석 없이 한글 상품명의 부분 문자열 검색 지원)
+ * - 1~2글자 검색어는 해당 포스팅 그대로, 3글자 이상은 검색어 bigram 포스팅의 교집합을 구함
+ * - 포스팅마다 bigram 출현 위치 비트마스크를 보관하여, 교집합 후보의 bigram이 검색어처럼
+ *   이어져 있는지를 상품명 조회 없이 비트 연산으로 확인 (63번째 글자 이후 위치가 걸리면 상품명으로 확인)
+ * - 교집합은 포스팅들을 번갈아 지수 탐색으로 건너뛰며(leapfrog) 구하고,
+ *   ID 순으로 나오므로 페이지 조회는 필요한 개수만 찾으면 멈춤
+ * - 검색 의미는 String.contains와 동일 (대소문자, 공백 구분)
+ * - 조회는 읽기 락을 공유, 색인 갱신만 쓰기 락으로 배타 처리
+ */
+public class ProductNameIndex {
+
+    /**
+     * 63번째 글자 이후 위치는 모두 이 비트 하나로 표시
+     */
+    private static final int OVERFLOW_POSITION = 63;
+
+    private final Map<String, PostingList> postings = new HashMap<>();
+    private final Map<Long, String> names = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 색인 추가/갱신 (상품명이 같으면 아무것도 하지 않음)
+     */
+    public void index(long productId, String name) {
+        lock.writeLock().lock();
+        try {
+            String previous = names.put(productId, name);
+            if (name.equals(previous)) {
+                return;
+            }
+            if (previous != null) {
+                for (String gram : gramsOf(previous).keySet()) {
+                    removePosting(gram, productId);
+                }
+            }
+            gramsOf(name).forEach((gram, positionMask) ->
+                    postings.computeIfAbsent(gram, g -> new PostingList()).add(productId, positionMask));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 색인 제거
+     */
+    public void remove(long productId) {
+        lock.writeLock().lock();
+        try {
+            String previous = names.remove(productId);
+            if (previous != null) {
+                for (String gram : gramsOf(previous).keySet()) {
+                    removePosting(gram, productId);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어를 포함하는 상품 ID 조회 (ID 오름차순)
+     *
+     * @param offset 건너뛸 결과 수
+     * @param limit  최대 결과 수
+     */
+    public List<Long> search(String query, int offset, int limit) {
+        return collect(query, Long.MIN_VALUE, offset, limit);
+    }
+
+    /**
+     * 검색어를 포함하면서 ID가 afterId보다 큰 상품 ID 조회 (ID 오름차순, 커서 기반 페이지 조회용)
+     *
+     * @param limit 최대 결과 수
+     */
+    public List<Long> searchAfter(String query, long afterId, int limit) {
+        return collect(query, afterId + 1, 0, limit);
+    }
+
+    /**
+     * 검색어를 포함하는 상품 수
+     */
+    public long count(String query) {
+        lock.readLock().lock();
+        try {
+            if (!query.isEmpty() && query.length() <= 2) {
+                PostingList posting = postings.get(query);
+                return posting == null ? 0 : posting.size();
+            }
+            long[] count = new long[1];
+            scan(query, Long.MIN_VALUE, productId -> {
+                count[0]++;
+                return true;
+            });
+            return count[0];
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인된 상품 수
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return names.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private List<Long> collect(String query, long fromId, int offset, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        List<Long> result = new ArrayList<>(Math.min(limit, 1024));
+        lock.readLock().lock();
+        try {
+            scan(query, fromId, new MatchConsumer() {
+                private int skipped;
+
+                @Override
+                public boolean accept(long productId) {
+                    if (skipped < offset) {
+                        skipped++;
+                        return true;
+                    }
+                    result.add(productId);
+                    return result.size() < limit;
+                }
+            });
+        } finally {
+            lock.readLock().unlock();
+        }
+        return result;
+    }
+
+    /**
+     * 검색어 포함 상품 중 ID가 fromId 이상인 상품을 ID 순으로 전달 (읽기 락 보유 중 호출)
+     */
+    private void scan(String query, long fromId, MatchConsumer consumer) {
+        if (query.isEmpty()) {
+            throw new IllegalArgumentException("검색어가 비어 있습니다.");
+        }
+        if (query.length() <= 2) {
+            PostingList posting = postings.get(query);
+            if (posting == null) {
+                return;
+            }
+            for (int i = posting.seek(fromId, 0); i < posting.size(); i++) {
+                if (!consumer.accept(posting.get(i))) {
+                    return;
+                }
+            }
+            return;
+        }
+
+        // 검색어 안의 위치(offset)별 bigram 포스팅, 짧은 포스팅부터 탐색
+        int bigramCount = query.length() - 1;
+        PostingList[] lists = new PostingList[bigramCount];
+        for (int offset = 0; offset < bigramCount; offset++) {
+            lists[offset] = postings.get(query.substring(offset, offset + 2));
+            if (lists[offset] == null) {
+                return;
+            }
+        }
+        Integer[] order = new Integer[bigramCount];
+        for (int i = 0; i < bigramCount; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, Comparator.comparingInt(offset -> lists[offset].size()));
+
+        // leapfrog: 포스팅을 돌아가며 현재 후보 이상으로 건너뛰고, 모두 같은 ID에 멈추면 교집합
+        int[] cursors = new int[bigramCount];
+        long candidate = fromId;
+        int agreed = 0;
+        for (int i = 0; ; i = (i + 1) % bigramCount) {
+            int offset = order[i];
+            PostingList list = lists[offset];
+            cursors[offset] = list.seek(candidate, cursors[offset]);
+            if (cursors[offset] == list.size()) {
+                return;
+            }
+            long productId = list.get(cursors[offset]);
+            if (productId != candidate) {
+                candidate = productId;
+                agreed = 1;
+            } else if (++agreed == bigramCount) {
+                if (isContiguous(lists, cursors, candidate, query) && !consumer.accept(candidate)) {
+                    return;
+                }
+                candidate++;
+                agreed = 0;
+            }
+        }
+    }
+
+    /**
+     * 교집합 후보의 bigram들이 검색어 순서대로 이어져 있는지 확인
+     * - offset번째 bigram의 위치 마스크를 offset만큼 당겨 AND 했을 때 남는 비트가 검색어 시작 위치
+     */
+    private boolean isContiguous(PostingList[] lists, int[] cursors, long productId, String query) {
+        long starts = -1L;
+        for (int offset = 0; offset < lists.length; offset++) {
+            long positionMask = lists[offset].positionMask(cursors[offset]);
+            if ((positionMask & (1L << OVERFLOW_POSITION)) != 0) {
+                return names.get(productId).contains(query);
+            }
+            starts &= positionMask >>> offset;
+        }
+        return starts != 0;
+    }
+
+    private void removePosting(String gram, long productId) {
+        PostingList posting = postings.get(gram);
+        if (posting != null && posting.remove(productId) && posting.isEmpty()) {
+            postings.remove(gram);
+        }
+    }
+
+    /**
+     * 상품명의 unigram/bigram 목록 (중복 제거, DB 색인 테이블도 같은 단위로 색인)
+     */
+    public static Set<String> gramsOfName(String name) {
+        return gramsOf(name).keySet();
+    }
+
+    /**
+     * 검색어를 포함하는 상품이 반드시 가지는 gram 목록 (중복 제거)
+     * - 1~2글자 검색어는 검색어 자체, 3글자 이상은 검색어의 bigram
+     */
+    public static Set<String> gramsOfQuery(String query) {
+        if (query.isEmpty()) {
+            throw new IllegalArgumentException("검색어가 비어 있습니다.");
+        }
+        if (query.length() <= 2) {
+            return Set.of(query);
+        }
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + 2 <= query.length(); i++) {
+            grams.add(query.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    /**
+     * 상품명의 unigram/bigram별 출현 위치 비트마스크
+     */
+    private static Map<String, Long> gramsOf(String name) {
+        Map<String, Long> grams = new LinkedHashMap<>();
+        for (int length = 1; length <= 2; length++) {
+            for (int i = 0; i + length <= name.length(); i++) {
+                long bit = 1L << Math.min(i, OVERFLOW_POSITION);
+                grams.merge(name.substring(i, i + length), bit, (a, b) -> a | b);
+            }
+        }
+        return grams;
+    }
+
+    @FunctionalInterface
+    private interface MatchConsumer {
+
+        /**
+         * @return 계속 받으려면 true
+         */
+        boolean accept(long productId);
+    }
+}
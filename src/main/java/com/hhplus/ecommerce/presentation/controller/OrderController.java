@@ -3,6 +3,7 @@ package com.hhplus.ecommerce.presentation.controller;
 import com.hhplus.ecommerce.application.usecase.OrderUseCase;
 import com.hhplus.ecommerce.common.ApiResponse;
 import com.hhplus.ecommerce.domain.entity.Order;
+import com.hhplus.ecommerce.domain.repository.CursorPage;
 import com.hhplus.ecommerce.presentation.dto.*;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -83,16 +84,30 @@ public class OrderController {
         return ApiResponse.success(data);
     }
 
-    @Operation(summary = "주문 목록 조회", description = "사용자의 주문 목록을 조회합니다")
+    @Operation(summary = "주문 목록 조회", description = "사용자의 주문 목록을 조회합니다. "
+            + "cursor를 보내면(첫 페이지는 빈 값) 페이지 번호 대신 커서 방식으로 조회하며, "
+            + "includeTotal=false면 전체 개수 없이 hasNext만 내려줍니다")
     @GetMapping
     public ApiResponse<OrderListResponse> getOrders(
             @Parameter(description = "사용자 ID", example = "1") @RequestParam Long userId,
             @Parameter(description = "페이지 번호", example = "1") @RequestParam(defaultValue = "1") Integer page,
-            @Parameter(description = "페이지 크기", example = "20") @RequestParam(defaultValue = "20") Integer size) {
-
-        List<Order> orders = orderUseCase.getOrders(userId, page, size);
-        long totalCount = orderUseCase.getOrderCount(userId);
-        int totalPages = (int) Math.ceil((double) totalCount / size);
+            @Parameter(description = "페이지 크기", example = "20") @RequestParam(defaultValue = "20") Integer size,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 빈 값)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "커서 방식에서 전체 개수 포함 여부 (false면 개수 조회 생략)") @RequestParam(defaultValue = "true") boolean includeTotal) {
+
+        List<Order> orders;
+        PaginationResponse pagination;
+        if (cursor != null) {
+            CursorPage<Order> result = orderUseCase.getOrdersAfter(userId, cursor.isEmpty() ? null : cursor, size);
+            orders = result.items();
+            Long totalCount = includeTotal ? orderUseCase.getOrderCount(userId) : null;
+            pagination = PaginationResponse.ofCursor(size, totalCount, result.nextCursor());
+        } else {
+            orders = orderUseCase.getOrders(userId, page, size);
+            long totalCount = orderUseCase.getOrderCount(userId);
+            int totalPages = (int) Math.ceil((double) totalCount / size);
+            pagination = new PaginationResponse(page, size, totalCount, totalPages);
+        }
 
         List<OrderListItemResponse> orderResponses = orders.stream()
                 .map(order -> new OrderListItemResponse(
@@ -105,7 +120,6 @@ public class OrderController {
                 ))
                 .collect(Collectors.toList());
 
-        PaginationResponse pagination = new PaginationResponse(page, size, totalCount, totalPages);
         OrderListResponse data = new OrderListResponse(orderResponses, pagination);
 
         return ApiResponse.success(data);
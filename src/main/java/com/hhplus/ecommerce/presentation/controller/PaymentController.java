@@ -72,10 +72,6 @@ public class PaymentController {
                 LocalDateTime.now()
         );
 
-        String message = result.dataTransferSuccess()
-                ? "결제가 완료되었습니다"
-                : "결제가 완료되었습니다 (외부 전송은 재시도 예정)";
-
-        return ApiResponse.success(data, message);
+        return ApiResponse.success(data, "결제가 완료되었습니다");
     }
 }
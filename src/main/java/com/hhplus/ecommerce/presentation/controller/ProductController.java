@@ -3,6 +3,7 @@ package com.hhplus.ecommerce.presentation.controller;
 import com.hhplus.ecommerce.application.usecase.ProductUseCase;
 import com.hhplus.ecommerce.common.ApiResponse;
 import com.hhplus.ecommerce.domain.entity.Product;
+import com.hhplus.ecommerce.domain.repository.CursorPage;
 import com.hhplus.ecommerce.presentation.dto.PaginationResponse;
 import com.hhplus.ecommerce.presentation.dto.ProductListResponse;
 import com.hhplus.ecommerce.presentation.dto.ProductResponse;
@@ -26,22 +27,35 @@ public class ProductController {
         this.productUseCase = productUseCase;
     }
 
-    @Operation(summary = "상품 목록 조회", description = "페이징 및 검색 조건으로 상품 목록을 조회합니다")
+    @Operation(summary = "상품 목록 조회", description = "페이징 및 검색 조건으로 상품 목록을 조회합니다. "
+            + "cursor를 보내면(첫 페이지는 빈 값) 페이지 번호 대신 커서 방식으로 조회하며, "
+            + "includeTotal=false면 전체 개수 없이 hasNext만 내려줍니다")
     @GetMapping
     public ApiResponse<ProductListResponse> getProducts(
             @Parameter(description = "페이지 번호", example = "1") @RequestParam(defaultValue = "1") Integer page,
             @Parameter(description = "페이지 크기", example = "20") @RequestParam(defaultValue = "20") Integer size,
-            @Parameter(description = "검색어") @RequestParam(required = false) String search) {
-
-        List<Product> products = productUseCase.getProducts(page, size, search);
-        long totalCount = productUseCase.getProductCount(search);
-        int totalPages = (int) Math.ceil((double) totalCount / size);
+            @Parameter(description = "검색어") @RequestParam(required = false) String search,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 빈 값)") @RequestParam(required = false) String cursor,
+            @Parameter(description = "커서 방식에서 전체 개수 포함 여부 (false면 개수 조회 생략)") @RequestParam(defaultValue = "true") boolean includeTotal) {
+
+        List<Product> products;
+        PaginationResponse pagination;
+        if (cursor != null) {
+            CursorPage<Product> result = productUseCase.getProductsAfter(cursor.isEmpty() ? null : cursor, size, search);
+            products = result.items();
+            Long totalCount = includeTotal ? productUseCase.getProductCount(search) : null;
+            pagination = PaginationResponse.ofCursor(size, totalCount, result.nextCursor());
+        } else {
+            products = productUseCase.getProducts(page, size, search);
+            long totalCount = productUseCase.getProductCount(search);
+            int totalPages = (int) Math.ceil((double) totalCount / size);
+            pagination = new PaginationResponse(page, size, totalCount, totalPages);
+        }
 
         List<ProductResponse> productResponses = products.stream()
                 .map(this::toProductResponse)
                 .collect(Collectors.toList());
 
-        PaginationResponse pagination = new PaginationResponse(page, size, totalCount, totalPages);
         ProductListResponse data = new ProductListResponse(productResponses, pagination);
 
         return ApiResponse.success(data);
@@ -3,6 +3,12 @@ package com.hhplus.ecommerce.presentation.dto;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
+/**
+ * 페이지 정보
+ * - 페이지 번호 방식: currentPage/totalPages 사용, nextCursor는 null
+ * - 커서 방식: currentPage/totalPages는 null, 다음 페이지가 있으면 nextCursor를 다음 요청의 cursor로 전달
+ *   (전체 개수를 생략하면 totalItems도 null이고 hasNext로만 다음 페이지 여부를 알림)
+ */
 @Getter
 @AllArgsConstructor
 public class PaginationResponse {
@@ -10,4 +16,19 @@ public class PaginationResponse {
     private Integer pageSize;
     private Long totalItems;
     private Integer totalPages;
+    private Boolean hasNext;
+    private String nextCursor;
+
+    public PaginationResponse(Integer currentPage, Integer pageSize, Long totalItems, Integer totalPages) {
+        this(currentPage, pageSize, totalItems, totalPages, currentPage < totalPages, null);
+    }
+
+    /**
+     * 커서 방식 페이지 정보
+     *
+     * @param totalItems 전체 개수 (생략하면 null)
+     */
+    public static PaginationResponse ofCursor(Integer pageSize, Long totalItems, String nextCursor) {
+        return new PaginationResponse(null, pageSize, totalItems, null, nextCursor != null, nextCursor);
+    }
 }
@@ -0,0 +1,277 @@
+package com.hhplus.ecommerce.presentation.filter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hhplus.ecommerce.common.ApiResponse;
+import com.hhplus.ecommerce.common.exception.ErrorCode;
+import com.hhplus.ecommerce.common.exception.IdempotencyInProgressException;
+import com.hhplus.ecommerce.common.exception.IdempotencyKeyReusedException;
+import com.hhplus.ecommerce.infrastructure.cache.IdempotencyStore;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.MediaType;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Idempotency-Key 헤더 처리 필터
+ * - 대상 경로의 POST 요청에 Idempotency-Key가 있으면 IdempotencyStore로 처리하여,
+ *   타임아웃 후 재시도가 결제/주문/쿠폰 발급을 다시 실행하지 않고 처음 응답을 그대로 받도록 함
+ *   (재사용한 응답에는 Idempotent-Replayed: true 헤더)
+ * - 키는 요청 경로와 호출자별로 구분하여 다른 사용자의 같은 키와 섞이지 않게 함
+ *   (호출자: X-User-Id 헤더, 없으면 경로 변수 {userId}, 없으면 본문의 userId)
+ * - X-User-Id는 인증을 마친 게이트웨이가 넣는 헤더로 보고 그대로 신뢰함 (이 필터는 인증하지 않음)
+ * - 호출자를 알 수 없는 키 요청은 다른 익명 요청과 키가 섞이므로 400으로 거절
+ * - 쿼리 문자열과 본문의 SHA-256으로 같은 키의 다른 요청을 구분
+ * - 재사용 응답에는 처음 응답의 상태 코드, 헤더, 본문을 그대로 돌려줌
+ * - 잘못된 키(400)와 처리 중/다른 요청(409/422)은 ApiResponse 형식의 JSON으로 응답
+ * - 헤더가 없으면 그대로 처리 (선택 사항)
+ * - 응답 본문을 버퍼에 모았다가 보관 후 내보내므로 스트리밍 응답에는 쓰지 않음
+ */
+public class IdempotencyKeyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    public static final String USER_HEADER = "X-User-Id";
+
+    private static final String USER_PATH_VARIABLE = "userId";
+    private static final int MAX_KEY_LENGTH = 255;
+
+    /**
+     * 보관하지 않는 응답 헤더 (Content-Type은 따로 보관, 길이/전송 방식은 다시 쓸 때 정해짐)
+     */
+    private static final Set<String> UNSTORED_HEADERS = Set.of(
+            "content-type", "content-length", "transfer-encoding", REPLAYED_HEADER.toLowerCase(Locale.ROOT));
+
+    private final IdempotencyStore<StoredResponse> store;
+    private final List<String> pathPatterns;
+    private final ObjectMapper objectMapper;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+
+    public IdempotencyKeyFilter(IdempotencyStore<StoredResponse> store, List<String> pathPatterns,
+                                ObjectMapper objectMapper) {
+        this.store = store;
+        this.pathPatterns = List.copyOf(pathPatterns);
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        if (!"POST".equals(request.getMethod()) || request.getHeader(HEADER) == null) {
+            return true;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return pathPatterns.stream().noneMatch(pattern -> pathMatcher.match(pattern, path));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        String key = request.getHeader(HEADER).trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            writeError(response, ErrorCode.INVALID_INPUT, HEADER + "는 1 ~ " + MAX_KEY_LENGTH + "자여야 합니다");
+            return;
+        }
+
+        byte[] body = request.getInputStream().readAllBytes();
+        String caller = caller(request, body);
+        if (caller == null) {
+            writeError(response, ErrorCode.INVALID_INPUT,
+                    HEADER + " 요청에는 " + USER_HEADER + " 헤더 또는 userId가 필요합니다");
+            return;
+        }
+
+        IdempotencyStore.Claim<StoredResponse> claim;
+        try {
+            claim = store.claim(request.getRequestURI() + " " + caller + " " + key, fingerprint(request, body));
+        } catch (IdempotencyKeyReusedException | IdempotencyInProgressException e) {
+            writeError(response, e.getErrorCode(), e.getMessage());
+            return;
+        }
+
+        if (claim.isReplay()) {
+            response.setHeader(REPLAYED_HEADER, "true");
+            write(response, claim.getReplayed());
+            return;
+        }
+
+        try {
+            ContentCachingResponseWrapper buffered = new ContentCachingResponseWrapper(response);
+            chain.doFilter(new CachedBodyRequest(request, body), buffered);
+            StoredResponse stored = new StoredResponse(buffered.getStatus(), buffered.getContentType(),
+                    headersOf(buffered), buffered.getContentAsByteArray());
+            claim.complete(stored);
+            write(response, stored);
+        } finally {
+            claim.release();
+        }
+    }
+
+    /**
+     * 처음 응답에도 그대로 다시 쓰므로 헤더는 추가가 아니라 교체
+     */
+    private static void write(HttpServletResponse response, StoredResponse stored) throws IOException {
+        response.setStatus(stored.status());
+        stored.headers().forEach((name, values) -> {
+            response.setHeader(name, values.get(0));
+            for (int i = 1; i < values.size(); i++) {
+                response.addHeader(name, values.get(i));
+            }
+        });
+        if (stored.contentType() != null) {
+            response.setContentType(stored.contentType());
+        }
+        response.setContentLength(stored.body().length);
+        response.getOutputStream().write(stored.body());
+        response.flushBuffer();
+    }
+
+    private static Map<String, List<String>> headersOf(HttpServletResponse response) {
+        Map<String, List<String>> headers = new LinkedHashMap<>();
+        for (String name : response.getHeaderNames()) {
+            if (!UNSTORED_HEADERS.contains(name.toLowerCase(Locale.ROOT))) {
+                headers.putIfAbsent(name, List.copyOf(response.getHeaders(name)));
+            }
+        }
+        return headers;
+    }
+
+    private void writeError(HttpServletResponse response, ErrorCode errorCode, String message) throws IOException {
+        response.setStatus(errorCode.getStatusCode());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getOutputStream().write(objectMapper.writeValueAsBytes(ApiResponse.error(errorCode, message)));
+    }
+
+    /**
+     * 키를 구분할 호출자 (X-User-Id 헤더, 없으면 경로 변수 {userId}, 없으면 JSON 본문의 userId, 모두 없으면 null)
+     */
+    private String caller(HttpServletRequest request, byte[] body) {
+        String userHeader = request.getHeader(USER_HEADER);
+        if (userHeader != null && !userHeader.isBlank()) {
+            return userHeader.trim();
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (String pattern : pathPatterns) {
+            if (pathMatcher.match(pattern, path)) {
+                String userId = pathMatcher.extractUriTemplateVariables(pattern, path).get(USER_PATH_VARIABLE);
+                if (userId != null && !userId.isBlank()) {
+                    return userId;
+                }
+            }
+        }
+        try {
+            JsonNode userId = objectMapper.readTree(body).path("userId");
+            return userId.isValueNode() && !userId.isNull() && !userId.asText().isBlank() ? userId.asText() : null;
+        } catch (IOException e) {
+            // JSON이 아닌 본문에서는 호출자를 알 수 없음
+            return null;
+        }
+    }
+
+    private static byte[] fingerprint(HttpServletRequest request, byte[] body) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            String query = request.getQueryString();
+            digest.update((query != null ? query : "").getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) 0);
+            digest.update(body);
+            return digest.digest();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 이미 읽은 본문을 다시 읽을 수 있게 하는 요청 래퍼
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                /**
+                 * 본문이 이미 메모리에 있으므로 바로 읽을 수 있다고 알림
+                 */
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    try {
+                        if (!isFinished()) {
+                            readListener.onDataAvailable();
+                        }
+                        if (isFinished()) {
+                            readListener.onAllDataRead();
+                        }
+                    } catch (IOException e) {
+                        readListener.onError(e);
+                    }
+                }
+
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(getInputStream(),
+                    encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8));
+        }
+
+        @Override
+        public int getContentLength() {
+            return body.length;
+        }
+
+        @Override
+        public long getContentLengthLong() {
+            return body.length;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.hhplus.ecommerce.presentation.filter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Idempotency-Key 요청의 보관 응답 (상태 코드, Content-Type, 그 밖의 헤더, 본문)
+ */
+public record StoredResponse(
+        int status,
+        String contentType,
+        Map<String, List<String>> headers,
+        byte[] body
+) {
+
+    public StoredResponse {
+        headers = Map.copyOf(headers);
+    }
+
+    /**
+     * 재시도에 그대로 돌려줄 응답인지 (서버 오류는 재시도로 복구될 수 있으므로 보관하지 않음)
+     */
+    public boolean isReplayable() {
+        return status < 500;
+    }
+}
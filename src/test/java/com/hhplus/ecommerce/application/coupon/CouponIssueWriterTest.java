@@ -0,0 +1,184 @@
+package com.hhplus.ecommerce.application.coupon;
+
+import com.hhplus.ecommerce.common.id.SnowflakeIdGenerator;
+import com.hhplus.ecommerce.domain.entity.Coupon;
+import com.hhplus.ecommerce.domain.entity.UserCoupon;
+import com.hhplus.ecommerce.domain.exception.CouponAlreadyIssuedException;
+import com.hhplus.ecommerce.domain.exception.CouponSoldOutException;
+import com.hhplus.ecommerce.mock.MockCouponRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CouponIssueWriter 테스트
+ * - 여러 인스턴스(허가 카운터/writer가 각각 있음)가 같은 저장소에 발급해도 수량을 넘지 않는지 검증
+ * - 다른 인스턴스에서 이미 발급받은 사용자는 같은 일괄 저장의 다른 요청에 영향 없이 거절되는지 검증
+ * - 저장 실패 시 허가 반납, 시작 전 접수 요청 처리, 종료 시 남은 요청 처리 검증
+ */
+class CouponIssueWriterTest {
+
+    private final LocalDateTime now = LocalDateTime.now();
+
+    @Test
+    @DisplayName("두 인스턴스가 동시에 발급해도 발급 수량을 넘지 않음")
+    void 여러_인스턴스_동시_발급() {
+        // Given: 50개 한정 쿠폰, 인스턴스마다 허가 카운터가 따로 있어 각각 50개까지 허가
+        MockCouponRepository couponRepository = new MockCouponRepository();
+        couponRepository.saveCoupon(new Coupon(1L, 1000, 50, 0, now.minusDays(1), now.plusDays(1)));
+        List<CouponPermitCounter> counters = List.of(
+                new CouponPermitCounter(couponRepository), new CouponPermitCounter(couponRepository));
+        List<CouponIssueWriter> writers = List.of(writer(couponRepository, counters.get(0), 0),
+                writer(couponRepository, counters.get(1), 1));
+
+        // When: 발급이 일부만 되면 writer가 허가 카운터를 다시 로딩하므로, 이후 허가 단계에서 거절될 수 있음
+        List<CompletableFuture<UserCoupon>> results = new ArrayList<>();
+        try {
+            for (int i = 0; i < 100; i++) {
+                int node = i % 2;
+                try {
+                    counters.get(node).acquire(1L, now);
+                } catch (CouponSoldOutException e) {
+                    results.add(CompletableFuture.failedFuture(e));
+                    continue;
+                }
+                results.add(writers.get(node).submit(i + 1L, 1L, now));
+            }
+            CompletableFuture.allOf(results.stream()
+                    .map(result -> result.exceptionally(e -> null))
+                    .toArray(CompletableFuture[]::new)).join();
+        } finally {
+            writers.forEach(CouponIssueWriter::shutdown);
+        }
+
+        // Then
+        long issued = results.stream().filter(result -> !result.isCompletedExceptionally()).count();
+        assertEquals(50, issued);
+        assertEquals(50, couponRepository.findById(1L).orElseThrow().getIssuedQuantity());
+        assertEquals(50, couponRepository.findByCouponId(1L).size());
+        results.stream().filter(CompletableFuture::isCompletedExceptionally).forEach(result -> {
+            CompletionException e = assertThrows(CompletionException.class, result::join);
+            assertInstanceOf(CouponSoldOutException.class, e.getCause());
+        });
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 이미 발급받은 사용자만 중복 발급으로 거절")
+    void 다른_인스턴스_중복_발급() {
+        // Given: 사용자 1은 다른 인스턴스에서 이미 발급받음 (이 인스턴스의 인덱스/카운터는 모름)
+        MockCouponRepository couponRepository = new MockCouponRepository();
+        couponRepository.saveCoupon(new Coupon(1L, 1000, 10, 1, now.minusDays(1), now.plusDays(1)));
+        couponRepository.saveUserCoupon(new UserCoupon(100L, 1L, 1L, 0, false, now, null, now.plusDays(1)));
+        CouponPermitCounter permitCounter = new CouponPermitCounter(couponRepository);
+        CouponIssueWriter writer = writer(couponRepository, permitCounter);
+
+        // When
+        List<CompletableFuture<UserCoupon>> results = new ArrayList<>();
+        try {
+            for (long userId = 1; userId <= 3; userId++) {
+                permitCounter.acquire(1L, now);
+                results.add(writer.submit(userId, 1L, now));
+            }
+            CompletableFuture.allOf(results.stream()
+                    .map(result -> result.exceptionally(e -> null))
+                    .toArray(CompletableFuture[]::new)).join();
+        } finally {
+            writer.shutdown();
+        }
+
+        // Then
+        CompletionException e = assertThrows(CompletionException.class, results.get(0)::join);
+        assertInstanceOf(CouponAlreadyIssuedException.class, e.getCause());
+        assertEquals(2L, results.get(1).join().getUserId());
+        assertEquals(3L, results.get(2).join().getUserId());
+        assertEquals(3, couponRepository.findByCouponId(1L).size());
+    }
+
+    @Test
+    @DisplayName("UserCoupon 저장이 실패하면 허가를 반납하고 예외 전달")
+    void 저장_실패_허가_반납() {
+        // Given
+        MockCouponRepository couponRepository = new MockCouponRepository() {
+            @Override
+            public List<UserCoupon> saveUserCoupons(List<UserCoupon> userCoupons) {
+                throw new IllegalStateException("저장 실패");
+            }
+        };
+        couponRepository.saveCoupon(new Coupon(1L, 1000, 10, 0, now.minusDays(1), now.plusDays(1)));
+        CouponPermitCounter permitCounter = new CouponPermitCounter(couponRepository);
+        CouponIssueWriter writer = writer(couponRepository, permitCounter);
+
+        // When
+        permitCounter.acquire(1L, now);
+        CompletableFuture<UserCoupon> result = writer.submit(1L, 1L, now);
+        CompletionException e = assertThrows(CompletionException.class, result::join);
+        writer.shutdown();
+
+        // Then
+        assertInstanceOf(IllegalStateException.class, e.getCause());
+        assertEquals(10, permitCounter.getRemaining(1L));
+    }
+
+    @Test
+    @DisplayName("종료하면 큐에 있던 요청은 저장하고, 이후 요청은 거절")
+    void 종료() {
+        // Given
+        MockCouponRepository couponRepository = new MockCouponRepository();
+        couponRepository.saveCoupon(new Coupon(1L, 1000, 10, 0, now.minusDays(1), now.plusDays(1)));
+        CouponIssueWriter writer = writer(couponRepository, new CouponPermitCounter(couponRepository));
+        CompletableFuture<UserCoupon> beforeShutdown = writer.submit(1L, 1L, now);
+
+        // When
+        writer.shutdown();
+        CompletableFuture<UserCoupon> afterShutdown = writer.submit(2L, 1L, now);
+
+        // Then
+        assertEquals(1L, beforeShutdown.join().getUserId());
+        assertThrows(CompletionException.class, afterShutdown::join);
+        assertEquals(1, couponRepository.findById(1L).orElseThrow().getIssuedQuantity());
+    }
+
+    @Test
+    @DisplayName("생성만 하면 저장하지 않고, start() 이후 그동안 접수한 요청을 저장")
+    void 시작_전_접수() throws InterruptedException {
+        // Given
+        MockCouponRepository couponRepository = new MockCouponRepository();
+        couponRepository.saveCoupon(new Coupon(1L, 1000, 10, 0, now.minusDays(1), now.plusDays(1)));
+        CouponIssueWriter writer = new CouponIssueWriter(couponRepository, new CouponPermitCounter(couponRepository),
+                new SnowflakeIdGenerator(0), TransactionOperations.withoutTransaction());
+        CompletableFuture<UserCoupon> result = writer.submit(1L, 1L, now);
+
+        // When: 시작 전에는 저장 스레드가 없음
+        Thread.sleep(200);
+        assertFalse(result.isDone());
+        writer.start();
+
+        // Then
+        assertEquals(1L, result.join().getUserId());
+        assertEquals(1, couponRepository.findById(1L).orElseThrow().getIssuedQuantity());
+        writer.shutdown();
+    }
+
+    private static CouponIssueWriter writer(MockCouponRepository couponRepository, CouponPermitCounter permitCounter) {
+        return writer(couponRepository, permitCounter, 0);
+    }
+
+    /**
+     * @param nodeId 인스턴스마다 다른 ID 생성기 노드 번호 (같으면 UserCoupon ID가 겹칠 수 있음)
+     */
+    private static CouponIssueWriter writer(MockCouponRepository couponRepository, CouponPermitCounter permitCounter,
+                                            long nodeId) {
+        CouponIssueWriter writer = new CouponIssueWriter(couponRepository, permitCounter,
+                new SnowflakeIdGenerator(nodeId), TransactionOperations.withoutTransaction());
+        writer.start();
+        return writer;
+    }
+}
@@ -0,0 +1,62 @@
+package com.hhplus.ecommerce.application.coupon;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * LongHashSet 단위 테스트
+ * - 추가/조회/삭제 및 확장, 삭제 후 탐색 연속성 검증
+ */
+class LongHashSetTest {
+
+    @Test
+    @DisplayName("추가한 값만 포함, 중복 추가는 false")
+    void 추가_조회() {
+        LongHashSet set = new LongHashSet();
+
+        assertTrue(set.add(1L));
+        assertTrue(set.add(100L));
+        assertFalse(set.add(1L));
+
+        assertTrue(set.contains(1L));
+        assertTrue(set.contains(100L));
+        assertFalse(set.contains(2L));
+        assertEquals(2, set.size());
+    }
+
+    @Test
+    @DisplayName("0은 저장할 수 없음")
+    void 영_저장_불가() {
+        LongHashSet set = new LongHashSet();
+
+        assertThrows(IllegalArgumentException.class, () -> set.add(0L));
+    }
+
+    @Test
+    @DisplayName("무작위 추가/삭제 결과가 HashSet과 일치 (확장 및 삭제 후 재배치 포함)")
+    void 무작위_연산_HashSet과_일치() {
+        LongHashSet set = new LongHashSet();
+        Set<Long> expected = new HashSet<>();
+        Random random = new Random(42);
+
+        for (int i = 0; i < 200_000; i++) {
+            long key = random.nextInt(5_000) + 1L;
+            if (random.nextBoolean()) {
+                assertEquals(expected.add(key), set.add(key));
+            } else {
+                assertEquals(expected.remove(key), set.remove(key));
+            }
+        }
+
+        assertEquals(expected.size(), set.size());
+        for (long key = 1; key <= 5_000; key++) {
+            assertEquals(expected.contains(key), set.contains(key));
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.hhplus.ecommerce.application.outbox;
+
+import com.hhplus.ecommerce.domain.entity.Order;
+import com.hhplus.ecommerce.domain.entity.OrderDataOutbox;
+import com.hhplus.ecommerce.domain.entity.OrderStatus;
+import com.hhplus.ecommerce.domain.entity.OutboxStatus;
+import com.hhplus.ecommerce.mock.MockOrderDataOutboxRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 주문 데이터 아웃박스 전송 테스트
+ * - 전송 성공, 실패 후 지수 backoff 재시도, 재시도 한도 초과 시 dead letter, 호출 타임아웃 검증
+ */
+class OrderDataOutboxDispatcherTest {
+
+    private static final long TIMEOUT_MILLIS = 200;
+    private static final int MAX_ATTEMPTS = 3;
+    private static final long BACKOFF_BASE_MILLIS = 1000;
+
+    private MockOrderDataOutboxRepository outboxRepository;
+    private FakeOrderDataClient client;
+    private OrderDataOutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        outboxRepository = new MockOrderDataOutboxRepository();
+        client = new FakeOrderDataClient();
+        dispatcher = new OrderDataOutboxDispatcher(outboxRepository, client, TIMEOUT_MILLIS, 500, 10, 2,
+                MAX_ATTEMPTS, BACKOFF_BASE_MILLIS, 60_000, false, false);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dispatcher.shutdown();
+    }
+
+    @Test
+    @DisplayName("전송 대기 기록을 전송하고 완료 처리")
+    void 전송_성공() {
+        // Given
+        for (long orderId = 1; orderId <= 5; orderId++) {
+            enqueue(orderId);
+        }
+
+        // When
+        int claimed = dispatcher.dispatch(System.currentTimeMillis());
+
+        // Then
+        assertEquals(5, claimed);
+        assertEquals(5, client.sent.size());
+        for (long orderId = 1; orderId <= 5; orderId++) {
+            OrderDataOutbox outbox = outboxRepository.findByOrderId(orderId).orElseThrow();
+            assertEquals(OutboxStatus.PUBLISHED, outbox.getStatus());
+            assertEquals(1, outbox.getAttempts());
+        }
+        assertEquals(0, dispatcher.dispatch(System.currentTimeMillis()), "완료된 기록은 다시 전송하지 않음");
+    }
+
+    @Test
+    @DisplayName("전송 실패 시 지수 backoff 후 재시도")
+    void 전송_실패_재시도() {
+        // Given
+        enqueue(1L);
+        client.failing = true;
+
+        // When: 첫 실패
+        long firstFailure = System.currentTimeMillis();
+        dispatcher.dispatch(firstFailure);
+
+        // Then: 1초(base) 범위 안에서 재시도 예약, 그 전에는 다시 가져가지 않음
+        OrderDataOutbox outbox = outboxRepository.findByOrderId(1L).orElseThrow();
+        assertEquals(OutboxStatus.PENDING, outbox.getStatus());
+        assertEquals(1, outbox.getAttempts());
+        assertTrue(outbox.getLastError().contains("외부 시스템 오류"));
+        assertBackoff(outbox, firstFailure, BACKOFF_BASE_MILLIS);
+        assertEquals(0, dispatcher.dispatch(firstFailure + BACKOFF_BASE_MILLIS / 2 - 1));
+
+        // When: 두 번째 실패 (backoff 두 배)
+        long secondFailure = System.currentTimeMillis();
+        dispatcher.dispatch(toMillis(outbox.getNextAttemptAt()));
+        assertEquals(2, outbox.getAttempts());
+        assertBackoff(outbox, secondFailure, BACKOFF_BASE_MILLIS * 2);
+
+        // When: 외부 시스템 복구 후 재시도
+        client.failing = false;
+        dispatcher.dispatch(toMillis(outbox.getNextAttemptAt()));
+
+        // Then
+        assertEquals(OutboxStatus.PUBLISHED, outbox.getStatus());
+        assertEquals(3, outbox.getAttempts());
+        assertNull(outbox.getLastError());
+    }
+
+    @Test
+    @DisplayName("재시도 한도를 넘으면 dead letter로 전환하고 더 이상 전송하지 않음")
+    void 재시도_한도_초과() {
+        // Given
+        enqueue(1L);
+        client.failing = true;
+        OrderDataOutbox outbox = outboxRepository.findByOrderId(1L).orElseThrow();
+
+        // When
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            assertEquals(1, dispatcher.dispatch(toMillis(outbox.getNextAttemptAt())));
+        }
+
+        // Then
+        assertEquals(OutboxStatus.DEAD, outbox.getStatus());
+        assertEquals(MAX_ATTEMPTS, outbox.getAttempts());
+        assertEquals(MAX_ATTEMPTS, client.attempts.size());
+        assertEquals(0, dispatcher.dispatch(System.currentTimeMillis() + Duration.ofDays(1).toMillis()));
+    }
+
+    @Test
+    @DisplayName("타임아웃까지 응답하지 않는 호출은 중단하고 재시도 예약")
+    void 전송_타임아웃() throws InterruptedException {
+        // Given: 첫 주문은 응답하지 않고, 둘째 주문은 바로 성공
+        enqueue(1L);
+        enqueue(2L);
+        client.hangingOrderId = 1L;
+
+        // When
+        long start = System.nanoTime();
+        dispatcher.dispatch(System.currentTimeMillis());
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        // Then
+        assertTrue(elapsedMillis < TIMEOUT_MILLIS * 5, "타임아웃 후 기다리지 않아야 함: " + elapsedMillis + "ms");
+        assertTrue(client.interrupted.await(1, TimeUnit.SECONDS), "타임아웃된 호출은 인터럽트로 중단");
+
+        OrderDataOutbox timedOut = outboxRepository.findByOrderId(1L).orElseThrow();
+        assertEquals(OutboxStatus.PENDING, timedOut.getStatus());
+        assertEquals(1, timedOut.getAttempts());
+        assertTrue(timedOut.getLastError().startsWith("timeout"));
+        assertEquals(OutboxStatus.PUBLISHED, outboxRepository.findByOrderId(2L).orElseThrow().getStatus());
+    }
+
+    private void enqueue(long orderId) {
+        Order order = new Order(orderId, 1L, OrderStatus.COMPLETED, 20000, 5000, 0);
+        outboxRepository.save(OrderDataOutbox.pending(orderId + 100, order,
+                LocalDateTime.now().minusSeconds(1).truncatedTo(ChronoUnit.MILLIS)));
+    }
+
+    private static void assertBackoff(OrderDataOutbox outbox, long failedAtMillis, long backoffMillis) {
+        long delay = toMillis(outbox.getNextAttemptAt()) - failedAtMillis;
+        assertTrue(delay >= backoffMillis / 2 && delay <= backoffMillis + 200,
+                "backoff는 " + backoffMillis / 2 + " ~ " + backoffMillis + "ms 범위: " + delay + "ms");
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * 테스트용 외부 시스템 클라이언트
+     */
+    private static class FakeOrderDataClient implements OrderDataClient {
+
+        private final List<OrderData> sent = new CopyOnWriteArrayList<>();
+        private final List<Long> attempts = new CopyOnWriteArrayList<>();
+        private final CountDownLatch interrupted = new CountDownLatch(1);
+        private volatile boolean failing;
+        private volatile long hangingOrderId;
+
+        @Override
+        public void send(OrderData orderData) {
+            attempts.add(orderData.orderId());
+            if (orderData.orderId() == hangingOrderId) {
+                try {
+                    Thread.sleep(Long.MAX_VALUE);
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("중단됨");
+                }
+            }
+            if (failing) {
+                throw new IllegalStateException("외부 시스템 오류");
+            }
+            sent.add(orderData);
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package com.hhplus.ecommerce.application.ranking;
+
+import com.hhplus.ecommerce.application.ranking.PopularProductRanking.RankedProduct;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 근사 인기 상품 랭킹 테스트
+ * - 순위와 버킷 만료가 정확한 엔진과 같게 동작하는지 검증
+ * - 대규모 카탈로그에서 정확도/메모리 비교 벤치마크
+ */
+class ApproximatePopularProductRankingTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 6, 1, 12, 0);
+
+    @Test
+    @DisplayName("상품 수가 적으면 정확한 엔진과 같은 순위")
+    void 상위_K개_정렬() {
+        // Given
+        ApproximatePopularProductRanking ranking = new ApproximatePopularProductRanking(3, 3, 0.001, 0.01, 10);
+        ranking.record(1L, 5, BASE);
+        ranking.record(2L, 9, BASE);
+        ranking.record(3L, 5, BASE);
+        ranking.record(4L, 1, BASE);
+        ranking.record(5L, 7, BASE.plusMinutes(30));
+
+        // When
+        List<RankedProduct> top = ranking.getTopProducts(BASE.plusMinutes(40));
+
+        // Then
+        assertEquals(List.of(
+                new RankedProduct(2L, 9),
+                new RankedProduct(5L, 7),
+                new RankedProduct(1L, 5)
+        ), top);
+    }
+
+    @Test
+    @DisplayName("후보 집합이 가득 차면 최소 후보보다 많이 팔린 상품이 교체되어 진입")
+    void 후보_교체() {
+        // Given: 후보 3개
+        ApproximatePopularProductRanking ranking = new ApproximatePopularProductRanking(3, 2, 0.001, 0.01, 3);
+        ranking.record(1L, 10, BASE);
+        ranking.record(2L, 8, BASE);
+        ranking.record(3L, 2, BASE);
+
+        // When
+        ranking.record(4L, 9, BASE);
+
+        // Then
+        assertEquals(List.of(new RankedProduct(1L, 10), new RankedProduct(4L, 9)),
+                ranking.getTopProducts(BASE));
+    }
+
+    @Test
+    @DisplayName("윈도우(3일)를 벗어난 버킷은 만료되고 후보 점수가 재추정됨")
+    void 버킷_만료() {
+        // Given
+        ApproximatePopularProductRanking ranking = new ApproximatePopularProductRanking(3, 3, 0.001, 0.01, 10);
+        ranking.record(1L, 100, BASE);
+        ranking.record(2L, 3, BASE.plusDays(2));
+
+        // When & Then
+        assertEquals(1L, ranking.getTopProducts(BASE.plusHours(71)).get(0).productId());
+
+        assertEquals(List.of(new RankedProduct(2L, 3)), ranking.getTopProducts(BASE.plusHours(72)));
+        assertEquals(0, ranking.getSalesCount(1L, BASE.plusHours(72)));
+        assertTrue(ranking.getTopProducts(BASE.plusDays(30)).isEmpty());
+    }
+
+    @Test
+    @DisplayName("정확도/메모리 벤치마크 - 100만 SKU, Zipf 분포 판매 200만 건")
+    void 정확도_메모리_비교() {
+        // Given: 상위 소수 상품에 판매가 몰리는 Zipf(s=1.1) 분포
+        int catalogSize = 1_000_000;
+        int sales = 2_000_000;
+        int limit = 5;
+        long[] productIds = zipfSample(catalogSize, sales, 1.1, new Random(42));
+
+        // When: 판매를 3일 윈도우 안의 시간대에 고르게 분산
+        long heapBefore = usedHeap();
+        ExactPopularProductRanking exact = new ExactPopularProductRanking(3, limit);
+        feed(exact, productIds);
+        long exactHeap = usedHeap() - heapBefore;
+
+        heapBefore = usedHeap();
+        ApproximatePopularProductRanking approximate =
+                new ApproximatePopularProductRanking(3, limit, 0.001, 0.01, 100);
+        feed(approximate, productIds);
+        long approximateHeap = usedHeap() - heapBefore;
+
+        LocalDateTime now = BASE.plusHours(71);
+        List<RankedProduct> exactTop = exact.getTopProducts(now);
+        List<RankedProduct> approximateTop = approximate.getTopProducts(now);
+
+        // Then
+        Set<Long> exactIds = new HashSet<>();
+        exactTop.forEach(ranked -> exactIds.add(ranked.productId()));
+        long hits = approximateTop.stream().filter(ranked -> exactIds.contains(ranked.productId())).count();
+
+        double maxRelativeError = 0;
+        for (RankedProduct ranked : exactTop) {
+            long estimate = approximate.getSalesCount(ranked.productId(), now);
+            assertTrue(estimate >= ranked.salesCount());
+            assertTrue(estimate - ranked.salesCount() <= Math.ceil(0.001 * sales));
+            maxRelativeError = Math.max(maxRelativeError,
+                    (double) (estimate - ranked.salesCount()) / ranked.salesCount());
+        }
+
+        System.out.printf("exact: top=%s, heap=%.1f MB%n", exactTop, exactHeap / 1048576.0);
+        System.out.printf("approximate: top=%s, heap=%.1f MB (sketch %.1f MB)%n",
+                approximateTop, approximateHeap / 1048576.0, approximate.getSketchSizeInBytes() / 1048576.0);
+        System.out.printf("top-%d 일치 %d/%d, 최대 상대 오차 %.4f%n", limit, hits, limit, maxRelativeError);
+
+        assertEquals(limit, hits);
+    }
+
+    private void feed(PopularProductRanking ranking, long[] productIds) {
+        for (int i = 0; i < productIds.length; i++) {
+            ranking.record(productIds[i], 1, BASE.plusMinutes(i % (72 * 60)));
+        }
+    }
+
+    private long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private long[] zipfSample(int catalogSize, int samples, double exponent, Random random) {
+        double[] cumulative = new double[catalogSize];
+        double sum = 0;
+        for (int rank = 0; rank < catalogSize; rank++) {
+            sum += 1 / Math.pow(rank + 1, exponent);
+            cumulative[rank] = sum;
+        }
+
+        long[] productIds = new long[samples];
+        for (int i = 0; i < samples; i++) {
+            int rank = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+            productIds[i] = (rank >= 0 ? rank : -rank - 1) + 1L;
+        }
+        return productIds;
+    }
+}
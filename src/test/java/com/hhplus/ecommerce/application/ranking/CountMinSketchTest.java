@@ -0,0 +1,73 @@
+package com.hhplus.ecommerce.application.ranking;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CountMinSketch 단위 테스트
+ * - 오차 한계로부터의 크기 결정, 과대 추정만 발생하는지, 뺄셈으로 원복되는지 검증
+ */
+class CountMinSketchTest {
+
+    @Test
+    @DisplayName("오차 한계로 크기 결정 - width는 e/epsilon 이상의 2의 거듭제곱, depth는 ln(1/delta)")
+    void 크기_결정() {
+        CountMinSketch sketch = CountMinSketch.withErrorBounds(0.001, 0.01);
+
+        assertEquals(4096, sketch.width());
+        assertEquals(5, sketch.depth());
+        assertEquals(5L * 4096 * Long.BYTES, sketch.sizeInBytes());
+    }
+
+    @Test
+    @DisplayName("추정치는 실제 값 이상이고 오차는 epsilon * 전체 합 이내")
+    void 오차_한계() {
+        double epsilon = 0.001;
+        CountMinSketch sketch = CountMinSketch.withErrorBounds(epsilon, 0.01);
+        Map<Long, Long> exact = new HashMap<>();
+        Random random = new Random(42);
+        long total = 0;
+
+        for (int i = 0; i < 200_000; i++) {
+            long key = random.nextInt(50_000) + 1L;
+            int count = random.nextInt(3) + 1;
+            sketch.add(key, count);
+            exact.merge(key, (long) count, Long::sum);
+            total += count;
+        }
+
+        long bound = (long) Math.ceil(epsilon * total);
+        int exceeded = 0;
+        for (Map.Entry<Long, Long> entry : exact.entrySet()) {
+            long estimate = sketch.estimate(entry.getKey());
+            assertTrue(estimate >= entry.getValue());
+            if (estimate - entry.getValue() > bound) {
+                exceeded++;
+            }
+        }
+        assertTrue(exceeded <= exact.size() * 0.01, "오차 한계 초과 비율이 delta를 넘음: " + exceeded);
+    }
+
+    @Test
+    @DisplayName("같은 크기 스케치를 빼면 해당 기록만큼 원복")
+    void 뺄셈() {
+        CountMinSketch window = new CountMinSketch(4, 1024);
+        CountMinSketch bucket = new CountMinSketch(4, 1024);
+
+        window.add(1L, 10);
+        window.add(2L, 3);
+        bucket.add(2L, 3);
+
+        window.subtract(bucket);
+
+        assertEquals(10, window.estimate(1L));
+        assertEquals(0, window.estimate(2L));
+        assertThrows(IllegalArgumentException.class, () -> window.subtract(new CountMinSketch(4, 512)));
+    }
+}
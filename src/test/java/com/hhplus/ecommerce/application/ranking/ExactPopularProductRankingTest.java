@@ -0,0 +1,155 @@
+package com.hhplus.ecommerce.application.ranking;
+
+import com.hhplus.ecommerce.application.ranking.PopularProductRanking.RankedProduct;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 정확한 인기 상품 랭킹 테스트
+ * - 시간 버킷 만료(슬라이딩 윈도우)와 상위 K개 정합성 검증
+ */
+class ExactPopularProductRankingTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 6, 1, 12, 0);
+
+    private ExactPopularProductRanking ranking;
+
+    @BeforeEach
+    void setUp() {
+        ranking = new ExactPopularProductRanking(3, 3);
+    }
+
+    @Test
+    @DisplayName("판매량 내림차순, 동률이면 상품 ID 오름차순으로 상위 K개만 반환")
+    void 상위_K개_정렬() {
+        // Given
+        ranking.record(1L, 5, BASE);
+        ranking.record(2L, 9, BASE);
+        ranking.record(3L, 5, BASE);
+        ranking.record(4L, 1, BASE);
+        ranking.record(5L, 7, BASE.plusMinutes(30));
+
+        // When
+        List<RankedProduct> top = ranking.getTopProducts(BASE.plusMinutes(40));
+
+        // Then
+        assertEquals(List.of(
+                new RankedProduct(2L, 9),
+                new RankedProduct(5L, 7),
+                new RankedProduct(1L, 5)
+        ), top);
+    }
+
+    @Test
+    @DisplayName("하위 상품도 판매가 누적되면 상위 K개에 진입")
+    void 순위_변동() {
+        // Given
+        ranking.record(1L, 10, BASE);
+        ranking.record(2L, 8, BASE);
+        ranking.record(3L, 6, BASE);
+        ranking.record(4L, 5, BASE);
+
+        // When
+        ranking.record(4L, 4, BASE.plusMinutes(10));
+
+        // Then
+        List<RankedProduct> top = ranking.getTopProducts(BASE.plusMinutes(20));
+        assertEquals(List.of(1L, 4L, 2L), top.stream().map(RankedProduct::productId).toList());
+    }
+
+    @Test
+    @DisplayName("윈도우(3일)를 벗어난 시간 버킷은 만료되고 순위가 재계산됨")
+    void 버킷_만료() {
+        // Given: 1번은 과거에 많이 팔리고, 2번은 최근에 조금 팔림
+        ranking.record(1L, 100, BASE);
+        ranking.record(2L, 3, BASE.plusDays(2));
+
+        // When & Then: 3일이 지나기 전까지는 1번이 1위
+        assertEquals(1L, ranking.getTopProducts(BASE.plusHours(71)).get(0).productId());
+
+        // 3일이 지나면 1번의 판매량이 빠짐
+        List<RankedProduct> top = ranking.getTopProducts(BASE.plusHours(72));
+        assertEquals(List.of(new RankedProduct(2L, 3)), top);
+        assertEquals(0, ranking.getSalesCount(1L, BASE.plusHours(72)));
+    }
+
+    @Test
+    @DisplayName("긴 공백 후에는 모든 버킷이 만료됨")
+    void 전체_만료() {
+        // Given
+        ranking.record(1L, 10, BASE);
+        ranking.record(2L, 10, BASE.plusHours(5));
+
+        // When
+        List<RankedProduct> top = ranking.getTopProducts(BASE.plusDays(30));
+
+        // Then
+        assertTrue(top.isEmpty());
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 기록은 윈도우 안이면 해당 시간 버킷에 반영, 밖이면 무시")
+    void 지연_기록() {
+        // Given
+        ranking.record(1L, 1, BASE.plusDays(1));
+
+        // When
+        ranking.record(2L, 4, BASE.plusHours(2));   // 윈도우 안
+        ranking.record(3L, 50, BASE.minusDays(5));  // 윈도우 밖
+
+        // Then
+        LocalDateTime now = BASE.plusDays(1);
+        assertEquals(4, ranking.getSalesCount(2L, now));
+        assertEquals(0, ranking.getSalesCount(3L, now));
+        assertEquals(List.of(2L, 1L), ranking.getTopProducts(now).stream().map(RankedProduct::productId).toList());
+
+        // 지연 기록도 자신의 시간 버킷 기준으로 만료
+        assertEquals(0, ranking.getSalesCount(2L, BASE.plusHours(74)));
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 시간 경계를 넘나들며 기록해도 합계와 순위가 정확함")
+    void 동시_기록() throws InterruptedException {
+        // Given
+        int threadCount = 32;
+        int recordsPerThread = 10_000;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // When: 상품 ID가 클수록 많이 팔리도록 기록 (10번 상품이 가장 많음)
+        for (int t = 0; t < threadCount; t++) {
+            executorService.submit(() -> {
+                try {
+                    for (int i = 0; i < recordsPerThread; i++) {
+                        long productId = (i % 10) + 1;
+                        LocalDateTime soldAt = BASE.plusMinutes(i % 180);
+                        ranking.record(productId, (int) productId, soldAt);
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // Then
+        LocalDateTime now = BASE.plusHours(3);
+        long perProduct = (long) threadCount * recordsPerThread / 10;
+        for (long productId = 1; productId <= 10; productId++) {
+            assertEquals(perProduct * productId, ranking.getSalesCount(productId, now));
+        }
+        assertEquals(List.of(10L, 9L, 8L),
+                ranking.getTopProducts(now).stream().map(RankedProduct::productId).toList());
+    }
+}
@@ -0,0 +1,116 @@
+package com.hhplus.ecommerce.application.stock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 재고 예약 만료 타이머 휠 테스트
+ * - tick 단위 만료, 휠 한 바퀴를 넘는 만료, 취소, 시계가 크게 건너뛴 경우 검증
+ */
+class ReservationTimerWheelTest {
+
+    private static final long TICK = 100;
+    private static final int WHEEL_SIZE = 8;
+
+    private ReservationTimerWheel wheel;
+
+    @BeforeEach
+    void setUp() {
+        wheel = new ReservationTimerWheel(TICK, WHEEL_SIZE);
+        wheel.advance(0);
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 tick에서만 꺼냄")
+    void 만료_시각에_꺼냄() {
+        // Given
+        wheel.schedule(1L, 350);
+        wheel.schedule(2L, 500);
+
+        // When & Then
+        assertEquals(List.of(), wheel.advance(299));
+        assertEquals(List.of(1L), wheel.advance(399));
+        assertEquals(List.of(), wheel.advance(450));
+        assertEquals(List.of(2L), wheel.advance(500));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("휠 한 바퀴보다 먼 만료는 슬롯을 지나도 남겨두었다가 해당 바퀴에서 꺼냄")
+    void 여러_바퀴_뒤_만료() {
+        // Given: 같은 슬롯(3)에 1바퀴, 3바퀴 뒤 만료
+        wheel.schedule(1L, 3 * TICK);
+        wheel.schedule(2L, (3 + 2 * WHEEL_SIZE) * TICK);
+
+        // When
+        List<Long> firstRound = wheel.advance(3 * TICK);
+        List<Long> secondRound = wheel.advance((3 + WHEEL_SIZE) * TICK);
+        List<Long> thirdRound = wheel.advance((3 + 2 * WHEEL_SIZE) * TICK);
+
+        // Then
+        assertEquals(List.of(1L), firstRound);
+        assertEquals(List.of(), secondRound);
+        assertEquals(List.of(2L), thirdRound);
+    }
+
+    @Test
+    @DisplayName("취소한 주문은 만료되어도 꺼내지 않음")
+    void 취소() {
+        // Given
+        wheel.schedule(1L, 200);
+        wheel.schedule(2L, 200);
+
+        // When
+        wheel.cancel(1L);
+
+        // Then
+        assertEquals(List.of(2L), wheel.advance(200));
+        assertEquals(0, wheel.size());
+    }
+
+    @Test
+    @DisplayName("같은 주문을 다시 등록하면 이전 만료는 무시")
+    void 재등록() {
+        wheel.schedule(1L, 200);
+        wheel.schedule(1L, 600);
+
+        assertEquals(List.of(), wheel.advance(200));
+        assertEquals(List.of(1L), wheel.advance(600));
+    }
+
+    @Test
+    @DisplayName("이미 지난 시각으로 등록하면 다음 진행에서 꺼냄")
+    void 지난_시각_등록() {
+        wheel.advance(1000);
+
+        wheel.schedule(1L, 500);
+
+        assertEquals(List.of(1L), wheel.advance(1100));
+    }
+
+    @Test
+    @DisplayName("시계가 휠 한 바퀴 이상 건너뛰면 모든 슬롯을 한 번 훑어 만료분을 모두 꺼냄")
+    void 시계_건너뜀() {
+        // Given
+        List<Long> expected = new ArrayList<>();
+        for (long orderId = 1; orderId <= 20; orderId++) {
+            wheel.schedule(orderId, orderId * TICK);
+            expected.add(orderId);
+        }
+        wheel.schedule(100L, 100 * TICK);
+
+        // When
+        List<Long> expired = new ArrayList<>(wheel.advance(50 * TICK));
+        expired.sort(Long::compare);
+
+        // Then
+        assertEquals(expected, expired);
+        assertEquals(1, wheel.size());
+    }
+}
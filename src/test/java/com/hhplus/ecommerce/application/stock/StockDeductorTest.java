@@ -0,0 +1,270 @@
+package com.hhplus.ecommerce.application.stock;
+
+import com.hhplus.ecommerce.domain.entity.Product;
+import com.hhplus.ecommerce.domain.exception.InsufficientStockException;
+import com.hhplus.ecommerce.domain.exception.LockTimeoutException;
+import com.hhplus.ecommerce.domain.exception.OutOfStockException;
+import com.hhplus.ecommerce.domain.exception.ProductNotFoundException;
+import com.hhplus.ecommerce.mock.MockProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 재고 차감 전략 테스트
+ * - 전략별 차감 결과와 예외 구분
+ * - 낙관적 락 충돌 시 재시도 및 재시도 소진 처리
+ */
+class StockDeductorTest {
+
+    @Test
+    @DisplayName("모든 전략에서 재고 차감 후 상품 반환")
+    void 전략별_재고_차감() {
+        for (StockLockStrategy strategy : StockLockStrategy.values()) {
+            // Given
+            MockProductRepository productRepository = new MockProductRepository();
+            productRepository.save(new Product(1L, "상품", 10000, 10));
+            StockDeductor deductor = new StockDeductor(productRepository, strategy);
+
+            // When
+            Product product = deductor.deduct(1L, 3);
+
+            // Then
+            assertEquals(10000, product.getPrice(), strategy.name());
+            assertEquals(7, productRepository.findById(1L).orElseThrow().getStockQuantity(), strategy.name());
+        }
+    }
+
+    @Test
+    @DisplayName("모든 전략에서 재고 소진/부족/상품 없음 예외 구분")
+    void 전략별_예외_구분() {
+        for (StockLockStrategy strategy : StockLockStrategy.values()) {
+            // Given
+            MockProductRepository productRepository = new MockProductRepository();
+            productRepository.save(new Product(1L, "품절 상품", 10000, 0));
+            productRepository.save(new Product(2L, "재고 2개 상품", 10000, 2));
+            StockDeductor deductor = new StockDeductor(productRepository, strategy);
+
+            // When & Then
+            assertThrows(OutOfStockException.class, () -> deductor.deduct(1L, 1), strategy.name());
+            assertThrows(InsufficientStockException.class, () -> deductor.deduct(2L, 3), strategy.name());
+            assertThrows(ProductNotFoundException.class, () -> deductor.deduct(999L, 1), strategy.name());
+            assertEquals(2, productRepository.findById(2L).orElseThrow().getStockQuantity(), strategy.name());
+        }
+    }
+
+    @Test
+    @DisplayName("낙관적 락 - 버전 충돌 시 다시 읽어 재시도")
+    void 낙관적_락_충돌_재시도() {
+        // Given: 처음 두 번은 다른 요청이 먼저 저장한 상황
+        VersionedProductRepository productRepository = new VersionedProductRepository();
+        productRepository.save(new Product(1L, "상품", 10000, 10));
+        productRepository.conflicts.set(2);
+        StockDeductor deductor = new StockDeductor(productRepository, StockLockStrategy.OPTIMISTIC);
+
+        // When
+        deductor.deduct(1L, 1);
+
+        // Then
+        assertEquals(3, productRepository.saveAttempts.get());
+        assertEquals(9, productRepository.findById(1L).orElseThrow().getStockQuantity());
+    }
+
+    @Test
+    @DisplayName("낙관적 락 - 재시도를 모두 소진하면 LockTimeoutException")
+    void 낙관적_락_재시도_소진() {
+        // Given
+        VersionedProductRepository productRepository = new VersionedProductRepository();
+        productRepository.save(new Product(1L, "상품", 10000, 10));
+        productRepository.conflicts.set(Integer.MAX_VALUE);
+        StockDeductor deductor = new StockDeductor(productRepository, StockLockStrategy.OPTIMISTIC, 3);
+
+        // When & Then
+        assertThrows(LockTimeoutException.class, () -> deductor.deduct(1L, 1));
+        assertEquals(4, productRepository.saveAttempts.get());
+        assertEquals(10, productRepository.findById(1L).orElseThrow().getStockQuantity());
+    }
+
+    @Test
+    @DisplayName("낙관적 락 - 동시에 50명이 1개씩 차감해도 재고 정합성 유지")
+    void 낙관적_락_동시_차감() throws InterruptedException {
+        // Given
+        VersionedProductRepository productRepository = new VersionedProductRepository();
+        productRepository.save(new Product(1L, "상품", 10000, 100));
+        StockDeductor deductor = new StockDeductor(productRepository, StockLockStrategy.OPTIMISTIC, 1_000);
+
+        int threadCount = 50;
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+
+        // When
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    deductor.deduct(1L, 1);
+                    successCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // Then
+        assertEquals(50, successCount.get());
+        assertEquals(50, productRepository.findById(1L).orElseThrow().getStockQuantity());
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE - 동시에 100명이 재고 10개인 상품 주문 시 10명만 성공")
+    void 조건부_업데이트_동시_차감() throws InterruptedException {
+        // Given
+        MockProductRepository productRepository = new MockProductRepository();
+        productRepository.save(new Product(1L, "한정판 상품", 100000, 10));
+        StockDeductor deductor = new StockDeductor(productRepository, StockLockStrategy.CONDITIONAL_UPDATE);
+
+        int threadCount = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+
+        // When
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    deductor.deduct(1L, 1);
+                    successCount.incrementAndGet();
+                } catch (OutOfStockException | InsufficientStockException e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // Then
+        assertEquals(10, successCount.get());
+        assertEquals(90, failCount.get());
+        assertEquals(0, productRepository.findById(1L).orElseThrow().getStockQuantity());
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE - 10개 상품 주문을 일괄 조회 1번, 일괄 차감 1번으로 처리")
+    void 조건부_업데이트_일괄_차감() {
+        // Given
+        CountingProductRepository productRepository = new CountingProductRepository();
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (long id = 1; id <= 10; id++) {
+            productRepository.save(new Product(id, "상품" + id, 1000, 10));
+            quantities.put(id, 2);
+        }
+        StockDeductor deductor = new StockDeductor(productRepository, StockLockStrategy.CONDITIONAL_UPDATE);
+
+        // When
+        Map<Long, Product> products = deductor.deductAll(quantities);
+
+        // Then
+        assertEquals(10, products.size());
+        assertEquals(2, productRepository.calls.get());
+        for (long id = 1; id <= 10; id++) {
+            assertEquals(8, productRepository.findById(id).orElseThrow().getStockQuantity());
+        }
+    }
+
+    @Test
+    @DisplayName("조건부 UPDATE - 일괄 차감 중 재고 소진 상품이 있으면 전체 취소 후 OutOfStockException")
+    void 조건부_업데이트_일괄_차감_실패() {
+        // Given
+        MockProductRepository productRepository = new MockProductRepository();
+        productRepository.save(new Product(1L, "상품1", 1000, 10));
+        productRepository.save(new Product(2L, "품절 상품", 1000, 0));
+        StockDeductor deductor = new StockDeductor(productRepository, StockLockStrategy.CONDITIONAL_UPDATE);
+
+        Map<Long, Integer> quantities = new TreeMap<>(Map.of(1L, 3, 2L, 1));
+
+        // When & Then
+        assertThrows(OutOfStockException.class, () -> deductor.deductAll(quantities));
+        assertEquals(10, productRepository.findById(1L).orElseThrow().getStockQuantity());
+        assertThrows(ProductNotFoundException.class, () -> deductor.deductAll(Map.of(1L, 1, 999L, 1)));
+    }
+
+    /**
+     * 일괄 조회/차감 호출 수를 세는 저장소
+     */
+    private static class CountingProductRepository extends MockProductRepository {
+
+        private final AtomicInteger calls = new AtomicInteger();
+
+        @Override
+        public List<Product> findAllById(Collection<Long> productIds) {
+            calls.incrementAndGet();
+            return super.findAllById(productIds);
+        }
+
+        @Override
+        public List<Long> tryDecreaseStocks(Map<Long, Integer> quantities) {
+            calls.incrementAndGet();
+            return super.tryDecreaseStocks(quantities);
+        }
+    }
+
+    /**
+     * DB처럼 조회 시 복사본을 돌려주고, 저장 시 버전을 비교하는 저장소
+     */
+    private static class VersionedProductRepository extends MockProductRepository {
+
+        private final Map<Long, Product> rows = new ConcurrentHashMap<>();
+        private final AtomicInteger conflicts = new AtomicInteger();
+        private final AtomicInteger saveAttempts = new AtomicInteger();
+
+        @Override
+        public Optional<Product> findById(Long productId) {
+            return Optional.ofNullable(rows.get(productId)).map(this::copy);
+        }
+
+        @Override
+        public synchronized Product save(Product product) {
+            rows.put(product.getId(), copy(product));
+            return product;
+        }
+
+        @Override
+        public synchronized boolean saveIfVersionMatches(Product product) {
+            saveAttempts.incrementAndGet();
+            if (conflicts.getAndUpdate(n -> n > 0 ? n - 1 : 0) > 0) {
+                return false;
+            }
+            Product current = rows.get(product.getId());
+            if (current.getVersion() != product.getVersion()) {
+                return false;
+            }
+            rows.put(product.getId(), new Product(product.getId(), product.getName(), product.getPrice(),
+                    product.getStockQuantity(), product.getVersion() + 1));
+            return true;
+        }
+
+        private Product copy(Product product) {
+            return new Product(product.getId(), product.getName(), product.getPrice(),
+                    product.getStockQuantity(), product.getVersion());
+        }
+    }
+}
@@ -0,0 +1,208 @@
+package com.hhplus.ecommerce.application.stock;
+
+import com.hhplus.ecommerce.common.id.SnowflakeIdGenerator;
+import com.hhplus.ecommerce.domain.entity.Order;
+import com.hhplus.ecommerce.domain.entity.OrderStatus;
+import com.hhplus.ecommerce.domain.entity.Product;
+import com.hhplus.ecommerce.domain.entity.StockReservation;
+import com.hhplus.ecommerce.mock.MockOrderRepository;
+import com.hhplus.ecommerce.mock.MockProductRepository;
+import com.hhplus.ecommerce.mock.MockStockReservationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 재고 예약 확정/해제 및 만료 정리 테스트
+ * - 만료된 예약의 재고 복구와 주문 취소, 결제로 확정된 예약의 보존, DB 조회로 휠 밖 예약 정리 검증
+ * - 트랜잭션 밖 재고(Mock 저장소)는 해제 트랜잭션 커밋 후에만 복구되는지 검증
+ */
+class StockReservationSweeperTest {
+
+    private static final long TTL_SECONDS = 600;
+
+    private MockProductRepository productRepository;
+    private MockOrderRepository orderRepository;
+    private MockStockReservationRepository reservationRepository;
+    private ReservationTimerWheel timerWheel;
+    private StockReservationService reservationService;
+    private StockReservationSweeper sweeper;
+    private SnowflakeIdGenerator idGenerator;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = new MockProductRepository();
+        orderRepository = new MockOrderRepository();
+        reservationRepository = new MockStockReservationRepository();
+        timerWheel = new ReservationTimerWheel(100, 64);
+        idGenerator = new SnowflakeIdGenerator(0);
+        reservationService = new StockReservationService(reservationRepository, productRepository,
+                orderRepository, timerWheel, idGenerator, TTL_SECONDS);
+        sweeper = new StockReservationSweeper(reservationService, reservationRepository, timerWheel,
+                60_000, 2, false);
+
+        productRepository.save(new Product(1L, "상품A", 10000, 10));
+        productRepository.save(new Product(2L, "상품B", 20000, 10));
+    }
+
+    @Test
+    @DisplayName("만료된 예약은 재고를 복구하고 결제 대기 주문을 취소")
+    void 만료_해제() {
+        // Given: 상품A 2개, 상품B 1개를 차감한 주문
+        placeOrder(1L, Map.of(1L, 2, 2L, 1));
+
+        // When
+        int released = sweeper.sweep(afterTtl());
+
+        // Then
+        assertEquals(1, released);
+        assertEquals(10, productRepository.findById(1L).orElseThrow().getStockQuantity());
+        assertEquals(10, productRepository.findById(2L).orElseThrow().getStockQuantity());
+        assertEquals(OrderStatus.CANCELLED, orderRepository.findById(1L).orElseThrow().getOrderStatus());
+        assertEquals(0, reservationRepository.size());
+        assertEquals(0, timerWheel.size());
+    }
+
+    @Test
+    @DisplayName("만료 전에는 해제하지 않음")
+    void 만료_전() {
+        placeOrder(1L, Map.of(1L, 2));
+
+        int released = sweeper.sweep(System.currentTimeMillis());
+
+        assertEquals(0, released);
+        assertEquals(8, productRepository.findById(1L).orElseThrow().getStockQuantity());
+        assertEquals(OrderStatus.PENDING, orderRepository.findById(1L).orElseThrow().getOrderStatus());
+    }
+
+    @Test
+    @DisplayName("결제로 확정된 예약은 만료되어도 재고를 복구하지 않음")
+    void 확정_후_만료() {
+        // Given
+        placeOrder(1L, Map.of(1L, 2));
+        reservationService.confirm(1L);
+        Order order = orderRepository.findById(1L).orElseThrow();
+        order.complete();
+        orderRepository.save(order);
+
+        // When
+        int released = sweeper.sweep(afterTtl());
+
+        // Then
+        assertEquals(0, released);
+        assertEquals(8, productRepository.findById(1L).orElseThrow().getStockQuantity());
+        assertEquals(OrderStatus.COMPLETED, orderRepository.findById(1L).orElseThrow().getOrderStatus());
+    }
+
+    @Test
+    @DisplayName("만료된 주문이 많으면 batchSize씩 나누어 해제하고, 같은 상품 복구 수량은 합산")
+    void 배치_해제() {
+        // Given: 상품A를 1개씩 차감한 주문 5건
+        for (long orderId = 1; orderId <= 5; orderId++) {
+            placeOrder(orderId, Map.of(1L, 1));
+        }
+        assertEquals(5, productRepository.findById(1L).orElseThrow().getStockQuantity());
+
+        // When
+        int released = sweeper.sweep(afterTtl());
+
+        // Then
+        assertEquals(5, released);
+        assertEquals(10, productRepository.findById(1L).orElseThrow().getStockQuantity());
+        for (long orderId = 1; orderId <= 5; orderId++) {
+            assertTrue(orderRepository.findById(orderId).orElseThrow().isCancelled());
+        }
+    }
+
+    @Test
+    @DisplayName("타이머 휠에 없는 예약(재시작 전, 다른 인스턴스)은 DB 조회로 해제")
+    void DB_조회_해제() {
+        // Given: 휠에 등록되지 않은 만료 예약
+        productRepository.tryDecreaseStock(1L, 2);
+        orderRepository.save(new Order(1L, 1L, OrderStatus.PENDING, 20000, 0, 0));
+        reservationRepository.saveAll(List.of(new StockReservation(idGenerator.nextId(), 1L, 1L, 2,
+                LocalDateTime.now().minusSeconds(1))));
+
+        // When
+        int released = sweeper.sweep(System.currentTimeMillis());
+
+        // Then
+        assertEquals(1, released);
+        assertEquals(10, productRepository.findById(1L).orElseThrow().getStockQuantity());
+        assertTrue(orderRepository.findById(1L).orElseThrow().isCancelled());
+    }
+
+    @Test
+    @DisplayName("이미 해제된 주문을 다시 해제해도 재고는 한 번만 복구")
+    void 중복_해제() {
+        placeOrder(1L, Map.of(1L, 2));
+
+        assertEquals(1, reservationService.release(List.of(1L)));
+        assertEquals(0, reservationService.release(List.of(1L)));
+
+        assertEquals(10, productRepository.findById(1L).orElseThrow().getStockQuantity());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖 재고: 해제 트랜잭션이 커밋된 뒤에만 재고 복구")
+    void 해제_커밋후_재고복구() {
+        // Given
+        placeOrder(1L, Map.of(1L, 2));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            assertEquals(1, reservationService.release(List.of(1L)));
+
+            // Then: 커밋 전에는 복구하지 않음
+            assertEquals(8, productRepository.findById(1L).orElseThrow().getStockQuantity());
+            TransactionSynchronizationUtils.invokeAfterCommit(TransactionSynchronizationManager.getSynchronizations());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        assertEquals(10, productRepository.findById(1L).orElseThrow().getStockQuantity());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖 재고: 해제 트랜잭션이 롤백되면 재고를 복구하지 않음")
+    void 해제_롤백시_재고유지() {
+        // Given
+        placeOrder(1L, Map.of(1L, 2));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            assertEquals(1, reservationService.release(List.of(1L)));
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(),
+                    TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertEquals(8, productRepository.findById(1L).orElseThrow().getStockQuantity());
+    }
+
+    /**
+     * 주문 생성과 같은 순서로 재고 차감, 주문 저장, 예약
+     */
+    private void placeOrder(long orderId, Map<Long, Integer> quantities) {
+        assertEquals(List.of(), productRepository.tryDecreaseStocks(quantities));
+        orderRepository.save(new Order(orderId, 1L, OrderStatus.PENDING, 10000, 0, 0));
+        reservationService.reserve(orderId, quantities);
+    }
+
+    private long afterTtl() {
+        return System.currentTimeMillis() + TTL_SECONDS * 1000 + 1000;
+    }
+}
@@ -1,5 +1,6 @@
 package com.hhplus.ecommerce.application.usecase;
 
+import com.hhplus.ecommerce.common.id.SnowflakeIdGenerator;
 import com.hhplus.ecommerce.domain.entity.CartItem;
 import com.hhplus.ecommerce.domain.entity.Product;
 import com.hhplus.ecommerce.domain.exception.CartItemNotFoundException;
@@ -30,7 +31,7 @@ class CartUseCaseTest {
     void setUp() {
         cartRepository = new MockCartRepository();
         productRepository = new MockProductRepository();
-        cartUseCase = new CartUseCase(cartRepository, productRepository);
+        cartUseCase = new CartUseCase(cartRepository, productRepository, new SnowflakeIdGenerator(0));
     }
 
     @Test
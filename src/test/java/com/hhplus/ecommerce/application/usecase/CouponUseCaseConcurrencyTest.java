@@ -1,12 +1,20 @@
 package com.hhplus.ecommerce.application.usecase;
 
+import com.hhplus.ecommerce.application.coupon.CouponIssueWriter;
+import com.hhplus.ecommerce.application.coupon.CouponIssuedUserIndex;
+import com.hhplus.ecommerce.application.coupon.CouponPermitCounter;
+import com.hhplus.ecommerce.common.concurrent.SingleFlightLoader;
+import com.hhplus.ecommerce.common.id.SnowflakeIdGenerator;
 import com.hhplus.ecommerce.domain.entity.Coupon;
 import com.hhplus.ecommerce.domain.entity.UserCoupon;
+import com.hhplus.ecommerce.domain.exception.CouponAlreadyIssuedException;
 import com.hhplus.ecommerce.domain.exception.CouponSoldOutException;
 import com.hhplus.ecommerce.mock.MockCouponRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -21,16 +29,28 @@ import static org.junit.jupiter.api.Assertions.*;
 /**
  * 쿠폰 유스케이스 동시성 테스트
  * - 제한된 수량의 쿠폰을 여러 사용자가 동시에 발급받을 때 정합성 검증
+ * - 허가 카운터 + 단일 writer 기반 발급 엔진 검증
  */
 class CouponUseCaseConcurrencyTest {
 
     private MockCouponRepository couponRepository;
+    private CouponIssueWriter couponIssueWriter;
     private CouponUseCase couponUseCase;
 
     @BeforeEach
     void setUp() {
         couponRepository = new MockCouponRepository();
-        couponUseCase = new CouponUseCase(couponRepository);
+        CouponPermitCounter permitCounter = new CouponPermitCounter(couponRepository);
+        couponIssueWriter = new CouponIssueWriter(couponRepository, permitCounter, new SnowflakeIdGenerator(0),
+                TransactionOperations.withoutTransaction());
+        couponIssueWriter.start();
+        couponUseCase = new CouponUseCase(couponRepository, new CouponIssuedUserIndex(couponRepository),
+                permitCounter, couponIssueWriter, new SingleFlightLoader(3000));
+    }
+
+    @AfterEach
+    void tearDown() {
+        couponIssueWriter.shutdown();
     }
 
     @Test
@@ -227,4 +247,43 @@ class CouponUseCaseConcurrencyTest {
         assertEquals(10, successCount.get(),
                 "10번만 성공해야 함");
     }
+
+    @Test
+    @DisplayName("같은 사용자가 동시에 50번 발급 요청 - 1번만 성공")
+    void 동일_사용자_동시_중복_발급() throws InterruptedException {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        couponRepository.saveCoupon(new Coupon(1L, 10000, 100, 0,
+                now.minusDays(1), now.plusDays(30)));
+
+        int threadCount = 50;
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger duplicateCount = new AtomicInteger(0);
+
+        // When
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    couponUseCase.issueCoupon(1L, 1L);
+                    successCount.incrementAndGet();
+                } catch (CouponAlreadyIssuedException e) {
+                    duplicateCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // Then
+        assertEquals(1, successCount.get(), "같은 사용자는 한 번만 발급");
+        assertEquals(49, duplicateCount.get());
+        assertEquals(1, couponRepository.findById(1L).orElseThrow().getIssuedQuantity());
+        assertEquals(1, couponRepository.findByCouponId(1L).size());
+    }
 }
@@ -1,14 +1,23 @@
 package com.hhplus.ecommerce.application.usecase;
 
+import com.hhplus.ecommerce.application.coupon.CouponIssueWriter;
+import com.hhplus.ecommerce.application.coupon.CouponIssuedUserIndex;
+import com.hhplus.ecommerce.application.coupon.CouponPermitCounter;
+import com.hhplus.ecommerce.common.concurrent.SingleFlightLoader;
+import com.hhplus.ecommerce.common.exception.InvalidInputException;
+import com.hhplus.ecommerce.common.id.SnowflakeIdGenerator;
 import com.hhplus.ecommerce.domain.entity.Coupon;
 import com.hhplus.ecommerce.domain.entity.UserCoupon;
+import com.hhplus.ecommerce.domain.exception.CouponAlreadyIssuedException;
 import com.hhplus.ecommerce.domain.exception.CouponNotFoundException;
 import com.hhplus.ecommerce.domain.exception.CouponSoldOutException;
 import com.hhplus.ecommerce.domain.exception.CouponNotIssuablePeriodException;
 import com.hhplus.ecommerce.mock.MockCouponRepository;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -23,16 +32,27 @@ import static org.junit.jupiter.api.Assertions.*;
 class CouponUseCaseTest {
 
     private MockCouponRepository couponRepository;
+    private CouponIssueWriter couponIssueWriter;
     private CouponUseCase couponUseCase;
     private LocalDateTime now;
 
     @BeforeEach
     void setUp() {
         couponRepository = new MockCouponRepository();
-        couponUseCase = new CouponUseCase(couponRepository);
+        CouponPermitCounter permitCounter = new CouponPermitCounter(couponRepository);
+        couponIssueWriter = new CouponIssueWriter(couponRepository, permitCounter, new SnowflakeIdGenerator(0),
+                TransactionOperations.withoutTransaction());
+        couponIssueWriter.start();
+        couponUseCase = new CouponUseCase(couponRepository, new CouponIssuedUserIndex(couponRepository),
+                permitCounter, couponIssueWriter, new SingleFlightLoader(3000));
         now = LocalDateTime.now();
     }
 
+    @AfterEach
+    void tearDown() {
+        couponIssueWriter.shutdown();
+    }
+
     @Test
     @DisplayName("사용자 쿠폰 목록 조회 성공")
     void getUserCoupons_성공() {
@@ -135,4 +155,65 @@ class CouponUseCaseTest {
             couponUseCase.issueCoupon(userId, couponId);
         });
     }
+
+    @Test
+    @DisplayName("쿠폰 발급 실패 - 잘못된 사용자 ID")
+    void issueCoupon_잘못된사용자() {
+        // Given
+        couponRepository.saveCoupon(new Coupon(1L, 5000, 10, 0, now.minusDays(1), now.plusDays(30)));
+
+        // When & Then
+        assertThrows(InvalidInputException.class, () -> couponUseCase.issueCoupon(0L, 1L));
+        assertThrows(InvalidInputException.class, () -> couponUseCase.issueCoupon(-1L, 1L));
+        assertEquals(0, couponRepository.findById(1L).orElseThrow().getIssuedQuantity());
+    }
+
+    @Test
+    @DisplayName("쿠폰 발급 실패 - 이미 발급받은 쿠폰")
+    void issueCoupon_중복발급() {
+        // Given
+        Long userId = 1L;
+        Long couponId = 1L;
+        Coupon coupon = new Coupon(couponId, 5000, 10, 0, now.minusDays(1), now.plusDays(30));
+        couponRepository.saveCoupon(coupon);
+        couponUseCase.issueCoupon(userId, couponId);
+
+        // When & Then
+        assertThrows(CouponAlreadyIssuedException.class, () -> {
+            couponUseCase.issueCoupon(userId, couponId);
+        });
+
+        // 중복 요청은 수량을 소모하지 않음
+        assertEquals(1, couponRepository.findById(couponId).orElseThrow().getIssuedQuantity());
+    }
+
+    @Test
+    @DisplayName("쿠폰 발급 실패 - 재시작 전에 발급받은 쿠폰도 중복으로 판정")
+    void issueCoupon_기존발급이력_중복() {
+        // Given: 이미 저장된 발급 이력
+        Long userId = 1L;
+        Long couponId = 1L;
+        Coupon coupon = new Coupon(couponId, 5000, 10, 1, now.minusDays(1), now.plusDays(30));
+        couponRepository.saveCoupon(coupon);
+        couponRepository.saveUserCoupon(new UserCoupon(1L, userId, couponId, 0, false, now, null, now.plusDays(30)));
+
+        // When & Then
+        assertThrows(CouponAlreadyIssuedException.class, () -> {
+            couponUseCase.issueCoupon(userId, couponId);
+        });
+    }
+
+    @Test
+    @DisplayName("수량 소진으로 실패한 사용자는 중복 발급으로 기록되지 않음")
+    void issueCoupon_실패시_중복기록_취소() {
+        // Given
+        Long userId = 1L;
+        Long couponId = 1L;
+        Coupon soldOutCoupon = new Coupon(couponId, 5000, 10, 10, now.minusDays(1), now.plusDays(30));
+        couponRepository.saveCoupon(soldOutCoupon);
+
+        // When & Then: 반복 요청해도 계속 수량 소진 예외
+        assertThrows(CouponSoldOutException.class, () -> couponUseCase.issueCoupon(userId, couponId));
+        assertThrows(CouponSoldOutException.class, () -> couponUseCase.issueCoupon(userId, couponId));
+    }
 }
@@ -1,9 +1,19 @@
 package com.hhplus.ecommerce.application.usecase;
 
+import com.hhplus.ecommerce.application.stock.ReservationTimerWheel;
+import com.hhplus.ecommerce.application.stock.StockDeductor;
+import com.hhplus.ecommerce.application.stock.StockLockStrategy;
+import com.hhplus.ecommerce.application.stock.StockReservationService;
+import com.hhplus.ecommerce.common.id.SnowflakeIdGenerator;
 import com.hhplus.ecommerce.domain.entity.Product;
 import com.hhplus.ecommerce.domain.exception.InsufficientStockException;
+import com.hhplus.ecommerce.domain.exception.OutOfStockException;
+import com.hhplus.ecommerce.domain.lock.StockLockManager;
+import com.hhplus.ecommerce.domain.repository.ProductRepository;
+import com.hhplus.ecommerce.infrastructure.memory.InMemoryProductRepository;
 import com.hhplus.ecommerce.mock.MockOrderRepository;
 import com.hhplus.ecommerce.mock.MockProductRepository;
+import com.hhplus.ecommerce.mock.MockStockReservationRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,12 +23,14 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongConsumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
  * 주문 유스케이스 동시성 테스트
  * - 여러 스레드가 동시에 같은 상품을 주문할 때 재고 정합성 검증
+ * - 재고를 하위 카운터로 나눴을 때의 정합성과 한 상품 주문 처리량 비교
  */
 class OrderUseCaseConcurrencyTest {
 
@@ -30,7 +42,7 @@ class OrderUseCaseConcurrencyTest {
     void setUp() {
         productRepository = new MockProductRepository();
         orderRepository = new MockOrderRepository();
-        orderUseCase = new OrderUseCase(orderRepository, productRepository);
+        orderUseCase = orderUseCase(productRepository, orderRepository, 1);
     }
 
     @Test
@@ -76,6 +88,13 @@ class OrderUseCaseConcurrencyTest {
         // 최종 재고 확인
         Product finalProduct = productRepository.findById(1L).orElseThrow();
         assertEquals(0, finalProduct.getStockQuantity(), "최종 재고는 0이어야 함");
+
+        // 같은 밀리초에 생성된 주문도 ID가 겹쳐 덮어써지지 않아야 함
+        long savedOrders = 0;
+        for (long userId = 1; userId <= threadCount; userId++) {
+            savedOrders += orderRepository.countByUserId(userId);
+        }
+        assertEquals(10, savedOrders, "성공한 주문은 모두 저장되어야 함");
     }
 
     @Test
@@ -165,4 +184,83 @@ class OrderUseCaseConcurrencyTest {
         assertEquals(30, successCount.get(),
                 "30번만 성공해야 함");
     }
+
+    @Test
+    @DisplayName("재고를 하위 카운터로 나눈 상품에 100명이 동시 주문 - 재고 10개만큼만 성공")
+    void 재고_분할_동시_주문() throws InterruptedException {
+        // Given: 재고 10개를 8개 하위 카운터로 나눈 상품 (상품 락 없이 주문)
+        InMemoryProductRepository shardedRepository = new InMemoryProductRepository(8);
+        shardedRepository.save(new Product(1L, "한정판 상품", 100000, 10));
+        OrderUseCase shardedUseCase = orderUseCase(shardedRepository, orderRepository, 8);
+
+        // When: 100명이 1~2개씩 주문
+        AtomicInteger orderedQuantity = new AtomicInteger();
+        runConcurrently(100, userId -> {
+            int quantity = (int) (userId % 2) + 1;
+            try {
+                shardedUseCase.createOrder(userId, List.of(new OrderUseCase.OrderItem(1L, quantity)), null);
+                orderedQuantity.addAndGet(quantity);
+            } catch (InsufficientStockException | OutOfStockException e) {
+                // 재고 부족 예외는 정상
+            }
+        });
+
+        // Then: 초과 판매 없이 재고를 모두 소진
+        assertEquals(10, orderedQuantity.get());
+        assertEquals(0, shardedRepository.findById(1L).orElseThrow().getStockQuantity());
+    }
+
+    @Test
+    @DisplayName("처리량 벤치마크 - 한 상품 주문 처리량을 재고 하위 카운터 수별로 비교")
+    void 재고_분할_처리량_비교() throws InterruptedException {
+        int orders = 50_000;
+
+        for (int shards : new int[]{1, 4, 16}) {
+            // Given
+            InMemoryProductRepository repository = new InMemoryProductRepository(shards);
+            repository.save(new Product(1L, "인기 상품", 1000, orders));
+            OrderUseCase useCase = orderUseCase(repository, new MockOrderRepository(), shards);
+            List<OrderUseCase.OrderItem> items = List.of(new OrderUseCase.OrderItem(1L, 1));
+
+            // When
+            long start = System.nanoTime();
+            runConcurrently(orders, userId -> useCase.createOrder(userId, items, null));
+            long elapsed = System.nanoTime() - start;
+
+            // Then
+            System.out.printf("재고 하위 카운터 %d개: %.0f orders/s%n", shards, orders / (elapsed / 1_000_000_000.0));
+            assertEquals(0, repository.findById(1L).orElseThrow().getStockQuantity());
+        }
+    }
+
+    private static OrderUseCase orderUseCase(ProductRepository productRepository,
+                                             MockOrderRepository orderRepository, int stockShards) {
+        SnowflakeIdGenerator idGenerator = new SnowflakeIdGenerator(0);
+        return new OrderUseCase(orderRepository, new StockLockManager(),
+                new StockDeductor(productRepository, StockLockStrategy.CONDITIONAL_UPDATE),
+                idGenerator,
+                new StockReservationService(new MockStockReservationRepository(), productRepository,
+                        orderRepository, new ReservationTimerWheel(1000, 512), idGenerator, 600),
+                stockShards);
+    }
+
+    /**
+     * 32개 스레드로 사용자 1..count의 작업을 동시에 실행하고 모두 끝날 때까지 대기
+     */
+    private static void runConcurrently(int count, LongConsumer task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(count);
+        for (int i = 0; i < count; i++) {
+            long userId = i + 1L;
+            executorService.submit(() -> {
+                try {
+                    task.accept(userId);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        executorService.shutdown();
+    }
 }
@@ -1,17 +1,31 @@
 package com.hhplus.ecommerce.application.usecase;
 
+import com.hhplus.ecommerce.application.stock.ReservationTimerWheel;
+import com.hhplus.ecommerce.application.stock.StockDeductor;
+import com.hhplus.ecommerce.application.stock.StockLockStrategy;
+import com.hhplus.ecommerce.application.stock.StockReservationService;
+import com.hhplus.ecommerce.common.exception.InvalidInputException;
+import com.hhplus.ecommerce.common.id.SnowflakeIdGenerator;
+import com.hhplus.ecommerce.common.pagination.KeysetCursor;
 import com.hhplus.ecommerce.domain.entity.Order;
 import com.hhplus.ecommerce.domain.entity.OrderStatus;
 import com.hhplus.ecommerce.domain.entity.Product;
+import com.hhplus.ecommerce.domain.entity.StockReservation;
 import com.hhplus.ecommerce.domain.exception.InsufficientStockException;
 import com.hhplus.ecommerce.domain.exception.OrderNotFoundException;
 import com.hhplus.ecommerce.domain.exception.ProductNotFoundException;
+import com.hhplus.ecommerce.domain.lock.StockLockManager;
 import com.hhplus.ecommerce.mock.MockOrderRepository;
 import com.hhplus.ecommerce.mock.MockProductRepository;
+import com.hhplus.ecommerce.mock.MockStockReservationRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -25,13 +39,36 @@ class OrderUseCaseTest {
 
     private MockOrderRepository orderRepository;
     private MockProductRepository productRepository;
+    private MockStockReservationRepository reservationRepository;
     private OrderUseCase orderUseCase;
 
     @BeforeEach
     void setUp() {
         orderRepository = new MockOrderRepository();
         productRepository = new MockProductRepository();
-        orderUseCase = new OrderUseCase(orderRepository, productRepository);
+        reservationRepository = new MockStockReservationRepository();
+        orderUseCase = orderUseCase(orderRepository);
+    }
+
+    private OrderUseCase orderUseCase(MockOrderRepository orderRepository) {
+        SnowflakeIdGenerator idGenerator = new SnowflakeIdGenerator(0);
+        return new OrderUseCase(orderRepository, new StockLockManager(),
+                new StockDeductor(productRepository, StockLockStrategy.CONDITIONAL_UPDATE),
+                idGenerator,
+                new StockReservationService(reservationRepository, productRepository, orderRepository,
+                        new ReservationTimerWheel(1000, 512), idGenerator, 600), 1);
+    }
+
+    /**
+     * 주문 저장이 항상 실패하는 저장소
+     */
+    private static MockOrderRepository failingOrderRepository() {
+        return new MockOrderRepository() {
+            @Override
+            public Order save(Order order) {
+                throw new IllegalStateException("주문 저장 실패");
+            }
+        };
     }
 
     @Test
@@ -123,6 +160,121 @@ class OrderUseCaseTest {
         assertEquals(5, productRepository.findById(1L).orElseThrow().getStockQuantity());
     }
 
+    @Test
+    @DisplayName("주문 생성 실패 - 여러 상품 중 하나라도 재고 부족하면 아무 상품도 차감하지 않음")
+    void createOrder_일부상품_재고부족() {
+        // Given
+        Long userId = 1L;
+        productRepository.save(new Product(1L, "상품A", 10000, 100));
+        productRepository.save(new Product(2L, "상품B", 20000, 100));
+        productRepository.save(new Product(3L, "상품C", 30000, 2));
+
+        List<OrderUseCase.OrderItem> items = List.of(
+                new OrderUseCase.OrderItem(1L, 1),
+                new OrderUseCase.OrderItem(2L, 1),
+                new OrderUseCase.OrderItem(3L, 5)
+        );
+
+        // When & Then
+        assertThrows(InsufficientStockException.class, () -> {
+            orderUseCase.createOrder(userId, items, null);
+        });
+
+        assertEquals(100, productRepository.findById(1L).orElseThrow().getStockQuantity());
+        assertEquals(100, productRepository.findById(2L).orElseThrow().getStockQuantity());
+        assertEquals(2, productRepository.findById(3L).orElseThrow().getStockQuantity());
+    }
+
+    @Test
+    @DisplayName("주문 생성 성공 - 같은 상품이 여러 줄이면 수량 합산하여 차감")
+    void createOrder_같은상품_여러줄() {
+        // Given
+        Long userId = 1L;
+        productRepository.save(new Product(1L, "상품A", 10000, 10));
+
+        List<OrderUseCase.OrderItem> items = List.of(
+                new OrderUseCase.OrderItem(1L, 2),
+                new OrderUseCase.OrderItem(1L, 3)
+        );
+
+        // When
+        Order result = orderUseCase.createOrder(userId, items, null);
+
+        // Then
+        assertEquals(50000, result.getTotalAmount());
+        assertEquals(5, productRepository.findById(1L).orElseThrow().getStockQuantity());
+    }
+
+    @Test
+    @DisplayName("주문 생성 시 상품별 차감 수량만큼 재고 예약")
+    void createOrder_재고예약() {
+        // Given
+        Long userId = 1L;
+        productRepository.save(new Product(1L, "상품A", 10000, 10));
+        productRepository.save(new Product(2L, "상품B", 20000, 10));
+
+        List<OrderUseCase.OrderItem> items = List.of(
+                new OrderUseCase.OrderItem(1L, 2),
+                new OrderUseCase.OrderItem(2L, 1),
+                new OrderUseCase.OrderItem(1L, 3)
+        );
+
+        // When
+        Order result = orderUseCase.createOrder(userId, items, null);
+
+        // Then
+        List<StockReservation> reservations = reservationRepository.findByOrderId(result.getId());
+        assertEquals(2, reservations.size());
+        assertEquals(5, reservations.get(0).getQuantity());
+        assertEquals(1, reservations.get(1).getQuantity());
+        assertTrue(reservations.get(0).getExpiresAt().isAfter(LocalDateTime.now().plusSeconds(590)));
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖 재고: 주문 저장이 실패하면 차감한 재고 복구")
+    void createOrder_저장실패_재고복구() {
+        // Given
+        productRepository.save(new Product(1L, "상품A", 10000, 10));
+        productRepository.save(new Product(2L, "상품B", 20000, 10));
+        OrderUseCase failingUseCase = orderUseCase(failingOrderRepository());
+
+        List<OrderUseCase.OrderItem> items = List.of(
+                new OrderUseCase.OrderItem(1L, 2),
+                new OrderUseCase.OrderItem(2L, 3)
+        );
+
+        // When
+        assertThrows(IllegalStateException.class, () -> failingUseCase.createOrder(1L, items, null));
+
+        // Then
+        assertEquals(10, productRepository.findById(1L).orElseThrow().getStockQuantity());
+        assertEquals(10, productRepository.findById(2L).orElseThrow().getStockQuantity());
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖 재고: 트랜잭션 안에서 실패하면 롤백 완료 시 한 번만 복구")
+    void createOrder_저장실패_롤백시_재고복구() {
+        // Given
+        productRepository.save(new Product(1L, "상품A", 10000, 10));
+        OrderUseCase failingUseCase = orderUseCase(failingOrderRepository());
+        List<OrderUseCase.OrderItem> items = List.of(new OrderUseCase.OrderItem(1L, 4));
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // When
+            assertThrows(IllegalStateException.class, () -> failingUseCase.createOrder(1L, items, null));
+            assertEquals(6, productRepository.findById(1L).orElseThrow().getStockQuantity());
+            TransactionSynchronizationUtils.invokeAfterCompletion(
+                    TransactionSynchronizationManager.getSynchronizations(),
+                    TransactionSynchronization.STATUS_ROLLED_BACK);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        // Then
+        assertEquals(10, productRepository.findById(1L).orElseThrow().getStockQuantity());
+    }
+
     @Test
     @DisplayName("주문 조회 성공")
     void getOrder_성공() {
@@ -166,6 +318,21 @@ class OrderUseCaseTest {
         assertEquals(2, result.size());
     }
 
+    @Test
+    @DisplayName("사용자 주문 목록 커서 조회 실패 - 페이지 크기 범위 밖")
+    void getOrdersAfter_잘못된_크기() {
+        // Given
+        Long userId = 1L;
+        orderRepository.save(new Order(1L, userId, OrderStatus.PENDING, 20000, 0, 0));
+
+        // When & Then
+        assertThrows(InvalidInputException.class, () -> orderUseCase.getOrdersAfter(userId, null, 0));
+        assertThrows(InvalidInputException.class, () -> orderUseCase.getOrdersAfter(userId, null, -1));
+        assertThrows(InvalidInputException.class,
+                () -> orderUseCase.getOrdersAfter(userId, null, KeysetCursor.MAX_PAGE_SIZE + 1));
+        assertEquals(1, orderUseCase.getOrdersAfter(userId, null, 1).items().size());
+    }
+
     @Test
     @DisplayName("주문 개수 조회 성공")
     void getOrderCount_성공() {
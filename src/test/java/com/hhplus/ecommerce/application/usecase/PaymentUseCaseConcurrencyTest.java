@@ -1,14 +1,25 @@
 package com.hhplus.ecommerce.application.usecase;
 
+import com.hhplus.ecommerce.application.ranking.ExactPopularProductRanking;
+import com.hhplus.ecommerce.application.stock.ReservationTimerWheel;
+import com.hhplus.ecommerce.application.stock.StockReservationService;
+import com.hhplus.ecommerce.common.concurrent.SingleFlightLoader;
+import com.hhplus.ecommerce.common.id.SnowflakeIdGenerator;
 import com.hhplus.ecommerce.domain.entity.Order;
 import com.hhplus.ecommerce.domain.entity.OrderStatus;
 import com.hhplus.ecommerce.domain.entity.User;
 import com.hhplus.ecommerce.domain.exception.InsufficientBalanceException;
+import com.hhplus.ecommerce.domain.lock.KeyedLockAspect;
+import com.hhplus.ecommerce.domain.lock.KeyedLockRegistry;
+import com.hhplus.ecommerce.mock.MockOrderDataOutboxRepository;
 import com.hhplus.ecommerce.mock.MockOrderRepository;
+import com.hhplus.ecommerce.mock.MockProductRepository;
+import com.hhplus.ecommerce.mock.MockStockReservationRepository;
 import com.hhplus.ecommerce.mock.MockUserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
 
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
@@ -20,6 +31,7 @@ import static org.junit.jupiter.api.Assertions.*;
 /**
  * 결제 유스케이스 동시성 테스트
  * - 여러 스레드가 동시에 포인트를 사용할 때 잔액 정합성 검증
+ * - @KeyedLock 적용을 위해 KeyedLockAspect 프록시를 통해 호출
  */
 class PaymentUseCaseConcurrencyTest {
 
@@ -31,7 +43,21 @@ class PaymentUseCaseConcurrencyTest {
     void setUp() {
         userRepository = new MockUserRepository();
         orderRepository = new MockOrderRepository();
-        paymentUseCase = new PaymentUseCase(userRepository, orderRepository);
+        paymentUseCase = withKeyedLock(new PaymentUseCase(userRepository, orderRepository,
+                new SingleFlightLoader(3000), reservationService(orderRepository),
+                new MockOrderDataOutboxRepository(), new SnowflakeIdGenerator(0),
+                new ExactPopularProductRanking(3, 5)));
+    }
+
+    private PaymentUseCase withKeyedLock(PaymentUseCase target) {
+        AspectJProxyFactory factory = new AspectJProxyFactory(target);
+        factory.addAspect(new KeyedLockAspect(new KeyedLockRegistry()));
+        return factory.getProxy();
+    }
+
+    private static StockReservationService reservationService(MockOrderRepository orderRepository) {
+        return new StockReservationService(new MockStockReservationRepository(), new MockProductRepository(),
+                orderRepository, new ReservationTimerWheel(1000, 512), new SnowflakeIdGenerator(0), 600);
     }
 
     @Test
@@ -174,6 +200,7 @@ class PaymentUseCaseConcurrencyTest {
 
         ExecutorService executorService = Executors.newFixedThreadPool(20);
         CountDownLatch latch = new CountDownLatch(20);
+        AtomicInteger paidCount = new AtomicInteger(0);
 
         // When: 10번 충전(각 5만원) + 10번 결제(각 5만원) 동시 실행
         // 충전 스레드
@@ -193,6 +220,7 @@ class PaymentUseCaseConcurrencyTest {
             executorService.submit(() -> {
                 try {
                     paymentUseCase.executePayment(1L, orderId);
+                    paidCount.incrementAndGet();
                 } catch (InsufficientBalanceException e) {
                     // 잔액 부족은 발생할 수 있음 (타이밍에 따라)
                 } finally {
@@ -204,14 +232,10 @@ class PaymentUseCaseConcurrencyTest {
         latch.await();
         executorService.shutdown();
 
-        // Then: synchronized 덕분에 잔액이 음수가 되지 않고 정합성 유지
+        // Then: 사용자별 @KeyedLock으로 충전/결제가 직렬화되어 잔액이 음수가 되지 않고 정합성 유지
         User finalUser = userRepository.findById(1L).orElseThrow();
         assertTrue(finalUser.getPoint() >= 0, "잔액은 음수가 될 수 없음");
-        assertTrue(finalUser.getPoint() <= 500000, "최대 잔액은 500,000원 (충전 총액)");
-
-        // 충전 총액(500,000원)에서 결제 성공한 만큼 차감된 금액
-        System.out.println("최종 잔액: " + finalUser.getPoint() + "원");
-        System.out.println("충전 총액: 500,000원 (5만원 * 10번)");
-        System.out.println("synchronized로 동시성 제어되어 잔액 정합성 유지됨");
+        // 충전 총액(500,000원)에서 결제 성공한 만큼만 차감
+        assertEquals(500000 - 50000 * paidCount.get(), finalUser.getPoint(), "충전 총액 - 결제 성공 금액");
     }
 }
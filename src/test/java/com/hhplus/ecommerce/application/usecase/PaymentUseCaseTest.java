@@ -1,18 +1,34 @@
 package com.hhplus.ecommerce.application.usecase;
 
+import com.hhplus.ecommerce.application.ranking.ExactPopularProductRanking;
+import com.hhplus.ecommerce.application.ranking.PopularProductRanking;
+import com.hhplus.ecommerce.application.stock.ReservationTimerWheel;
+import com.hhplus.ecommerce.application.stock.StockReservationService;
+import com.hhplus.ecommerce.common.concurrent.SingleFlightLoader;
 import com.hhplus.ecommerce.common.exception.InvalidInputException;
+import com.hhplus.ecommerce.common.id.SnowflakeIdGenerator;
 import com.hhplus.ecommerce.domain.entity.Order;
+import com.hhplus.ecommerce.domain.entity.OrderDataOutbox;
 import com.hhplus.ecommerce.domain.entity.OrderStatus;
+import com.hhplus.ecommerce.domain.entity.OutboxStatus;
 import com.hhplus.ecommerce.domain.entity.User;
 import com.hhplus.ecommerce.domain.exception.InsufficientBalanceException;
+import com.hhplus.ecommerce.domain.exception.InvalidOrderStatusException;
 import com.hhplus.ecommerce.domain.exception.OrderNotFoundException;
 import com.hhplus.ecommerce.domain.exception.UserNotFoundException;
+import com.hhplus.ecommerce.mock.MockOrderDataOutboxRepository;
 import com.hhplus.ecommerce.mock.MockOrderRepository;
+import com.hhplus.ecommerce.mock.MockProductRepository;
+import com.hhplus.ecommerce.mock.MockStockReservationRepository;
 import com.hhplus.ecommerce.mock.MockUserRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -24,13 +40,22 @@ class PaymentUseCaseTest {
 
     private MockUserRepository userRepository;
     private MockOrderRepository orderRepository;
+    private StockReservationService reservationService;
+    private MockOrderDataOutboxRepository outboxRepository;
+    private PopularProductRanking popularProductRanking;
     private PaymentUseCase paymentUseCase;
 
     @BeforeEach
     void setUp() {
         userRepository = new MockUserRepository();
         orderRepository = new MockOrderRepository();
-        paymentUseCase = new PaymentUseCase(userRepository, orderRepository);
+        reservationService = new StockReservationService(new MockStockReservationRepository(),
+                new MockProductRepository(), orderRepository, new ReservationTimerWheel(1000, 512),
+                new SnowflakeIdGenerator(0), 600);
+        outboxRepository = new MockOrderDataOutboxRepository();
+        popularProductRanking = new ExactPopularProductRanking(3, 5);
+        paymentUseCase = new PaymentUseCase(userRepository, orderRepository, new SingleFlightLoader(3000),
+                reservationService, outboxRepository, new SnowflakeIdGenerator(0), popularProductRanking);
     }
 
     @Test
@@ -140,6 +165,32 @@ class PaymentUseCaseTest {
 
         Order updatedOrder = orderRepository.findById(orderId).orElseThrow();
         assertEquals(OrderStatus.COMPLETED, updatedOrder.getOrderStatus());
+
+        // 외부 전송은 아웃박스에 기록만 하고 나중에 전송
+        OrderDataOutbox outbox = outboxRepository.findByOrderId(orderId).orElseThrow();
+        assertEquals(OutboxStatus.PENDING, outbox.getStatus());
+        assertEquals(userId, outbox.getUserId());
+        assertEquals(20000, outbox.getFinalAmount());
+        assertEquals(0, outbox.getAttempts());
+    }
+
+    @Test
+    @DisplayName("결제 시 예약한 상품별 수량을 인기 상품 랭킹에 반영")
+    void executePayment_판매량반영() {
+        // Given
+        Long userId = 1L;
+        Long orderId = 1L;
+        userRepository.save(new User(userId, 50000));
+        orderRepository.save(new Order(orderId, userId, OrderStatus.PENDING, 20000, 0, 0));
+        reservationService.reserve(orderId, Map.of(1L, 2, 2L, 3));
+        assertEquals(0, popularProductRanking.getSalesCount(1L, LocalDateTime.now()));
+
+        // When
+        paymentUseCase.executePayment(userId, orderId);
+
+        // Then
+        assertEquals(2, popularProductRanking.getSalesCount(1L, LocalDateTime.now()));
+        assertEquals(3, popularProductRanking.getSalesCount(2L, LocalDateTime.now()));
     }
 
     @Test
@@ -196,6 +247,7 @@ class PaymentUseCaseTest {
 
         Order savedOrder = orderRepository.findById(orderId).orElseThrow();
         assertEquals(OrderStatus.PENDING, savedOrder.getOrderStatus());
+        assertEquals(0, outboxRepository.size());
     }
 
     @Test
@@ -224,4 +276,24 @@ class PaymentUseCaseTest {
         Order updatedOrder = orderRepository.findById(orderId).orElseThrow();
         assertEquals(OrderStatus.COMPLETED, updatedOrder.getOrderStatus());
     }
+
+    @Test
+    @DisplayName("결제 실행 실패 - 재고 예약이 만료되어 취소된 주문")
+    void executePayment_예약만료() {
+        // Given: 결제 전에 예약이 만료되어 해제됨
+        Long userId = 1L;
+        Long orderId = 1L;
+        userRepository.save(new User(userId, 50000));
+        orderRepository.save(new Order(orderId, userId, OrderStatus.PENDING, 20000, 0, 0));
+        reservationService.reserve(orderId, Map.of(1L, 2));
+        reservationService.release(List.of(orderId));
+
+        // When & Then
+        assertThrows(InvalidOrderStatusException.class, () -> {
+            paymentUseCase.executePayment(userId, orderId);
+        });
+        assertEquals(OrderStatus.CANCELLED, orderRepository.findById(orderId).orElseThrow().getOrderStatus());
+        // 결제되지 않은 주문은 판매량에 포함되지 않음
+        assertEquals(0, popularProductRanking.getSalesCount(1L, LocalDateTime.now()));
+    }
 }
@@ -1,5 +1,10 @@
 package com.hhplus.ecommerce.application.usecase;
 
+import com.hhplus.ecommerce.application.ranking.ExactPopularProductRanking;
+import com.hhplus.ecommerce.application.ranking.PopularProductRanking;
+import com.hhplus.ecommerce.common.concurrent.SingleFlightLoader;
+import com.hhplus.ecommerce.common.exception.InvalidInputException;
+import com.hhplus.ecommerce.common.pagination.KeysetCursor;
 import com.hhplus.ecommerce.domain.entity.Product;
 import com.hhplus.ecommerce.domain.exception.ProductNotFoundException;
 import com.hhplus.ecommerce.mock.MockProductRepository;
@@ -7,6 +12,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -19,12 +25,15 @@ import static org.junit.jupiter.api.Assertions.*;
 class ProductUseCaseTest {
 
     private MockProductRepository productRepository;
+    private PopularProductRanking popularProductRanking;
     private ProductUseCase productUseCase;
 
     @BeforeEach
     void setUp() {
         productRepository = new MockProductRepository();
-        productUseCase = new ProductUseCase(productRepository);
+        popularProductRanking = new ExactPopularProductRanking(3, 5);
+        productUseCase = new ProductUseCase(productRepository, popularProductRanking,
+                new SingleFlightLoader(3000));
     }
 
     @Test
@@ -72,6 +81,20 @@ class ProductUseCaseTest {
         assertEquals("상품A", result.get(0).getName());
     }
 
+    @Test
+    @DisplayName("상품 목록 커서 조회 실패 - 페이지 크기 범위 밖")
+    void getProductsAfter_잘못된_크기() {
+        // Given
+        productRepository.save(new Product(1L, "상품A", 10000, 100));
+
+        // When & Then
+        assertThrows(InvalidInputException.class, () -> productUseCase.getProductsAfter(null, 0, null));
+        assertThrows(InvalidInputException.class, () -> productUseCase.getProductsAfter(null, -1, null));
+        assertThrows(InvalidInputException.class,
+                () -> productUseCase.getProductsAfter(null, KeysetCursor.MAX_PAGE_SIZE + 1, null));
+        assertEquals(1, productUseCase.getProductsAfter(null, KeysetCursor.MAX_PAGE_SIZE, null).items().size());
+    }
+
     @Test
     @DisplayName("상품 개수 조회 성공")
     void getProductCount_성공() {
@@ -147,12 +170,29 @@ class ProductUseCaseTest {
         productRepository.save(product2);
         productRepository.save(product3);
 
+        LocalDateTime now = LocalDateTime.now();
+        popularProductRanking.record(1L, 2, now);
+        popularProductRanking.record(2L, 7, now);
+        popularProductRanking.record(3L, 4, now);
+
+        // When
+        List<Product> result = productUseCase.getTopProducts();
+
+        // Then: 판매량 내림차순
+        assertEquals(List.of(2L, 3L, 1L), result.stream().map(Product::getId).toList());
+    }
+
+    @Test
+    @DisplayName("인기 상품 조회 - 판매 기록이 없으면 빈 목록")
+    void getTopProducts_판매기록없음() {
+        // Given
+        productRepository.save(new Product(1L, "상품A", 10000, 100));
+
         // When
         List<Product> result = productUseCase.getTopProducts();
 
         // Then
-        assertNotNull(result);
-        assertEquals(3, result.size());
+        assertTrue(result.isEmpty());
     }
 
     @Test
@@ -0,0 +1,199 @@
+package com.hhplus.ecommerce.common.concurrent;
+
+import com.hhplus.ecommerce.common.concurrent.SingleFlightLoader.SingleFlightMetrics;
+import com.hhplus.ecommerce.common.exception.LoadTimeoutException;
+import com.hhplus.ecommerce.domain.exception.ProductNotFoundException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 조회 병합(single-flight) 테스트
+ * - 같은 키의 동시 조회가 원본 조회 한 번으로 합쳐지는지, 결과/예외가 공유되는지 검증
+ */
+class SingleFlightLoaderTest {
+
+    private SingleFlightLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        loader = new SingleFlightLoader(3000);
+    }
+
+    @Test
+    @DisplayName("같은 키를 동시에 100번 조회 - 원본 조회는 1번, 결과는 모두 공유")
+    void 동시_조회_병합() throws InterruptedException {
+        // Given: 원본 조회가 모든 요청이 도착할 때까지 끝나지 않도록 지연
+        int threadCount = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threadCount);
+        AtomicInteger backendCalls = new AtomicInteger();
+        List<Object> results = new CopyOnWriteArrayList<>();
+
+        // When
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    results.add(loader.load("product", 1L, () -> {
+                        backendCalls.incrementAndGet();
+                        await(release);
+                        return "상품A";
+                    }));
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        waitUntilShared(threadCount - 1);
+        release.countDown();
+        done.await();
+        executorService.shutdown();
+
+        // Then
+        assertEquals(1, backendCalls.get());
+        assertEquals(threadCount, results.size());
+        assertTrue(results.stream().allMatch("상품A"::equals));
+
+        SingleFlightMetrics metrics = loader.getMetrics("product");
+        assertEquals(1, metrics.loads());
+        assertEquals(threadCount - 1, metrics.shared());
+        assertEquals(0, metrics.inFlight());
+    }
+
+    @Test
+    @DisplayName("원본 조회 예외는 기다리던 요청 모두에게 전달")
+    void 예외_공유() throws InterruptedException {
+        // Given
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger failures = new AtomicInteger();
+        Thread leader = new Thread(() -> loadExpectingNotFound(release, failures));
+        Thread follower = new Thread(() -> loadExpectingNotFound(release, failures));
+
+        // When
+        leader.start();
+        waitUntilInFlight();
+        follower.start();
+        waitUntilShared(1);
+        release.countDown();
+        leader.join();
+        follower.join();
+
+        // Then
+        assertEquals(2, failures.get());
+        assertEquals(1, loader.getMetrics("product").failures());
+    }
+
+    @Test
+    @DisplayName("진행 중인 조회가 대기 시간을 넘기면 LoadTimeoutException")
+    void 대기_시간_초과() throws InterruptedException {
+        // Given
+        SingleFlightLoader shortTimeout = new SingleFlightLoader(50);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread leader = new Thread(() -> shortTimeout.load("product", 1L, () -> {
+            await(release);
+            return "상품A";
+        }));
+        leader.start();
+        while (shortTimeout.getMetrics("product").inFlight() == 0) {
+            Thread.onSpinWait();
+        }
+
+        // When & Then
+        assertThrows(LoadTimeoutException.class, () -> shortTimeout.load("product", 1L, () -> "상품B"));
+        assertEquals(1, shortTimeout.getMetrics("product").timeouts());
+
+        release.countDown();
+        leader.join();
+    }
+
+    @Test
+    @DisplayName("조회가 끝나면 결과를 보관하지 않고 다음 조회는 새로 실행")
+    void 결과_미보관() {
+        AtomicInteger backendCalls = new AtomicInteger();
+
+        loader.load("product", 1L, backendCalls::incrementAndGet);
+        loader.load("product", 1L, backendCalls::incrementAndGet);
+
+        assertEquals(2, backendCalls.get());
+    }
+
+    @Test
+    @DisplayName("forget 이후의 요청은 진행 중인 조회에 합류하지 않고 새로 조회")
+    void 분리_후_새_조회() throws InterruptedException {
+        // Given: 값이 바뀌기 전에 시작한 조회가 진행 중
+        CountDownLatch release = new CountDownLatch(1);
+        Thread stale = new Thread(() -> loader.load("balance", 1L, () -> {
+            await(release);
+            return 1000;
+        }));
+        stale.start();
+        waitUntilInFlight("balance");
+
+        // When: 값 변경 후 분리
+        loader.forget("balance", 1L);
+        int fresh = loader.load("balance", 1L, () -> 2000);
+
+        // Then
+        assertEquals(2000, fresh);
+        release.countDown();
+        stale.join();
+        assertEquals(2, loader.getMetrics("balance").loads());
+    }
+
+    @Test
+    @DisplayName("namespace와 키가 다르면 병합하지 않음")
+    void 키_구분() {
+        assertEquals("상품", loader.load("product", 1L, () -> "상품"));
+        assertEquals("쿠폰", loader.load("coupon", 1L, () -> "쿠폰"));
+        assertEquals("상품2", loader.load("product", 2L, () -> "상품2"));
+
+        assertEquals(2, loader.getMetrics("product").loads());
+        assertEquals(0, loader.getMetrics("product").shared());
+    }
+
+    private void loadExpectingNotFound(CountDownLatch release, AtomicInteger failures) {
+        try {
+            loader.load("product", 1L, () -> {
+                await(release);
+                throw new ProductNotFoundException();
+            });
+        } catch (ProductNotFoundException e) {
+            failures.incrementAndGet();
+        }
+    }
+
+    private void waitUntilInFlight() {
+        waitUntilInFlight("product");
+    }
+
+    private void waitUntilInFlight(String namespace) {
+        while (loader.getMetrics(namespace).inFlight() == 0) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private void waitUntilShared(int count) {
+        while (loader.getMetrics("product").shared() < count) {
+            Thread.onSpinWait();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package com.hhplus.ecommerce.common.concurrent;
+
+import com.hhplus.ecommerce.infrastructure.cache.SegmentedLruCache;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * 가상 스레드 선택 사용 테스트
+ * - 지원되지 않거나 요청하지 않으면 데몬 플랫폼 스레드 풀로 대체되는지 검증
+ * - 대기가 긴 요청 10,000개를 동시에 받았을 때 플랫폼 스레드 풀(Tomcat 기본 200개)과 가상 스레드의 처리 시간 비교
+ *   (가상 스레드 비교는 Java 21 이상에서만 실행)
+ */
+class VirtualThreadsTest {
+
+    private static final int CONNECTIONS = 10_000;
+    private static final int PLATFORM_POOL_SIZE = 200;
+    private static final long BLOCKING_MILLIS = 50;
+
+    @Test
+    @DisplayName("가상 스레드를 요청하지 않으면 이름이 붙은 데몬 플랫폼 스레드 풀")
+    void 플랫폼_스레드_풀() throws Exception {
+        ExecutorService executor = VirtualThreads.newExecutor("test-worker-", 2, false);
+
+        Thread thread = executor.submit(Thread::currentThread).get();
+
+        assertTrue(thread.isDaemon());
+        assertTrue(thread.getName().startsWith("test-worker-"));
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Java 21 이상에서 가상 스레드를 요청하면 작업마다 가상 스레드")
+    void 가상_스레드() throws Exception {
+        assumeTrue(VirtualThreads.isSupported(), "Java 21 미만");
+        ExecutorService executor = VirtualThreads.newExecutor("test-virtual-", 2, true);
+
+        Thread thread = executor.submit(Thread::currentThread).get();
+
+        assertTrue((Boolean) Thread.class.getMethod("isVirtual").invoke(thread));
+        assertTrue(thread.getName().startsWith("test-virtual-"));
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Java 21 미만에서 가상 스레드를 요청하면 예외 없이 데몬 플랫폼 스레드로 대체")
+    void 미지원시_플랫폼_스레드_대체() throws Exception {
+        assumeFalse(VirtualThreads.isSupported(), "Java 21 이상");
+        ExecutorService executor = VirtualThreads.newExecutor("test-fallback-", 2, true);
+
+        Thread thread = executor.submit(Thread::currentThread).get();
+        Thread factoryThread = VirtualThreads.virtualThreadFactory("test-factory-").newThread(() -> { });
+
+        assertTrue(thread.isDaemon());
+        assertTrue(thread.getName().startsWith("test-fallback-"));
+        assertTrue(factoryThread.isDaemon());
+        assertTrue(factoryThread.getName().startsWith("test-factory-"));
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("동시 요청 10,000개 - 플랫폼 스레드 풀과 가상 스레드의 지연 시간 비교")
+    void 동시_요청_지연_시간() throws Exception {
+        // Given: 요청마다 캐시 조회(세그먼트 잠금) 후 JDBC/락 대기를 흉내 낸 sleep
+        SegmentedLruCache<Long, Long> cache = new SegmentedLruCache<>(1_000, Duration.ofMinutes(1));
+        for (long id = 0; id < 100; id++) {
+            cache.put(id, id);
+        }
+
+        // When
+        long[] platform = measure(Executors.newFixedThreadPool(PLATFORM_POOL_SIZE,
+                VirtualThreads.daemonThreadFactory("bench-platform-")), cache);
+        print("플랫폼 스레드 " + PLATFORM_POOL_SIZE + "개", platform);
+        assumeTrue(VirtualThreads.isSupported(), "Java 21 미만");
+        long[] virtual = measure(VirtualThreads.newExecutor("bench-virtual-", PLATFORM_POOL_SIZE, true), cache);
+        print("가상 스레드", virtual);
+
+        // Then: 풀 크기만큼씩 차례를 기다리지 않으므로 꼬리 지연이 대기 시간 수준으로 줄어듦
+        assertTrue(virtual[CONNECTIONS * 99 / 100] < platform[CONNECTIONS * 99 / 100]);
+    }
+
+    /**
+     * 요청을 한꺼번에 제출하고, 제출부터 완료까지의 시간을 밀리초로 반환 (정렬됨)
+     */
+    private long[] measure(ExecutorService executor, SegmentedLruCache<Long, Long> cache) throws Exception {
+        long[] latencies = new long[CONNECTIONS];
+        CountDownLatch done = new CountDownLatch(CONNECTIONS);
+        AtomicInteger hits = new AtomicInteger();
+        Future<?>[] futures = new Future<?>[CONNECTIONS];
+        for (int i = 0; i < CONNECTIONS; i++) {
+            int request = i;
+            long submittedAt = System.nanoTime();
+            futures[i] = executor.submit(() -> {
+                try {
+                    if (cache.get((long) (request % 100)) != null) {
+                        hits.incrementAndGet();
+                    }
+                    Thread.sleep(BLOCKING_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    latencies[request] = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - submittedAt);
+                    done.countDown();
+                }
+            });
+        }
+        assertTrue(done.await(60, TimeUnit.SECONDS));
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+        assertEquals(CONNECTIONS, hits.get());
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private void print(String label, long[] latencies) {
+        System.out.printf("%s: p50=%dms, p99=%dms, max=%dms%n", label,
+                latencies[CONNECTIONS / 2], latencies[CONNECTIONS * 99 / 100], latencies[CONNECTIONS - 1]);
+    }
+}
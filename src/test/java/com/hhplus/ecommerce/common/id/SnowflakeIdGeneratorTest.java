@@ -0,0 +1,157 @@
+package com.hhplus.ecommerce.common.id;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Snowflake ID 생성기 테스트
+ * - ID 구성(시각/노드/순번), 시계 역행 처리, 멀티스레드 유일성 검증
+ */
+class SnowflakeIdGeneratorTest {
+
+    @Test
+    @DisplayName("ID에 발급 시각과 노드 ID가 기록됨")
+    void ID_구성() {
+        // Given
+        SnowflakeIdGenerator generator = new FixedClockGenerator(7, 1_750_000_000_000L);
+
+        // When
+        long id = generator.nextId();
+
+        // Then
+        assertTrue(id > 0);
+        assertEquals(1_750_000_000_000L, SnowflakeIdGenerator.extractTimestamp(id));
+        assertEquals(7, SnowflakeIdGenerator.extractNodeId(id));
+    }
+
+    @Test
+    @DisplayName("노드 ID 범위 검증")
+    void 노드_ID_범위() {
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(-1));
+        assertThrows(IllegalArgumentException.class, () -> new SnowflakeIdGenerator(1024));
+        assertEquals(1023, SnowflakeIdGenerator.extractNodeId(new SnowflakeIdGenerator(1023).nextId()));
+    }
+
+    @Test
+    @DisplayName("같은 밀리초에 순번을 모두 쓰면 다음 밀리초를 앞당겨 사용")
+    void 순번_소진() {
+        // Given: 시계가 멈춰 있음
+        long now = 1_750_000_000_000L;
+        SnowflakeIdGenerator generator = new FixedClockGenerator(1, now);
+
+        // When: 한 밀리초 최대 순번(4096)보다 많이 발급
+        long previous = 0;
+        for (int i = 0; i < 10_000; i++) {
+            long id = generator.nextId();
+
+            // Then: 계속 증가
+            assertTrue(id > previous);
+            previous = id;
+        }
+        assertEquals(now + 2, SnowflakeIdGenerator.extractTimestamp(previous));
+    }
+
+    @Test
+    @DisplayName("시계가 조금 뒤로 가도 ID는 감소하지 않음")
+    void 시계_역행_허용범위() {
+        // Given
+        FixedClockGenerator generator = new FixedClockGenerator(1, 1_750_000_000_000L);
+        long before = generator.nextId();
+
+        // When: 시계가 500ms 뒤로 이동
+        generator.now -= 500;
+        long after = generator.nextId();
+
+        // Then
+        assertTrue(after > before);
+        assertEquals(SnowflakeIdGenerator.extractTimestamp(before), SnowflakeIdGenerator.extractTimestamp(after));
+    }
+
+    @Test
+    @DisplayName("시계가 허용 범위보다 크게 뒤로 가면 발급 거부")
+    void 시계_역행_허용범위_초과() {
+        // Given
+        FixedClockGenerator generator = new FixedClockGenerator(1, 1_750_000_000_000L);
+        generator.nextId();
+
+        // When & Then
+        generator.now -= 5_000;
+        assertThrows(IllegalStateException.class, generator::nextId);
+
+        // 시계가 돌아오면 다시 발급
+        generator.now += 5_000;
+        assertDoesNotThrow(generator::nextId);
+    }
+
+    @Test
+    @DisplayName("멀티스레드 ID 발급 - 중복 없음 및 처리량 측정")
+    void 멀티스레드_유일성_벤치마크() throws InterruptedException {
+        // Given
+        SnowflakeIdGenerator generator = new SnowflakeIdGenerator(1);
+        int threadCount = 8;
+        int perThread = 250_000;
+        long[][] ids = new long[threadCount][perThread];
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        // When
+        long start = System.nanoTime();
+        for (int t = 0; t < threadCount; t++) {
+            long[] target = ids[t];
+            executorService.submit(() -> {
+                try {
+                    for (int i = 0; i < perThread; i++) {
+                        target[i] = generator.nextId();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        long elapsed = System.nanoTime() - start;
+        executorService.shutdown();
+
+        int total = threadCount * perThread;
+        System.out.printf("ID 발급: %d개, %.0f ids/s%n", total, total / (elapsed / 1_000_000_000.0));
+
+        // Then: 스레드별로는 증가, 전체로는 중복 없음
+        long[] all = new long[total];
+        for (int t = 0; t < threadCount; t++) {
+            for (int i = 1; i < perThread; i++) {
+                assertTrue(ids[t][i] > ids[t][i - 1]);
+            }
+            System.arraycopy(ids[t], 0, all, t * perThread, perThread);
+        }
+        Arrays.sort(all);
+        for (int i = 1; i < total; i++) {
+            assertNotEquals(all[i - 1], all[i]);
+        }
+    }
+
+    /**
+     * 시계를 직접 조정할 수 있는 생성기
+     */
+    private static class FixedClockGenerator extends SnowflakeIdGenerator {
+
+        private long now;
+
+        private FixedClockGenerator(long nodeId, long now) {
+            super(nodeId);
+            this.now = now;
+        }
+
+        @Override
+        long currentTimeMillis() {
+            return now;
+        }
+    }
+}
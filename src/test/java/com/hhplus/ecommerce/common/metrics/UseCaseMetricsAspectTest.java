@@ -0,0 +1,79 @@
+package com.hhplus.ecommerce.common.metrics;
+
+import com.hhplus.ecommerce.application.ranking.ExactPopularProductRanking;
+import com.hhplus.ecommerce.application.stock.ReservationTimerWheel;
+import com.hhplus.ecommerce.application.stock.StockReservationService;
+import com.hhplus.ecommerce.application.usecase.PaymentUseCase;
+import com.hhplus.ecommerce.common.concurrent.SingleFlightLoader;
+import com.hhplus.ecommerce.common.id.SnowflakeIdGenerator;
+import com.hhplus.ecommerce.domain.entity.User;
+import com.hhplus.ecommerce.domain.exception.UserNotFoundException;
+import com.hhplus.ecommerce.mock.MockOrderDataOutboxRepository;
+import com.hhplus.ecommerce.mock.MockOrderRepository;
+import com.hhplus.ecommerce.mock.MockProductRepository;
+import com.hhplus.ecommerce.mock.MockStockReservationRepository;
+import com.hhplus.ecommerce.mock.MockUserRepository;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * UseCaseMetricsAspect 테스트
+ * - 유스케이스 메서드별 성공/실패 실행 시간과 ErrorCode별 오류 수가 기록되는지 검증
+ */
+class UseCaseMetricsAspectTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private PaymentUseCase paymentUseCase;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        MockUserRepository userRepository = new MockUserRepository();
+        userRepository.save(new User(1L, 10000));
+        MockOrderRepository orderRepository = new MockOrderRepository();
+        StockReservationService reservationService = new StockReservationService(
+                new MockStockReservationRepository(), new MockProductRepository(), orderRepository,
+                new ReservationTimerWheel(1000, 512), new SnowflakeIdGenerator(0), 600);
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(new PaymentUseCase(userRepository, orderRepository,
+                new SingleFlightLoader(3000), reservationService, new MockOrderDataOutboxRepository(),
+                new SnowflakeIdGenerator(0), new ExactPopularProductRanking(3, 5)));
+        factory.setProxyTargetClass(true);
+        factory.addAspect(new UseCaseMetricsAspect(meterRegistry));
+        paymentUseCase = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("성공한 호출은 outcome=success 타이머에 기록")
+    void 성공_기록() {
+        paymentUseCase.getBalance(1L);
+        paymentUseCase.getBalance(1L);
+
+        assertEquals(2, timer("getBalance", "success").count());
+        assertEquals(0, timer("getBalance", "error").count());
+    }
+
+    @Test
+    @DisplayName("비즈니스 예외는 outcome=error 타이머와 ErrorCode별 카운터에 기록")
+    void 실패_기록() {
+        assertThrows(UserNotFoundException.class, () -> paymentUseCase.getBalance(999L));
+
+        assertEquals(1, timer("getBalance", "error").count());
+        assertEquals(1, meterRegistry.get("business.errors").tag("code", "USR-001").counter().count());
+        assertEquals(0, meterRegistry.get("business.errors").tag("code", "ORD-001").counter().count());
+    }
+
+    private Timer timer(String method, String outcome) {
+        return meterRegistry.get("usecase.execution")
+                .tag("usecase", "PaymentUseCase")
+                .tag("method", method)
+                .tag("outcome", outcome)
+                .timer();
+    }
+}
@@ -0,0 +1,42 @@
+package com.hhplus.ecommerce.common.pagination;
+
+import com.hhplus.ecommerce.common.exception.InvalidInputException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 커서 인코딩 테스트
+ */
+class KeysetCursorTest {
+
+    @Test
+    @DisplayName("정렬 키를 인코딩한 커서는 같은 키로 디코딩")
+    void 인코딩_디코딩() {
+        String cursor = KeysetCursor.encode(1_735_689_600_123_456L, 987_654_321L);
+
+        assertArrayEquals(new long[]{1_735_689_600_123_456L, 987_654_321L}, KeysetCursor.decode(cursor, 2));
+        assertTrue(cursor.matches("[A-Za-z0-9_-]+"));
+    }
+
+    @Test
+    @DisplayName("형식이 맞지 않거나 키 개수가 다른 커서는 InvalidInputException")
+    void 잘못된_커서() {
+        String cursor = KeysetCursor.encode(1L, 2L);
+
+        assertThrows(InvalidInputException.class, () -> KeysetCursor.decode(cursor, 1));
+        assertThrows(InvalidInputException.class, () -> KeysetCursor.decode("not a cursor!", 1));
+        assertThrows(InvalidInputException.class, () -> KeysetCursor.decode(KeysetCursor.encode() + "YWJj", 1));
+    }
+
+    @Test
+    @DisplayName("페이지 크기는 1 ~ MAX_PAGE_SIZE만 허용")
+    void 페이지_크기_검증() {
+        assertDoesNotThrow(() -> KeysetCursor.validateSize(1));
+        assertDoesNotThrow(() -> KeysetCursor.validateSize(KeysetCursor.MAX_PAGE_SIZE));
+        assertThrows(InvalidInputException.class, () -> KeysetCursor.validateSize(0));
+        assertThrows(InvalidInputException.class, () -> KeysetCursor.validateSize(-1));
+        assertThrows(InvalidInputException.class, () -> KeysetCursor.validateSize(KeysetCursor.MAX_PAGE_SIZE + 1));
+    }
+}
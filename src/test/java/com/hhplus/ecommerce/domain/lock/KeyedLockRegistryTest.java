@@ -0,0 +1,119 @@
+package com.hhplus.ecommerce.domain.lock;
+
+import com.hhplus.ecommerce.domain.exception.LockTimeoutException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * KeyedLockRegistry 테스트
+ * - 키 단위 상호 배제, 참조 카운트 기반 제거, 타임아웃, 지표 검증
+ */
+class KeyedLockRegistryTest {
+
+    private KeyedLockRegistry lockRegistry;
+
+    @BeforeEach
+    void setUp() {
+        lockRegistry = new KeyedLockRegistry();
+    }
+
+    @Test
+    @DisplayName("락 해제 후 테이블에서 제거되어 키가 누적되지 않음")
+    void 락_해제시_제거() {
+        // When: 서로 다른 키 1000개에 대해 락 획득/해제
+        for (long couponId = 1; couponId <= 1000; couponId++) {
+            KeyedLockRegistry.LockHandle handle = lockRegistry.lock("coupon", couponId, 100, false);
+            handle.unlock();
+        }
+
+        // Then
+        KeyedLockRegistry.LockMetrics metrics = lockRegistry.getMetrics("coupon");
+        assertEquals(0, metrics.activeKeys(), "사용 중이 아닌 락은 남아있으면 안됨");
+        assertEquals(1000, metrics.acquisitions());
+    }
+
+    @Test
+    @DisplayName("대기 시간 초과 시 LockTimeoutException")
+    void 락_타임아웃() throws InterruptedException {
+        // Given: 다른 스레드가 락을 보유 중
+        CountDownLatch locked = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(1);
+        Thread holder = new Thread(() -> {
+            KeyedLockRegistry.LockHandle handle = lockRegistry.lock("user", 1L, 100, false);
+            locked.countDown();
+            try {
+                done.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                handle.unlock();
+            }
+        });
+        holder.start();
+        locked.await();
+
+        // When & Then
+        assertThrows(LockTimeoutException.class, () -> lockRegistry.lock("user", 1L, 50, false));
+
+        done.countDown();
+        holder.join();
+
+        KeyedLockRegistry.LockMetrics metrics = lockRegistry.getMetrics("user");
+        assertEquals(1, metrics.timeouts());
+        assertEquals(0, metrics.activeKeys(), "타임아웃된 대기자도 참조를 반납해야 함");
+    }
+
+    @Test
+    @DisplayName("같은 키는 상호 배제, namespace가 다르면 독립")
+    void 키_단위_상호배제() throws InterruptedException {
+        int threadCount = 64;
+        ExecutorService executorService = Executors.newFixedThreadPool(16);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        AtomicInteger inCriticalSection = new AtomicInteger(0);
+        AtomicInteger violations = new AtomicInteger(0);
+
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    KeyedLockRegistry.LockHandle handle = lockRegistry.lock("coupon", 1L, 5_000, true);
+                    try {
+                        if (inCriticalSection.incrementAndGet() > 1) {
+                            violations.incrementAndGet();
+                        }
+                        Thread.sleep(1);
+                        inCriticalSection.decrementAndGet();
+                    } finally {
+                        handle.unlock();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        // 다른 namespace의 같은 키는 즉시 획득 가능
+        lockRegistry.lock("user", 1L, 100, false).unlock();
+
+        assertTrue(latch.await(30, TimeUnit.SECONDS));
+        executorService.shutdown();
+
+        assertEquals(0, violations.get());
+        KeyedLockRegistry.LockMetrics metrics = lockRegistry.getMetrics("coupon");
+        assertEquals(threadCount, metrics.acquisitions());
+        assertEquals(0, metrics.waiting());
+        assertEquals(0, metrics.activeKeys());
+        assertTrue(metrics.totalHoldNanos() > 0);
+    }
+}
@@ -0,0 +1,90 @@
+package com.hhplus.ecommerce.domain.lock;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * StockLockManager 테스트
+ * - 상품별 락 정합성 및 데드락 방지 검증
+ * - 상품 수별 처리량 비교는 JMH StockLockBenchmark에서 측정
+ */
+class StockLockManagerTest {
+
+    private static final int THREAD_COUNT = 16;
+    private static final int TASK_COUNT = 1_600;
+
+    @Test
+    @DisplayName("스트라이프 개수는 2의 거듭제곱으로 올림")
+    void 스트라이프_개수() {
+        assertEquals(1, new StockLockManager(1).getStripeCount());
+        assertEquals(4, new StockLockManager(3).getStripeCount());
+        assertEquals(1024, new StockLockManager().getStripeCount());
+    }
+
+    @Test
+    @DisplayName("같은 상품에 대한 작업은 순차적으로 실행")
+    void 같은_상품_상호배제() throws InterruptedException {
+        StockLockManager lockManager = new StockLockManager();
+        AtomicInteger inCriticalSection = new AtomicInteger(0);
+        AtomicInteger violations = new AtomicInteger(0);
+
+        runConcurrently(TASK_COUNT, i -> lockManager.executeWithLock(List.of(1L), () -> {
+            if (inCriticalSection.incrementAndGet() > 1) {
+                violations.incrementAndGet();
+            }
+            inCriticalSection.decrementAndGet();
+            return null;
+        }));
+
+        assertEquals(0, violations.get(), "같은 상품은 동시에 임계 영역에 진입하면 안됨");
+    }
+
+    @Test
+    @DisplayName("상품 순서가 반대인 주문이 동시에 들어와도 데드락이 발생하지 않음")
+    void 역순_주문_데드락_방지() throws InterruptedException {
+        StockLockManager lockManager = new StockLockManager(4);
+        AtomicInteger completed = new AtomicInteger(0);
+
+        boolean finished = runConcurrently(TASK_COUNT, i -> {
+            List<Long> productIds = (i % 2 == 0) ? List.of(1L, 2L, 3L) : List.of(3L, 2L, 1L);
+            lockManager.executeWithLock(productIds, completed::incrementAndGet);
+        });
+
+        assertTrue(finished, "모든 작업이 제한 시간 내에 완료되어야 함");
+        assertEquals(TASK_COUNT, completed.get());
+    }
+
+    private boolean runConcurrently(int taskCount, IndexedTask task) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(taskCount);
+
+        for (int i = 0; i < taskCount; i++) {
+            int index = i;
+            executorService.submit(() -> {
+                try {
+                    task.run(index);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        boolean finished = latch.await(30, TimeUnit.SECONDS);
+        executorService.shutdownNow();
+        return finished;
+    }
+
+    @FunctionalInterface
+    private interface IndexedTask {
+        void run(int index);
+    }
+}
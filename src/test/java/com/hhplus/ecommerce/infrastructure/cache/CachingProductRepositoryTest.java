@@ -0,0 +1,213 @@
+package com.hhplus.ecommerce.infrastructure.cache;
+
+import com.hhplus.ecommerce.domain.entity.Product;
+import com.hhplus.ecommerce.mock.MockProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 상품 조회 캐시 데코레이터 테스트
+ * - 원본 저장소 접근 횟수로 적중 여부를 확인
+ * - 쓰기 시 무효화 범위(정보/재고)와 TTL 분리 검증
+ */
+class CachingProductRepositoryTest {
+
+    private CountingProductRepository delegate;
+    private AtomicLong now;
+    private CachingProductRepository repository;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new CountingProductRepository();
+        now = new AtomicLong();
+        repository = new CachingProductRepository(delegate,
+                new ManualClockCache<>(1_000, Duration.ofMinutes(10), now),
+                new ManualClockCache<>(1_000, Duration.ofSeconds(1), now));
+
+        delegate.save(new Product(1L, "상품A", 10000, 100));
+        delegate.save(new Product(2L, "상품B", 5000, 50));
+    }
+
+    @Test
+    @DisplayName("두 번째 조회부터는 원본 저장소를 거치지 않음")
+    void 조회_캐시_적중() {
+        // When
+        Product first = repository.findById(1L).orElseThrow();
+        Product second = repository.findById(1L).orElseThrow();
+
+        // Then
+        assertEquals(1, delegate.findByIdCalls.get());
+        assertEquals("상품A", second.getName());
+        assertEquals(100, second.getStockQuantity());
+        assertNotSame(first, second);
+        assertEquals(1, repository.getInfoCacheMetrics().hits());
+    }
+
+    @Test
+    @DisplayName("반환된 상품의 재고를 바꿔도 캐시 값은 그대로")
+    void 캐시_값_불변() {
+        // Given
+        repository.findById(1L).orElseThrow().decreaseStock(30);
+
+        // When
+        Product cached = repository.findById(1L).orElseThrow();
+
+        // Then
+        assertEquals(100, cached.getStockQuantity());
+    }
+
+    @Test
+    @DisplayName("재고 차감은 재고 캐시만 무효화하고 상품 정보 캐시는 유지")
+    void 재고_차감_무효화() {
+        // Given
+        repository.findById(1L);
+
+        // When
+        assertTrue(repository.tryDecreaseStock(1L, 10));
+        Product reloaded = repository.findById(1L).orElseThrow();
+
+        // Then
+        assertEquals(90, reloaded.getStockQuantity());
+        assertEquals(2, delegate.findByIdCalls.get());
+        assertEquals(1, repository.getInfoCacheMetrics().size());
+        assertEquals(1, repository.getInfoCacheMetrics().hits());
+    }
+
+    @Test
+    @DisplayName("상품 저장은 상품 정보와 재고 캐시를 모두 무효화")
+    void 저장_무효화() {
+        // Given
+        repository.findById(1L);
+
+        // When
+        repository.save(new Product(1L, "상품A 리뉴얼", 12000, 100));
+
+        // Then
+        Product reloaded = repository.findById(1L).orElseThrow();
+        assertEquals("상품A 리뉴얼", reloaded.getName());
+        assertEquals(12000, reloaded.getPrice());
+        assertEquals(2, delegate.findByIdCalls.get());
+    }
+
+    @Test
+    @DisplayName("재고는 짧은 TTL로 따로 만료되어 다시 조회")
+    void 재고_TTL_분리() {
+        // Given
+        repository.findById(1L);
+
+        // When: 재고 TTL(1초) 경과
+        now.set(Duration.ofSeconds(2).toNanos());
+        repository.findById(1L);
+
+        // Then
+        assertEquals(2, delegate.findByIdCalls.get());
+        assertEquals(1, repository.getStockCacheMetrics().expirations());
+        assertEquals(0, repository.getInfoCacheMetrics().expirations());
+    }
+
+    @Test
+    @DisplayName("일괄 조회는 캐시에 없는 상품만 원본에서 조회하고 요청 순서를 유지")
+    void 일괄_조회() {
+        // Given
+        repository.findById(2L);
+
+        // When
+        List<Product> products = repository.findAllById(List.of(2L, 999L, 1L));
+
+        // Then
+        assertEquals(List.of(2L, 1L), products.stream().map(Product::getId).toList());
+        assertEquals(List.of(List.of(999L, 1L)), delegate.findAllByIdRequests);
+
+        // 일괄 조회 결과도 캐시됨
+        repository.findById(1L);
+        assertEquals(1, delegate.findByIdCalls.get());
+    }
+
+    @Test
+    @DisplayName("여러 상품 재고 차감은 요청한 모든 상품의 재고 캐시를 무효화")
+    void 일괄_차감_무효화() {
+        // Given
+        repository.findAllById(List.of(1L, 2L));
+
+        // When
+        List<Long> failed = repository.tryDecreaseStocks(Map.of(1L, 1, 2L, 100));
+
+        // Then: 전부 실패(2번 재고 부족)해도 무효화
+        assertEquals(List.of(2L), failed);
+        assertEquals(0, repository.getStockCacheMetrics().size());
+        assertEquals(2, repository.getInfoCacheMetrics().size());
+    }
+
+    @Test
+    @DisplayName("락 조회는 항상 원본 저장소로")
+    void 락_조회_우회() {
+        repository.findById(1L);
+
+        repository.findByIdForUpdate(1L);
+
+        assertEquals(1, delegate.findByIdForUpdateCalls.get());
+    }
+
+    /**
+     * 원본 조회 횟수 기록
+     */
+    private static class CountingProductRepository extends MockProductRepository {
+
+        private final AtomicInteger findByIdCalls = new AtomicInteger();
+        private final AtomicInteger findByIdForUpdateCalls = new AtomicInteger();
+        private final List<List<Long>> findAllByIdRequests = new ArrayList<>();
+
+        @Override
+        public Optional<Product> findById(Long productId) {
+            findByIdCalls.incrementAndGet();
+            return super.findById(productId).map(CountingProductRepository::copy);
+        }
+
+        @Override
+        public List<Product> findAllById(Collection<Long> productIds) {
+            findAllByIdRequests.add(List.copyOf(productIds));
+            return super.findAllById(productIds).stream().map(CountingProductRepository::copy).toList();
+        }
+
+        @Override
+        public Optional<Product> findByIdForUpdate(Long productId) {
+            findByIdForUpdateCalls.incrementAndGet();
+            return super.findByIdForUpdate(productId);
+        }
+
+        /**
+         * DB 조회처럼 매번 새 객체 반환
+         */
+        private static Product copy(Product product) {
+            return new Product(product.getId(), product.getName(), product.getPrice(),
+                    product.getStockQuantity(), product.getVersion());
+        }
+    }
+
+    private static class ManualClockCache<K, V> extends SegmentedLruCache<K, V> {
+
+        private final AtomicLong now;
+
+        private ManualClockCache(int maximumSize, Duration ttl, AtomicLong now) {
+            super(maximumSize, ttl);
+            this.now = now;
+        }
+
+        @Override
+        long nanoTime() {
+            return now.get();
+        }
+    }
+}
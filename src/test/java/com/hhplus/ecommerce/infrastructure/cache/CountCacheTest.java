@@ -0,0 +1,89 @@
+package com.hhplus.ecommerce.infrastructure.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 목록 개수 캐시 테스트
+ * - 원본 COUNT 횟수, 저장 시 증가 반영, 커밋 전 COUNT 결과의 지연 적재 차단 검증
+ */
+class CountCacheTest {
+
+    private CountCache<Long> counts;
+    private AtomicLong rows;
+    private AtomicInteger countQueries;
+
+    @BeforeEach
+    void setUp() {
+        counts = new CountCache<>(100, Duration.ofMinutes(1));
+        rows = new AtomicLong(3);
+        countQueries = new AtomicInteger();
+    }
+
+    @Test
+    @DisplayName("같은 키의 개수는 한 번만 COUNT")
+    void 개수_캐시() {
+        assertEquals(3, counts.get(1L, this::countRows));
+        assertEquals(3, counts.get(1L, this::countRows));
+
+        assertEquals(1, countQueries.get());
+        assertEquals(1, counts.getMetrics().hits());
+    }
+
+    @Test
+    @DisplayName("새 행 저장 시 보관 중인 개수를 증가 - 다시 COUNT 하지 않음")
+    void 저장_시_증가() {
+        counts.get(1L, this::countRows);
+
+        insertRow(1L);
+        insertRow(1L);
+
+        assertEquals(5, counts.get(1L, this::countRows));
+        assertEquals(1, countQueries.get());
+    }
+
+    @Test
+    @DisplayName("COUNT 중에 새 행이 저장되면 그 결과는 적재하지 않고 다음 조회에서 다시 COUNT")
+    void 지연_적재_차단() {
+        // When: COUNT가 끝나기 전에 새 행 저장
+        long stale = counts.get(1L, () -> {
+            long counted = countRows();
+            insertRow(1L);
+            return counted;
+        });
+
+        // Then
+        assertEquals(3, stale);
+        assertEquals(4, counts.get(1L, this::countRows));
+        assertEquals(2, countQueries.get());
+    }
+
+    @Test
+    @DisplayName("키별로 따로 보관")
+    void 키_구분() {
+        counts.get(1L, this::countRows);
+        counts.get(2L, () -> 7);
+
+        insertRow(2L);
+
+        assertEquals(3, counts.get(1L, this::countRows));
+        assertEquals(8, counts.get(2L, () -> 0));
+    }
+
+    private long countRows() {
+        countQueries.incrementAndGet();
+        return rows.get();
+    }
+
+    private void insertRow(long key) {
+        rows.incrementAndGet();
+        counts.increment(key);
+    }
+}
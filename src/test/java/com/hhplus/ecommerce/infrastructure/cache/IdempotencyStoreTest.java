@@ -0,0 +1,193 @@
+package com.hhplus.ecommerce.infrastructure.cache;
+
+import com.hhplus.ecommerce.common.exception.IdempotencyInProgressException;
+import com.hhplus.ecommerce.common.exception.IdempotencyKeyReusedException;
+import com.hhplus.ecommerce.infrastructure.cache.IdempotencyStore.IdempotencyMetrics;
+import com.hhplus.ecommerce.infrastructure.cache.IdempotencyStore.Claim;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * IdempotencyStore 단위 테스트
+ * - 결과 재사용, 다른 요청 거부, 동시 중복 요청의 단일 실행, 실패/서버 오류 시 재실행, TTL 만료 검증
+ */
+class IdempotencyStoreTest {
+
+    private static final byte[] REQUEST = {1};
+    private static final byte[] OTHER_REQUEST = {2};
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 키의 재시도는 다시 실행하지 않고 처음 결과를 재사용")
+    void 결과_재사용() throws Exception {
+        IdempotencyStore<Integer> store = newStore(1000);
+
+        Result first = execute(store, "key-1", REQUEST, () -> 200 + executions.incrementAndGet());
+        Result retry = execute(store, "key-1", REQUEST, () -> 200 + executions.incrementAndGet());
+
+        assertFalse(first.replayed());
+        assertTrue(retry.replayed());
+        assertEquals(first.value(), retry.value());
+        assertEquals(1, executions.get());
+
+        IdempotencyMetrics metrics = store.getMetrics();
+        assertEquals(1, metrics.executions());
+        assertEquals(1, metrics.replays());
+        assertEquals(1, metrics.size());
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 요청을 보내면 거부")
+    void 다른_요청_거부() throws Exception {
+        IdempotencyStore<Integer> store = newStore(1000);
+        execute(store, "key-1", REQUEST, () -> 200);
+
+        assertThrows(IdempotencyKeyReusedException.class,
+                () -> execute(store, "key-1", OTHER_REQUEST, () -> 200));
+        assertEquals(1, store.getMetrics().conflicts());
+    }
+
+    @Test
+    @DisplayName("실행 중인 같은 요청은 기다렸다가 결과를 공유 (한 번만 실행)")
+    void 동시_중복_요청() throws Exception {
+        IdempotencyStore<Integer> store = newStore(5000);
+        int threadCount = 20;
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+
+        Future<Result> owner = executorService.submit(() -> execute(store, "key-1", REQUEST, () -> {
+            started.countDown();
+            release.await();
+            return 200 + executions.incrementAndGet();
+        }));
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+
+        List<Future<Result>> duplicates = new ArrayList<>();
+        for (int i = 1; i < threadCount; i++) {
+            duplicates.add(executorService.submit(() ->
+                    execute(store, "key-1", REQUEST, () -> 200 + executions.incrementAndGet())));
+        }
+        awaitWaits(store, threadCount - 1);
+        release.countDown();
+
+        assertFalse(owner.get().replayed());
+        for (Future<Result> duplicate : duplicates) {
+            Result result = duplicate.get();
+            assertTrue(result.replayed());
+            assertEquals(201, result.value());
+        }
+        executorService.shutdown();
+
+        assertEquals(1, executions.get());
+        assertEquals(0, store.getMetrics().inFlight());
+    }
+
+    @Test
+    @DisplayName("실행 중인 같은 요청을 대기 시간 넘게 기다리면 실패")
+    void 대기_시간_초과() throws Exception {
+        IdempotencyStore<Integer> store = newStore(50);
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executorService = Executors.newSingleThreadExecutor();
+        Future<Result> owner = executorService.submit(() -> execute(store, "key-1", REQUEST, () -> {
+            started.countDown();
+            release.await();
+            return 200;
+        }));
+        assertTrue(started.await(1, TimeUnit.SECONDS));
+
+        assertThrows(IdempotencyInProgressException.class, () -> execute(store, "key-1", REQUEST, () -> 200));
+
+        release.countDown();
+        owner.get();
+        executorService.shutdown();
+        assertEquals(1, store.getMetrics().timeouts());
+    }
+
+    @Test
+    @DisplayName("예외로 끝난 실행이나 보관하지 않을 결과는 저장하지 않고 재시도 시 다시 실행")
+    void 실패_재실행() throws Exception {
+        IdempotencyStore<Integer> store = newStore(1000);
+
+        assertThrows(IllegalStateException.class, () -> execute(store, "key-1", REQUEST, () -> {
+            throw new IllegalStateException("결제 실패");
+        }));
+        Result serverError = execute(store, "key-1", REQUEST, () -> 500);
+        Result retry = execute(store, "key-1", REQUEST, () -> 200);
+
+        assertEquals(500, serverError.value());
+        assertFalse(retry.replayed());
+        assertEquals(200, retry.value());
+        assertEquals(3, store.getMetrics().executions());
+        assertTrue(execute(store, "key-1", REQUEST, () -> 0).replayed());
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 같은 키도 다시 실행")
+    void TTL_만료() throws Exception {
+        AtomicLong now = new AtomicLong();
+        SegmentedLruCache<String, IdempotencyStore.Completed<Integer>> cache =
+                new SegmentedLruCache<>(100, Duration.ofMinutes(1)) {
+                    @Override
+                    long nanoTime() {
+                        return now.get();
+                    }
+                };
+        IdempotencyStore<Integer> store = new IdempotencyStore<>(cache, 1000, status -> status < 500);
+
+        execute(store, "key-1", REQUEST, () -> 200);
+        now.set(Duration.ofMinutes(1).toNanos());
+        Result afterTtl = execute(store, "key-1", REQUEST, () -> 201);
+
+        assertFalse(afterTtl.replayed());
+        assertEquals(201, afterTtl.value());
+    }
+
+    /**
+     * 필터와 같은 방식으로 처리 (재사용이 아니면 처리 후 보관, 예외가 나도 해제)
+     */
+    private static Result execute(IdempotencyStore<Integer> store, String key, byte[] fingerprint,
+                                  Callable<Integer> action) throws Exception {
+        Claim<Integer> claim = store.claim(key, fingerprint);
+        if (claim.isReplay()) {
+            return new Result(claim.getReplayed(), true);
+        }
+        try {
+            Integer value = action.call();
+            claim.complete(value);
+            return new Result(value, false);
+        } finally {
+            claim.release();
+        }
+    }
+
+    private record Result(Integer value, boolean replayed) {}
+
+    private static IdempotencyStore<Integer> newStore(long waitTimeoutMillis) {
+        return new IdempotencyStore<>(100, Duration.ofMinutes(1), waitTimeoutMillis, status -> status < 500);
+    }
+
+    private static void awaitWaits(IdempotencyStore<Integer> store, int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (store.getMetrics().waits() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+        assertEquals(expected, store.getMetrics().waits());
+    }
+}
@@ -0,0 +1,120 @@
+package com.hhplus.ecommerce.infrastructure.cache;
+
+import com.hhplus.ecommerce.infrastructure.cache.SegmentedLruCache.CacheMetrics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SegmentedLruCache 단위 테스트
+ * - 용량 제한(LRU), TTL 만료, 무효화 후 지연 적재 차단, 지표 집계 검증
+ */
+class SegmentedLruCacheTest {
+
+    @Test
+    @DisplayName("적중/실패 집계")
+    void 적중_실패() {
+        SegmentedLruCache<Long, String> cache = new SegmentedLruCache<>(100, Duration.ofMinutes(1));
+
+        assertNull(cache.get(1L));
+        cache.put(1L, "상품A");
+        assertEquals("상품A", cache.get(1L));
+
+        CacheMetrics metrics = cache.getMetrics();
+        assertEquals(1, metrics.hits());
+        assertEquals(1, metrics.misses());
+        assertEquals(1, metrics.size());
+        assertEquals(0.5, metrics.hitRate());
+    }
+
+    @Test
+    @DisplayName("TTL이 지나면 만료")
+    void TTL_만료() {
+        AtomicLong now = new AtomicLong();
+        SegmentedLruCache<Long, String> cache = new SegmentedLruCache<>(100, Duration.ofSeconds(1)) {
+            @Override
+            long nanoTime() {
+                return now.get();
+            }
+        };
+        cache.put(1L, "상품A");
+
+        now.set(Duration.ofMillis(999).toNanos());
+        assertEquals("상품A", cache.get(1L));
+
+        now.set(Duration.ofSeconds(1).toNanos());
+        assertNull(cache.get(1L));
+        assertEquals(1, cache.getMetrics().expirations());
+        assertEquals(0, cache.getMetrics().size());
+    }
+
+    @Test
+    @DisplayName("용량을 넘으면 가장 오래 접근하지 않은 항목부터 제거")
+    void 용량_제한_LRU() {
+        // 세그먼트 16개 x 세그먼트당 1개
+        SegmentedLruCache<Long, String> cache = new SegmentedLruCache<>(16, Duration.ofMinutes(1));
+
+        // 같은 세그먼트에 들어가는 키 (해시 하위 4비트가 같음)
+        cache.put(1L, "A");
+        cache.put(17L, "B");
+
+        assertNull(cache.get(1L));
+        assertEquals("B", cache.get(17L));
+        assertEquals(1, cache.getMetrics().evictions());
+
+        for (long key = 0; key < 1_000; key++) {
+            cache.put(key, "v" + key);
+        }
+        assertTrue(cache.getMetrics().size() <= 16);
+    }
+
+    @Test
+    @DisplayName("무효화 이전에 시작한 조회 결과는 적재되지 않음")
+    void 무효화_후_지연_적재_차단() {
+        SegmentedLruCache<Long, String> cache = new SegmentedLruCache<>(100, Duration.ofMinutes(1));
+
+        // Given: 원본 조회 시작 (옛 값)
+        long stamp = cache.stamp(1L);
+
+        // When: 조회 도중 다른 스레드가 값을 바꾸고 무효화
+        cache.invalidate(1L);
+
+        // Then: 옛 값은 적재되지 않고, 새로 stamp를 받은 조회는 적재됨
+        assertFalse(cache.putIfNotInvalidated(1L, "옛 값", stamp));
+        assertNull(cache.get(1L));
+
+        assertTrue(cache.putIfNotInvalidated(1L, "새 값", cache.stamp(1L)));
+        assertEquals("새 값", cache.get(1L));
+    }
+
+    @Test
+    @DisplayName("updateOrInvalidate - 값이 있으면 적재 시각을 유지한 채 갱신, 없으면 무효화")
+    void 갱신_또는_무효화() {
+        AtomicLong now = new AtomicLong();
+        SegmentedLruCache<Long, Long> cache = new SegmentedLruCache<>(100, Duration.ofSeconds(1)) {
+            @Override
+            long nanoTime() {
+                return now.get();
+            }
+        };
+        cache.put(1L, 10L);
+
+        // 값이 있으면 갱신
+        now.set(Duration.ofMillis(500).toNanos());
+        assertTrue(cache.updateOrInvalidate(1L, count -> count + 1));
+        assertEquals(11L, cache.get(1L));
+
+        // 갱신해도 만료 시각은 처음 적재 기준
+        now.set(Duration.ofSeconds(1).toNanos());
+        assertNull(cache.get(1L));
+
+        // 값이 없으면 무효화하여 그 전에 시작한 조회 결과 적재 차단
+        long stamp = cache.stamp(2L);
+        assertFalse(cache.updateOrInvalidate(2L, count -> count + 1));
+        assertFalse(cache.putIfNotInvalidated(2L, 5L, stamp));
+    }
+}
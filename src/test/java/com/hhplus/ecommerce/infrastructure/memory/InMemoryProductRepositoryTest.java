@@ -0,0 +1,244 @@
+package com.hhplus.ecommerce.infrastructure.memory;
+
+import com.hhplus.ecommerce.domain.entity.Product;
+import com.hhplus.ecommerce.domain.exception.InsufficientStockException;
+import com.hhplus.ecommerce.domain.exception.OutOfStockException;
+import com.hhplus.ecommerce.domain.repository.CursorPage;
+import com.hhplus.ecommerce.mock.MockProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CAS 기반 인메모리 재고 엔진 테스트
+ * - 락 없이 재고 정합성이 보장되는지 검증
+ * - synchronized 경로와 처리량 비교
+ * - 재고를 하위 카운터로 나눈 상품의 차감/복구 정합성 검증
+ */
+class InMemoryProductRepositoryTest {
+
+    private InMemoryProductRepository productRepository;
+
+    @BeforeEach
+    void setUp() {
+        productRepository = new InMemoryProductRepository();
+    }
+
+    @Test
+    @DisplayName("동시에 100명이 재고 10개인 상품 주문 - 락 없이 10명만 성공")
+    void 동시_재고_차감_CAS() throws InterruptedException {
+        // Given
+        productRepository.save(new Product(1L, "한정판 상품", 100000, 10));
+
+        int threadCount = 100;
+        ExecutorService executorService = Executors.newFixedThreadPool(32);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        AtomicInteger successCount = new AtomicInteger(0);
+        AtomicInteger failCount = new AtomicInteger(0);
+
+        // When
+        for (int i = 0; i < threadCount; i++) {
+            executorService.submit(() -> {
+                try {
+                    Product product = productRepository.findById(1L).orElseThrow();
+                    product.decreaseStock(1);
+                    productRepository.save(product);
+                    successCount.incrementAndGet();
+                } catch (OutOfStockException | InsufficientStockException e) {
+                    failCount.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        executorService.shutdown();
+
+        // Then
+        assertEquals(10, successCount.get());
+        assertEquals(90, failCount.get());
+        assertEquals(0, productRepository.findById(1L).orElseThrow().getStockQuantity());
+    }
+
+    @Test
+    @DisplayName("재고 부족과 재고 소진 예외 구분 유지")
+    void 재고_예외_구분() {
+        // Given
+        Product product = new Product(1L, "상품", 10000, 3);
+        productRepository.save(product);
+
+        // When & Then
+        assertThrows(InsufficientStockException.class, () -> product.decreaseStock(5));
+        product.decreaseStock(3);
+        assertThrows(OutOfStockException.class, () -> product.decreaseStock(1));
+
+        product.increaseStock(2);
+        assertEquals(2, productRepository.findById(1L).orElseThrow().getStockQuantity());
+    }
+
+    @Test
+    @DisplayName("재고 하위 카운터 - 저장 시 나누고, 합계로 조회하며, 한 카운터가 부족하면 모아서 차감")
+    void 재고_하위_카운터() {
+        // Given: 재고 10개를 4개 하위 카운터(3, 3, 2, 2)로 나눔
+        InMemoryProductRepository shardedRepository = new InMemoryProductRepository(4);
+        Product product = shardedRepository.save(new Product(1L, "인기 상품", 10000, 10));
+
+        // When & Then
+        assertEquals(4, product.getStockShardCount());
+        assertEquals(10, product.getStockQuantity());
+        assertSame(product, shardedRepository.save(product));
+
+        product.decreaseStock(7);
+        assertEquals(3, product.getStockQuantity());
+        assertTrue(product.hasEnoughStock(3));
+        assertFalse(product.hasEnoughStock(4));
+
+        assertThrows(InsufficientStockException.class, () -> product.decreaseStock(4));
+        product.increaseStock(1);
+        assertTrue(product.tryDecreaseStock(4));
+        assertTrue(product.isOutOfStock());
+        assertThrows(OutOfStockException.class, () -> product.decreaseStock(1));
+    }
+
+    @Test
+    @DisplayName("재고 하위 카운터 - 동시 차감/복구 후에도 합계가 정확")
+    void 재고_하위_카운터_동시_차감() throws InterruptedException {
+        // Given
+        InMemoryProductRepository shardedRepository = new InMemoryProductRepository(8);
+        Product product = shardedRepository.save(new Product(1L, "인기 상품", 10000, 1000));
+        int operations = 64_000;
+
+        // When: 1~3개 차감, 성공한 차감의 절반은 복구
+        AtomicInteger decreased = new AtomicInteger();
+        AtomicInteger restored = new AtomicInteger();
+        AtomicInteger sequence = new AtomicInteger();
+        measure(operations, () -> {
+            int n = sequence.incrementAndGet();
+            int quantity = n % 3 + 1;
+            if (product.tryDecreaseStock(quantity)) {
+                decreased.addAndGet(quantity);
+                if (n % 2 == 0) {
+                    product.increaseStock(quantity);
+                    restored.addAndGet(quantity);
+                }
+            }
+        });
+
+        // Then
+        assertEquals(1000 - decreased.get() + restored.get(), product.getStockQuantity());
+        assertTrue(product.getStockQuantity() >= 0);
+    }
+
+    @Test
+    @DisplayName("처리량 벤치마크 - CAS 경로 vs synchronized 경로")
+    void CAS_synchronized_처리량_비교() throws InterruptedException {
+        int operations = 200_000;
+
+        // synchronized 경로: 기존 OrderUseCase 처럼 전역 모니터 + findByIdForUpdate
+        MockProductRepository mockRepository = new MockProductRepository();
+        mockRepository.save(new Product(1L, "상품", 10000, operations));
+        Object globalMonitor = new Object();
+        long syncNanos = measure(operations, () -> {
+            synchronized (globalMonitor) {
+                Product product = mockRepository.findByIdForUpdate(1L).orElseThrow();
+                product.decreaseStock(1);
+                mockRepository.save(product);
+            }
+        });
+
+        // CAS 경로
+        productRepository.save(new Product(1L, "상품", 10000, operations));
+        long casNanos = measure(operations, () -> {
+            Product product = productRepository.findById(1L).orElseThrow();
+            product.decreaseStock(1);
+            productRepository.save(product);
+        });
+
+        System.out.printf("synchronized: %.0f ops/s%n", operations / (syncNanos / 1_000_000_000.0));
+        System.out.printf("CAS: %.0f ops/s%n", operations / (casNanos / 1_000_000_000.0));
+
+        assertEquals(0, mockRepository.findById(1L).orElseThrow().getStockQuantity());
+        assertEquals(0, productRepository.findById(1L).orElseThrow().getStockQuantity());
+    }
+
+    @Test
+    @DisplayName("상품명 검색 - 저장/이름 변경이 색인에 반영되고 ID 순으로 페이지 조회")
+    void 상품명_검색() {
+        // Given
+        productRepository.save(new Product(3L, "무선 이어폰", 30000, 10));
+        productRepository.save(new Product(1L, "무선 마우스", 20000, 10));
+        productRepository.save(new Product(2L, "유선 키보드", 40000, 10));
+
+        // When
+        productRepository.save(new Product(2L, "무선 키보드", 40000, 10));
+
+        // Then
+        assertEquals(List.of(1L, 2L), productRepository.findAll(1, 2, "무선").stream().map(Product::getId).toList());
+        assertEquals(List.of(3L), productRepository.findAll(2, 2, "무선").stream().map(Product::getId).toList());
+        assertEquals(3, productRepository.count("무선"));
+        assertEquals(1, productRepository.count("무선 이어폰"));
+        assertEquals(0, productRepository.count("유선"));
+    }
+
+    @Test
+    @DisplayName("커서 기반 목록 조회 - 검색 유무와 관계없이 ID 순으로 끝까지 순회")
+    void 커서_기반_조회() {
+        // Given
+        for (long id = 10; id >= 1; id--) {
+            productRepository.save(new Product(id, id % 2 == 0 ? "무선 상품" + id : "유선 상품" + id, 1000, 10));
+        }
+
+        // When & Then
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L), readAll(null, 3));
+        assertEquals(List.of(2L, 4L, 6L, 8L, 10L), readAll("무선", 2));
+        assertEquals(List.of(), readAll("블루투스", 2));
+    }
+
+    private List<Long> readAll(String search, int size) {
+        List<Long> ids = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<Product> page = productRepository.findAllAfter(cursor, size, search);
+            assertTrue(page.items().size() <= size);
+            page.items().forEach(product -> ids.add(product.getId()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+        return ids;
+    }
+
+    private long measure(int operations, Runnable operation) throws InterruptedException {
+        int threadCount = 32;
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+        int perThread = operations / threadCount;
+
+        long start = System.nanoTime();
+        for (int t = 0; t < threadCount; t++) {
+            executorService.submit(() -> {
+                try {
+                    for (int i = 0; i < perThread; i++) {
+                        operation.run();
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        latch.await();
+        long elapsed = System.nanoTime() - start;
+        executorService.shutdown();
+        return elapsed;
+    }
+}
@@ -0,0 +1,327 @@
+package com.hhplus.ecommerce.infrastructure.persistence;
+
+import com.hhplus.ecommerce.config.JpaConfig;
+import com.hhplus.ecommerce.domain.entity.CartItem;
+import com.hhplus.ecommerce.domain.entity.Coupon;
+import com.hhplus.ecommerce.domain.entity.Order;
+import com.hhplus.ecommerce.domain.entity.OrderStatus;
+import com.hhplus.ecommerce.domain.entity.Product;
+import com.hhplus.ecommerce.domain.entity.StockReservation;
+import com.hhplus.ecommerce.domain.entity.User;
+import com.hhplus.ecommerce.domain.entity.UserCoupon;
+import com.hhplus.ecommerce.domain.repository.CursorPage;
+import com.hhplus.ecommerce.infrastructure.persistence.cart.JpaCartRepository;
+import com.hhplus.ecommerce.infrastructure.persistence.coupon.JpaCouponRepository;
+import com.hhplus.ecommerce.infrastructure.persistence.order.JpaOrderRepository;
+import com.hhplus.ecommerce.infrastructure.persistence.product.JpaProductRepository;
+import com.hhplus.ecommerce.infrastructure.persistence.stock.JpaStockReservationRepository;
+import com.hhplus.ecommerce.infrastructure.persistence.user.JpaUserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * JPA 리포지토리 어댑터 통합 테스트 (H2, test 프로파일)
+ * - 도메인 모델 ↔ JPA 엔티티 변환 및 변경 사항 반영 검증
+ * - 일괄 발급이 JDBC 배치로 저장되는지 검증
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({JpaConfig.class, JpaProductRepository.class, JpaUserRepository.class,
+        JpaOrderRepository.class, JpaCouponRepository.class, JpaCartRepository.class,
+        JpaStockReservationRepository.class})
+class JpaRepositoryAdapterTest {
+
+    @Autowired
+    private JpaProductRepository productRepository;
+
+    @Autowired
+    private JpaUserRepository userRepository;
+
+    @Autowired
+    private JpaOrderRepository orderRepository;
+
+    @Autowired
+    private JpaCouponRepository couponRepository;
+
+    @Autowired
+    private JpaCartRepository cartRepository;
+
+    @Autowired
+    private JpaStockReservationRepository stockReservationRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    @DisplayName("상품 저장 후 재고 변경 반영 및 검색/페이징 조회")
+    void 상품_저장_조회() {
+        // Given
+        productRepository.save(new Product(1L, "노트북", 1500000, 10));
+        productRepository.save(new Product(2L, "무선 마우스", 30000, 5));
+        productRepository.save(new Product(3L, "게이밍 노트북", 2500000, 3));
+        flushAndClear();
+
+        // When
+        Product product = productRepository.findById(1L).orElseThrow();
+        product.decreaseStock(4);
+        productRepository.save(product);
+        flushAndClear();
+
+        // Then
+        assertEquals(6, productRepository.findById(1L).orElseThrow().getStockQuantity());
+        assertEquals(3, productRepository.count(null));
+        assertEquals(2, productRepository.count("노트북"));
+        assertEquals(List.of(3L), productRepository.findAll(2, 1, "노트북").stream().map(Product::getId).toList());
+        assertEquals(List.of(1L, 2L), productRepository.findAll(1, 2, null).stream().map(Product::getId).toList());
+    }
+
+    @Test
+    @DisplayName("상품명 검색은 n-gram 색인 테이블로 조회 - 부분 문자열, 이어지지 않은 bigram, 와일드카드 문자")
+    void 상품명_색인_검색() {
+        // Given
+        productRepository.save(new Product(1L, "게이밍 노트북", 2500000, 3));
+        productRepository.save(new Product(2L, "노트 북마크", 1000, 10));
+        productRepository.save(new Product(3L, "울트라 노트북", 1800000, 5));
+        productRepository.save(new Product(4L, "할인_100%", 500, 1));
+        productRepository.save(new Product(5L, "할인 1000", 500, 1));
+        flushAndClear();
+
+        // Then: 1~2글자 검색어는 gram 포스팅 그대로
+        assertEquals(List.of(1L, 2L, 3L), productRepository.findAll(1, 10, "노").stream().map(Product::getId).toList());
+        assertEquals(3, productRepository.count("북"));
+
+        // Then: bigram(노트, 트북)을 모두 가져도 이어지지 않은 "노트 북마크"는 제외
+        assertEquals(List.of(1L, 3L), productRepository.findAll(1, 10, "노트북").stream().map(Product::getId).toList());
+        assertEquals(2, productRepository.count("노트북"));
+        assertEquals(0, productRepository.count("노트북마크"));
+
+        // Then: 커서 조회도 같은 색인 사용
+        CursorPage<Product> first = productRepository.findAllAfter(null, 1, "노트북");
+        assertEquals(List.of(1L), first.items().stream().map(Product::getId).toList());
+        CursorPage<Product> second = productRepository.findAllAfter(first.nextCursor(), 1, "노트북");
+        assertEquals(List.of(3L), second.items().stream().map(Product::getId).toList());
+        assertNull(second.nextCursor());
+
+        // Then: %, _는 와일드카드가 아니라 문자 그대로 검색
+        assertEquals(List.of(4L), productRepository.findAll(1, 10, "_100%").stream().map(Product::getId).toList());
+        assertEquals(1, productRepository.count("인_1"));
+    }
+
+    @Test
+    @DisplayName("여러 상품 재고 일괄 차감 - 하나라도 부족하면 전체 취소")
+    void 상품_재고_일괄_차감() {
+        // Given
+        Map<Long, Integer> quantities = new TreeMap<>();
+        for (long id = 1; id <= 10; id++) {
+            productRepository.save(new Product(id, "상품" + id, 1000, 5));
+            quantities.put(id, 2);
+        }
+        flushAndClear();
+
+        // When: 10개 상품 모두 차감 성공
+        List<Long> failed = productRepository.tryDecreaseStocks(quantities);
+
+        // Then
+        assertTrue(failed.isEmpty());
+        assertEquals(3, productRepository.findById(1L).orElseThrow().getStockQuantity());
+        assertEquals(3, productRepository.findById(10L).orElseThrow().getStockQuantity());
+
+        // When: 10번 상품만 재고 부족
+        quantities.put(10L, 4);
+        failed = productRepository.tryDecreaseStocks(quantities);
+
+        // Then: 나머지 상품도 차감되지 않음
+        assertEquals(List.of(10L), failed);
+        assertEquals(3, productRepository.findById(1L).orElseThrow().getStockQuantity());
+        assertEquals(3, productRepository.findById(10L).orElseThrow().getStockQuantity());
+    }
+
+    @Test
+    @DisplayName("주문 상태 변경 반영 및 사용자별 최신순 조회")
+    void 주문_저장_조회() {
+        // Given
+        orderRepository.save(new Order(1L, 1L, OrderStatus.PENDING, 20000, 0, 0));
+        orderRepository.save(new Order(2L, 1L, OrderStatus.PENDING, 30000, 0, 0));
+        orderRepository.save(new Order(3L, 2L, OrderStatus.PENDING, 10000, 0, 0));
+        flushAndClear();
+
+        // When
+        Order order = orderRepository.findById(2L).orElseThrow();
+        order.applyDiscount(5000, 10L);
+        order.complete();
+        orderRepository.save(order);
+        flushAndClear();
+
+        // Then
+        Order saved = orderRepository.findById(2L).orElseThrow();
+        assertEquals(OrderStatus.COMPLETED, saved.getOrderStatus());
+        assertEquals(5000, saved.getDiscountAmount());
+        assertEquals(10L, saved.getUsedCouponId());
+        assertEquals(0L, orderRepository.findById(1L).orElseThrow().getUsedCouponId());
+
+        assertEquals(List.of(2L, 1L), orderRepository.findByUserId(1L, 1, 10).stream().map(Order::getId).toList());
+        assertEquals(2, orderRepository.countByUserId(1L));
+    }
+
+    @Test
+    @DisplayName("커서 기반 조회 - 상품은 ID 순, 주문은 (생성일시, ID) 최신순으로 끝까지 순회")
+    void 커서_기반_조회() {
+        // Given
+        for (long id = 1; id <= 5; id++) {
+            productRepository.save(new Product(id, id % 2 == 0 ? "노트북" + id : "마우스" + id, 1000, 5));
+            orderRepository.save(new Order(id, 1L, OrderStatus.PENDING, 10000, 0, 0));
+        }
+        orderRepository.save(new Order(6L, 2L, OrderStatus.PENDING, 10000, 0, 0));
+        flushAndClear();
+
+        // When
+        List<Long> productIds = new ArrayList<>();
+        String cursor = null;
+        do {
+            CursorPage<Product> page = productRepository.findAllAfter(cursor, 2, null);
+            page.items().forEach(product -> productIds.add(product.getId()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        List<Long> orderIds = new ArrayList<>();
+        do {
+            CursorPage<Order> page = orderRepository.findByUserIdAfter(1L, cursor, 2);
+            page.items().forEach(order -> orderIds.add(order.getId()));
+            cursor = page.nextCursor();
+        } while (cursor != null);
+
+        // Then
+        assertEquals(List.of(1L, 2L, 3L, 4L, 5L), productIds);
+        assertEquals(List.of(5L, 4L, 3L, 2L, 1L), orderIds);
+
+        CursorPage<Product> searched = productRepository.findAllAfter(null, 1, "노트북");
+        assertEquals(List.of(2L), searched.items().stream().map(Product::getId).toList());
+        assertEquals(List.of(4L), productRepository.findAllAfter(searched.nextCursor(), 1, "노트북")
+                .items().stream().map(Product::getId).toList());
+    }
+
+    @Test
+    @DisplayName("사용자 포인트 변경 반영")
+    void 사용자_포인트_저장() {
+        // Given
+        userRepository.save(new User(1L, 1000));
+        flushAndClear();
+
+        // When
+        User user = userRepository.findById(1L).orElseThrow();
+        user.chargePoint(5000);
+        userRepository.save(user);
+        flushAndClear();
+
+        // Then
+        assertEquals(6000, userRepository.findById(1L).orElseThrow().getPoint());
+    }
+
+    @Test
+    @DisplayName("장바구니 항목 저장/수정/삭제")
+    void 장바구니_항목_저장_삭제() {
+        // Given
+        cartRepository.saveCartItem(new CartItem(100L, 1L, 10L, 2));
+        cartRepository.saveCartItem(new CartItem(101L, 1L, 11L, 1));
+        flushAndClear();
+
+        // When
+        CartItem item = cartRepository.findCartItemById(100L).orElseThrow();
+        item.updateQuantity(5);
+        cartRepository.saveCartItem(item);
+        cartRepository.deleteCartItem(101L);
+        flushAndClear();
+
+        // Then
+        List<CartItem> items = cartRepository.findCartItemsByUserId(1L);
+        assertEquals(1, items.size());
+        assertEquals(5, items.get(0).getQuantity());
+        assertTrue(cartRepository.findByUserId(1L).isPresent());
+        assertTrue(cartRepository.findByUserId(2L).isEmpty());
+    }
+
+    @Test
+    @DisplayName("쿠폰 일괄 발급 - SELECT 없이 배치 INSERT")
+    void 쿠폰_일괄_발급_배치() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        couponRepository.saveCoupon(new Coupon(1L, 5000, 1000, 0, now.minusDays(1), now.plusDays(30)));
+        flushAndClear();
+
+        int issueCount = 500;
+        List<UserCoupon> userCoupons = new ArrayList<>(issueCount);
+        for (int i = 1; i <= issueCount; i++) {
+            userCoupons.add(new UserCoupon(i, i, 1L, 0, false, now, null, now.plusDays(30)));
+        }
+
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        // When
+        couponRepository.saveUserCoupons(userCoupons);
+        entityManager.flush();
+
+        // Then: batch_size(100) 단위로 묶여 PreparedStatement 수가 INSERT 수보다 훨씬 적음
+        System.out.printf("INSERT %d건, PreparedStatement %d개%n",
+                statistics.getEntityInsertCount(), statistics.getPrepareStatementCount());
+        assertEquals(issueCount, statistics.getEntityInsertCount());
+        assertTrue(statistics.getPrepareStatementCount() <= issueCount / 100 + 1);
+
+        entityManager.clear();
+        assertEquals(issueCount, couponRepository.findByCouponId(1L).size());
+        assertEquals(0L, couponRepository.findUserCouponById(1L).orElseThrow().getOrderId());
+    }
+
+    @Test
+    @DisplayName("재고 예약 - 만료 주문 조회, 예약 삭제 후 재고 일괄 복구")
+    void 재고_예약_해제() {
+        // Given: 주문 1은 만료, 주문 2는 유효
+        LocalDateTime now = LocalDateTime.now();
+        productRepository.save(new Product(1L, "상품A", 1000, 3));
+        productRepository.save(new Product(2L, "상품B", 1000, 3));
+        stockReservationRepository.saveAll(List.of(
+                new StockReservation(1L, 1L, 1L, 2, now.minusMinutes(1)),
+                new StockReservation(2L, 1L, 2L, 1, now.minusMinutes(1)),
+                new StockReservation(3L, 2L, 1L, 1, now.plusMinutes(10))
+        ));
+        flushAndClear();
+
+        // When
+        List<Long> expiredOrderIds = stockReservationRepository.findExpiredOrderIds(now, 10);
+        List<StockReservation> released = stockReservationRepository.deleteByOrderId(1L);
+        productRepository.increaseStocks(Map.of(1L, 2, 2L, 1));
+        flushAndClear();
+
+        // Then
+        assertEquals(List.of(1L), expiredOrderIds);
+        assertEquals(2, released.size());
+        assertEquals(List.of(), stockReservationRepository.deleteByOrderId(1L));
+        assertEquals(List.of(), stockReservationRepository.findExpiredOrderIds(now, 10));
+        assertEquals(5, productRepository.findById(1L).orElseThrow().getStockQuantity());
+        assertEquals(4, productRepository.findById(2L).orElseThrow().getStockQuantity());
+    }
+
+    private void flushAndClear() {
+        entityManager.flush();
+        entityManager.clear();
+    }
+}
@@ -0,0 +1,106 @@
+package com.hhplus.ecommerce.infrastructure.persistence;
+
+import com.hhplus.ecommerce.config.JpaConfig;
+import com.hhplus.ecommerce.domain.entity.Product;
+import com.hhplus.ecommerce.domain.repository.ProductRepository;
+import com.hhplus.ecommerce.infrastructure.cache.CachingProductRepository;
+import com.hhplus.ecommerce.infrastructure.cache.SegmentedLruCache.CacheMetrics;
+import com.hhplus.ecommerce.infrastructure.persistence.product.JpaProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 상품 상세 조회 지연 시간 벤치마크 (H2, test 프로파일)
+ * - 같은 조회 순서(상위 상품에 몰리는 분포)로 캐시 없이 / 캐시를 거쳐 조회하여 p50, p99 비교
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({JpaConfig.class, JpaProductRepository.class})
+class ProductCacheBenchmarkTest {
+
+    private static final long FIRST_PRODUCT_ID = 50_000;
+    private static final int PRODUCT_COUNT = 1_000;
+    private static final int REQUESTS = 20_000;
+
+    @Autowired
+    private JpaProductRepository productRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("상품 상세 조회 - 캐시 유무에 따른 지연 시간 비교")
+    void 상품_상세_조회_지연_시간() {
+        // Given
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            for (int i = 0; i < PRODUCT_COUNT; i++) {
+                productRepository.save(new Product(FIRST_PRODUCT_ID + i, "상품" + i, 1000 + i, 100));
+            }
+        });
+        long[] productIds = requestSequence(new Random(42));
+        CachingProductRepository cachingRepository = new CachingProductRepository(productRepository,
+                PRODUCT_COUNT, Duration.ofMinutes(10), Duration.ofMinutes(10));
+
+        // When
+        long[] withoutCache = measure(productRepository, productIds);
+        long[] withCache = measure(cachingRepository, productIds);
+
+        // Then
+        print("캐시 없음", withoutCache);
+        print("캐시 사용", withCache);
+        CacheMetrics metrics = cachingRepository.getInfoCacheMetrics();
+        System.out.printf("캐시 적중률: %.3f (hits=%d, misses=%d, evictions=%d)%n",
+                metrics.hitRate(), metrics.hits(), metrics.misses(), metrics.evictions());
+
+        assertTrue(metrics.hitRate() > 0.9);
+        assertTrue(withCache[REQUESTS / 2] < withoutCache[REQUESTS / 2]);
+    }
+
+    /**
+     * 상위 상품에 조회가 몰리도록 제곱 분포로 상품 선택
+     */
+    private long[] requestSequence(Random random) {
+        long[] productIds = new long[REQUESTS];
+        for (int i = 0; i < REQUESTS; i++) {
+            double r = random.nextDouble();
+            productIds[i] = FIRST_PRODUCT_ID + (long) (r * r * PRODUCT_COUNT);
+        }
+        return productIds;
+    }
+
+    private long[] measure(ProductRepository repository, long[] productIds) {
+        long[] latencies = new long[productIds.length];
+        for (int i = 0; i < productIds.length; i++) {
+            long start = System.nanoTime();
+            Product product = repository.findById(productIds[i]).orElseThrow();
+            latencies[i] = System.nanoTime() - start;
+            assertEquals(productIds[i], product.getId());
+        }
+        Arrays.sort(latencies);
+        return latencies;
+    }
+
+    private void print(String label, long[] latencies) {
+        System.out.printf("[%s] p50: %.3f ms, p99: %.3f ms, max: %.3f ms%n", label,
+                latencies[latencies.length / 2] / 1_000_000.0,
+                latencies[(int) (latencies.length * 0.99)] / 1_000_000.0,
+                latencies[latencies.length - 1] / 1_000_000.0);
+    }
+}
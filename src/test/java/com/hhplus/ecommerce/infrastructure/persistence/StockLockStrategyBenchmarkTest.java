@@ -0,0 +1,121 @@
+package com.hhplus.ecommerce.infrastructure.persistence;
+
+import com.hhplus.ecommerce.application.stock.StockDeductor;
+import com.hhplus.ecommerce.application.stock.StockLockStrategy;
+import com.hhplus.ecommerce.config.JpaConfig;
+import com.hhplus.ecommerce.domain.entity.Product;
+import com.hhplus.ecommerce.domain.exception.LockTimeoutException;
+import com.hhplus.ecommerce.infrastructure.persistence.product.JpaProductRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 재고 락 전략 비교 벤치마크 (H2, test 프로파일)
+ * - 인기 상품(모든 요청이 한 상품) / 롱테일(요청이 여러 상품에 분산) 부하에서 전략별 처리량 비교
+ * - 요청마다 별도 트랜잭션으로 실행하고, 끝난 뒤 재고 합계로 정합성 검증
+ */
+@DataJpaTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({JpaConfig.class, JpaProductRepository.class})
+class StockLockStrategyBenchmarkTest {
+
+    private static final int THREAD_COUNT = 8;
+    private static final int REQUESTS_PER_THREAD = 200;
+    private static final int INITIAL_STOCK = 1_000_000;
+
+    private static final AtomicLong productIdSequence = new AtomicLong(10_000);
+
+    @Autowired
+    private JpaProductRepository productRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    @DisplayName("인기 상품 1개에 주문 집중 - 전략별 처리량 비교")
+    void 인기_상품_전략별_처리량() throws InterruptedException {
+        for (StockLockStrategy strategy : StockLockStrategy.values()) {
+            run(strategy, 1);
+        }
+    }
+
+    @Test
+    @DisplayName("롱테일 상품 100개에 주문 분산 - 전략별 처리량 비교")
+    void 롱테일_상품_전략별_처리량() throws InterruptedException {
+        for (StockLockStrategy strategy : StockLockStrategy.values()) {
+            run(strategy, 100);
+        }
+    }
+
+    private void run(StockLockStrategy strategy, int productCount) throws InterruptedException {
+        // Given
+        long firstProductId = productIdSequence.getAndAdd(productCount);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < productCount; i++) {
+                productRepository.save(new Product(firstProductId + i, "상품" + i, 1000, INITIAL_STOCK));
+            }
+        });
+
+        StockDeductor deductor = new StockDeductor(productRepository, strategy);
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch latch = new CountDownLatch(THREAD_COUNT);
+        AtomicInteger successCount = new AtomicInteger();
+        AtomicInteger retryExhaustedCount = new AtomicInteger();
+
+        // When
+        long start = System.nanoTime();
+        for (int t = 0; t < THREAD_COUNT; t++) {
+            executorService.submit(() -> {
+                try {
+                    for (int i = 0; i < REQUESTS_PER_THREAD; i++) {
+                        long productId = firstProductId + ThreadLocalRandom.current().nextInt(productCount);
+                        try {
+                            transactionTemplate.executeWithoutResult(status -> deductor.deduct(productId, 1));
+                            successCount.incrementAndGet();
+                        } catch (LockTimeoutException e) {
+                            retryExhaustedCount.incrementAndGet();
+                        }
+                    }
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+        long elapsed = System.nanoTime() - start;
+        executorService.shutdown();
+
+        System.out.printf("[상품 %3d개] %-18s %8.0f req/s, 성공 %d, 재시도 소진 %d%n",
+                productCount, strategy, successCount.get() / (elapsed / 1_000_000_000.0),
+                successCount.get(), retryExhaustedCount.get());
+
+        // Then: 성공한 요청 수만큼만 재고 감소
+        long remaining = 0;
+        for (int i = 0; i < productCount; i++) {
+            remaining += productRepository.findById(firstProductId + i).orElseThrow().getStockQuantity();
+        }
+        assertEquals((long) INITIAL_STOCK * productCount - successCount.get(), remaining);
+        assertEquals(THREAD_COUNT * REQUESTS_PER_THREAD, successCount.get() + retryExhaustedCount.get());
+    }
+}
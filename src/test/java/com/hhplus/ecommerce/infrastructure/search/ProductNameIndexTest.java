@@ -0,0 +1,204 @@
+package com.hhplus.ecommerce.infrastructure.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 상품명 n-gram 역색인 테스트
+ * - 검색 결과가 String.contains 전수 비교와 같은지, 색인 갱신이 반영되는지 검증
+ */
+class ProductNameIndexTest {
+
+    private static final String[] BRANDS = {"삼성", "엘지", "애플", "소니", "샤오미", "레노버", "로지텍", "필립스"};
+    private static final String[] ADJECTIVES = {"무선", "유선", "초경량", "프리미엄", "휴대용", "게이밍", "미니", "스마트"};
+    private static final String[] CATEGORIES = {"이어폰", "키보드", "마우스", "모니터", "노트북", "스피커", "충전기", "태블릿"};
+
+    private ProductNameIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new ProductNameIndex();
+    }
+
+    @Test
+    @DisplayName("한글 부분 문자열 검색 - 1글자, 2글자, 3글자 이상")
+    void 한글_부분_문자열_검색() {
+        // Given
+        index.index(1L, "무선 이어폰");
+        index.index(2L, "유선 이어폰");
+        index.index(3L, "무선 마우스");
+        index.index(4L, "게이밍 키보드");
+
+        // When & Then
+        assertEquals(List.of(1L, 2L, 3L), index.search("선", 0, 10));
+        assertEquals(List.of(1L, 3L), index.search("무선", 0, 10));
+        assertEquals(List.of(1L, 2L), index.search("이어폰", 0, 10));
+        assertEquals(List.of(1L), index.search("무선 이어폰", 0, 10));
+        assertEquals(List.of(), index.search("무선 키보드", 0, 10));
+        assertEquals(List.of(), index.search("헤드셋", 0, 10));
+        assertEquals(3, index.count("선"));
+        assertEquals(1, index.count("무선 이어폰"));
+    }
+
+    @Test
+    @DisplayName("DB 색인용 gram 추출 - 상품명은 unigram/bigram, 검색어는 3글자부터 bigram")
+    void gram_추출() {
+        // When & Then
+        assertEquals(Set.of("노", "트", "북", "노트", "트북"), ProductNameIndex.gramsOfName("노트북"));
+        assertEquals(Set.of("a"), ProductNameIndex.gramsOfName("aa").stream().filter(g -> g.length() == 1)
+                .collect(Collectors.toSet()));
+        assertEquals(Set.of("북"), ProductNameIndex.gramsOfQuery("북"));
+        assertEquals(Set.of("노트"), ProductNameIndex.gramsOfQuery("노트"));
+        assertEquals(List.of("노트", "트북", "북노"), List.copyOf(ProductNameIndex.gramsOfQuery("노트북노트")));
+        assertThrows(IllegalArgumentException.class, () -> ProductNameIndex.gramsOfQuery(""));
+    }
+
+    @Test
+    @DisplayName("검색어 bigram이 모두 있어도 이어져 있지 않으면 결과에서 제외")
+    void 떨어진_bigram_제외() {
+        // Given: "사과"와 "과즙"은 있지만 "사과즙"은 없음
+        index.index(1L, "사과 과즙");
+        index.index(2L, "사과즙 음료");
+
+        // When & Then
+        assertEquals(List.of(2L), index.search("사과즙", 0, 10));
+        assertEquals(1, index.count("사과즙"));
+    }
+
+    @Test
+    @DisplayName("상품명 변경과 색인 제거가 검색에 반영")
+    void 색인_갱신() {
+        // Given
+        index.index(1L, "무선 이어폰");
+        index.index(2L, "무선 마우스");
+
+        // When
+        index.index(1L, "유선 키보드");
+        index.remove(2L);
+
+        // Then
+        assertEquals(List.of(), index.search("무선", 0, 10));
+        assertEquals(List.of(1L), index.search("키보드", 0, 10));
+        assertEquals(0, index.count("이어폰"));
+        assertEquals(1, index.size());
+    }
+
+    @Test
+    @DisplayName("offset/limit으로 ID 순 페이지 조회")
+    void 페이지_조회() {
+        // Given
+        for (long id = 10; id >= 1; id--) {
+            index.index(id, "상품 " + id);
+        }
+
+        // When & Then
+        assertEquals(List.of(1L, 2L, 3L), index.search("상품", 0, 3));
+        assertEquals(List.of(4L, 5L, 6L), index.search("상품", 3, 3));
+        assertEquals(List.of(10L), index.search("상품", 9, 3));
+        assertEquals(List.of(), index.search("상품", 10, 3));
+        assertEquals(List.of(), index.search("상품", 0, 0));
+        assertEquals(10, index.count("상품"));
+    }
+
+    @Test
+    @DisplayName("afterId 다음 ID부터 조회 - 커서 기반 페이지 조회")
+    void 커서_이후_조회() {
+        // Given
+        for (long id = 1; id <= 10; id++) {
+            index.index(id, id % 2 == 0 ? "무선 이어폰" : "유선 이어폰");
+        }
+
+        // When & Then
+        assertEquals(List.of(6L, 8L), index.searchAfter("무선", 4L, 2));
+        assertEquals(List.of(6L, 8L), index.searchAfter("무선 이어폰", 5L, 2));
+        assertEquals(List.of(10L), index.searchAfter("무선 이어폰", 8L, 2));
+        assertEquals(List.of(), index.searchAfter("무선 이어폰", 10L, 2));
+    }
+
+    @Test
+    @DisplayName("무작위 상품명 - 검색/개수가 contains 전수 비교와 일치")
+    void 전수_비교_일치() {
+        // Given
+        Random random = new Random(7);
+        Map<Long, String> names = new TreeMap<>();
+        for (int i = 0; i < 3_000; i++) {
+            long id = random.nextInt(2_000) + 1;
+            String name = randomName(random);
+            names.put(id, name);
+            index.index(id, name);
+        }
+        for (int i = 0; i < 200; i++) {
+            long id = random.nextInt(2_000) + 1;
+            names.remove(id);
+            index.remove(id);
+        }
+        String[] queries = {"무", "무선", "선 이", "무선 이어폰", "프리미엄 노", "삼성 게이밍", "폰", "7", "12", "어폰 1"};
+
+        // When & Then
+        for (String query : queries) {
+            List<Long> expected = new ArrayList<>();
+            names.forEach((id, name) -> {
+                if (name.contains(query)) {
+                    expected.add(id);
+                }
+            });
+            assertEquals(expected, index.search(query, 0, Integer.MAX_VALUE), query);
+            assertEquals(expected.size(), index.count(query), query);
+            assertEquals(expected.subList(Math.min(5, expected.size()), Math.min(15, expected.size())),
+                    index.search(query, 5, 10), query);
+        }
+    }
+
+    @Test
+    @DisplayName("상품 100만 개 - 검색/개수 지연 시간")
+    void 백만_상품_검색_지연_시간() {
+        // Given
+        Random random = new Random(42);
+        for (long id = 1; id <= 1_000_000; id++) {
+            index.index(id, randomName(random));
+        }
+        String[] queries = {"폰", "무선", "무선 이어폰", "삼성 프리미엄 노트북", "게이밍 마우스 7"};
+
+        // When & Then
+        for (String query : queries) {
+            long[] searchLatencies = new long[200];
+            long[] countLatencies = new long[200];
+            long count = 0;
+            for (int i = 0; i < searchLatencies.length; i++) {
+                long start = System.nanoTime();
+                index.search(query, 0, 20);
+                searchLatencies[i] = System.nanoTime() - start;
+
+                start = System.nanoTime();
+                count = index.count(query);
+                countLatencies[i] = System.nanoTime() - start;
+            }
+            Arrays.sort(searchLatencies);
+            Arrays.sort(countLatencies);
+            System.out.printf("[%s] 결과 %d건 - search p50: %.3f ms, count p50: %.3f ms%n", query, count,
+                    searchLatencies[searchLatencies.length / 2] / 1_000_000.0,
+                    countLatencies[countLatencies.length / 2] / 1_000_000.0);
+
+            assertTrue(count > 0);
+        }
+    }
+
+    private static String randomName(Random random) {
+        return BRANDS[random.nextInt(BRANDS.length)] + " "
+                + ADJECTIVES[random.nextInt(ADJECTIVES.length)] + " "
+                + CATEGORIES[random.nextInt(CATEGORIES.length)] + " "
+                + random.nextInt(100);
+    }
+}
@@ -2,6 +2,7 @@ package com.hhplus.ecommerce.mock;
 
 import com.hhplus.ecommerce.domain.entity.Coupon;
 import com.hhplus.ecommerce.domain.entity.UserCoupon;
+import com.hhplus.ecommerce.domain.exception.CouponAlreadyIssuedException;
 import com.hhplus.ecommerce.domain.repository.CouponRepository;
 
 import java.util.*;
@@ -36,6 +37,7 @@ public class MockCouponRepository implements CouponRepository {
     /**
      * 특정 쿠폰 ID로 발급된 모든 UserCoupon 조회
      */
+    @Override
     public List<UserCoupon> findByCouponId(Long couponId) {
         return userCoupons.values().stream()
                 .filter(uc -> uc.getCouponId() == couponId)
@@ -46,6 +48,7 @@ public class MockCouponRepository implements CouponRepository {
      * 비관적 락을 시뮬레이션하는 조회 메서드
      * synchronized로 동시성 제어
      */
+    @Override
     public synchronized Optional<Coupon> findByIdForUpdate(Long couponId) {
         return Optional.ofNullable(coupons.get(couponId));
     }
@@ -77,9 +80,40 @@ public class MockCouponRepository implements CouponRepository {
         return userCoupon;
     }
 
+    /**
+     * (userId, couponId) 유니크 제약 시뮬레이션: 이미 발급받은 사용자가 있으면 아무것도 저장하지 않음
+     */
+    @Override
+    public synchronized List<UserCoupon> saveUserCoupons(List<UserCoupon> userCoupons) {
+        Set<List<Long>> keys = new HashSet<>();
+        for (UserCoupon userCoupon : userCoupons) {
+            List<Long> key = List.of(userCoupon.getUserId(), userCoupon.getCouponId());
+            boolean exists = this.userCoupons.values().stream()
+                    .anyMatch(uc -> uc.getUserId() == userCoupon.getUserId()
+                            && uc.getCouponId() == userCoupon.getCouponId());
+            if (exists || !keys.add(key)) {
+                throw new CouponAlreadyIssuedException();
+            }
+        }
+        return userCoupons.stream()
+                .map(this::saveUserCoupon)
+                .collect(Collectors.toList());
+    }
+
     @Override
     public synchronized Coupon saveCoupon(Coupon coupon) {
         coupons.put(coupon.getId(), coupon);
         return coupon;
     }
+
+    @Override
+    public synchronized boolean tryIncreaseIssuedQuantity(Long couponId, int quantity) {
+        Coupon coupon = coupons.get(couponId);
+        if (coupon == null || coupon.getIssuedQuantity() + quantity > coupon.getIssueQuantity()) {
+            return false;
+        }
+        coupons.put(couponId, new Coupon(coupon.getId(), coupon.getDiscountAmount(), coupon.getIssueQuantity(),
+                coupon.getIssuedQuantity() + quantity, coupon.getValidFrom(), coupon.getValidTo()));
+        return true;
+    }
 }
@@ -0,0 +1,67 @@
+package com.hhplus.ecommerce.mock;
+
+import com.hhplus.ecommerce.domain.entity.OrderDataOutbox;
+import com.hhplus.ecommerce.domain.entity.OutboxStatus;
+import com.hhplus.ecommerce.domain.repository.OrderDataOutboxRepository;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * OrderDataOutboxRepository Mock 구현
+ * - 테스트용 인메모리 저장소
+ * - 임대는 synchronized로 처리하여 동시에 가져가도 같은 기록을 나눠 갖지 않도록 함
+ */
+public class MockOrderDataOutboxRepository implements OrderDataOutboxRepository {
+
+    private final Map<Long, OrderDataOutbox> outboxes = new ConcurrentHashMap<>();
+
+    @Override
+    public OrderDataOutbox save(OrderDataOutbox outbox) {
+        outboxes.put(outbox.getId(), outbox);
+        return outbox;
+    }
+
+    @Override
+    public synchronized List<OrderDataOutbox> claimDue(LocalDateTime now, LocalDateTime leaseUntil, int limit) {
+        List<OrderDataOutbox> due = outboxes.values().stream()
+                .filter(outbox -> outbox.isDue(now))
+                .sorted(Comparator.comparing(OrderDataOutbox::getNextAttemptAt))
+                .limit(limit)
+                .toList();
+        due.forEach(outbox -> outbox.leaseUntil(leaseUntil));
+        return due;
+    }
+
+    @Override
+    public void saveAll(List<OrderDataOutbox> outboxes) {
+        outboxes.forEach(this::save);
+    }
+
+    @Override
+    public long countByStatus(OutboxStatus status) {
+        return outboxes.values().stream()
+                .filter(outbox -> outbox.getStatus() == status)
+                .count();
+    }
+
+    /**
+     * 테스트용: 주문의 아웃박스 기록 조회
+     */
+    public Optional<OrderDataOutbox> findByOrderId(long orderId) {
+        return outboxes.values().stream()
+                .filter(outbox -> outbox.getOrderId() == orderId)
+                .findFirst();
+    }
+
+    /**
+     * 테스트용: 전체 기록 수
+     */
+    public int size() {
+        return outboxes.size();
+    }
+}
@@ -1,6 +1,8 @@
 package com.hhplus.ecommerce.mock;
 
+import com.hhplus.ecommerce.common.pagination.KeysetCursor;
 import com.hhplus.ecommerce.domain.entity.Order;
+import com.hhplus.ecommerce.domain.repository.CursorPage;
 import com.hhplus.ecommerce.domain.repository.OrderRepository;
 
 import java.util.*;
@@ -48,6 +50,23 @@ public class MockOrderRepository implements OrderRepository {
         return userOrders.subList(start, end);
     }
 
+    @Override
+    public CursorPage<Order> findByUserIdAfter(Long userId, String cursor, int size) {
+        // 생성 시각이 없으므로 ID 내림차순을 최신순으로 사용
+        long beforeId = cursor == null ? Long.MAX_VALUE : KeysetCursor.decode(cursor, 1)[0];
+        List<Order> userOrders = orders.values().stream()
+                .filter(order -> order.getUserId() == userId && order.getId() < beforeId)
+                .sorted(Comparator.comparing(Order::getId).reversed())
+                .limit(size + 1L)
+                .collect(Collectors.toList());
+
+        if (userOrders.size() <= size) {
+            return new CursorPage<>(userOrders, null);
+        }
+        List<Order> page = userOrders.subList(0, size);
+        return new CursorPage<>(page, KeysetCursor.encode(page.get(size - 1).getId()));
+    }
+
     @Override
     public long countByUserId(Long userId) {
         return orders.values().stream()
@@ -1,6 +1,8 @@
 package com.hhplus.ecommerce.mock;
 
+import com.hhplus.ecommerce.common.pagination.KeysetCursor;
 import com.hhplus.ecommerce.domain.entity.Product;
+import com.hhplus.ecommerce.domain.repository.CursorPage;
 import com.hhplus.ecommerce.domain.repository.ProductRepository;
 
 import java.util.*;
@@ -22,10 +24,19 @@ public class MockProductRepository implements ProductRepository {
         return Optional.ofNullable(products.get(productId));
     }
 
+    @Override
+    public List<Product> findAllById(Collection<Long> productIds) {
+        return productIds.stream()
+                .map(products::get)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toList());
+    }
+
     /**
      * 비관적 락을 시뮬레이션하는 조회 메서드
      * synchronized로 동시성 제어
      */
+    @Override
     public synchronized Optional<Product> findByIdForUpdate(Long productId) {
         return Optional.ofNullable(products.get(productId));
     }
@@ -50,6 +61,23 @@ public class MockProductRepository implements ProductRepository {
         return allProducts.subList(start, end);
     }
 
+    @Override
+    public CursorPage<Product> findAllAfter(String cursor, int size, String search) {
+        long afterId = cursor == null ? 0 : KeysetCursor.decode(cursor, 1)[0];
+        List<Product> matched = products.values().stream()
+                .filter(p -> p.getId() > afterId)
+                .filter(p -> search == null || search.isEmpty() || p.getName().contains(search))
+                .sorted(Comparator.comparingLong(Product::getId))
+                .limit(size + 1L)
+                .collect(Collectors.toList());
+
+        if (matched.size() <= size) {
+            return new CursorPage<>(matched, null);
+        }
+        List<Product> page = matched.subList(0, size);
+        return new CursorPage<>(page, KeysetCursor.encode(page.get(size - 1).getId()));
+    }
+
     @Override
     public long count(String search) {
         if (search == null || search.isEmpty()) {
@@ -62,16 +90,56 @@ public class MockProductRepository implements ProductRepository {
     }
 
     @Override
-    public List<Product> findTopSelling(int limit) {
-        return products.values().stream()
-                .sorted(Comparator.comparingInt(Product::getStockQuantity))
-                .limit(limit)
-                .collect(Collectors.toList());
+    public synchronized Product save(Product product) {
+        products.put(product.getId(), product);
+        return product;
     }
 
+    /**
+     * 조회한 인스턴스를 그대로 공유하므로 버전 충돌 없이 항상 반영
+     */
     @Override
-    public synchronized Product save(Product product) {
+    public synchronized boolean saveIfVersionMatches(Product product) {
         products.put(product.getId(), product);
-        return product;
+        return true;
+    }
+
+    @Override
+    public boolean tryDecreaseStock(Long productId, int quantity) {
+        Product product = products.get(productId);
+        return product != null && product.tryDecreaseStock(quantity);
+    }
+
+    @Override
+    public List<Long> tryDecreaseStocks(Map<Long, Integer> quantities) {
+        List<Long> failed = new ArrayList<>();
+        Map<Long, Integer> decreased = new LinkedHashMap<>();
+        quantities.forEach((productId, quantity) -> {
+            if (tryDecreaseStock(productId, quantity)) {
+                decreased.put(productId, quantity);
+            } else {
+                failed.add(productId);
+            }
+        });
+
+        if (!failed.isEmpty()) {
+            decreased.forEach((productId, quantity) -> products.get(productId).increaseStock(quantity));
+        }
+        return failed;
+    }
+
+    @Override
+    public void increaseStocks(Map<Long, Integer> quantities) {
+        quantities.forEach((productId, quantity) -> {
+            Product product = products.get(productId);
+            if (product != null) {
+                product.increaseStock(quantity);
+            }
+        });
+    }
+
+    @Override
+    public boolean isStockTransactional() {
+        return false;
     }
 }
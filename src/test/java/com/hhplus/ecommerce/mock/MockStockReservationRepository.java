@@ -0,0 +1,59 @@
+package com.hhplus.ecommerce.mock;
+
+import com.hhplus.ecommerce.domain.entity.StockReservation;
+import com.hhplus.ecommerce.domain.repository.StockReservationRepository;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * StockReservationRepository Mock 구현
+ * - 테스트용 인메모리 저장소
+ * - 주문 단위로 보관하여 확정/해제가 동시에 일어나도 한쪽만 예약을 가져가도록 함
+ */
+public class MockStockReservationRepository implements StockReservationRepository {
+
+    private final Map<Long, List<StockReservation>> reservationsByOrder = new ConcurrentHashMap<>();
+
+    @Override
+    public List<StockReservation> saveAll(List<StockReservation> reservations) {
+        for (StockReservation reservation : reservations) {
+            reservationsByOrder.computeIfAbsent(reservation.getOrderId(), id -> new ArrayList<>()).add(reservation);
+        }
+        return reservations;
+    }
+
+    @Override
+    public List<StockReservation> deleteByOrderId(Long orderId) {
+        List<StockReservation> removed = reservationsByOrder.remove(orderId);
+        return removed != null ? removed : List.of();
+    }
+
+    @Override
+    public List<Long> findExpiredOrderIds(LocalDateTime now, int limit) {
+        return reservationsByOrder.entrySet().stream()
+                .filter(entry -> entry.getValue().stream().anyMatch(reservation -> reservation.isExpired(now)))
+                .sorted(Comparator.comparing(entry -> entry.getValue().get(0).getExpiresAt()))
+                .limit(limit)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    /**
+     * 테스트용: 주문의 예약 조회
+     */
+    public List<StockReservation> findByOrderId(Long orderId) {
+        return reservationsByOrder.getOrDefault(orderId, List.of());
+    }
+
+    /**
+     * 테스트용: 전체 예약 수
+     */
+    public int size() {
+        return reservationsByOrder.values().stream().mapToInt(List::size).sum();
+    }
+}
@@ -21,6 +21,15 @@ public class MockUserRepository implements UserRepository {
         return Optional.ofNullable(users.get(userId));
     }
 
+    /**
+     * 비관적 락을 시뮬레이션하는 조회 메서드
+     * synchronized로 동시성 제어
+     */
+    @Override
+    public synchronized Optional<User> findByIdForUpdate(Long userId) {
+        return Optional.ofNullable(users.get(userId));
+    }
+
     @Override
     public synchronized User save(User user) {
         users.put(user.getId(), user);
@@ -0,0 +1,210 @@
+package com.hhplus.ecommerce.presentation.filter;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.hhplus.ecommerce.infrastructure.cache.IdempotencyStore;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * IdempotencyKeyFilter 단위 테스트
+ * - 같은 키 재시도의 응답 재사용, 같은 키의 다른 요청 거부, 헤더 없는 요청과 대상 외 경로의 통과 검증
+ * - 다른 사용자의 같은 키는 서로 영향이 없는지, 호출자 없는 키 요청을 거절하는지, 오류 응답이 ApiResponse 형식인지 검증
+ * - 재사용 응답에 처음 응답의 헤더가 그대로 있는지, 비동기 읽기(ReadListener)로도 본문을 읽을 수 있는지 검증
+ */
+class IdempotencyKeyFilterTest {
+
+    private final AtomicInteger executions = new AtomicInteger();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private IdempotencyKeyFilter filter;
+
+    /**
+     * 본문을 읽어 실행 횟수와 함께 그대로 돌려주는 컨트롤러 대역
+     */
+    private final FilterChain echo = (request, response) -> {
+        String body = new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        response.setContentType("application/json");
+        response.setHeader("Location", "/api/payments/" + (executions.get() + 1));
+        response.getWriter().write("{\"execution\":" + executions.incrementAndGet() + ",\"request\":" + body + "}");
+    };
+
+    @BeforeEach
+    void setUp() {
+        IdempotencyStore<StoredResponse> store = new IdempotencyStore<>(100, Duration.ofMinutes(1), 1000,
+                StoredResponse::isReplayable);
+        filter = new IdempotencyKeyFilter(store, List.of("/api/payments", "/api/users/{userId}/coupons"), objectMapper);
+    }
+
+    @Test
+    @DisplayName("같은 키로 재시도하면 다시 실행하지 않고 처음 응답을 재사용")
+    void 같은_키_재시도() throws Exception {
+        MockHttpServletResponse first = perform("/api/payments", "key-1", "1", "{\"orderId\":1}");
+        MockHttpServletResponse retry = perform("/api/payments", "key-1", "1", "{\"orderId\":1}");
+
+        assertEquals(1, executions.get());
+        assertEquals(200, retry.getStatus());
+        assertEquals(first.getContentAsString(), retry.getContentAsString());
+        assertEquals("{\"execution\":1,\"request\":{\"orderId\":1}}", retry.getContentAsString());
+        assertNull(first.getHeader(IdempotencyKeyFilter.REPLAYED_HEADER));
+        assertEquals("true", retry.getHeader(IdempotencyKeyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    @DisplayName("재사용 응답에도 처음 응답의 헤더와 Content-Type을 그대로 전달")
+    void 재사용_응답_헤더() throws Exception {
+        MockHttpServletResponse first = perform("/api/payments", "key-1", "1", "{\"orderId\":1}");
+        MockHttpServletResponse retry = perform("/api/payments", "key-1", "1", "{\"orderId\":1}");
+
+        assertEquals("/api/payments/1", first.getHeader("Location"));
+        assertEquals(List.of("/api/payments/1"), retry.getHeaders("Location"));
+        assertTrue(retry.getContentType().startsWith("application/json"));
+    }
+
+    @Test
+    @DisplayName("호출자(X-User-Id 헤더, 경로의 userId, 본문의 userId)를 알 수 없는 키 요청은 400")
+    void 호출자_없는_키_요청() throws Exception {
+        MockHttpServletResponse response = perform("/api/payments", "key-1", "{\"orderId\":1}");
+
+        assertEquals(400, response.getStatus());
+        assertEquals(0, executions.get());
+        assertEquals("INVALID_INPUT",
+                objectMapper.readTree(response.getContentAsByteArray()).path("error").path("code").asText());
+    }
+
+    @Test
+    @DisplayName("경로의 userId로 호출자를 구분 - 다른 사용자의 같은 키는 각각 실행")
+    void 경로_사용자_같은_키() throws Exception {
+        perform("/api/users/1/coupons", "key-1", "{\"couponId\":1}");
+        perform("/api/users/2/coupons", "key-1", "{\"couponId\":1}");
+        MockHttpServletResponse retry = perform("/api/users/1/coupons", "key-1", "{\"couponId\":1}");
+
+        assertEquals(2, executions.get());
+        assertEquals("true", retry.getHeader(IdempotencyKeyFilter.REPLAYED_HEADER));
+    }
+
+    @Test
+    @DisplayName("컨트롤러가 ReadListener로 본문을 읽어도 보관한 본문을 바로 전달")
+    void 비동기_본문_읽기() throws Exception {
+        MockHttpServletRequest request = request("/api/payments", "key-1", "1", "{\"orderId\":1}");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ByteArrayOutputStream read = new ByteArrayOutputStream();
+        AtomicBoolean allDataRead = new AtomicBoolean();
+
+        filter.doFilter(request, response, (req, res) -> {
+            ServletInputStream in = req.getInputStream();
+            in.setReadListener(new ReadListener() {
+                @Override
+                public void onDataAvailable() throws IOException {
+                    while (in.isReady() && !in.isFinished()) {
+                        read.write(in.read());
+                    }
+                }
+
+                @Override
+                public void onAllDataRead() {
+                    allDataRead.set(true);
+                }
+
+                @Override
+                public void onError(Throwable t) {
+                    fail(t);
+                }
+            });
+        });
+
+        assertTrue(allDataRead.get());
+        assertEquals("{\"orderId\":1}", read.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 요청을 보내면 422")
+    void 같은_키_다른_요청() throws Exception {
+        perform("/api/users/1/coupons", "key-1", "{\"couponId\":1}");
+
+        MockHttpServletResponse response = perform("/api/users/1/coupons", "key-1", "{\"couponId\":2}");
+
+        assertEquals(422, response.getStatus());
+        assertEquals(1, executions.get());
+        JsonNode error = objectMapper.readTree(response.getContentAsByteArray());
+        assertFalse(error.path("success").asBoolean());
+        assertEquals("IDEMPOTENCY_KEY_REUSED", error.path("error").path("code").asText());
+    }
+
+    @Test
+    @DisplayName("다른 사용자가 같은 키를 보내면 각각 실행 (본문의 userId 또는 X-User-Id 헤더로 구분)")
+    void 다른_사용자_같은_키() throws Exception {
+        MockHttpServletResponse user1 = perform("/api/payments", "key-1", null, "{\"orderId\":1,\"userId\":1}");
+        MockHttpServletResponse user2 = perform("/api/payments", "key-1", null, "{\"orderId\":1,\"userId\":2}");
+        MockHttpServletResponse header1 = perform("/api/payments", "key-2", "1", "{\"orderId\":1}");
+        MockHttpServletResponse header2 = perform("/api/payments", "key-2", "2", "{\"orderId\":1}");
+
+        assertEquals(4, executions.get());
+        assertEquals(200, user2.getStatus());
+        assertEquals(200, header2.getStatus());
+        assertNull(user2.getHeader(IdempotencyKeyFilter.REPLAYED_HEADER));
+        assertNull(header2.getHeader(IdempotencyKeyFilter.REPLAYED_HEADER));
+        assertNotEquals(user1.getContentAsString(), user2.getContentAsString());
+        assertNotEquals(header1.getContentAsString(), header2.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("키가 없거나 대상 경로가 아니면 매번 실행")
+    void 대상_아님() throws Exception {
+        perform("/api/payments", null, "{\"orderId\":1}");
+        perform("/api/payments", null, "{\"orderId\":1}");
+        perform("/api/users/1/balance", "key-1", "{\"amount\":10000}");
+        perform("/api/users/1/balance", "key-1", "{\"amount\":10000}");
+
+        assertEquals(4, executions.get());
+    }
+
+    @Test
+    @DisplayName("너무 긴 키는 400")
+    void 잘못된_키() throws Exception {
+        MockHttpServletResponse response = perform("/api/payments", "k".repeat(256), "{\"orderId\":1}");
+
+        assertEquals(400, response.getStatus());
+        assertEquals(0, executions.get());
+        assertEquals("INVALID_INPUT",
+                objectMapper.readTree(response.getContentAsByteArray()).path("error").path("code").asText());
+    }
+
+    private MockHttpServletResponse perform(String uri, String key, String body) throws Exception {
+        return perform(uri, key, null, body);
+    }
+
+    private MockHttpServletResponse perform(String uri, String key, String userId, String body) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request(uri, key, userId, body), response, echo);
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String uri, String key, String userId, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", uri);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        if (key != null) {
+            request.addHeader(IdempotencyKeyFilter.HEADER, key);
+        }
+        if (userId != null) {
+            request.addHeader(IdempotencyKeyFilter.USER_HEADER, userId);
+        }
+        return request;
+    }
+}